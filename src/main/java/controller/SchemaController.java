@@ -7,6 +7,15 @@ import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.AccessDeniedException;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.LongConsumer;
 
 /**
  * Controller class in the MVC architecture that mediates between the
@@ -20,6 +29,9 @@ import java.io.File;
 public class SchemaController {
     private final SchemaModel model;
     private final SchemaView view;
+    private final SingleFlight<String, SchemaObject> schemaLoads = new SingleFlight<>();
+    private final SingleFlight<String, List<SchemaObject>> catalogLoads = new SingleFlight<>();
+    private final SingleFlight<String, List<SchemaObject>> tableLoads = new SingleFlight<>();
     private static final Logger logger = LogManager.getLogger(SchemaController.class);
 
     /**
@@ -36,8 +48,8 @@ public class SchemaController {
     /**
      * Handles the upload of a schema file by:
      * <ul>
-     *     <li>Validating the file (existence, readability, format)</li>
-     *     <li>Determining the format (JSON or XML)</li>
+     *     <li>Opening the file once (existence and readability are checked by the open itself)</li>
+     *     <li>Determining the format (JSON or XML) from the file's leading bytes</li>
      *     <li>Delegating parsing to the correct {@link SchemaParser}</li>
      *     <li>Updating the {@link SchemaModel} with the parsed schema</li>
      *     <li>Notifying the {@link SchemaView} of the outcome</li>
@@ -47,66 +59,227 @@ public class SchemaController {
      */
     public void handleSchemaUpload(File schemaFile) {
         try {
-            validateFile(schemaFile);
+            SchemaObject schemaObject = loadSchema(schemaFile);
+            view.showParsedSummary(schemaObject);
+        } catch (Exception e) {
+            reportFailure(e);
+        }
+    }
+
+    /**
+     * Validates, parses and stores the given schema file without touching the view.
+     * <p>
+     * This is the blocking part of {@link #handleSchemaUpload(File)} and is safe to call
+     * from a background worker; the caller is responsible for reporting the outcome,
+     * typically through {@link #reportFailure(Throwable)} on error.
+     * </p>
+     * <p>
+     * Concurrent calls for the same unchanged file (same path, size and modification time)
+     * share one parse: later callers wait for the first and receive its result or its failure.
+     * </p>
+     *
+     * @param schemaFile the schema file chosen by the user
+     * @return the parsed schema, which has also been stored in the {@link SchemaModel}
+     * @throws SchemaParsingException   if the schema cannot be parsed
+     * @throws FileUploadException      if the file is missing or unreadable
+     * @throws IllegalArgumentException if the file content is neither JSON nor XML
+     */
+    public SchemaObject loadSchema(File schemaFile) throws SchemaParsingException {
+        if (schemaFile == null) {
+            throw new FileUploadException("No file provided. Please select a schema file (.json or .xml).");
+        }
+        return coalesce(schemaLoads, schemaFile, () -> readSchema(schemaFile));
+    }
 
-            String format = detectFormat(schemaFile);
-            SchemaParser parser = ParserFactory.get(format);
+    private SchemaObject readSchema(File schemaFile) throws SchemaParsingException {
+        try (SchemaSource source = openSource(schemaFile)) {
+            SchemaParser parser = ParserFactory.get(source.getFormat());
 
-            SchemaObject schemaObject = parser.parse(schemaFile);
+            SchemaObject schemaObject = parser.parse(source.stream(), schemaFile.getAbsolutePath());
             model.setSchema(schemaObject);
+            if (logger.isDebugEnabled()) {
+                logger.debug("Loaded {} as {} (sha256={})",
+                        schemaFile.getAbsolutePath(), source.getFormat(), source.contentHash());
+            }
+            return schemaObject;
+        } catch (IOException e) {
+            throw new FileUploadException("File cannot be read: " + schemaFile.getAbsolutePath(), e);
+        }
+    }
 
-            view.showParsedSummary(schemaObject);
+    /**
+     * Parses every table in the given file, which may be a single schema or an
+     * array-of-tables catalog such as {@code resources/schema.json}.
+     * <p>
+     * Like {@link #loadSchema(File)} this does not touch the view. Catalogs of at least
+     * {@link ParallelCatalogParser#threshold()} bytes are parsed on all cores. Every table is
+     * stored in the {@link SchemaModel} in one atomic update, the first becoming the active schema.
+     * Concurrent calls for the same unchanged file are coalesced as in {@link #loadSchema(File)}.
+     * </p>
+     *
+     * @param schemaFile the schema or catalog file
+     * @return the parsed tables in document order
+     * @throws SchemaParsingException   if the file cannot be parsed
+     * @throws FileUploadException      if the file is missing or unreadable
+     * @throws IllegalArgumentException if the file content is neither JSON nor XML
+     */
+    public List<SchemaObject> loadCatalog(File schemaFile) throws SchemaParsingException {
+        return loadCatalog(schemaFile, bytes -> { });
+    }
 
-        } catch (SchemaParsingException e) {
-            view.showError("Schema could not be parsed: " + e.getMessage());
-        } catch (IllegalArgumentException e) {
-            view.showError("Invalid input: " + e.getMessage());
-        } catch (FileUploadException e) {
-            view.showError("File upload failed: " + e.getMessage());
-        } catch (Exception e) {
-            logger.error("Unexpected error", e);
-            view.showError("An unexpected error occurred. Please try again.");
+    /**
+     * Parses every table in the given file as {@link #loadCatalog(File)} does, reporting progress.
+     * <p>
+     * A caller that joins a parse already in flight for the same file receives no progress.
+     * </p>
+     *
+     * @param schemaFile the schema or catalog file
+     * @param progress   receives the number of bytes parsed so far, on the parsing thread or, for
+     *                   catalogs parsed on all cores, on the worker threads
+     * @return the parsed tables in document order
+     * @throws SchemaParsingException   if the file cannot be parsed
+     * @throws FileUploadException      if the file is missing or unreadable
+     * @throws IllegalArgumentException if the file content is neither JSON nor XML
+     */
+    public List<SchemaObject> loadCatalog(File schemaFile, LongConsumer progress) throws SchemaParsingException {
+        if (schemaFile == null) {
+            throw new FileUploadException("No file provided. Please select a schema file (.json or .xml).");
+        }
+        return coalesce(catalogLoads, schemaFile, () -> readCatalog(schemaFile, progress));
+    }
+
+    private List<SchemaObject> readCatalog(File schemaFile, LongConsumer progress) throws SchemaParsingException {
+        try (SchemaSource source = openSource(schemaFile)) {
+            List<SchemaObject> tables;
+            if (source.isJsonArray() && source.size() >= ParallelCatalogParser.threshold()
+                    && ForkJoinPool.getCommonPoolParallelism() > 1) {
+                tables = new ParallelCatalogParser(jsonParser()).parse(source.getChannel(),
+                        schemaFile.getAbsolutePath(), progress);
+            } else {
+                SchemaParser parser = ParserFactory.get(source.getFormat());
+                tables = parser.parseCatalog(new ProgressInputStream(source.stream(), progress),
+                        schemaFile.getAbsolutePath());
+            }
+            model.putAll(tables);
+            logger.debug("Loaded {} tables from {}", tables.size(), schemaFile.getAbsolutePath());
+            return tables;
+        } catch (IOException e) {
+            throw new FileUploadException("File cannot be read: " + schemaFile.getAbsolutePath(), e);
         }
     }
 
     /**
-     * Validates that the given file exists, is a regular file, and is readable.
+     * Parses only the named tables of a JSON catalog (an array of tables or a catalog object) through its
+     * {@link CatalogIndex}, so the bytes of every other table are never read. Concurrent calls for
+     * the same tables of the same unchanged file are coalesced as in {@link #loadSchema(File)}.
      *
-     * @param file the file to validate
-     * @throws FileUploadException if the file is {@code null}, missing, invalid, or unreadable
+     * @param catalogFile the JSON catalog file
+     * @param tableNames  the tables to parse, in the order they should be returned
+     * @return the parsed tables, which have also been stored in the {@link SchemaModel}
+     * @throws SchemaParsingException   if the file is not a JSON catalog or a table
+     *                                  cannot be parsed
+     * @throws FileUploadException      if the file is missing or unreadable
+     * @throws IllegalArgumentException if a table is not in the catalog
      */
-    private void validateFile(File file) {
-        if (file == null) {
+    public List<SchemaObject> loadTables(File catalogFile, List<String> tableNames) throws SchemaParsingException {
+        if (catalogFile == null) {
             throw new FileUploadException("No file provided. Please select a schema file (.json or .xml).");
         }
-        if (!file.exists()) {
-            throw new FileUploadException("File not found: " + file.getAbsolutePath());
+
+        return coalesce(tableLoads, catalogFile, String.join("\n", tableNames),
+                () -> readTables(catalogFile, tableNames));
+    }
+
+    private List<SchemaObject> readTables(File catalogFile, List<String> tableNames) throws SchemaParsingException {
+        // CatalogIndex rejects anything but a JSON array while indexing, so the file is not sniffed first
+        JSONParser parser = jsonParser();
+        try {
+            List<SchemaObject> tables = CatalogIndex.open(catalogFile.toPath(), parser).extract(tableNames, parser);
+            model.putAll(tables);
+            return tables;
+        } catch (NoSuchFileException e) {
+            throw new FileUploadException("File not found: " + catalogFile.getAbsolutePath());
+        } catch (IOException e) {
+            throw new FileUploadException("File cannot be read: " + catalogFile.getAbsolutePath(), e);
         }
-        if (!file.isFile()) {
-            throw new FileUploadException("Not a valid file: " + file.getAbsolutePath());
+    }
+
+    /**
+     * Translates a failure raised while loading a schema into a user-facing
+     * message on the {@link SchemaView}.
+     *
+     * @param error the exception thrown by {@link #loadSchema(File)} or SQL generation
+     */
+    public void reportFailure(Throwable error) {
+        if (error instanceof SchemaParsingException) {
+            view.showError("Schema could not be parsed: " + error.getMessage());
+        } else if (error instanceof IllegalArgumentException) {
+            view.showError("Invalid input: " + error.getMessage());
+        } else if (error instanceof FileUploadException) {
+            view.showError("File upload failed: " + error.getMessage());
+        } else {
+            logger.error("Unexpected error", error);
+            view.showError("An unexpected error occurred. Please try again.");
         }
-        if (!file.canRead()) {
-            throw new FileUploadException("File cannot be read: " + file.getAbsolutePath());
+    }
+
+    /**
+     * Loads through {@code flights}, keyed by the file's absolute path, size and modification time
+     * so that a file changed on disk is never served from a parse of its previous content.
+     */
+    private <V> V coalesce(SingleFlight<String, V> flights, File file, Callable<V> load) throws SchemaParsingException {
+        return coalesce(flights, file, "", load);
+    }
+
+    /**
+     * Loads through {@code flights} as {@link #coalesce(SingleFlight, File, Callable)} does, with
+     * {@code request} added to the key so different requests on the same file are not merged.
+     */
+    private <V> V coalesce(SingleFlight<String, V> flights, File file, String request, Callable<V> load)
+            throws SchemaParsingException {
+        String key;
+        try {
+            BasicFileAttributes attributes = Files.readAttributes(file.toPath(), BasicFileAttributes.class);
+            key = file.getAbsoluteFile().toPath().normalize() + "|" + attributes.size()
+                    + "|" + attributes.lastModifiedTime().toMillis() + "|" + request;
+        } catch (IOException e) {
+            // Let the load itself report the missing or unreadable file
+            key = null;
+        }
+
+        try {
+            return key == null ? load.call() : SingleFlight.await(flights.execute(key, load));
+        } catch (SchemaParsingException | RuntimeException e) {
+            throw e;
+        } catch (Exception e) {
+            throw new FileUploadException("File cannot be read: " + file.getAbsolutePath(), e);
         }
     }
 
     /**
-     * Detects the schema format based on the file extension.
+     * @return the shared JSON parser, or a default one if a plugin replaced the built-in "json" format
+     */
+    private static JSONParser jsonParser() {
+        return ParserFactory.get("json") instanceof JSONParser shared ? shared : new JSONParser();
+    }
+
+    /**
+     * Opens the schema file through a single {@link SchemaSource}, translating open failures
+     * into the same user-facing errors that were previously produced by separate checks.
      *
-     * @param file the schema file
-     * @return the detected format: {@code "xml"} or {@code "json"}
-     * @throws IllegalArgumentException if the file type is unsupported
+     * @param file the file to open
+     * @return the open source
+     * @throws FileUploadException if the file is missing, not a regular file, or unreadable
      */
-    private String detectFormat(File file) {
-        String name = file.getName().toLowerCase();
-        if (name.endsWith(".xml")) {
-            return "xml";
-        } else if (name.endsWith(".json")) {
-            return "json";
-        } else {
-            throw new IllegalArgumentException(
-                    "Unsupported file type: " + name + ". Please upload a .json or .xml schema file."
-            );
+    private SchemaSource openSource(File file) {
+        try {
+            return SchemaSource.open(file.toPath());
+        } catch (NoSuchFileException e) {
+            throw new FileUploadException("File not found: " + file.getAbsolutePath());
+        } catch (AccessDeniedException e) {
+            throw new FileUploadException("File cannot be read: " + file.getAbsolutePath());
+        } catch (IOException e) {
+            throw new FileUploadException("Not a valid file: " + file.getAbsolutePath(), e);
         }
     }
 }
@@ -0,0 +1,126 @@
+package controller;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Objects;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Coalesces concurrent requests for the same key onto a single in-flight computation.
+ * <p>
+ * The first caller for a key becomes the leader: it runs the work on its own thread and completes
+ * a shared {@link CompletableFuture}. Callers arriving for the same key while the work is running
+ * receive that same future instead of starting another computation, so N simultaneous requests
+ * cost one. A failure completes the future exceptionally and therefore reaches every waiter;
+ * {@link #await(CompletableFuture)} gives each of them its own copy of it.
+ * Once the work finishes the key is forgotten; results are not cached.
+ * </p>
+ *
+ * @param <K> the key identifying equivalent requests
+ * @param <V> the result type
+ */
+public final class SingleFlight<K, V> {
+    private final ConcurrentMap<K, CompletableFuture<V>> inFlight = new ConcurrentHashMap<>();
+    private final LongAdder coalesced = new LongAdder();
+    private static final Logger logger = LogManager.getLogger(SingleFlight.class);
+
+    /**
+     * Runs {@code work} for {@code key}, or joins the computation already running for it.
+     * <p>
+     * For the leader the work has completed by the time this method returns; for every other
+     * caller the returned future completes when the leader's work does.
+     * </p>
+     *
+     * @param key  the request key
+     * @param work the computation to run if none is in flight for the key
+     * @return the shared future
+     */
+    public CompletableFuture<V> execute(K key, Callable<V> work) {
+        CompletableFuture<V> mine = new CompletableFuture<>();
+        CompletableFuture<V> existing = inFlight.putIfAbsent(key, mine);
+        if (existing != null) {
+            coalesced.increment();
+            logger.debug("Joining in-flight request for {}", key);
+            return existing;
+        }
+
+        try {
+            mine.complete(work.call());
+        } catch (Throwable t) {
+            mine.completeExceptionally(t);
+        } finally {
+            inFlight.remove(key, mine);
+        }
+        return mine;
+    }
+
+    /**
+     * Waits for a future returned by {@link #execute(Object, Callable)} and rethrows its failure
+     * unwrapped, so callers see the type of exception the leader's work threw.
+     * <p>
+     * The failure is shared by every waiter, so each caller gets a new exception of the same type
+     * and message with the original as its cause, and with its own stack trace. Types without a
+     * public {@code (String, Throwable)} constructor that keeps the message are rethrown as they are.
+     * An interrupted wait leaves the shared computation running for the other waiters; the
+     * interrupt status is restored and the wait ends with a {@link CancellationException}.
+     * </p>
+     *
+     * @param future the shared future
+     * @return the result
+     * @throws CancellationException if the calling thread is interrupted while waiting
+     * @throws Exception             the failure of the work
+     */
+    public static <V> V await(CompletableFuture<V> future) throws Exception {
+        try {
+            return future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            CancellationException cancelled = new CancellationException("Interrupted while waiting for a shared result");
+            cancelled.initCause(e);
+            throw cancelled;
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof Exception exception) {
+                throw copyFor(exception);
+            }
+            if (cause instanceof Error error) {
+                throw error;
+            }
+            throw e;
+        }
+    }
+
+    private static Exception copyFor(Exception failure) {
+        try {
+            Exception copy = failure.getClass().getConstructor(String.class, Throwable.class)
+                    .newInstance(failure.getMessage(), failure);
+            if (Objects.equals(copy.getMessage(), failure.getMessage())) {
+                return copy;
+            }
+        } catch (ReflectiveOperationException | RuntimeException e) {
+            logger.debug("Cannot copy {} for a waiter; rethrowing it", failure.getClass().getName());
+        }
+        return failure;
+    }
+
+    /**
+     * @return the number of keys currently being computed
+     */
+    public int getInFlight() {
+        return inFlight.size();
+    }
+
+    /**
+     * @return the number of requests that joined another caller's computation
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+}
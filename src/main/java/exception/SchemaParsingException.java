@@ -14,6 +14,7 @@ package exception;
  * </p>
  */
 public class SchemaParsingException extends Exception {
+    private static final String PREFIX = "Schema Parsing Error: ";
 
     /**
      * Creates a new {@code SchemaParsingException} with a descriptive error message.
@@ -21,7 +22,7 @@ public class SchemaParsingException extends Exception {
      * @param message A human-readable description of the error.
      */
     public SchemaParsingException(String message) {
-        super("Schema Parsing Error: " + message);
+        super(prefixed(message));
     }
 
     /**
@@ -35,6 +36,13 @@ public class SchemaParsingException extends Exception {
      * @param cause   The original exception that caused this error (may be {@code null}).
      */
     public SchemaParsingException(String message, Throwable cause) {
-        super("Schema Parsing Error: " + message, cause);
+        super(prefixed(message), cause);
+    }
+
+    /**
+     * Adds the prefix once, so an exception rebuilt from another one's message reads the same.
+     */
+    private static String prefixed(String message) {
+        return message != null && message.startsWith(PREFIX) ? message : PREFIX + message;
     }
 }
\ No newline at end of file
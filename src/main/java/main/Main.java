@@ -1,9 +1,49 @@
 package main;
 
+import server.SchemaServer;
 import view.SchemaApp;
 
+import java.util.Arrays;
+
 public class Main {
-    public static void main(String[] args) {
+    /** Lightweight Log4j configuration used by headless conversions unless one is given explicitly. */
+    private static final String CLI_LOG_CONFIG = "log4j2-cli.xml";
+
+    public static void main(String[] args) throws Exception {
+        if (args.length > 0 && "--convert".equals(args[0])) {
+            // JavaFX is never referenced on this path, so none of its classes are loaded
+            if (System.getProperty("log4j2.configurationFile") == null) {
+                System.setProperty("log4j2.configurationFile", CLI_LOG_CONFIG);
+            }
+            System.exit(new SchemaCli(System.out, System.err).run(Arrays.copyOfRange(args, 1, args.length)));
+        }
+        if (args.length > 0 && "--server".equals(args[0])) {
+            startServer(args);
+            return;
+        }
         SchemaApp.main(args); // Launch JavaFX GUI
     }
+
+    /**
+     * Starts the embedded HTTP conversion service.
+     * Accepts {@code --port=<n>} and {@code --max-concurrency=<n>} after {@code --server}.
+     */
+    private static void startServer(String[] args) throws Exception {
+        int port = SchemaServer.DEFAULT_PORT;
+        int maxConcurrent = SchemaServer.DEFAULT_MAX_CONCURRENT;
+        for (int i = 1; i < args.length; i++) {
+            String arg = args[i];
+            if (arg.startsWith("--port=")) {
+                port = Integer.parseInt(arg.substring("--port=".length()));
+            } else if (arg.startsWith("--max-concurrency=")) {
+                maxConcurrent = Integer.parseInt(arg.substring("--max-concurrency=".length()));
+            } else {
+                throw new IllegalArgumentException("Unknown server option: " + arg);
+            }
+        }
+
+        SchemaServer server = new SchemaServer(port, maxConcurrent);
+        Runtime.getRuntime().addShutdownHook(new Thread(server::stop));
+        server.start();
+    }
 }
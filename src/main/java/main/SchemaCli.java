@@ -0,0 +1,622 @@
+package main;
+
+import controller.SchemaController;
+import exception.SchemaParsingException;
+import model.CatalogSnapshot;
+import model.ColumnLayout;
+import model.ConversionJournal;
+import model.GeneratorFactory;
+import model.ISqlGenerator;
+import model.MemoizingGenerator;
+import model.OutputStore;
+import model.SchemaModel;
+import model.SchemaObject;
+import model.ShardPlan;
+import model.TableDependencies;
+import model.TypeInference;
+import view.SchemaView;
+
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.IOException;
+import java.io.OutputStreamWriter;
+import java.io.PrintStream;
+import java.io.StringWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+
+/**
+ * Headless command-line front end: converts schema files to SQL without starting JavaFX.
+ * <p>
+ * Usage: {@code --convert <schema file>... [--dialect=mysql] [--output=<file> | --output-dir=<dir> [--journal=<file>]]
+ * [--snapshot=<file>] [--tables=<name>,...] [--samples=<dir>] [--shards=<n>] [--shard-by=size|level] [--bulk-load]
+ * [--optimize-layout]}. Inputs may be single schemas or array-of-tables catalogs.
+ * The DDL is written to standard output unless {@code --output} is given. With {@code --output-dir}
+ * each schema is written to {@code <schema name>.sql} through an {@link OutputStore}, which leaves
+ * unchanged scripts untouched and prints a written/unchanged summary. With {@code --journal} the
+ * inputs are converted one at a time and each completed input is appended to a
+ * {@link ConversionJournal}, so a batch that is interrupted skips the finished inputs whose scripts
+ * are still in place when it is run again (not with {@code --shards}, {@code --shard-by}, {@code --bulk-load} or
+ * {@code --snapshot}, which need the whole catalog at once). With {@code --snapshot} the
+ * parsed inputs are cached in a {@link CatalogSnapshot} and reloaded on later runs while the
+ * inputs are unchanged. With {@code --tables} only the named tables are parsed, through each
+ * catalog's {@link model.CatalogIndex} (not with {@code --snapshot}, which caches whole catalogs).
+ * With {@code --samples} column types are inferred from the CSV/NDJSON sample files in that directory by {@link TypeInference}. With {@code --optimize-layout}
+ * columns are reordered by {@link ColumnLayout} to minimize PostgreSQL row padding, and the
+ * estimated bytes saved per row are reported on standard error. With {@code --shards} or {@code --shard-by} (which require
+ * {@code --output-dir}) the script is split into shards planned by {@link ShardPlan} and a
+ * {@code manifest.json} records which shards may run concurrently. With {@code --bulk-load} (which
+ * requires {@code --output} or {@code --output-dir}) tables are created with only their primary key,
+ * and their secondary indexes and foreign keys go to a separate post-load script,
+ * {@code <output>.post-load.sql} or {@code post-load.sql}, wrapped in the session settings of
+ * {@link ISqlGenerator#postLoadPrologue()}. Problems are
+ * reported on standard error through a console {@link SchemaView}. Only the classes needed
+ * for the requested conversion are loaded, which keeps time-to-first-statement short.
+ * </p>
+ */
+public class SchemaCli {
+    static final int EXIT_OK = 0;
+    static final int EXIT_FAILED = 1;
+    static final int EXIT_USAGE = 2;
+
+    private static final String USAGE = "Usage: --convert <schema file>... [--dialect=mysql]"
+            + " [--output=<file> | --output-dir=<dir> [--journal=<file>]] [--snapshot=<file>] [--tables=<name>,...]"
+            + " [--samples=<dir>]"
+            + " [--shards=<n>] [--shard-by=size|level] [--bulk-load] [--optimize-layout]";
+    static final String SHARD_MANIFEST = "manifest.json";
+    static final String POST_LOAD_SCRIPT = "post-load.sql";
+
+    private final PrintStream out;
+    private final PrintStream err;
+
+    public SchemaCli(PrintStream out, PrintStream err) {
+        this.out = out;
+        this.err = err;
+    }
+
+    /**
+     * Runs a conversion with the arguments that follow {@code --convert}.
+     *
+     * @param args schema files and options
+     * @return the process exit code
+     */
+    public int run(String[] args) {
+        String dialect = "mysql";
+        Path output = null;
+        Path outputDir = null;
+        Path snapshot = null;
+        Path samples = null;
+        List<String> tables = null;
+        ShardPlan.Strategy shardBy = null;
+        int shards = 1;
+        boolean bulkLoad = false;
+        boolean optimizeLayout = false;
+        Path journal = null;
+        List<File> inputs = new ArrayList<>();
+        for (String arg : args) {
+            if (arg.startsWith("--dialect=")) {
+                dialect = arg.substring("--dialect=".length());
+            } else if (arg.startsWith("--output=")) {
+                output = Path.of(arg.substring("--output=".length()));
+            } else if (arg.startsWith("--output-dir=")) {
+                outputDir = Path.of(arg.substring("--output-dir=".length()));
+            } else if (arg.startsWith("--snapshot=")) {
+                snapshot = Path.of(arg.substring("--snapshot=".length()));
+            } else if (arg.startsWith("--journal=")) {
+                journal = Path.of(arg.substring("--journal=".length()));
+            } else if (arg.startsWith("--samples=")) {
+                samples = Path.of(arg.substring("--samples=".length()));
+            } else if (arg.startsWith("--tables=")) {
+                tables = List.of(arg.substring("--tables=".length()).split(","));
+            } else if (arg.startsWith("--shards=")) {
+                try {
+                    shards = Integer.parseInt(arg.substring("--shards=".length()));
+                } catch (NumberFormatException e) {
+                    shards = 0;
+                }
+                if (shards <= 0) {
+                    err.println("Shard count must be a positive number: " + arg);
+                    return EXIT_USAGE;
+                }
+                if (shardBy == null) {
+                    shardBy = ShardPlan.Strategy.SIZE;
+                }
+            } else if (arg.startsWith("--shard-by=")) {
+                String strategy = arg.substring("--shard-by=".length());
+                if (!strategy.equals("size") && !strategy.equals("level")) {
+                    err.println("Unknown shard strategy: " + strategy);
+                    return EXIT_USAGE;
+                }
+                shardBy = ShardPlan.Strategy.valueOf(strategy.toUpperCase(Locale.ROOT));
+            } else if (arg.equals("--bulk-load")) {
+                bulkLoad = true;
+            } else if (arg.equals("--optimize-layout")) {
+                optimizeLayout = true;
+            } else if (arg.startsWith("--")) {
+                err.println("Unknown option: " + arg);
+                return EXIT_USAGE;
+            } else {
+                inputs.add(new File(arg));
+            }
+        }
+        if (inputs.isEmpty() || (output != null && outputDir != null) || (shardBy != null && outputDir == null)
+                || (bulkLoad && output == null && outputDir == null)
+                || (journal != null && (outputDir == null || shardBy != null || bulkLoad || snapshot != null))
+                || (snapshot != null && tables != null)) {
+            err.println(USAGE);
+            return EXIT_USAGE;
+        }
+
+        ConsoleView view = new ConsoleView();
+        SchemaController controller = new SchemaController(new SchemaModel(), view);
+        ISqlGenerator generator;
+        try {
+            // Identical tables from different inputs or formats are generated once
+            generator = new MemoizingGenerator(dialect, GeneratorFactory.get(dialect),
+                    MemoizingGenerator.DEFAULT_MAX_ENTRIES);
+        } catch (IllegalArgumentException e) {
+            controller.reportFailure(e);
+            return EXIT_USAGE;
+        }
+
+        if (journal != null) {
+            String settings;
+            try {
+                // Sample content and the generator's version change the scripts as much as the inputs do
+                settings = String.join("|", dialect, String.valueOf(tables), String.valueOf(samples),
+                        samples == null ? "" : TypeInference.samplesHash(samples), String.valueOf(optimizeLayout),
+                        outputDir.toAbsolutePath().normalize().toString(), version(SchemaCli.class),
+                        version(GeneratorFactory.get(dialect).getClass()));
+            } catch (IOException e) {
+                err.println("[ERROR] Could not read samples: " + e.getMessage());
+                return EXIT_FAILED;
+            }
+            return convertWithJournal(controller, generator, inputs, tables, samples, optimizeLayout, outputDir,
+                    journal, settings) ? EXIT_OK : EXIT_FAILED;
+        }
+
+        List<SchemaObject> schemas = new ArrayList<>();
+        boolean failed = tables == null
+                ? !loadSchemas(controller, inputs, snapshot, schemas)
+                : !loadTables(controller, inputs, tables, schemas);
+        try {
+            List<SchemaObject> prepared = prepare(schemas, samples, optimizeLayout);
+            generator.validateCatalog(prepared);
+            schemas.clear();
+            schemas.addAll(prepared);
+        } catch (IOException e) {
+            err.println("[ERROR] Could not read samples: " + e.getMessage());
+            return EXIT_FAILED;
+        } catch (Exception e) {
+            controller.reportFailure(e);
+            return EXIT_FAILED;
+        }
+
+        if (shardBy != null) {
+            return convertToShards(controller, generator, schemas, outputDir, shardBy, shards, dialect, bulkLoad)
+                    && !failed ? EXIT_OK : EXIT_FAILED;
+        }
+        if (outputDir != null) {
+            return convertToDirectory(controller, generator, schemas, outputDir, bulkLoad)
+                    && !failed ? EXIT_OK : EXIT_FAILED;
+        }
+
+        try {
+            if (output == null) {
+                // Standard output belongs to the caller, so it is flushed but never closed
+                Writer writer = new BufferedWriter(new OutputStreamWriter(out, StandardCharsets.UTF_8));
+                failed |= !writeScripts(controller, generator, schemas, writer, false, new ArrayList<>());
+                writer.flush();
+            } else {
+                List<SchemaObject> generated = new ArrayList<>();
+                try (Writer writer = Files.newBufferedWriter(output, StandardCharsets.UTF_8)) {
+                    failed |= !writeScripts(controller, generator, schemas, writer, bulkLoad, generated);
+                }
+                if (bulkLoad) {
+                    Files.writeString(postLoadPath(output), postLoadScript(generator, generated),
+                            StandardCharsets.UTF_8);
+                }
+            }
+        } catch (IOException e) {
+            err.println("[ERROR] Could not write output: " + e.getMessage());
+            return EXIT_FAILED;
+        }
+        return failed ? EXIT_FAILED : EXIT_OK;
+    }
+
+    /**
+     * Writes the scripts for all schemas to one writer, reporting generation failures: every
+     * {@code CREATE TABLE} in creation order, then every table's constraints, so foreign keys only
+     * reference existing tables even when the tables form a dependency cycle.
+     * The schemas whose script was written are added to {@code generated}.
+     *
+     * @return {@code true} if every script was generated
+     */
+    private boolean writeScripts(SchemaController controller, ISqlGenerator generator,
+                                 List<SchemaObject> schemas, Writer writer, boolean bulkLoad,
+                                 List<SchemaObject> generated) throws IOException {
+        boolean ok = true;
+        StringBuilder constraints = new StringBuilder();
+        for (SchemaObject schema : TableDependencies.creationOrder(schemas)) {
+            try {
+                String[] script = generateScript(generator, schema, bulkLoad);
+                writer.write(script[0]);
+                writer.flush();
+                constraints.append(script[1]);
+                generated.add(schema);
+            } catch (IOException e) {
+                throw e;
+            } catch (Exception e) {
+                controller.reportFailure(e);
+                ok = false;
+            }
+        }
+        writer.write(constraints.toString());
+        writer.flush();
+        return ok;
+    }
+
+    /**
+     * Applies the optional stages that run between parsing and generation: type inference from
+     * samples, then column layout optimization.
+     */
+    private List<SchemaObject> prepare(List<SchemaObject> schemas, Path samples, boolean optimizeLayout)
+            throws IOException, SchemaParsingException {
+        List<SchemaObject> prepared = samples == null ? new ArrayList<>(schemas)
+                : new TypeInference().applyAll(schemas, samples);
+        if (optimizeLayout) {
+            prepared.replaceAll(this::optimizeLayout);
+        }
+        return prepared;
+    }
+
+    private SchemaObject optimizeLayout(SchemaObject schema) {
+        ColumnLayout.Result layout = ColumnLayout.optimize(schema);
+        if (layout.getEstimatedBytesSaved() > 0) {
+            err.println(String.format(Locale.ROOT, "[INFO] Column layout of '%s': %.1f -> %.1f bytes per row (%.1f saved)",
+                    schema.getName(), layout.getBytesBefore(), layout.getBytesAfter(),
+                    layout.getEstimatedBytesSaved()));
+        }
+        return layout.getTable();
+    }
+
+    /**
+     * Parses every input into {@code schemas}, or loads them all from the catalog snapshot when it
+     * is still current. Parse failures are reported and the failing inputs left out of the result;
+     * a fresh snapshot is only written when every input parsed.
+     *
+     * @return {@code true} if every input was loaded
+     */
+    private boolean loadSchemas(SchemaController controller, List<File> inputs, Path snapshot,
+                                List<SchemaObject> schemas) {
+        byte[] fingerprint = null;
+        if (snapshot != null) {
+            try {
+                fingerprint = CatalogSnapshot.fingerprint(inputs.stream().map(File::toPath).toList());
+                List<SchemaObject> cached = CatalogSnapshot.read(snapshot, fingerprint);
+                if (cached != null) {
+                    schemas.addAll(cached);
+                    return true;
+                }
+            } catch (IOException e) {
+                // An input cannot be inspected; parsing below reports it
+                fingerprint = null;
+            }
+        }
+
+        boolean loaded = true;
+        for (File input : inputs) {
+            try {
+                schemas.addAll(controller.loadCatalog(input));
+            } catch (Exception e) {
+                controller.reportFailure(e);
+                loaded = false;
+            }
+        }
+
+        if (fingerprint != null && loaded) {
+            try {
+                CatalogSnapshot.write(snapshot, schemas, fingerprint);
+            } catch (IOException e) {
+                err.println("[ERROR] Could not write snapshot " + snapshot + ": " + e.getMessage());
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Parses only the named tables of every input catalog into {@code schemas}, reporting failures.
+     *
+     * @return {@code true} if the tables of every input were loaded
+     */
+    private boolean loadTables(SchemaController controller, List<File> inputs, List<String> tables,
+                               List<SchemaObject> schemas) {
+        boolean loaded = true;
+        for (File input : inputs) {
+            try {
+                schemas.addAll(controller.loadTables(input, tables));
+            } catch (Exception e) {
+                controller.reportFailure(e);
+                loaded = false;
+            }
+        }
+        return loaded;
+    }
+
+    /**
+     * Writes one script per schema into {@code outputDir}, rewriting only scripts whose content changed.
+     *
+     * @return {@code true} if every script was generated and written
+     */
+    private boolean convertToDirectory(SchemaController controller, ISqlGenerator generator,
+                                       List<SchemaObject> schemas, Path outputDir, boolean bulkLoad) {
+        boolean failed = false;
+        List<SchemaObject> generated = new ArrayList<>();
+        try {
+            OutputStore store = new OutputStore(outputDir);
+            for (SchemaObject schema : schemas) {
+                try {
+                    // Generated in full first, so a table that fails keeps its last good script
+                    StringWriter script = new StringWriter();
+                    writeScript(script, generator, schema, bulkLoad);
+                    store.write(schema.getName() + ".sql", script.toString());
+                    generated.add(schema);
+                } catch (IOException e) {
+                    throw e;
+                } catch (Exception e) {
+                    controller.reportFailure(e);
+                    failed = true;
+                }
+            }
+            if (bulkLoad) {
+                store.write(POST_LOAD_SCRIPT, postLoadScript(generator, generated));
+            }
+            store.commit();
+            out.println(store.getWritten() + " written, " + store.getSkipped() + " unchanged in " + store.getDirectory());
+        } catch (IOException e) {
+            err.println("[ERROR] Could not write output: " + e.getMessage());
+            return false;
+        }
+        return !failed;
+    }
+
+    /**
+     * Converts the inputs one at a time into {@code outputDir}, recording each completed input in a
+     * {@link ConversionJournal} and skipping inputs the journal already holds with their current
+     * content, so a run that was interrupted resumes where it stopped. The journal is compacted
+     * once every input has been converted.
+     *
+     * @return {@code true} if every input was converted and written
+     */
+    private boolean convertWithJournal(SchemaController controller, ISqlGenerator generator, List<File> inputs,
+                                       List<String> tables, Path samples, boolean optimizeLayout, Path outputDir,
+                                       Path journalFile, String settings) {
+        boolean failed = false;
+        int converted = 0;
+        int resumed = 0;
+        try (ConversionJournal journal = ConversionJournal.open(journalFile, settings,
+                ConversionJournal.DEFAULT_SYNC_INTERVAL)) {
+            OutputStore store = new OutputStore(outputDir);
+            for (File input : inputs) {
+                String path = input.toPath().toAbsolutePath().normalize().toString();
+                String contentHash = null;
+                try {
+                    contentHash = ConversionJournal.contentHash(input.toPath());
+                } catch (IOException e) {
+                    // Unreadable input; loading it below reports the failure
+                }
+                if (contentHash != null && journal.isDone(path, contentHash)
+                        && outputsIntact(store, journal.getOutputs(path))) {
+                    resumed++;
+                    continue;
+                }
+
+                List<SchemaObject> schemas;
+                try {
+                    List<SchemaObject> loaded = tables == null
+                            ? controller.loadCatalog(input)
+                            : controller.loadTables(input, tables);
+                    schemas = prepare(loaded, samples, optimizeLayout);
+                    generator.validateCatalog(schemas);
+                } catch (Exception e) {
+                    controller.reportFailure(e);
+                    failed = true;
+                    continue;
+                }
+                Map<String, String> outputs = new LinkedHashMap<>();
+                boolean written = true;
+                for (SchemaObject schema : schemas) {
+                    try {
+                        StringWriter script = new StringWriter();
+                        writeScript(script, generator, schema, false);
+                        String fileName = schema.getName() + ".sql";
+                        store.write(fileName, script.toString());
+                        outputs.put(fileName, store.getDigest(fileName));
+                    } catch (IOException e) {
+                        throw e;
+                    } catch (Exception e) {
+                        controller.reportFailure(e);
+                        written = false;
+                    }
+                }
+                if (written && contentHash != null) {
+                    // The entry says the scripts exist, so they must reach the disk first
+                    for (String fileName : outputs.keySet()) {
+                        store.sync(fileName);
+                    }
+                    journal.complete(path, contentHash, outputs);
+                    converted++;
+                } else {
+                    failed = true;
+                }
+            }
+            store.commit();
+            if (!failed) {
+                journal.compact();
+            }
+            out.println(converted + " converted, " + resumed + " already done; " + store.getWritten() + " written, "
+                    + store.getSkipped() + " unchanged in " + store.getDirectory());
+        } catch (IOException e) {
+            err.println("[ERROR] Could not write output: " + e.getMessage());
+            return false;
+        }
+        return !failed;
+    }
+
+    /**
+     * @return {@code true} if every script the journal recorded for an input is still in the output
+     *         directory with the recorded content
+     */
+    private static boolean outputsIntact(OutputStore store, Map<String, String> outputs) throws IOException {
+        for (Map.Entry<String, String> output : outputs.entrySet()) {
+            if (!store.verify(output.getKey(), output.getValue())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Generates every script, splits them into shards and writes the shards and their manifest
+     * into {@code outputDir}, rewriting only files whose content changed.
+     *
+     * @return {@code true} if every script was generated and written
+     */
+    private boolean convertToShards(SchemaController controller, ISqlGenerator generator, List<SchemaObject> schemas,
+                                    Path outputDir, ShardPlan.Strategy strategy, int shardCount, String dialect,
+                                    boolean bulkLoad) {
+        boolean failed = false;
+        List<SchemaObject> generated = new ArrayList<>();
+        Map<SchemaObject, String[]> scripts = new IdentityHashMap<>();
+        for (SchemaObject schema : schemas) {
+            try {
+                scripts.put(schema, generateScript(generator, schema, bulkLoad));
+                generated.add(schema);
+            } catch (Exception e) {
+                controller.reportFailure(e);
+                failed = true;
+            }
+        }
+
+        ShardPlan plan = ShardPlan.plan(generated, table -> {
+            String[] script = scripts.get(table);
+            return script[0].getBytes(StandardCharsets.UTF_8).length + script[1].getBytes(StandardCharsets.UTF_8).length;
+        }, strategy, shardCount);
+        try {
+            OutputStore store = new OutputStore(outputDir);
+            for (ShardPlan.Shard shard : plan.getShards()) {
+                // Tables first, then constraints: the tables of a cyclic shard reference each other
+                StringBuilder script = new StringBuilder();
+                for (SchemaObject table : shard.getTables()) {
+                    script.append(scripts.get(table)[0]);
+                }
+                for (SchemaObject table : shard.getTables()) {
+                    script.append(scripts.get(table)[1]);
+                }
+                store.write(shard.getFile(), script.toString());
+            }
+            store.write(SHARD_MANIFEST, plan.toJson(dialect));
+            if (bulkLoad) {
+                store.write(POST_LOAD_SCRIPT, postLoadScript(generator, generated));
+            }
+            store.commit();
+            out.println(plan.getShards().size() + " shards in " + plan.getPhaseCount() + " phases; "
+                    + store.getWritten() + " written, " + store.getSkipped() + " unchanged in " + store.getDirectory());
+        } catch (IOException e) {
+            err.println("[ERROR] Could not write output: " + e.getMessage());
+            return false;
+        }
+        return !failed;
+    }
+
+    private static void writeScript(Writer writer, ISqlGenerator generator, SchemaObject schema,
+                                    boolean bulkLoad) throws IOException {
+        String[] script = generateScript(generator, schema, bulkLoad);
+        writer.write(script[0]);
+        writer.write(script[1]);
+    }
+
+    /**
+     * Generates a table's script in two parts, each empty or ending with a line break: the
+     * {@code CREATE TABLE} statement and the statement adding its constraints (none in bulk-load
+     * mode, where they go to the post-load script).
+     */
+    private static String[] generateScript(ISqlGenerator generator, SchemaObject schema, boolean bulkLoad) {
+        if (bulkLoad) {
+            return new String[]{generator.generateLoadTable(schema) + "\n", ""};
+        }
+        String create = generator.generateCreateTable(schema) + "\n";
+        String constraints = generator.generateConstraints(schema);
+        return new String[]{create, constraints.isEmpty() ? "" : constraints + "\n"};
+    }
+
+    /**
+     * Builds the script to run once the tables created in bulk-load mode hold their data: the
+     * deferred indexes and foreign keys of every schema in creation order, between the generator's
+     * session prologue and epilogue.
+     *
+     * @param schemas the schemas whose tables were generated
+     */
+    private static String postLoadScript(ISqlGenerator generator, List<SchemaObject> schemas) {
+        StringBuilder script = new StringBuilder();
+        appendLine(script, generator.postLoadPrologue());
+        for (SchemaObject schema : TableDependencies.creationOrder(schemas)) {
+            appendLine(script, generator.generatePostLoadConstraints(schema));
+        }
+        appendLine(script, generator.postLoadEpilogue());
+        return script.toString();
+    }
+
+    private static void appendLine(StringBuilder script, String sql) {
+        if (!sql.isEmpty()) {
+            script.append(sql).append('\n');
+        }
+    }
+
+    /**
+     * @return the post-load script next to {@code output}: {@code schema.sql} becomes {@code schema.post-load.sql}
+     */
+    static Path postLoadPath(Path output) {
+        String name = output.getFileName().toString();
+        String base = name.endsWith(".sql") ? name.substring(0, name.length() - ".sql".length()) : name;
+        return output.resolveSibling(base + "." + POST_LOAD_SCRIPT);
+    }
+
+    /**
+     * @return the class name with the implementation version from its jar manifest, or
+     *         {@code "unversioned"} when run from class directories
+     */
+    private static String version(Class<?> type) {
+        String version = type.getPackage() == null ? null : type.getPackage().getImplementationVersion();
+        return type.getName() + "@" + (version == null ? "unversioned" : version);
+    }
+
+    /**
+     * Console implementation of {@link SchemaView}; only errors are printed so that
+     * standard output carries nothing but SQL.
+     */
+    private class ConsoleView extends SchemaView {
+        @Override
+        public void showSuccess(String message) {
+            // Success is signalled by the exit code
+        }
+
+        @Override
+        public void showError(String message) {
+            err.println("[ERROR] " + message);
+        }
+
+        @Override
+        public void showParsedSummary(SchemaObject schema) {
+            // The generated SQL is the summary
+        }
+    }
+}
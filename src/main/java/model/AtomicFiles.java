@@ -0,0 +1,62 @@
+package model;
+
+import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
+import java.nio.file.FileAlreadyExistsException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * Replaces files through a staging file in the same directory, so readers see either the old or
+ * the new content and never a partial write.
+ * <p>
+ * Used for generated scripts, the output manifest, the conversion journal, catalog snapshots
+ * and catalog indexes.
+ * </p>
+ */
+public final class AtomicFiles {
+
+    private AtomicFiles() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    /**
+     * Creates an empty staging file in {@code directory}. Unlike {@link Files#createTempFile}, which
+     * restricts the file to its owner, the file gets the process's default permissions (the umask
+     * applies), so the file it replaces through {@link #moveIntoPlace(Path, Path)} does too.
+     *
+     * @param directory the directory of the file to replace
+     * @param prefix    the staging file name prefix, e.g. {@code ".stage-"}
+     * @return the new, empty staging file
+     * @throws IOException if the file cannot be created
+     */
+    public static Path createStagingFile(Path directory, String prefix) throws IOException {
+        while (true) {
+            Path staged = directory.resolve(prefix + Long.toUnsignedString(ThreadLocalRandom.current().nextLong(), 36)
+                    + ".tmp");
+            try {
+                return Files.createFile(staged);
+            } catch (FileAlreadyExistsException e) {
+                // Name taken by a concurrent writer; draw another
+            }
+        }
+    }
+
+    /**
+     * Moves a staged file over {@code target}, atomically where the file system supports it and
+     * with a plain replacing move otherwise.
+     *
+     * @param staged the complete new content, in the target's directory
+     * @param target the file to replace or create
+     * @throws IOException if the file cannot be moved
+     */
+    public static void moveIntoPlace(Path staged, Path target) throws IOException {
+        try {
+            Files.move(staged, target, StandardCopyOption.ATOMIC_MOVE, StandardCopyOption.REPLACE_EXISTING);
+        } catch (AtomicMoveNotSupportedException e) {
+            Files.move(staged, target, StandardCopyOption.REPLACE_EXISTING);
+        }
+    }
+}
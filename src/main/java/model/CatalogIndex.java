@@ -0,0 +1,398 @@
+package model;
+
+import com.fasterxml.jackson.core.JsonParseException;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import exception.SchemaParsingException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Sidecar offset index over a JSON catalog: an array of tables such as {@code resources/schema.json},
+ * or a catalog object {@code {"options": {...}, "tables": [...]}}.
+ * <p>
+ * The index maps every {@code tableName} to the byte range of its object in the catalog, so
+ * {@link #extract(Collection, JSONParser)} parses only the bytes of the requested tables instead
+ * of the whole file. The byte range of a catalog object's {@code options} is indexed too, so the
+ * extracted tables get the same defaults as when the whole catalog is parsed. The index is built
+ * with a single streaming pass and stored next to the catalog as {@code <catalog>.idx}. Layout
+ * (big-endian):
+ * </p>
+ * <pre>
+ * header   magic "S2SI" | u16 version | u64 catalog size | u64 catalog mtime (ms) | 32-byte SHA-256 of catalog
+ * options  u64 start offset | u64 end offset (both -1 if the catalog sets no defaults)
+ * entries  u32 count | count x (u16 name length | UTF-8 name | u64 start offset | u64 end offset)
+ * </pre>
+ * <p>
+ * The index is tied to the catalog's content hash. When the catalog's size and modification time
+ * still match the sidecar it is reused without reading the catalog; when only the modification
+ * time differs the catalog is re-hashed and the index kept if the content is unchanged; otherwise
+ * the index is rebuilt.
+ * </p>
+ * <p>
+ * Instances are immutable and may be shared between threads.
+ * </p>
+ */
+public final class CatalogIndex {
+    static final int VERSION = 2;
+    static final String SUFFIX = ".idx";
+    private static final byte[] MAGIC = {'S', '2', 'S', 'I'};
+    private static final int HASH_BYTES = 32;
+    private static final Logger logger = LogManager.getLogger(CatalogIndex.class);
+
+    private final Path catalog;
+    private final long size;
+    private final long modified;
+    private final byte[] contentHash;
+    private final long[] optionsRange;
+    private final Map<String, long[]> ranges;
+
+    private CatalogIndex(Path catalog, long size, long modified, byte[] contentHash, long[] optionsRange,
+                         Map<String, long[]> ranges) {
+        this.catalog = catalog;
+        this.size = size;
+        this.modified = modified;
+        this.contentHash = contentHash;
+        this.optionsRange = optionsRange;
+        this.ranges = Collections.unmodifiableMap(ranges);
+    }
+
+    /**
+     * Returns the index for {@code catalog}, loading its sidecar if it is still valid and
+     * otherwise building it and writing a fresh sidecar.
+     *
+     * @param catalog the array-of-tables JSON file
+     * @param parser  the parser whose limits apply while indexing
+     * @return the index
+     * @throws IOException            if the catalog cannot be read
+     * @throws SchemaParsingException if the catalog is not a valid array of tables
+     */
+    public static CatalogIndex open(Path catalog, JSONParser parser) throws IOException, SchemaParsingException {
+        Path sidecar = indexPath(catalog);
+        BasicFileAttributes attributes = Files.readAttributes(catalog, BasicFileAttributes.class);
+        long currentSize = attributes.size();
+        long currentModified = attributes.lastModifiedTime().toMillis();
+
+        CatalogIndex stored = read(catalog, sidecar);
+        if (stored != null && stored.size == currentSize) {
+            if (stored.modified == currentModified) {
+                logger.debug("Reusing catalog index {}", sidecar);
+                return stored;
+            }
+            if (MessageDigest.isEqual(stored.contentHash, hash(catalog))) {
+                logger.info("Catalog {} was touched but not changed; keeping its index.", catalog);
+                CatalogIndex refreshed = new CatalogIndex(catalog, currentSize, currentModified,
+                        stored.contentHash, stored.optionsRange, new LinkedHashMap<>(stored.ranges));
+                refreshed.save(sidecar);
+                return refreshed;
+            }
+        }
+
+        CatalogIndex built = build(catalog, parser);
+        built.save(sidecar);
+        return built;
+    }
+
+    /**
+     * Builds the index with one streaming pass over the catalog, hashing the content in the same pass.
+     * The sidecar is not written.
+     *
+     * @param catalog the array-of-tables JSON file
+     * @param parser  the parser whose limits apply while indexing
+     * @return the index
+     * @throws IOException            if the catalog cannot be read
+     * @throws SchemaParsingException if the catalog is not a valid array of tables
+     */
+    public static CatalogIndex build(Path catalog, JSONParser parser) throws IOException, SchemaParsingException {
+        BasicFileAttributes attributes = Files.readAttributes(catalog, BasicFileAttributes.class);
+        ParseBudget budget = new ParseBudget(parser.getLimits());
+        budget.checkSize(attributes.size());
+
+        MessageDigest digest = Digests.sha256();
+        Map<String, long[]> ranges = new LinkedHashMap<>();
+        long[] optionsRange = null;
+        try (InputStream file = Files.newInputStream(catalog);
+             DigestInputStream in = new DigestInputStream(file, digest);
+             JsonParser tokens = parser.createParser(in)) {
+
+            JsonToken root = firstToken(tokens);
+            boolean tablesSeen = root == JsonToken.START_ARRAY;
+            if (tablesSeen) {
+                indexTables(tokens, budget, catalog, ranges);
+            } else if (root == JsonToken.START_OBJECT) {
+                while (tokens.nextToken() == JsonToken.FIELD_NAME) {
+                    String property = tokens.currentName();
+                    JsonToken value = tokens.nextToken();
+                    if ("tables".equals(property) && value == JsonToken.START_ARRAY && !tablesSeen) {
+                        indexTables(tokens, budget, catalog, ranges);
+                        tablesSeen = true;
+                    } else if ("options".equals(property) && value == JsonToken.START_OBJECT) {
+                        long start = tokens.currentTokenLocation().getByteOffset();
+                        tokens.skipChildren();
+                        optionsRange = new long[]{start, tokens.currentLocation().getByteOffset()};
+                    } else {
+                        tokens.skipChildren();
+                    }
+                }
+            }
+            if (!tablesSeen) {
+                throw new SchemaParsingException("Cannot index " + catalog.getFileName()
+                        + ": expected an array of tables at the root, or a catalog object with a \"tables\" array.");
+            }
+            // Hash whatever follows the catalog so the digest covers the whole file
+            in.transferTo(OutputStream.nullOutputStream());
+        } catch (IOException e) {
+            if (e instanceof NoSuchFileException) {
+                throw e;
+            }
+            throw new SchemaParsingException("Cannot index " + catalog.getFileName() + ": " + e.getMessage(), e);
+        }
+
+        logger.info("Indexed {} tables in {}", ranges.size(), catalog);
+        return new CatalogIndex(catalog, attributes.size(), attributes.lastModifiedTime().toMillis(),
+                digest.digest(), optionsRange, ranges);
+    }
+
+    /**
+     * Indexes the table objects of an array, leaving the parser on its {@code END_ARRAY}.
+     */
+    private static void indexTables(JsonParser tokens, ParseBudget budget, Path catalog, Map<String, long[]> ranges)
+            throws IOException, SchemaParsingException {
+        JsonToken token;
+        while ((token = tokens.nextToken()) != JsonToken.END_ARRAY) {
+            budget.checkDeadline();
+            if (token != JsonToken.START_OBJECT) {
+                throw new SchemaParsingException("Cannot index " + catalog.getFileName() + ": table "
+                        + (ranges.size() + 1) + " is not an object.");
+            }
+            long start = tokens.currentTokenLocation().getByteOffset();
+            String name = readTableName(tokens);
+            long end = tokens.currentLocation().getByteOffset();
+
+            if (name == null) {
+                throw new SchemaParsingException("Cannot index " + catalog.getFileName() + ": table "
+                        + (ranges.size() + 1) + " has no 'tableName'.");
+            }
+            budget.checkIdentifier("Table", name);
+            budget.tableParsed();
+            if (ranges.putIfAbsent(name, new long[]{start, end}) != null) {
+                logger.warn("Duplicate table '{}' in {}; indexing its first occurrence.", name, catalog);
+            }
+        }
+    }
+
+    /**
+     * Reads the root token, so a catalog that is not JSON at all (such as an XML schema) is
+     * rejected like any other root that is not an array.
+     *
+     * @return the root token, or {@code null} if the content is empty or not JSON
+     */
+    private static JsonToken firstToken(JsonParser tokens) throws IOException {
+        try {
+            return tokens.nextToken();
+        } catch (JsonParseException e) {
+            return null;
+        }
+    }
+
+    /**
+     * Reads the name of the table object the parser is positioned on and leaves the parser on
+     * the object's {@code END_OBJECT}, skipping every other property without materializing it.
+     */
+    private static String readTableName(JsonParser tokens) throws IOException {
+        String name = null;
+        while (tokens.nextToken() == JsonToken.FIELD_NAME) {
+            String property = tokens.currentName();
+            JsonToken value = tokens.nextToken();
+            if (name == null && value.isScalarValue()
+                    && ("tableName".equals(property) || "name".equals(property))) {
+                name = tokens.getText();
+            } else {
+                tokens.skipChildren();
+            }
+        }
+        return name;
+    }
+
+    /**
+     * @param catalog the catalog file
+     * @return the sidecar path of its index
+     */
+    public static Path indexPath(Path catalog) {
+        return catalog.resolveSibling(catalog.getFileName() + SUFFIX);
+    }
+
+    /**
+     * @return the indexed table names, in catalog order
+     */
+    public Set<String> getTableNames() {
+        return ranges.keySet();
+    }
+
+    /**
+     * @return the indexed catalog
+     */
+    public Path getCatalog() {
+        return catalog;
+    }
+
+    /**
+     * @return the byte range {@code [start, end)} of the table's object, or {@code null} if not indexed
+     */
+    long[] rangeOf(String table) {
+        long[] range = ranges.get(table);
+        return range == null ? null : range.clone();
+    }
+
+    /**
+     * Parses only the named tables, reading each one's byte range from the catalog.
+     *
+     * @param tables the table names, in the order the results should be returned
+     * @param parser the parser used for each table object
+     * @return the parsed tables
+     * @throws IllegalArgumentException if a table is not in the catalog
+     * @throws IOException              if the catalog cannot be read
+     * @throws SchemaParsingException   if a table cannot be parsed or the catalog changed since indexing
+     */
+    public List<SchemaObject> extract(Collection<String> tables, JSONParser parser)
+            throws IOException, SchemaParsingException {
+        List<SchemaObject> result = new ArrayList<>(tables.size());
+        try (FileChannel channel = FileChannel.open(catalog, StandardOpenOption.READ)) {
+            if (channel.size() != size) {
+                throw new SchemaParsingException("Catalog " + catalog.getFileName() + " changed since it was indexed.");
+            }
+            TableOptions defaults = optionsRange == null
+                    ? TableOptions.NONE
+                    : parser.parseOptions(read(channel, optionsRange, "the catalog options"), catalog + "#options");
+            for (String table : tables) {
+                long[] range = ranges.get(table);
+                if (range == null) {
+                    throw new IllegalArgumentException("Table '" + table + "' is not in " + catalog.getFileName() + ".");
+                }
+                SchemaObject schema = parser.parse(read(channel, range, "table '" + table + "'"), catalog + "#" + table);
+                if (!schema.getName().equals(table)) {
+                    throw new SchemaParsingException("Catalog " + catalog.getFileName() + " changed since it was indexed.");
+                }
+                result.add(defaults.isEmpty() ? schema : schema.withOptions(schema.getOptions().withDefaults(defaults)));
+            }
+        }
+        logger.debug("Extracted {} of {} tables from {}", result.size(), ranges.size(), catalog);
+        return result;
+    }
+
+    private InputStream read(FileChannel channel, long[] range, String what) throws IOException {
+        ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(range[1] - range[0]));
+        while (bytes.hasRemaining()) {
+            if (channel.read(bytes, range[0] + bytes.position()) < 0) {
+                throw new EOFException("Catalog " + catalog.getFileName() + " ended inside " + what + ".");
+            }
+        }
+        return new ByteArrayInputStream(bytes.array());
+    }
+
+    private void save(Path sidecar) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (DataOutputStream out = new DataOutputStream(bytes)) {
+            out.write(MAGIC);
+            out.writeShort(VERSION);
+            out.writeLong(size);
+            out.writeLong(modified);
+            out.write(contentHash);
+            out.writeLong(optionsRange == null ? -1 : optionsRange[0]);
+            out.writeLong(optionsRange == null ? -1 : optionsRange[1]);
+            out.writeInt(ranges.size());
+            for (Map.Entry<String, long[]> entry : ranges.entrySet()) {
+                byte[] name = entry.getKey().getBytes(StandardCharsets.UTF_8);
+                out.writeShort(name.length);
+                out.write(name);
+                out.writeLong(entry.getValue()[0]);
+                out.writeLong(entry.getValue()[1]);
+            }
+        } catch (IOException e) {
+            throw new IllegalStateException("In-memory write failed", e);
+        }
+
+        // A missing sidecar only costs a rebuild next time, so write failures are not fatal
+        try {
+            Path directory = sidecar.toAbsolutePath().getParent();
+            Path staged = AtomicFiles.createStagingFile(directory, ".index-");
+            Files.write(staged, bytes.toByteArray());
+            AtomicFiles.moveIntoPlace(staged, sidecar);
+            logger.debug("Wrote catalog index {}", sidecar);
+        } catch (IOException e) {
+            logger.warn("Could not write catalog index {}: {}", sidecar, e.getMessage());
+        }
+    }
+
+    /**
+     * Loads a sidecar, returning {@code null} if it is missing, malformed or of another version.
+     */
+    private static CatalogIndex read(Path catalog, Path sidecar) throws IOException {
+        byte[] bytes;
+        try {
+            bytes = Files.readAllBytes(sidecar);
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+        try (DataInputStream in = new DataInputStream(new ByteArrayInputStream(bytes))) {
+            byte[] magic = in.readNBytes(MAGIC.length);
+            if (!Arrays.equals(magic, MAGIC) || in.readUnsignedShort() != VERSION) {
+                logger.info("Ignoring {}: not a catalog index of version {}.", sidecar, VERSION);
+                return null;
+            }
+            long size = in.readLong();
+            long modified = in.readLong();
+            byte[] hash = new byte[HASH_BYTES];
+            in.readFully(hash);
+            long optionsStart = in.readLong();
+            long optionsEnd = in.readLong();
+            long[] optionsRange = optionsStart < 0 ? null : new long[]{optionsStart, optionsEnd};
+            int count = in.readInt();
+            Map<String, long[]> ranges = new LinkedHashMap<>();
+            for (int i = 0; i < count; i++) {
+                byte[] name = new byte[in.readUnsignedShort()];
+                in.readFully(name);
+                ranges.put(new String(name, StandardCharsets.UTF_8), new long[]{in.readLong(), in.readLong()});
+            }
+            return new CatalogIndex(catalog, size, modified, hash, optionsRange, ranges);
+        } catch (EOFException e) {
+            logger.warn("Ignoring {}: truncated catalog index.", sidecar);
+            return null;
+        }
+    }
+
+    private static byte[] hash(Path file) throws IOException {
+        MessageDigest digest = Digests.sha256();
+        try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+            in.transferTo(OutputStream.nullOutputStream());
+        }
+        return digest.digest();
+    }
+}
@@ -0,0 +1,357 @@
+package model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.BufferUnderflowException;
+import java.nio.ByteBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.zip.CRC32C;
+
+/**
+ * Versioned binary snapshot of a parsed catalog of {@link SchemaObject}s.
+ * <p>
+ * Reloading a snapshot is a memory-mapped read of a compact, length-prefixed file instead of a
+ * full JSON/XML parse, which is what makes a restart with a large catalog fast. Layout
+ * (big-endian):
+ * </p>
+ * <pre>
+ * header   magic "S2SC" | u16 version | u16 flags | 32-byte source fingerprint
+ *          | u32 payload length | u32 CRC32C of payload
+ * strings  u32 count | count x (u32 byte length | UTF-8 bytes)
+ * schemas  u32 count | count x (u32 name index | u32 field count
+ *          | field count x (u32 field string index | i32 type string index, -1 if undeclared)
+ *          | u32 relationship count | relationship count x 5 x i32 string index, -1 if absent
+ *            (type, related table, through table, foreign key, related foreign key)
+ *          | u32 primary key length | primary key length x u32 position in the field list
+ *          | i32 partitioning strategy string index, -1 if unpartitioned, followed when present by
+ *            u32 key length | key length x u32 position in the field list | u32 partition count
+ *            | u32 definition count | definition count x (u32 name index | u32 value count
+ *            | value count x u32 string index)
+ *          | u32 table option count | option count x (u32 name index | u32 value index))
+ * </pre>
+ * <p>
+ * Every distinct string is stored once in the string section and referenced by index, so the
+ * many repeated column names in a catalog cost four bytes each; on load each distinct string
+ * is decoded once and shared by all schemas that use it.
+ * </p>
+ * <p>
+ * {@link #read(Path, byte[])} returns {@code null} when the snapshot is missing, written by
+ * another format version, corrupted (checksum mismatch) or stale (its source fingerprint no
+ * longer matches), so callers fall back to parsing the sources.
+ * </p>
+ */
+public final class CatalogSnapshot {
+    static final int VERSION = 6;
+    private static final byte[] MAGIC = {'S', '2', 'S', 'C'};
+    private static final int FINGERPRINT_BYTES = 32;
+    private static final int HEADER_BYTES = MAGIC.length + 2 + 2 + FINGERPRINT_BYTES + 4 + 4;
+    private static final Logger logger = LogManager.getLogger(CatalogSnapshot.class);
+
+    private CatalogSnapshot() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    /**
+     * Computes a fingerprint identifying the exact versions of the source files a catalog was
+     * parsed from, using each file's absolute path, size and modification time (no content reads).
+     *
+     * @param sources the schema files, in catalog order
+     * @return a 32-byte fingerprint
+     * @throws IOException if a source cannot be inspected
+     */
+    public static byte[] fingerprint(List<Path> sources) throws IOException {
+        MessageDigest digest = Digests.sha256();
+        ByteBuffer numbers = ByteBuffer.allocate(16);
+        for (Path source : sources) {
+            BasicFileAttributes attributes = Files.readAttributes(source, BasicFileAttributes.class);
+            digest.update(source.toAbsolutePath().normalize().toString().getBytes(StandardCharsets.UTF_8));
+            numbers.clear();
+            numbers.putLong(attributes.size()).putLong(attributes.lastModifiedTime().toMillis());
+            digest.update(numbers.array());
+        }
+        return digest.digest();
+    }
+
+    /**
+     * Writes the catalog to {@code snapshot}, replacing any previous snapshot atomically.
+     *
+     * @param snapshot    the snapshot file
+     * @param catalog     the parsed schemas
+     * @param fingerprint the fingerprint of the sources, see {@link #fingerprint(List)}
+     * @throws IOException if the snapshot cannot be written
+     */
+    public static void write(Path snapshot, List<SchemaObject> catalog, byte[] fingerprint) throws IOException {
+        if (fingerprint.length != FINGERPRINT_BYTES) {
+            throw new IllegalArgumentException("Fingerprint must be " + FINGERPRINT_BYTES + " bytes.");
+        }
+
+        Map<String, Integer> strings = new LinkedHashMap<>();
+        for (SchemaObject schema : catalog) {
+            strings.putIfAbsent(schema.getName(), strings.size());
+            for (String field : schema.getFields()) {
+                strings.putIfAbsent(field, strings.size());
+            }
+            for (String type : schema.getFieldTypes().values()) {
+                strings.putIfAbsent(type, strings.size());
+            }
+            for (Relationship relationship : schema.getRelationships()) {
+                for (String value : relationshipStrings(relationship)) {
+                    if (value != null) {
+                        strings.putIfAbsent(value, strings.size());
+                    }
+                }
+            }
+            for (Map.Entry<String, String> option : schema.getOptions().asMap().entrySet()) {
+                strings.putIfAbsent(option.getKey(), strings.size());
+                strings.putIfAbsent(option.getValue(), strings.size());
+            }
+            Partitioning partitioning = schema.getPartitioning();
+            if (partitioning != null) {
+                strings.putIfAbsent(partitioning.getStrategy().name(), strings.size());
+                for (Partitioning.Partition partition : partitioning.getPartitions()) {
+                    strings.putIfAbsent(partition.getName(), strings.size());
+                    for (String value : partition.getValues()) {
+                        strings.putIfAbsent(value, strings.size());
+                    }
+                }
+            }
+        }
+
+        ByteArrayOutputStream payloadBytes = new ByteArrayOutputStream();
+        try (DataOutputStream payload = new DataOutputStream(payloadBytes)) {
+            payload.writeInt(strings.size());
+            for (String value : strings.keySet()) {
+                byte[] utf8 = value.getBytes(StandardCharsets.UTF_8);
+                payload.writeInt(utf8.length);
+                payload.write(utf8);
+            }
+            payload.writeInt(catalog.size());
+            for (SchemaObject schema : catalog) {
+                payload.writeInt(strings.get(schema.getName()));
+                payload.writeInt(schema.getFields().size());
+                for (String field : schema.getFields()) {
+                    String type = schema.getFieldType(field);
+                    payload.writeInt(strings.get(field));
+                    payload.writeInt(type == null ? -1 : strings.get(type));
+                }
+                payload.writeInt(schema.getRelationships().size());
+                for (Relationship relationship : schema.getRelationships()) {
+                    for (String value : relationshipStrings(relationship)) {
+                        payload.writeInt(value == null ? -1 : strings.get(value));
+                    }
+                }
+                payload.writeInt(schema.getPrimaryKey().size());
+                for (String column : schema.getPrimaryKey()) {
+                    payload.writeInt(schema.getFields().indexOf(column));
+                }
+                writePartitioning(payload, schema, strings);
+                payload.writeInt(schema.getOptions().asMap().size());
+                for (Map.Entry<String, String> option : schema.getOptions().asMap().entrySet()) {
+                    payload.writeInt(strings.get(option.getKey()));
+                    payload.writeInt(strings.get(option.getValue()));
+                }
+            }
+        }
+        byte[] body = payloadBytes.toByteArray();
+        CRC32C crc = new CRC32C();
+        crc.update(body);
+
+        ByteBuffer header = ByteBuffer.allocate(HEADER_BYTES)
+                .put(MAGIC)
+                .putShort((short) VERSION)
+                .putShort((short) 0)
+                .put(fingerprint)
+                .putInt(body.length)
+                .putInt((int) crc.getValue());
+
+        Path directory = snapshot.toAbsolutePath().getParent();
+        Files.createDirectories(directory);
+        Path staged = AtomicFiles.createStagingFile(directory, ".snapshot-");
+        try (FileChannel channel = FileChannel.open(staged, StandardOpenOption.WRITE)) {
+            header.flip();
+            ByteBuffer payload = ByteBuffer.wrap(body);
+            while (header.hasRemaining() || payload.hasRemaining()) {
+                channel.write(new ByteBuffer[]{header, payload});
+            }
+        }
+        AtomicFiles.moveIntoPlace(staged, snapshot);
+        logger.info("Wrote catalog snapshot {} ({} schemas, {} distinct strings, {} bytes)",
+                snapshot, catalog.size(), strings.size(), HEADER_BYTES + body.length);
+    }
+
+    private static void writePartitioning(DataOutputStream payload, SchemaObject schema, Map<String, Integer> strings)
+            throws IOException {
+        Partitioning partitioning = schema.getPartitioning();
+        if (partitioning == null) {
+            payload.writeInt(-1);
+            return;
+        }
+        payload.writeInt(strings.get(partitioning.getStrategy().name()));
+        payload.writeInt(partitioning.getColumns().size());
+        for (String column : partitioning.getColumns()) {
+            payload.writeInt(schema.getFields().indexOf(column));
+        }
+        payload.writeInt(partitioning.getPartitionCount());
+        payload.writeInt(partitioning.getPartitions().size());
+        for (Partitioning.Partition partition : partitioning.getPartitions()) {
+            payload.writeInt(strings.get(partition.getName()));
+            payload.writeInt(partition.getValues().size());
+            for (String value : partition.getValues()) {
+                payload.writeInt(strings.get(value));
+            }
+        }
+    }
+
+    private static Partitioning readPartitioning(ByteBuffer buffer, String[] strings, String[] fields) {
+        int strategy = buffer.getInt();
+        if (strategy < 0) {
+            return null;
+        }
+        String[] key = new String[buffer.getInt()];
+        for (int k = 0; k < key.length; k++) {
+            key[k] = fields[buffer.getInt()];
+        }
+        int partitionCount = buffer.getInt();
+        Partitioning.Partition[] partitions = new Partitioning.Partition[buffer.getInt()];
+        for (int p = 0; p < partitions.length; p++) {
+            String name = strings[buffer.getInt()];
+            String[] values = new String[buffer.getInt()];
+            for (int v = 0; v < values.length; v++) {
+                values[v] = strings[buffer.getInt()];
+            }
+            partitions[p] = new Partitioning.Partition(name, List.of(values));
+        }
+        return new Partitioning(Partitioning.Strategy.valueOf(strings[strategy]), List.of(key), partitionCount,
+                List.of(partitions));
+    }
+
+    private static String[] relationshipStrings(Relationship relationship) {
+        return new String[]{relationship.getType(), relationship.getRelatedTable(), relationship.getThroughTable(),
+                relationship.getForeignKey(), relationship.getRelatedForeignKey()};
+    }
+
+    /**
+     * Loads a catalog from a snapshot by memory-mapping it.
+     *
+     * @param snapshot    the snapshot file
+     * @param fingerprint the fingerprint of the current sources, see {@link #fingerprint(List)}
+     * @return the catalog, or {@code null} if the snapshot is missing, stale, corrupted or of another version
+     * @throws IOException if the snapshot exists but cannot be read
+     */
+    public static List<SchemaObject> read(Path snapshot, byte[] fingerprint) throws IOException {
+        MappedByteBuffer buffer;
+        try (FileChannel channel = FileChannel.open(snapshot, StandardOpenOption.READ)) {
+            buffer = channel.map(FileChannel.MapMode.READ_ONLY, 0, channel.size());
+        } catch (NoSuchFileException e) {
+            return null;
+        }
+
+        try {
+            byte[] magic = new byte[MAGIC.length];
+            buffer.get(magic);
+            if (!Arrays.equals(magic, MAGIC)) {
+                logger.warn("Ignoring {}: not a catalog snapshot.", snapshot);
+                return null;
+            }
+            int version = Short.toUnsignedInt(buffer.getShort());
+            buffer.getShort(); // flags, reserved
+            if (version != VERSION) {
+                logger.info("Ignoring {}: snapshot version {} is not {}.", snapshot, version, VERSION);
+                return null;
+            }
+            byte[] recorded = new byte[FINGERPRINT_BYTES];
+            buffer.get(recorded);
+            if (!MessageDigest.isEqual(recorded, fingerprint)) {
+                logger.info("Ignoring {}: sources changed since the snapshot was written.", snapshot);
+                return null;
+            }
+            int length = buffer.getInt();
+            int checksum = buffer.getInt();
+            if (length != buffer.remaining()) {
+                logger.warn("Ignoring {}: truncated snapshot.", snapshot);
+                return null;
+            }
+            CRC32C crc = new CRC32C();
+            crc.update(buffer.slice());
+            if ((int) crc.getValue() != checksum) {
+                logger.warn("Ignoring {}: checksum mismatch.", snapshot);
+                return null;
+            }
+
+            String[] strings = new String[buffer.getInt()];
+            for (int i = 0; i < strings.length; i++) {
+                int byteLength = buffer.getInt();
+                strings[i] = StandardCharsets.UTF_8.decode(buffer.slice(buffer.position(), byteLength)).toString();
+                buffer.position(buffer.position() + byteLength);
+            }
+
+            int schemaCount = buffer.getInt();
+            List<SchemaObject> catalog = new ArrayList<>(schemaCount);
+            for (int i = 0; i < schemaCount; i++) {
+                String name = strings[buffer.getInt()];
+                String[] fields = new String[buffer.getInt()];
+                Map<String, String> types = new LinkedHashMap<>();
+                for (int f = 0; f < fields.length; f++) {
+                    fields[f] = strings[buffer.getInt()];
+                    int type = buffer.getInt();
+                    if (type >= 0) {
+                        types.put(fields[f], strings[type]);
+                    }
+                }
+                Relationship[] relationships = new Relationship[buffer.getInt()];
+                for (int r = 0; r < relationships.length; r++) {
+                    String[] values = new String[5];
+                    for (int v = 0; v < values.length; v++) {
+                        int index = buffer.getInt();
+                        values[v] = index < 0 ? null : strings[index];
+                    }
+                    relationships[r] = new Relationship(values[0], values[1], values[2], values[3], values[4]);
+                }
+                String[] primaryKey = new String[buffer.getInt()];
+                for (int k = 0; k < primaryKey.length; k++) {
+                    primaryKey[k] = fields[buffer.getInt()];
+                }
+                Partitioning partitioning = readPartitioning(buffer, strings, fields);
+                Map<String, String> options = new LinkedHashMap<>();
+                int optionCount = buffer.getInt();
+                for (int o = 0; o < optionCount; o++) {
+                    String option = strings[buffer.getInt()];
+                    options.put(option, strings[buffer.getInt()]);
+                }
+                SchemaObject schema = new SchemaObject(name, List.of(fields), types);
+                if (relationships.length > 0) {
+                    schema = schema.withRelationships(List.of(relationships));
+                }
+                if (primaryKey.length > 0) {
+                    schema = schema.withPrimaryKey(List.of(primaryKey));
+                }
+                if (!options.isEmpty()) {
+                    schema = schema.withOptions(new TableOptions(options));
+                }
+                catalog.add(partitioning == null ? schema : schema.withPartitioning(partitioning));
+            }
+            logger.info("Loaded {} schemas from catalog snapshot {}", catalog.size(), snapshot);
+            return catalog;
+        } catch (BufferUnderflowException | IndexOutOfBoundsException | IllegalArgumentException e) {
+            logger.warn("Ignoring {}: malformed snapshot ({}).", snapshot, e.toString());
+            return null;
+        }
+    }
+}
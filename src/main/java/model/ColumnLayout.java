@@ -0,0 +1,259 @@
+package model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * Reorders the columns of a table to minimize alignment padding in PostgreSQL rows.
+ * <p>
+ * PostgreSQL stores a row's columns in declaration order and pads each fixed-width value to the
+ * alignment of its type ({@code int8} and {@code timestamp} to 8 bytes, {@code int4} and {@code date}
+ * to 4, {@code int2} to 2), so a {@code boolean} followed by a {@code bigint} wastes 7 bytes per row.
+ * The optimized order keeps the primary key columns first, in key order, then places the other
+ * fixed-width columns one at a time, always taking the one that needs the least padding at the
+ * current offset (the widest alignment on ties, so an aligned row continues with {@code bigint}s
+ * before {@code int}s), and the variable-width ones ({@code varchar}, {@code text},
+ * {@code numeric}, ...) last in their declared order.
+ * </p>
+ * <p>
+ * Declared types are mapped to their PostgreSQL storage, so MySQL-style names such as
+ * {@code TINYINT} or {@code DATETIME} count as {@code int2} and {@code timestamp}; untyped columns are
+ * {@code VARCHAR(255)}. The estimate counts the fixed-width bytes and padding of a row with no nulls,
+ * including the padding of the row to 8 bytes.
+ * Variable-width values are assumed short (1-byte header, no alignment) and end at an unknown
+ * offset, so a column aligned after one is charged its average padding.
+ * </p>
+ */
+public final class ColumnLayout {
+    private static final Logger logger = LogManager.getLogger(ColumnLayout.class);
+
+    /** The alignment of whole rows and of the widest types. */
+    private static final int MAX_ALIGNMENT = 8;
+    /** Storage of variable-width types, which are placed last. */
+    private static final Storage VARIABLE = new Storage(-1, 1);
+
+    private ColumnLayout() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    /**
+     * The outcome of laying out one table.
+     */
+    public static final class Result {
+        private final SchemaObject table;
+        private final double bytesBefore;
+        private final double bytesAfter;
+
+        Result(SchemaObject table, double bytesBefore, double bytesAfter) {
+            this.table = table;
+            this.bytesBefore = bytesBefore;
+            this.bytesAfter = bytesAfter;
+        }
+
+        /**
+         * @return the table with its fields in the optimized order
+         */
+        public SchemaObject getTable() {
+            return table;
+        }
+
+        /**
+         * @return the estimated fixed-width bytes per row, padding included, in the declared order
+         */
+        public double getBytesBefore() {
+            return bytesBefore;
+        }
+
+        /**
+         * @return the estimated fixed-width bytes per row, padding included, in the optimized order
+         */
+        public double getBytesAfter() {
+            return bytesAfter;
+        }
+
+        /**
+         * @return the estimated bytes saved per row
+         */
+        public double getEstimatedBytesSaved() {
+            return bytesBefore - bytesAfter;
+        }
+    }
+
+    /**
+     * Length and alignment of a type's values; a length of {@code -1} means variable width.
+     */
+    static final class Storage {
+        final int length;
+        final int alignment;
+
+        Storage(int length, int alignment) {
+            this.length = length;
+            this.alignment = alignment;
+        }
+    }
+
+    /**
+     * Lays out the columns of a table. The table is returned unchanged (in the result) when the
+     * new order would not make rows smaller.
+     *
+     * @param table the table
+     * @return the reordered table and the row sizes before and after
+     */
+    public static Result optimize(SchemaObject table) {
+        List<String> fields = table.getFields();
+        List<String> order = new ArrayList<>();
+        Offset offset = new Offset();
+        for (String column : TableKeys.primaryKey(table)) {
+            if (fields.contains(column) && !order.contains(column)) {
+                order.add(column);
+                offset.advance(storage(table.getFieldType(column)));
+            }
+        }
+        List<String> fixed = new ArrayList<>();
+        List<String> variable = new ArrayList<>();
+        for (String field : fields) {
+            if (!order.contains(field)) {
+                (storage(table.getFieldType(field)).length < 0 ? variable : fixed).add(field);
+            }
+        }
+        // Greedily take the column needing the least padding, widest alignment first on ties
+        while (!fixed.isEmpty()) {
+            String best = null;
+            for (String field : fixed) {
+                if (best == null || compare(offset, storage(table.getFieldType(field)),
+                        storage(table.getFieldType(best))) < 0) {
+                    best = field;
+                }
+            }
+            fixed.remove(best);
+            order.add(best);
+            offset.advance(storage(table.getFieldType(best)));
+        }
+        order.addAll(variable);
+
+        double before = rowBytes(table, fields);
+        double after = rowBytes(table, order);
+        if (after >= before) {
+            logger.debug("Column order of '{}' is already optimal ({} bytes per row).", table.getName(), before);
+            return new Result(table, before, before);
+        }
+        logger.debug("Column layout of '{}': {} -> {} bytes per row, order {}", table.getName(), before, after, order);
+        return new Result(table.withFieldOrder(order), before, after);
+    }
+
+    private static int compare(Offset offset, Storage candidate, Storage best) {
+        int byPadding = Double.compare(offset.padding(candidate.alignment), offset.padding(best.alignment));
+        return byPadding != 0 ? byPadding : Integer.compare(best.alignment, candidate.alignment);
+    }
+
+    /**
+     * Estimates the fixed-width bytes, padding included, of a row with the columns in the given order.
+     * The row itself ends padded to 8 bytes.
+     */
+    static double rowBytes(SchemaObject table, List<String> order) {
+        Offset offset = new Offset();
+        double bytes = 0;
+        for (String field : order) {
+            bytes += offset.advance(storage(table.getFieldType(field)));
+        }
+        return bytes + offset.padding(MAX_ALIGNMENT);
+    }
+
+    /**
+     * The offset within a row, known as a residue modulo 8 until a variable-width value is placed,
+     * and afterwards only modulo the alignment of the last fixed-width value.
+     */
+    private static final class Offset {
+        private int modulus = MAX_ALIGNMENT;
+        private int residue;
+
+        /**
+         * @return the padding needed before a value of the given alignment, averaged over the
+         *         offsets that are possible
+         */
+        double padding(int alignment) {
+            if (alignment <= modulus) {
+                return (alignment - residue % alignment) % alignment;
+            }
+            int candidates = alignment / modulus;
+            int padding = 0;
+            for (int j = 0; j < candidates; j++) {
+                padding += (alignment - (residue + j * modulus) % alignment) % alignment;
+            }
+            return (double) padding / candidates;
+        }
+
+        /**
+         * Places a value.
+         *
+         * @return the fixed-width bytes it takes, padding included; 0 for a variable-width value
+         */
+        double advance(Storage storage) {
+            if (storage.length < 0) {
+                modulus = 1;
+                residue = 0;
+                return 0;
+            }
+            int alignment = storage.alignment;
+            double padding = padding(alignment);
+            if (alignment <= modulus) {
+                residue = (residue + (int) padding + storage.length) % modulus;
+            } else {
+                // The value starts aligned, so its end is known modulo its alignment
+                modulus = alignment;
+                residue = storage.length % modulus;
+            }
+            return padding + storage.length;
+        }
+    }
+
+    /**
+     * @param type a declared column type, or {@code null} for an untyped column
+     * @return the PostgreSQL storage of the type
+     */
+    static Storage storage(String type) {
+        if (type == null) {
+            return VARIABLE;
+        }
+        String base = type.trim().toUpperCase(Locale.ROOT).split("[\\s(]", 2)[0];
+        switch (base) {
+            case "BOOL":
+            case "BOOLEAN":
+                return new Storage(1, 1);
+            case "TINYINT":
+            case "SMALLINT":
+            case "INT2":
+            case "SMALLSERIAL":
+                return new Storage(2, 2);
+            case "INT":
+            case "INTEGER":
+            case "MEDIUMINT":
+            case "INT4":
+            case "SERIAL":
+            case "REAL":
+            case "FLOAT4":
+            case "DATE":
+                return new Storage(4, 4);
+            case "BIGINT":
+            case "INT8":
+            case "BIGSERIAL":
+            case "FLOAT":
+            case "FLOAT8":
+            case "DOUBLE":
+            case "TIME":
+            case "TIMESTAMP":
+            case "TIMESTAMPTZ":
+            case "DATETIME":
+            case "MONEY":
+                return new Storage(8, 8);
+            case "UUID":
+                return new Storage(16, 1);
+            default:
+                return VARIABLE;
+        }
+    }
+}
@@ -0,0 +1,258 @@
+package model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Append-only record of the inputs a batch conversion has completed, so an interrupted run can
+ * resume where it stopped.
+ * <p>
+ * The journal is a UTF-8 text file. Its first line identifies the run settings; every following
+ * line records one completed input:
+ * </p>
+ * <pre>
+ * #schema2script-journal 2 &lt;sha256 of the settings&gt;
+ * &lt;sha256 of the input&gt; TAB &lt;sha256&gt;  &lt;output script&gt; TAB ... TAB &lt;absolute input path&gt;
+ * </pre>
+ * <p>
+ * An input is {@linkplain #isDone(String, String) done} when its latest entry carries its current
+ * content hash, so edited inputs are converted again; its {@linkplain #getOutputs(String) outputs}
+ * let the caller check that the scripts written for it are still in place, in the same
+ * {@code <sha256>  <file>} form as the {@link OutputStore} manifest. Entries are appended as inputs complete and
+ * forced to disk every {@code syncInterval} entries and on {@link #close()}; after a crash at most
+ * that many completed inputs are converted twice. A torn last line left by a crash is cut off
+ * when the journal is reopened. A journal written with other settings (dialect, options) is
+ * discarded, since its outputs would differ. {@link #compact()} rewrites the journal with one
+ * entry per input once a run succeeds.
+ * </p>
+ */
+public final class ConversionJournal implements Closeable {
+    /** Entries appended between two forced writes, unless another interval is requested. */
+    public static final int DEFAULT_SYNC_INTERVAL = 64;
+    private static final String HEADER_PREFIX = "#schema2script-journal 2 ";
+    private static final Logger logger = LogManager.getLogger(ConversionJournal.class);
+
+    private final Path file;
+    private final String header;
+    private final int syncInterval;
+    private final Map<String, Entry> entries;
+    private FileChannel channel;
+    private int unsynced;
+
+    private ConversionJournal(Path file, String header, int syncInterval, Map<String, Entry> entries,
+                              FileChannel channel) {
+        this.file = file;
+        this.header = header;
+        this.syncInterval = syncInterval;
+        this.entries = entries;
+        this.channel = channel;
+    }
+
+    /**
+     * Opens a journal, creating it if needed.
+     *
+     * @param file         the journal file
+     * @param settings     a description of everything besides the inputs that determines the output
+     * @param syncInterval the number of entries appended between two forced writes (at least 1)
+     * @return the open journal; the caller must close it
+     * @throws IOException if the journal cannot be read or written
+     */
+    public static ConversionJournal open(Path file, String settings, int syncInterval) throws IOException {
+        if (syncInterval < 1) {
+            throw new IllegalArgumentException("Journal sync interval must be at least 1, got: " + syncInterval);
+        }
+        String header = HEADER_PREFIX + Digests.sha256Hex(settings.getBytes(StandardCharsets.UTF_8));
+        Map<String, Entry> entries = new LinkedHashMap<>();
+        FileChannel channel = FileChannel.open(file, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        try {
+            byte[] content = Files.readAllBytes(file);
+            // Everything after the last newline is a torn append
+            int end = content.length;
+            while (end > 0 && content[end - 1] != '\n') {
+                end--;
+            }
+            String[] lines = new String(content, 0, end, StandardCharsets.UTF_8).split("\n");
+            if (end > 0 && lines[0].equals(header)) {
+                for (int i = 1; i < lines.length; i++) {
+                    String[] fields = lines[i].split("\t");
+                    if (fields.length >= 2) {
+                        entries.put(fields[fields.length - 1], Entry.parse(fields));
+                    }
+                }
+                channel.truncate(end);
+                logger.info("Resuming from journal {} with {} completed inputs", file, entries.size());
+            } else {
+                if (end > 0) {
+                    logger.info("Journal {} was written with other settings; starting over", file);
+                }
+                channel.truncate(0);
+                channel.write(ByteBuffer.wrap((header + "\n").getBytes(StandardCharsets.UTF_8)), 0);
+                channel.force(false);
+            }
+            channel.position(channel.size());
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+        return new ConversionJournal(file, header, syncInterval, entries, channel);
+    }
+
+    /**
+     * @param path        the absolute input path
+     * @param contentHash the input's current {@linkplain #contentHash(Path) content hash}
+     * @return {@code true} if the input was completed with this content
+     */
+    public boolean isDone(String path, String contentHash) {
+        Entry entry = entries.get(path);
+        return entry != null && entry.contentHash.equals(contentHash);
+    }
+
+    /**
+     * @param path the absolute input path
+     * @return the SHA-256 of every script written for the input by file name, or {@code null} if
+     *         it was never completed
+     */
+    public Map<String, String> getOutputs(String path) {
+        Entry entry = entries.get(path);
+        return entry == null ? null : Collections.unmodifiableMap(entry.outputs);
+    }
+
+    /**
+     * @return the number of completed inputs on record
+     */
+    public int size() {
+        return entries.size();
+    }
+
+    /**
+     * Records a completed input. The entry is forced to disk with every {@code syncInterval}-th call,
+     * so the scripts it lists should already be on disk.
+     *
+     * @param path        the absolute input path
+     * @param contentHash the content hash of the input that was converted
+     * @param outputs     the SHA-256 of every script written for it, by file name
+     * @throws IOException if the entry cannot be appended
+     */
+    public void complete(String path, String contentHash, Map<String, String> outputs) throws IOException {
+        checkField("Input path", path);
+        outputs.keySet().forEach(output -> checkField("Output file name", output));
+        Entry entry = new Entry(contentHash, new LinkedHashMap<>(outputs));
+        ByteBuffer line = ByteBuffer.wrap(entry.line(path).concat("\n").getBytes(StandardCharsets.UTF_8));
+        while (line.hasRemaining()) {
+            channel.write(line);
+        }
+        entries.put(path, entry);
+        if (++unsynced >= syncInterval) {
+            sync();
+        }
+    }
+
+    /**
+     * Rewrites the journal with only the latest entry of each input, atomically.
+     *
+     * @throws IOException if the compacted journal cannot be written
+     */
+    public void compact() throws IOException {
+        Path staged = AtomicFiles.createStagingFile(file.toAbsolutePath().getParent(), ".journal-");
+        try (FileChannel out = FileChannel.open(staged, StandardOpenOption.WRITE)) {
+            StringBuilder content = new StringBuilder(header).append('\n');
+            entries.forEach((path, entry) -> content.append(entry.line(path)).append('\n'));
+            ByteBuffer bytes = ByteBuffer.wrap(content.toString().getBytes(StandardCharsets.UTF_8));
+            while (bytes.hasRemaining()) {
+                out.write(bytes);
+            }
+            out.force(false);
+        }
+        channel.close();
+        AtomicFiles.moveIntoPlace(staged, file);
+        channel = FileChannel.open(file, StandardOpenOption.WRITE, StandardOpenOption.APPEND);
+        unsynced = 0;
+        logger.info("Compacted journal {} to {} entries", file, entries.size());
+    }
+
+    private void sync() throws IOException {
+        channel.force(false);
+        unsynced = 0;
+    }
+
+    @Override
+    public void close() throws IOException {
+        try {
+            if (unsynced > 0) {
+                sync();
+            }
+        } finally {
+            channel.close();
+        }
+    }
+
+    /**
+     * @param input an input file
+     * @return the SHA-256 of its content as lowercase hex
+     * @throws IOException if the file cannot be read
+     */
+    public static String contentHash(Path input) throws IOException {
+        MessageDigest digest = Digests.sha256();
+        try (InputStream in = Files.newInputStream(input);
+             OutputStream sink = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            in.transferTo(sink);
+        }
+        return Digests.hex(digest.digest());
+    }
+
+    private static void checkField(String kind, String value) {
+        if (value.indexOf('\n') >= 0 || value.indexOf('\t') >= 0) {
+            throw new IllegalArgumentException(kind + " cannot contain tabs or line breaks: " + value);
+        }
+    }
+
+    /**
+     * One completed input: its content hash and the hash of each script written for it.
+     */
+    private static final class Entry {
+        private final String contentHash;
+        private final Map<String, String> outputs;
+
+        private Entry(String contentHash, Map<String, String> outputs) {
+            this.contentHash = contentHash;
+            this.outputs = outputs;
+        }
+
+        /**
+         * @param fields the tab-separated fields of a journal line; the last one is the input path
+         */
+        private static Entry parse(String[] fields) {
+            Map<String, String> outputs = new LinkedHashMap<>();
+            for (int i = 1; i < fields.length - 1; i++) {
+                int separator = fields[i].indexOf("  ");
+                if (separator > 0) {
+                    outputs.put(fields[i].substring(separator + 2), fields[i].substring(0, separator));
+                }
+            }
+            return new Entry(fields[0], outputs);
+        }
+
+        private String line(String path) {
+            StringBuilder line = new StringBuilder(contentHash);
+            outputs.forEach((file, hash) -> line.append('\t').append(hash).append("  ").append(file));
+            return line.append('\t').append(path).toString();
+        }
+    }
+}
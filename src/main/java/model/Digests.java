@@ -0,0 +1,47 @@
+package model;
+
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HexFormat;
+
+/**
+ * SHA-256 helpers shared by the content hashes of inputs, scripts, journals and caches.
+ * <p>
+ * Every hash this application records or compares is SHA-256 rendered as 64 lowercase hex
+ * characters, so manifests, journals and log lines written by different classes agree.
+ * </p>
+ */
+public final class Digests {
+
+    private Digests() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    /**
+     * @return a new SHA-256 digest
+     * @throws IllegalStateException if the platform has no SHA-256 implementation
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance("SHA-256");
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    /**
+     * @param bytes the content to hash
+     * @return the SHA-256 of {@code bytes} as lowercase hex
+     */
+    public static String sha256Hex(byte[] bytes) {
+        return hex(sha256().digest(bytes));
+    }
+
+    /**
+     * @param hash a finished digest
+     * @return the digest as lowercase hex
+     */
+    public static String hex(byte[] hash) {
+        return HexFormat.of().formatHex(hash);
+    }
+}
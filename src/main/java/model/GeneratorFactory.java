@@ -0,0 +1,62 @@
+package model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
+/**
+ * Factory for returning the correct {@link ISqlGenerator}
+ * implementation based on the target SQL dialect (e.g., MySQL).
+ * <p>
+ * Generators are stateless, so each dialect is backed by a single shared instance that is
+ * created on first request. Dialects beyond the built-in ones are discovered lazily
+ * through {@link SqlGeneratorProvider} plugins.
+ * </p>
+ */
+public class GeneratorFactory {
+    private static final Logger logger = LogManager.getLogger(GeneratorFactory.class);
+
+    private static final PluginRegistry<ISqlGenerator> registry = new PluginRegistry<>(
+            Map.of("mysql", MySQLGenerator::new),
+            GeneratorFactory::discoverPlugins
+    );
+
+    private GeneratorFactory() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    public static ISqlGenerator get(String dialect) {
+        if (dialect == null || dialect.trim().isEmpty()) {
+            logger.error("SQL dialect is null or empty.");
+            throw new IllegalArgumentException(
+                "No SQL dialect specified. Please provide a valid dialect (mysql)."
+            );
+        }
+
+        logger.info("SQL dialect requested: {}", dialect);
+
+        ISqlGenerator generator = registry.get(dialect.trim());
+        if (generator == null) {
+            logger.error("Unsupported SQL dialect requested: {}", dialect);
+            throw new IllegalArgumentException(
+                "Unsupported SQL dialect: '" + dialect +
+                "'. Supported dialects are: " + String.join(", ", registry.names()) + "."
+            );
+        }
+        return generator;
+    }
+
+    private static Map<String, Supplier<? extends ISqlGenerator>> discoverPlugins() {
+        Map<String, Supplier<? extends ISqlGenerator>> plugins = new HashMap<>();
+        for (SqlGeneratorProvider provider : ServiceLoader.load(SqlGeneratorProvider.class)) {
+            logger.info("Discovered SQL generator plugin for dialect '{}': {}",
+                    provider.dialect(), provider.getClass().getName());
+            plugins.put(provider.dialect(), provider::create);
+        }
+        return plugins;
+    }
+}
@@ -1,5 +1,7 @@
 package model;
 
+import java.util.Collection;
+
 /**
  * Defines the contract for SQL generators that convert {@link SchemaObject}
  * instances into SQL statements (e.g., CREATE TABLE).
@@ -38,4 +40,55 @@ public interface ISqlGenerator {
      * @return SQL string representing constraints, or empty string if none
      */
     String generateConstraints(SchemaObject schema);
-}
\ No newline at end of file
+
+    /**
+     * Generates the CREATE TABLE statement for bulk-load mode: the table with its primary key
+     * and nothing else that would slow the load. The default is the regular statement.
+     *
+     * @param schema the schema object
+     * @return SQL string for creating the table before its data is loaded
+     * @throws IllegalArgumentException if schema is null or invalid
+     */
+    default String generateLoadTable(SchemaObject schema) {
+        return generateCreateTable(schema);
+    }
+
+    /**
+     * Generates the constraints deferred by {@link #generateLoadTable(SchemaObject)}, typically
+     * secondary indexes and foreign keys, to run after the data is loaded. The default is
+     * {@link #generateConstraints(SchemaObject)}.
+     *
+     * @param schema the schema object
+     * @return SQL string representing the deferred constraints, or empty string if none
+     */
+    default String generatePostLoadConstraints(SchemaObject schema) {
+        return generateConstraints(schema);
+    }
+
+    /**
+     * @return session settings that open the post-load script, e.g. disabling constraint checks;
+     *         empty if the dialect needs none
+     */
+    default String postLoadPrologue() {
+        return "";
+    }
+
+    /**
+     * @return statements that close the post-load script and restore the settings of
+     *         {@link #postLoadPrologue()}; empty if the dialect needs none
+     */
+    default String postLoadEpilogue() {
+        return "";
+    }
+
+    /**
+     * Checks rules that span tables, which the per-table methods cannot see, such as a foreign
+     * key whose target the dialect cannot reference. Callers run it once over every table they
+     * are about to generate. The default accepts any catalog.
+     *
+     * @param schemas the tables generated together
+     * @throws IllegalArgumentException if the tables cannot be generated together
+     */
+    default void validateCatalog(Collection<SchemaObject> schemas) {
+    }
+}
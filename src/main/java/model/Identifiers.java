@@ -0,0 +1,128 @@
+package model;
+
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Validates and quotes SQL identifiers without allocating per identifier.
+ * <p>
+ * Generators pass every table and column name through here. A name is valid when it is not blank,
+ * fits the dialect's length limit, contains no control characters or characters outside the Basic
+ * Multilingual Plane, and does not end with a space; quote characters are allowed and doubled when
+ * the name is quoted. {@link #checkColumns(String, List, int)} validates a whole column list and
+ * finds case-insensitive duplicates in the same pass, using an open-addressing table of list
+ * positions instead of a set of lower-cased copies, so a table with tens of thousands of columns
+ * costs one scan of its names.
+ * </p>
+ * <p>
+ * Characters are classified through a 128-entry table for ASCII, the common case, and with
+ * {@link Character} methods otherwise.
+ * </p>
+ */
+public final class Identifiers {
+    /** ASCII characters not allowed in identifiers: the C0 controls and DEL. */
+    private static final boolean[] ASCII_INVALID = new boolean[128];
+
+    static {
+        Arrays.fill(ASCII_INVALID, 0, 0x20, true);
+        ASCII_INVALID[0x7f] = true;
+    }
+
+    private Identifiers() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    /**
+     * Checks one identifier.
+     *
+     * @param kind       what the identifier names, for the error message (e.g. {@code "Table"})
+     * @param identifier the identifier
+     * @param maxLength  the dialect's identifier length limit
+     * @throws IllegalArgumentException if the identifier is invalid
+     */
+    public static void check(String kind, String identifier, int maxLength) {
+        if (identifier == null || identifier.isEmpty()) {
+            throw new IllegalArgumentException(kind + " names cannot be null or empty.");
+        }
+        int length = identifier.length();
+        if (length > maxLength) {
+            throw new IllegalArgumentException(kind + " name '" + identifier + "' is " + length
+                    + " characters long; the limit is " + maxLength + ".");
+        }
+        boolean blank = true;
+        for (int i = 0; i < length; i++) {
+            char c = identifier.charAt(i);
+            if (c < 128 ? ASCII_INVALID[c] : Character.isISOControl(c) || Character.isSurrogate(c)) {
+                throw new IllegalArgumentException(kind + " name '" + identifier
+                        + "' contains an unsupported character (U+" + String.format("%04X", (int) c) + ").");
+            }
+            blank &= c == ' ';
+        }
+        if (blank) {
+            throw new IllegalArgumentException(kind + " names cannot be null or empty.");
+        }
+        if (identifier.charAt(length - 1) == ' ') {
+            throw new IllegalArgumentException(kind + " name '" + identifier + "' cannot end with a space.");
+        }
+    }
+
+    /**
+     * Checks every column name and that no two are equal ignoring case, in one pass.
+     *
+     * @param table     the table name, for error messages
+     * @param columns   the column names
+     * @param maxLength the dialect's identifier length limit
+     * @throws IllegalArgumentException if a name is invalid or duplicated
+     */
+    public static void checkColumns(String table, List<String> columns, int maxLength) {
+        int size = columns.size();
+        // Power-of-two capacity at most half full; slots hold list position + 1, 0 when empty
+        int[] slots = new int[Integer.highestOneBit(Math.max(size, 1) * 2 + 1) << 1];
+        int mask = slots.length - 1;
+        for (int i = 0; i < size; i++) {
+            String column = columns.get(i);
+            check("Field", column, maxLength);
+            int slot = hashIgnoreCase(column) & mask;
+            while (slots[slot] != 0) {
+                String other = columns.get(slots[slot] - 1);
+                if (other.length() == column.length() && other.regionMatches(true, 0, column, 0, column.length())) {
+                    throw new IllegalArgumentException("Cannot generate SQL: duplicate field '" + column
+                            + "' in schema '" + table + "'.");
+                }
+                slot = (slot + 1) & mask;
+            }
+            slots[slot] = i + 1;
+        }
+    }
+
+    /**
+     * Appends an identifier in the given quote character, doubling any quote character inside it.
+     *
+     * @param sb         the builder
+     * @param identifier the identifier
+     * @param quote      the dialect's identifier quote, e.g. {@code '`'} or {@code '"'}
+     * @return {@code sb}
+     */
+    public static StringBuilder appendQuoted(StringBuilder sb, String identifier, char quote) {
+        sb.append(quote);
+        int start = 0;
+        for (int i = identifier.indexOf(quote); i >= 0; i = identifier.indexOf(quote, i + 1)) {
+            sb.append(identifier, start, i + 1).append(quote);
+            start = i + 1;
+        }
+        return sb.append(identifier, start, identifier.length()).append(quote);
+    }
+
+    /**
+     * A hash consistent with {@link String#regionMatches(boolean, int, String, int, int)} ignoring case:
+     * characters are folded the way it compares them.
+     */
+    private static int hashIgnoreCase(String s) {
+        int h = 0;
+        for (int i = 0; i < s.length(); i++) {
+            h = 31 * h + Character.toLowerCase(Character.toUpperCase(s.charAt(i)));
+        }
+        // Spread the high bits, as HashMap does, since the table is indexed by the low ones
+        return h ^ (h >>> 16);
+    }
+}
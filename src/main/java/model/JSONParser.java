@@ -1,26 +1,99 @@
 package model;
 
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonToken;
+import com.fasterxml.jackson.core.StreamReadConstraints;
 import com.fasterxml.jackson.databind.JsonNode;
 import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectReader;
 
 import java.io.File;
 import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
-import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 import exception.SchemaParsingException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
 /**
- * Parses a simple JSON schema: { "name": "...", "fields": ["..."] }
+ * Parses a simple JSON schema: { "name": "...", "fields": ["..."] }, or an
+ * array-of-tables catalog of { "tableName": "...", "columns": [{ "name", "type" }] } objects.
+ * <p>
+ * The document is read as a token stream rather than a full tree, and every
+ * {@link ParseLimits} bound (bytes, depth, identifier length, field count, deadline)
+ * is enforced while the tokens are consumed.
+ * </p>
+ * <p>
+ * Instances hold no per-parse state and may be shared between threads.
+ * </p>
  */
 public class JSONParser implements SchemaParser {
 
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final ParseLimits limits;
+    private volatile ObjectReader objectReader;
     private static final Logger logger = LogManager.getLogger(JSONParser.class);
 
+    /**
+     * Lazily created reader for {@link ParseLimits#defaults()}, shared by every parser
+     * using the default limits so the cost is paid once, and only if JSON is parsed.
+     * {@link ObjectReader} is immutable, so one instance serves all threads.
+     */
+    private static final class DefaultReaderHolder {
+        static final ObjectReader INSTANCE = newReader(ParseLimits.defaults());
+    }
+
+    /**
+     * Creates a parser that enforces {@link ParseLimits#defaults()}.
+     */
+    public JSONParser() {
+        this(ParseLimits.defaults());
+    }
+
+    /**
+     * Creates a parser that enforces the given limits.
+     *
+     * @param limits the limits to apply to every parse
+     */
+    public JSONParser(ParseLimits limits) {
+        this.limits = limits;
+    }
+
+    /**
+     * @return the limits enforced by this parser
+     */
+    public ParseLimits getLimits() {
+        return limits;
+    }
+
+    /**
+     * Returns the reader for this parser's limits, building it on first use.
+     */
+    private ObjectReader reader() {
+        ObjectReader result = objectReader;
+        if (result == null) {
+            result = limits == ParseLimits.defaults() ? DefaultReaderHolder.INSTANCE : newReader(limits);
+            objectReader = result;
+        }
+        return result;
+    }
+
+    private static ObjectReader newReader(ParseLimits limits) {
+        JsonFactory factory = JsonFactory.builder()
+                .streamReadConstraints(StreamReadConstraints.builder()
+                        .maxNestingDepth(limits.getMaxDepth())
+                        .build())
+                .build();
+        // The caller owns the input stream; parsing must not close it
+        factory.disable(JsonParser.Feature.AUTO_CLOSE_SOURCE);
+        return new ObjectMapper(factory).reader();
+    }
+
     @Override
     public SchemaObject parse(File schemaFile) throws SchemaParsingException {
         logger.info("Starting JSON schema parsing for file: {}", schemaFile.getAbsolutePath());
@@ -38,64 +111,532 @@ public class JSONParser implements SchemaParser {
             );
         }
 
-        try {
-            logger.debug("Reading JSON tree from {}", schemaFile.getName());
-            JsonNode rootNode = objectMapper.readTree(schemaFile);
+        ParseBudget budget = new ParseBudget(limits);
+        budget.checkSize(schemaFile.length());
+
+        try (InputStream in = Files.newInputStream(schemaFile.toPath())) {
+            return parse(in, schemaFile.getAbsolutePath(), budget);
+        } catch (IOException e) {
+            throw readFailure(schemaFile.getAbsolutePath(), e);
+        }
+    }
+
+    @Override
+    public SchemaObject parse(InputStream input, String sourceName) throws SchemaParsingException {
+        return parse(input, sourceName, new ParseBudget(limits));
+    }
+
+    private SchemaObject parse(InputStream input, String sourceName, ParseBudget budget) throws SchemaParsingException {
+        logger.debug("Streaming JSON tokens from {}", sourceName);
+        try (JsonParser parser = createParser(input)) {
 
-            if (rootNode == null) {
+            JsonToken token = firstToken(parser);
+            // Guard against picking the array-of-tables test file
+            if (token != JsonToken.START_OBJECT) {
                 throw new SchemaParsingException(
-                    "The JSON file is empty or invalid. Please provide a valid JSON schema."
+                    "Invalid JSON schema: expected a single object with 'name' and 'fields' at the root, " +
+                    "but found " + describe(token) + ". If you intended to use the array-of-tables schema, " +
+                    "load it as a catalog so that every table is read."
                 );
             }
+            SchemaObject schemaObject = readTable(parser, budget);
+            logger.info("Parsed SchemaObject created: {}", schemaObject.getName());
+            return schemaObject;
 
-            // Guard against picking the array-of-tables test file
-            if (!rootNode.isObject()) {
+        } catch (IOException e) {
+            throw readFailure(sourceName, e);
+        }
+    }
+
+    /**
+     * Parses either a single schema object, an array-of-tables catalog such as
+     * {@code resources/schema.json}, or a catalog object {@code {"options": {...}, "tables": [...]}}
+     * whose {@link TableOptions} apply to every table that does not set them itself,
+     * returning the tables in document order.
+     */
+    @Override
+    public List<SchemaObject> parseCatalog(InputStream input, String sourceName) throws SchemaParsingException {
+        return parseCatalog(input, sourceName, new ParseBudget(limits));
+    }
+
+    /**
+     * Parses a catalog against the given budget, e.g. one part of a larger input that shares the
+     * input's deadline.
+     */
+    List<SchemaObject> parseCatalog(InputStream input, String sourceName, ParseBudget budget)
+            throws SchemaParsingException {
+        logger.debug("Streaming JSON catalog tokens from {}", sourceName);
+        try (JsonParser parser = createParser(input)) {
+
+            JsonToken token = firstToken(parser);
+            if (token == JsonToken.START_OBJECT) {
+                return readRootObject(parser, budget, sourceName);
+            }
+            if (token != JsonToken.START_ARRAY) {
                 throw new SchemaParsingException(
-                    "Invalid JSON schema: expected a single object with 'name' and 'fields' at the root, " +
-                    "but found " + rootNode.getNodeType() + ". If you intended to use the array-of-tables schema, " +
-                    "either choose a simple schema (person.json) or upgrade the parser to support that format."
+                    "Invalid JSON catalog: expected an object or an array of tables at the root, " +
+                    "but found " + describe(token) + "."
+                );
+            }
+
+            List<SchemaObject> tables = readTables(parser, budget);
+            logger.info("Parsed {} tables from JSON catalog {}", tables.size(), sourceName);
+            return tables;
+
+        } catch (IOException e) {
+            throw readFailure(sourceName, e);
+        }
+    }
+
+    /**
+     * Parses a standalone {@code options} object, such as the catalog-wide defaults that a
+     * {@link CatalogIndex} reads alongside the tables it extracts.
+     */
+    TableOptions parseOptions(InputStream input, String sourceName) throws SchemaParsingException {
+        try (JsonParser parser = createParser(input)) {
+            if (firstToken(parser) != JsonToken.START_OBJECT) {
+                throw new SchemaParsingException("Invalid JSON catalog: the options of " + sourceName
+                        + " are not an object.");
+            }
+            return readOptions(parser, new ParseBudget(limits));
+        } catch (IOException e) {
+            throw readFailure(sourceName, e);
+        }
+    }
+
+    /**
+     * Creates a token stream over the input with this parser's limits applied.
+     * The input is not closed when the returned parser is.
+     */
+    JsonParser createParser(InputStream input) throws IOException {
+        return reader().createParser(new LimitedInputStream(input, limits.getMaxBytes()));
+    }
+
+    private static JsonToken firstToken(JsonParser parser) throws IOException, SchemaParsingException {
+        JsonToken token = parser.nextToken();
+        if (token == null) {
+            throw new SchemaParsingException(
+                "The JSON file is empty or invalid. Please provide a valid JSON schema."
+            );
+        }
+        return token;
+    }
+
+    private static SchemaParsingException readFailure(String sourceName, IOException e) {
+        logger.error("Error reading JSON file {}", sourceName, e);
+        return new SchemaParsingException(
+            "An error occurred while reading the JSON file: " + e.getMessage() +
+            ". Please ensure the file is valid JSON and try again.",
+            e
+        );
+    }
+
+    /**
+     * Reads one table object; the parser must be positioned on its {@code START_OBJECT}.
+     * <p>
+     * Both the simple form {@code {"name": ..., "fields": [...]}} and the array-of-tables
+     * form {@code {"tableName": ..., "columns": [{"name": ..., "type": ...}]}} are accepted.
+     * Array-of-tables objects may also carry {@code relationships}, a {@code primaryKey}
+     * (a column name or an array of them; alternatively {@code "primaryKey": true} on columns)
+     * a {@code partitioning} object (see {@link #readPartitioning}) and an {@code options} object
+     * (see {@link TableOptions}).
+     * Other properties are skipped.
+     * </p>
+     */
+    private SchemaObject readTable(JsonParser parser, ParseBudget budget) throws IOException, SchemaParsingException {
+        TableDraft table = new TableDraft();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            budget.checkDeadline();
+            String property = parser.currentName();
+            readTableProperty(parser, budget, property, parser.nextToken(), table);
+        }
+        return table.build(budget);
+    }
+
+    /**
+     * Reads a root object, which is either one table or a catalog wrapper
+     * {@code {"options": {...}, "tables": [...]}} whose options are defaults for every table.
+     */
+    private List<SchemaObject> readRootObject(JsonParser parser, ParseBudget budget, String sourceName)
+            throws IOException, SchemaParsingException {
+        TableDraft root = new TableDraft();
+        List<SchemaObject> tables = null;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            budget.checkDeadline();
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("tables".equals(property) && value == JsonToken.START_ARRAY) {
+                tables = readTables(parser, budget);
+            } else {
+                readTableProperty(parser, budget, property, value, root);
+            }
+        }
+        if (tables == null) {
+            return List.of(root.build(budget));
+        }
+        List<SchemaObject> withDefaults = new ArrayList<>(tables.size());
+        for (SchemaObject table : tables) {
+            withDefaults.add(root.options.isEmpty()
+                    ? table
+                    : table.withOptions(table.getOptions().withDefaults(root.options)));
+        }
+        logger.info("Parsed {} tables from JSON catalog {}", tables.size(), sourceName);
+        return withDefaults;
+    }
+
+    private List<SchemaObject> readTables(JsonParser parser, ParseBudget budget)
+            throws IOException, SchemaParsingException {
+        List<SchemaObject> tables = new ArrayList<>();
+        JsonToken token;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            if (token != JsonToken.START_OBJECT) {
+                throw new SchemaParsingException(
+                    "Invalid JSON catalog: table " + (tables.size() + 1) + " is " + describe(token) +
+                    ", expected an object."
                 );
             }
+            tables.add(readTable(parser, budget));
+        }
+        return tables;
+    }
+
+    private void readTableProperty(JsonParser parser, ParseBudget budget, String property, JsonToken value,
+                                   TableDraft table) throws IOException, SchemaParsingException {
+        if ("name".equals(property) || "tableName".equals(property)) {
+            table.name = value == JsonToken.VALUE_NULL ? null : readText(parser, value);
+            budget.checkIdentifier("Table", table.name);
+            logger.debug("Extracted schema name: {}", table.name);
+        } else if ("fields".equals(property) || "columns".equals(property)) {
+            table.hasFields = true;
+            if (value == JsonToken.START_ARRAY) {
+                table.fields = readFields(parser, budget, table.name, table.types, table.keyColumns);
+            } else {
+                table.fields = null;
+                parser.skipChildren();
+            }
+        } else if ("primaryKey".equals(property)) {
+            table.primaryKey = readKey(parser, value, "primaryKey");
+        } else if ("partitioning".equals(property) && value == JsonToken.START_OBJECT) {
+            table.partitioning = readPartitioning(parser, budget);
+        } else if ("options".equals(property) && value == JsonToken.START_OBJECT) {
+            table.options = readOptions(parser, budget);
+        } else if ("relationships".equals(property) && value == JsonToken.START_ARRAY) {
+            table.relationships = readRelationships(parser, budget);
+        } else {
+            parser.skipChildren();
+        }
+    }
+
+    /**
+     * The properties of a table collected while its object is read.
+     */
+    private static final class TableDraft {
+        private String name;
+        private List<String> fields;
+        private final Map<String, String> types = new LinkedHashMap<>();
+        private List<Relationship> relationships = List.of();
+        private List<String> primaryKey = new ArrayList<>();
+        private final List<String> keyColumns = new ArrayList<>();
+        private Partitioning partitioning;
+        private TableOptions options = TableOptions.NONE;
+        private boolean hasFields;
 
+        SchemaObject build(ParseBudget budget) throws SchemaParsingException {
             // Validate required keys
-            if (!rootNode.hasNonNull("name") || !rootNode.has("fields")) {
+            if (name == null || !hasFields) {
                 throw new SchemaParsingException(
-                    "Invalid JSON schema: missing required property 'name' or 'fields'. " +
+                    "Invalid JSON schema: missing required property 'name' or 'fields' " +
+                    "('tableName' or 'columns' in an array-of-tables schema). " +
                     "Please ensure your schema includes both."
                 );
             }
+            if (fields == null) {
+                throw new SchemaParsingException(
+                    "Invalid JSON schema: 'fields' must be an array of field names."
+                );
+            }
 
-            String name = rootNode.get("name").asText();
-            logger.debug("Extracted schema name: {}", name);
+            budget.tableParsed();
+            SchemaObject schema = new SchemaObject(name, fields, types);
+            if (!relationships.isEmpty()) {
+                schema = schema.withRelationships(relationships);
+            }
+            List<String> key = primaryKey.isEmpty() ? keyColumns : primaryKey;
+            try {
+                if (!key.isEmpty()) {
+                    schema = schema.withPrimaryKey(key);
+                }
+                if (partitioning != null) {
+                    schema = schema.withPartitioning(partitioning);
+                }
+            } catch (IllegalArgumentException e) {
+                throw new SchemaParsingException("Invalid JSON schema: " + e.getMessage());
+            }
+            return options.isEmpty() ? schema : schema.withOptions(options);
+        }
+    }
 
-            JsonNode fieldsNode = rootNode.get("fields");
-            if (fieldsNode == null || !fieldsNode.isArray()) {
+    /**
+     * Reads an {@code options} object of scalar values; see {@link TableOptions} for the names.
+     */
+    private TableOptions readOptions(JsonParser parser, ParseBudget budget) throws IOException, SchemaParsingException {
+        Map<String, String> options = new LinkedHashMap<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if (!value.isScalarValue() || value == JsonToken.VALUE_NULL) {
                 throw new SchemaParsingException(
-                    "Invalid JSON schema: 'fields' must be an array of field names."
+                    "Invalid JSON schema: table option '" + property + "' must be a string, number or boolean."
                 );
             }
+            budget.checkIdentifier("Table option", parser.getText());
+            options.put(property, parser.getText());
+        }
+        try {
+            return new TableOptions(options);
+        } catch (IllegalArgumentException e) {
+            throw new SchemaParsingException("Invalid JSON schema: " + e.getMessage());
+        }
+    }
 
-            List<String> fields = new ArrayList<>();
-            Iterator<JsonNode> it = fieldsNode.elements();
-            int idx = 0;
-            while (it.hasNext()) {
-                JsonNode n = it.next();
-                String f = n.isTextual() ? n.asText() : n.toString();
-                fields.add(f);
-                logger.trace("Field[{}] = {}", idx++, f);
+    /**
+     * Reads a table-level {@code primaryKey} or partition {@code key}: a single column name or an
+     * array of column names.
+     */
+    private List<String> readKey(JsonParser parser, JsonToken value, String property)
+            throws IOException, SchemaParsingException {
+        List<String> key = new ArrayList<>();
+        if (value == JsonToken.VALUE_STRING) {
+            key.add(parser.getText());
+        } else if (value == JsonToken.START_ARRAY) {
+            JsonToken token;
+            while ((token = parser.nextToken()) == JsonToken.VALUE_STRING) {
+                key.add(parser.getText());
             }
+            if (token != JsonToken.END_ARRAY) {
+                throw new SchemaParsingException(
+                    "Invalid JSON schema: '" + property + "' must be a column name or an array of column names."
+                );
+            }
+        } else {
+            throw new SchemaParsingException(
+                "Invalid JSON schema: '" + property + "' must be a column name or an array of column names."
+            );
+        }
+        return key;
+    }
 
-            SchemaObject schemaObject = new SchemaObject(name, fields);
-            logger.info("Parsed SchemaObject created: {}", schemaObject.getName());
-            return schemaObject;
+    /**
+     * Reads a {@code partitioning} object:
+     * <pre>
+     * {"strategy": "hash",  "key": "id", "partitions": 8}
+     * {"strategy": "range", "key": "created", "partitions": [{"name": "p2024", "lessThan": "2025-01-01"},
+     *                                                       {"name": "pmax", "lessThan": "MAXVALUE"}]}
+     * {"strategy": "list",  "key": "region", "partitions": [{"name": "east", "values": ["NY", "NJ"]}]}
+     * </pre>
+     * A RANGE bound over several key columns is an array with one value per column.
+     */
+    private Partitioning readPartitioning(JsonParser parser, ParseBudget budget)
+            throws IOException, SchemaParsingException {
+        String strategy = null;
+        List<String> key = List.of();
+        int count = 0;
+        List<Partitioning.Partition> partitions = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("strategy".equals(property) && value == JsonToken.VALUE_STRING) {
+                strategy = parser.getText();
+            } else if ("key".equals(property)) {
+                key = readKey(parser, value, "key");
+            } else if ("partitions".equals(property) && value == JsonToken.VALUE_NUMBER_INT) {
+                count = parser.getIntValue();
+            } else if ("partitions".equals(property) && value == JsonToken.START_ARRAY) {
+                while (parser.nextToken() == JsonToken.START_OBJECT) {
+                    budget.checkDeadline();
+                    partitions.add(readPartition(parser, budget));
+                }
+                if (parser.currentToken() != JsonToken.END_ARRAY) {
+                    throw new SchemaParsingException(
+                        "Invalid JSON schema: 'partitions' must be a count or an array of partition objects."
+                    );
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        try {
+            return new Partitioning(Partitioning.Strategy.of(strategy), key, count, partitions);
+        } catch (IllegalArgumentException e) {
+            throw new SchemaParsingException("Invalid JSON schema: " + e.getMessage());
+        }
+    }
 
-        } catch (IOException e) {
-            logger.error("Error reading JSON file {}", schemaFile.getAbsolutePath(), e);
+    private Partitioning.Partition readPartition(JsonParser parser, ParseBudget budget)
+            throws IOException, SchemaParsingException {
+        String name = null;
+        List<String> values = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("name".equals(property) && value == JsonToken.VALUE_STRING) {
+                name = parser.getText();
+                budget.checkIdentifier("Partition", name);
+            } else if ("lessThan".equals(property) || "values".equals(property)) {
+                if (value == JsonToken.START_ARRAY) {
+                    JsonToken token;
+                    while ((token = parser.nextToken()).isScalarValue() && token != JsonToken.VALUE_NULL) {
+                        budget.checkIdentifier("Partition value", parser.getText());
+                        values.add(parser.getText());
+                    }
+                    if (token != JsonToken.END_ARRAY) {
+                        throw new SchemaParsingException(
+                            "Invalid JSON schema: partition '" + property + "' must hold numbers or strings."
+                        );
+                    }
+                } else if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    budget.checkIdentifier("Partition value", parser.getText());
+                    values.add(parser.getText());
+                } else {
+                    throw new SchemaParsingException(
+                        "Invalid JSON schema: partition '" + property + "' must hold numbers or strings."
+                    );
+                }
+            } else {
+                parser.skipChildren();
+            }
+        }
+        try {
+            return new Partitioning.Partition(name, values);
+        } catch (IllegalArgumentException e) {
+            throw new SchemaParsingException("Invalid JSON schema: " + e.getMessage());
+        }
+    }
+
+    /**
+     * Reads an array of relationship objects; see {@link Relationship} for the properties.
+     */
+    private List<Relationship> readRelationships(JsonParser parser, ParseBudget budget)
+            throws IOException, SchemaParsingException {
+        List<Relationship> relationships = new ArrayList<>();
+        while (parser.nextToken() == JsonToken.START_OBJECT) {
+            budget.checkDeadline();
+            Map<String, String> properties = new LinkedHashMap<>();
+            while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                String property = parser.currentName();
+                JsonToken value = parser.nextToken();
+                if (value.isScalarValue() && value != JsonToken.VALUE_NULL) {
+                    String text = parser.getText();
+                    budget.checkIdentifier("Relationship " + property, text);
+                    properties.put(property, text);
+                } else {
+                    parser.skipChildren();
+                }
+            }
+            String type = properties.get("relationshipType");
+            String related = properties.get("relatedTable");
+            if (type == null || related == null) {
+                throw new SchemaParsingException(
+                    "Invalid JSON schema: every relationship must have a 'relationshipType' and a 'relatedTable'."
+                );
+            }
+            relationships.add(new Relationship(type, related, properties.get("throughTable"),
+                    properties.get("foreignKey"), properties.get("relatedForeignKey")));
+        }
+        if (parser.currentToken() != JsonToken.END_ARRAY) {
             throw new SchemaParsingException(
-                "An error occurred while reading the JSON file: " + e.getMessage() +
-                ". Please ensure the file is valid JSON and try again.",
-                e
+                "Invalid JSON schema: 'relationships' must be an array of objects."
             );
         }
+        return relationships;
+    }
+
+    /**
+     * Reads a field array whose elements are either plain names or
+     * {@code {"name": ..., "type": ..., "primaryKey": true}} column objects; declared types are added
+     * to {@code types} and key columns to {@code keyColumns}.
+     */
+    private List<String> readFields(JsonParser parser, ParseBudget budget, String table, Map<String, String> types,
+                                    List<String> keyColumns) throws IOException, SchemaParsingException {
+        List<String> fields = new ArrayList<>();
+        JsonToken token;
+        int idx = 0;
+        while ((token = parser.nextToken()) != JsonToken.END_ARRAY) {
+            budget.checkDeadline();
+            String f;
+            if (token == JsonToken.START_OBJECT) {
+                f = readColumn(parser, budget, types, keyColumns);
+            } else {
+                f = token == JsonToken.VALUE_STRING ? parser.getText() : parser.readValueAsTree().toString();
+            }
+            budget.checkIdentifier("Field", f);
+            fields.add(f);
+            budget.checkColumnCount(table, fields.size());
+            logger.trace("Field[{}] = {}", idx++, f);
+        }
+        return fields;
+    }
+
+    private String readColumn(JsonParser parser, ParseBudget budget, Map<String, String> types,
+                              List<String> keyColumns) throws IOException, SchemaParsingException {
+        String name = null;
+        String type = null;
+        boolean key = false;
+        while (parser.nextToken() == JsonToken.FIELD_NAME) {
+            String property = parser.currentName();
+            JsonToken value = parser.nextToken();
+            if ("name".equals(property) && value != JsonToken.VALUE_NULL) {
+                name = readText(parser, value);
+            } else if ("type".equals(property) && value != JsonToken.VALUE_NULL) {
+                type = readText(parser, value);
+                budget.checkIdentifier("Type", type);
+            } else if ("primaryKey".equals(property)) {
+                key = value == JsonToken.VALUE_TRUE;
+            } else {
+                parser.skipChildren();
+            }
+        }
+        if (name == null) {
+            throw new SchemaParsingException(
+                "Invalid JSON schema: every column object must have a 'name'."
+            );
+        }
+        if (type != null) {
+            types.put(name, type);
+        }
+        if (key) {
+            keyColumns.add(name);
+        }
+        return name;
+    }
+
+    /**
+     * Returns the textual value of the current token, mirroring {@link JsonNode#asText()}.
+     */
+    private String readText(JsonParser parser, JsonToken token) throws IOException {
+        if (token.isScalarValue()) {
+            return parser.getText();
+        }
+        JsonNode node = parser.readValueAsTree();
+        return node.asText();
+    }
+
+    private static String describe(JsonToken token) {
+        switch (token) {
+            case START_ARRAY:
+                return "ARRAY";
+            case VALUE_STRING:
+                return "STRING";
+            case VALUE_NUMBER_INT:
+            case VALUE_NUMBER_FLOAT:
+                return "NUMBER";
+            case VALUE_TRUE:
+            case VALUE_FALSE:
+                return "BOOLEAN";
+            case VALUE_NULL:
+                return "NULL";
+            default:
+                return token.name();
+        }
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,73 @@
+package model;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+
+/**
+ * An {@link InputStream} that fails once more than a fixed number of bytes has been read.
+ * <p>
+ * Used by the parsers to enforce {@link ParseLimits#getMaxBytes()} while streaming,
+ * independently of what the underlying source claims its length to be, and by the server to
+ * bound request bodies it streams into a parser.
+ * </p>
+ */
+public class LimitedInputStream extends FilterInputStream {
+    private final long maxBytes;
+    private long count;
+    private boolean exceeded;
+
+    /**
+     * @param in       the stream to read
+     * @param maxBytes the most bytes that may be read
+     */
+    public LimitedInputStream(InputStream in, long maxBytes) {
+        super(in);
+        this.maxBytes = maxBytes;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            advance(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = super.read(buffer, offset, length);
+        if (n > 0) {
+            advance(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        advance(skipped);
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    /**
+     * @return {@code true} once a read went past the limit, even if the caller translated the failure
+     */
+    public boolean isExceeded() {
+        return exceeded;
+    }
+
+    private void advance(long n) throws IOException {
+        count += n;
+        if (count > maxBytes) {
+            exceeded = true;
+            throw new IOException("Input exceeds the limit of " + maxBytes + " bytes.");
+        }
+    }
+}
@@ -0,0 +1,139 @@
+package model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.Collection;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Function;
+
+/**
+ * An {@link ISqlGenerator} that generates each distinct schema once and serves repeats from a
+ * bounded cache.
+ * <p>
+ * Entries are keyed by the dialect, the kind of statement and the schema's
+ * {@link SchemaFingerprint}, so the same table parsed from {@code person.json} and
+ * {@code person.xml} is generated once. The cache keeps the {@code maxEntries} most recently
+ * used statements. Failures are not cached: a schema that cannot be generated fails again on
+ * every call. The delegate must be deterministic, which every generator is expected to be.
+ * </p>
+ * <p>
+ * Warnings the delegate logs while generating, such as an unknown type defaulting to {@code TEXT},
+ * are logged once per distinct schema: a cache hit returns the statement without calling the
+ * delegate, so repeats of a schema that was warned about are logged only at debug level.
+ * </p>
+ * <p>
+ * Thread-safe when the delegate is; two threads missing on the same schema at once may both
+ * generate it.
+ * </p>
+ */
+public class MemoizingGenerator implements ISqlGenerator {
+    /** Cache size used when none is given: a few thousand statements of a few KB each. */
+    public static final int DEFAULT_MAX_ENTRIES = 4096;
+    private static final Logger logger = LogManager.getLogger(MemoizingGenerator.class);
+
+    private final String dialect;
+    private final ISqlGenerator delegate;
+    private final Map<String, String> cache;
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+
+    /**
+     * @param dialect    the dialect of the delegate, part of every cache key
+     * @param delegate   the generator producing the statements
+     * @param maxEntries the most statements kept (at least 1)
+     * @throws IllegalArgumentException if maxEntries is less than 1
+     */
+    public MemoizingGenerator(String dialect, ISqlGenerator delegate, int maxEntries) {
+        if (maxEntries < 1) {
+            throw new IllegalArgumentException("Generator cache size must be at least 1, got: " + maxEntries);
+        }
+        this.dialect = dialect;
+        this.delegate = delegate;
+        this.cache = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, String> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    @Override
+    public String generateCreateTable(SchemaObject schema) {
+        return memoize("create", schema, delegate::generateCreateTable);
+    }
+
+    @Override
+    public String generateConstraints(SchemaObject schema) {
+        return memoize("constraints", schema, delegate::generateConstraints);
+    }
+
+    @Override
+    public String generateLoadTable(SchemaObject schema) {
+        return memoize("load", schema, delegate::generateLoadTable);
+    }
+
+    @Override
+    public String generatePostLoadConstraints(SchemaObject schema) {
+        return memoize("post-load", schema, delegate::generatePostLoadConstraints);
+    }
+
+    @Override
+    public String mapDataType(String genericType) {
+        return delegate.mapDataType(genericType);
+    }
+
+    @Override
+    public String postLoadPrologue() {
+        return delegate.postLoadPrologue();
+    }
+
+    @Override
+    public String postLoadEpilogue() {
+        return delegate.postLoadEpilogue();
+    }
+
+    @Override
+    public void validateCatalog(Collection<SchemaObject> schemas) {
+        delegate.validateCatalog(schemas);
+    }
+
+    /**
+     * @return the number of statements served from the cache
+     */
+    public long getHits() {
+        return hits.get();
+    }
+
+    /**
+     * @return the number of statements the delegate had to generate
+     */
+    public long getMisses() {
+        return misses.get();
+    }
+
+    private String memoize(String kind, SchemaObject schema, Function<SchemaObject, String> generate) {
+        if (schema == null) {
+            // Let the delegate report the invalid input
+            return generate.apply(null);
+        }
+        String key = dialect + '|' + kind + '|' + SchemaFingerprint.of(schema);
+        synchronized (cache) {
+            String cached = cache.get(key);
+            if (cached != null) {
+                hits.incrementAndGet();
+                logger.debug("Serving cached {} statement for schema '{}'", kind, schema.getName());
+                return cached;
+            }
+        }
+        // Only misses reach the delegate, so its warnings are logged once per distinct schema
+        String sql = generate.apply(schema);
+        misses.incrementAndGet();
+        synchronized (cache) {
+            cache.put(key, sql);
+        }
+        return sql;
+    }
+}
@@ -1,8 +1,13 @@
 package model;
 
-import java.util.HashSet;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.HashMap;
 import java.util.List;
-import java.util.Set;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
 
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -16,17 +21,56 @@ import exception.SqlGenerationException;
  * This class currently supports:
  * <ul>
  *     <li>Generating a basic {@code CREATE TABLE} statement
- *         with all fields mapped to {@code VARCHAR(255)} by default.</li>
+ *         with declared or inferred column types, {@code VARCHAR(255)} otherwise.</li>
  *     <li>Mapping simple generic types (e.g., {@code int}, {@code string}, {@code bool})
  *         to corresponding MySQL data types.</li>
+ *     <li>Generating primary keys, foreign keys and their supporting indexes.</li>
+ *     <li>Splitting keys for bulk loads: a {@code CREATE TABLE} with only the primary key, then
+ *         a post-load script with the secondary indexes and foreign keys.</li>
+ *     <li>Generating storage options ({@code ENGINE}, {@code ROW_FORMAT}, {@code KEY_BLOCK_SIZE},
+ *         default charset and collation) and {@code PARTITION BY} clauses.</li>
  * </ul>
  * <p>
- * Future enhancements may include richer type mapping and constraint generation.
+ * Future enhancements may include richer type mapping.
+ * </p>
+ * <p>
+ * The generator is stateless and may be shared between threads.
  * </p>
  */
 public class MySQLGenerator implements ISqlGenerator {
 
     private static final Logger logger = LogManager.getLogger(MySQLGenerator.class);
+    static final int MAX_IDENTIFIER_LENGTH = 64;
+    private static final Pattern INTEGER_TYPE =
+            Pattern.compile("(?i)(int|integer|tinyint|smallint|mediumint|bigint)(\\(\\d+\\))?( unsigned)?");
+    private static final Pattern NUMBER = Pattern.compile("-?\\d+(\\.\\d+)?");
+    /** A type name with an optional length or precision and sign, e.g. {@code DECIMAL(10,2) UNSIGNED}. */
+    private static final Pattern SQL_TYPE =
+            Pattern.compile("(?i)([a-z]+(?: precision)?)(?:\\((\\d{1,5})(?:,\\s?(\\d{1,2}))?\\))?( unsigned)?");
+    /**
+     * The MySQL data types copied into scripts as declared, each with the fewest and most
+     * length/precision arguments it takes and whether it may be {@code UNSIGNED}.
+     */
+    private static final Map<String, int[]> SQL_TYPES = new HashMap<>();
+
+    static {
+        for (String name : List.of("TINYINT", "SMALLINT", "MEDIUMINT", "INT", "INTEGER", "BIGINT")) {
+            SQL_TYPES.put(name, new int[]{0, 1, 1});
+        }
+        for (String name : List.of("DECIMAL", "DEC", "NUMERIC", "FIXED", "FLOAT", "DOUBLE", "DOUBLE PRECISION", "REAL")) {
+            SQL_TYPES.put(name, new int[]{0, 2, 1});
+        }
+        for (String name : List.of("BIT", "CHAR", "BINARY", "TEXT", "BLOB", "DATETIME", "TIMESTAMP", "TIME", "YEAR")) {
+            SQL_TYPES.put(name, new int[]{0, 1, 0});
+        }
+        for (String name : List.of("VARCHAR", "VARBINARY")) {
+            SQL_TYPES.put(name, new int[]{1, 1, 0});
+        }
+        for (String name : List.of("BOOL", "BOOLEAN", "DATE", "TINYTEXT", "MEDIUMTEXT", "LONGTEXT", "TINYBLOB",
+                "MEDIUMBLOB", "LONGBLOB", "JSON")) {
+            SQL_TYPES.put(name, new int[]{0, 0, 0});
+        }
+    }
 
     /**
      * Generates a {@code CREATE TABLE} SQL statement for the given schema.
@@ -43,16 +87,41 @@ public class MySQLGenerator implements ISqlGenerator {
      */
     @Override
     public String generateCreateTable(SchemaObject schema) {
+        return createTable(schema, false);
+    }
+
+    /**
+     * Generates a {@code CREATE TABLE} statement for a table that is about to be bulk loaded:
+     * the primary key is declared inline so rows are stored in key order as they arrive, and no
+     * secondary index or foreign key slows the load. Those follow in
+     * {@link #generatePostLoadConstraints(SchemaObject)}.
+     *
+     * @param schema the {@link SchemaObject} containing the table name and fields
+     * @return the {@code CREATE TABLE} statement with an inline primary key, if the table has one
+     * @throws IllegalArgumentException if the schema is {@code null}, has no name, or contains no valid fields
+     * @throws SqlGenerationException if an unexpected error occurs during SQL construction
+     */
+    @Override
+    public String generateLoadTable(SchemaObject schema) {
+        return createTable(schema, true);
+    }
+
+    private String createTable(SchemaObject schema, boolean inlinePrimaryKey) {
         validateSchema(schema);
         List<String> fields = schema.getFields();
         validateFields(schema.getName(), fields);
+        new SchemaValidator().validatePartitioning(schema);
 
         logger.info("Starting CREATE TABLE generation for schema: {}", schema.getName());
         logger.debug("Schema '{}' has {} fields: {}", schema.getName(), fields.size(), fields);
 
         StringBuilder sb = new StringBuilder();
         try {
-            buildCreateTableSQL(schema, fields, sb);
+            if (inlinePrimaryKey) {
+                buildCreateTableSQL(schema, fields, TableKeys.primaryKey(schema), sb);
+            } else {
+                buildCreateTableSQL(schema, fields, sb);
+            }
 
             logger.info("Successfully generated CREATE TABLE statement for schema: {}", schema.getName());
             if (logger.isDebugEnabled()) {
@@ -86,13 +155,14 @@ public class MySQLGenerator implements ISqlGenerator {
             logger.error("Schema name is missing.");
             throw new IllegalArgumentException("Cannot generate SQL: schema name is missing or empty.");
         }
+        Identifiers.check("Table", name, MAX_IDENTIFIER_LENGTH);
     }
 
     /**
      * Validates the list of field names within a schema.
      * <p>
-     * Ensures that the list is not null or empty, and that no field name is null, empty,
-     * or duplicated (case-insensitive). Logs errors when invalid input is detected.
+     * Ensures that the list is not null or empty, and that every field name is a valid MySQL
+     * identifier and not duplicated (case-insensitive); see {@link Identifiers#checkColumns}.
      * </p>
      *
      * @param schemaName the name of the schema (used for error messages)
@@ -107,26 +177,20 @@ public class MySQLGenerator implements ISqlGenerator {
             );
         }
 
-        Set<String> seen = new HashSet<>();
-        for (String field : fields) {
-            if (field == null || field.trim().isEmpty()) {
-                throw new IllegalArgumentException("Field names cannot be null or empty.");
-            }
-
-            String normalized = field.toLowerCase();
-            if (!seen.add(normalized)) {
-                logger.error("Duplicate field '{}' detected in schema '{}'", field, schemaName);
-                throw new IllegalArgumentException(
-                        "Cannot generate SQL: duplicate field '" + field + "' in schema '" + schemaName + "'."
-                );
-            }
+        try {
+            Identifiers.checkColumns(schemaName, fields, MAX_IDENTIFIER_LENGTH);
+        } catch (IllegalArgumentException e) {
+            logger.error("Invalid fields in schema '{}': {}", schemaName, e.getMessage());
+            throw e;
         }
     }
 
     /**
      * Builds the actual {@code CREATE TABLE} SQL statement using the provided schema name and fields.
      * <p>
-     * Each field is mapped to {@code VARCHAR(255)} by default.
+     * Each field gets its declared or {@linkplain TypeInference inferred} type and falls back to
+     * {@code VARCHAR(255)} when it has none. The table's {@link TableOptions} follow the column list,
+     * and a partitioned table gets its {@code PARTITION BY} clause.
      * </p>
      *
      * @param schema the {@link SchemaObject} containing the table name
@@ -134,19 +198,144 @@ public class MySQLGenerator implements ISqlGenerator {
      * @param sb a {@link StringBuilder} used to accumulate the SQL statement
      */
     protected void buildCreateTableSQL(SchemaObject schema, List<String> fields, StringBuilder sb) {
-        sb.append("CREATE TABLE `").append(schema.getName()).append("` (\n");
+        buildCreateTableSQL(schema, fields, List.of(), sb);
+    }
+
+    private void buildCreateTableSQL(SchemaObject schema, List<String> fields, List<String> primaryKey,
+                                     StringBuilder sb) {
+        Identifiers.appendQuoted(sb.append("CREATE TABLE "), schema.getName(), '`').append(" (\n");
 
         for (int i = 0; i < fields.size(); i++) {
             String field = fields.get(i);
             logger.debug("Adding field to CREATE TABLE statement: {}", field);
 
-            sb.append("    `").append(field).append("` VARCHAR(255)");
+            Identifiers.appendQuoted(sb.append("    "), field, '`')
+                    .append(' ').append(columnType(schema.getFieldType(field)));
             if (i < fields.size() - 1) {
                 sb.append(",\n");
             }
         }
+        if (!primaryKey.isEmpty()) {
+            sb.append(",\n    PRIMARY KEY ").append(columnList(primaryKey));
+        }
+
+        sb.append("\n)");
+        appendTableOptions(schema.getName(), schema.getOptions(), sb);
+        if (schema.getPartitioning() != null) {
+            appendPartitioning(schema, schema.getPartitioning(), sb);
+        }
+        sb.append(';');
+    }
+
+    /**
+     * Appends the MySQL table options; {@code FILLFACTOR} and {@code COMPRESS} belong to other
+     * dialects and are skipped.
+     */
+    private static void appendTableOptions(String table, TableOptions options, StringBuilder sb) {
+        if (options.isEmpty()) {
+            return;
+        }
+        appendOption(sb, "ENGINE=", options.get(TableOptions.ENGINE));
+        appendOption(sb, "ROW_FORMAT=", options.get(TableOptions.ROW_FORMAT));
+        appendOption(sb, "KEY_BLOCK_SIZE=", options.get(TableOptions.KEY_BLOCK_SIZE));
+        appendOption(sb, "DEFAULT CHARSET=", options.get(TableOptions.CHARSET));
+        appendOption(sb, "COLLATE=", options.get(TableOptions.COLLATE));
+        if (options.get(TableOptions.FILLFACTOR) != null || options.get(TableOptions.COMPRESS) != null) {
+            logger.debug("Schema '{}': FILLFACTOR and COMPRESS do not apply to MySQL and are skipped.", table);
+        }
+    }
+
+    private static void appendOption(StringBuilder sb, String option, String value) {
+        if (value != null) {
+            sb.append(' ').append(option).append(value);
+        }
+    }
+
+    /**
+     * Appends the {@code PARTITION BY} clause. HASH uses MySQL's {@code HASH} on a single integer
+     * column and {@code KEY} otherwise, which hashes any column types; RANGE and LIST use the
+     * {@code COLUMNS} forms so dates and strings can be partitioned without an expression.
+     */
+    private static void appendPartitioning(SchemaObject schema, Partitioning partitioning, StringBuilder sb) {
+        List<String> columns = partitioning.getColumns();
+        sb.append("\nPARTITION BY ");
+        switch (partitioning.getStrategy()) {
+            case HASH:
+                boolean integer = columns.size() == 1 && isIntegerType(schema.getFieldType(columns.get(0)));
+                sb.append(integer ? "HASH " : "KEY ").append(columnList(columns))
+                        .append(" PARTITIONS ").append(partitioning.getPartitionCount());
+                return;
+            case RANGE:
+                sb.append("RANGE COLUMNS ");
+                break;
+            default:
+                sb.append("LIST COLUMNS ");
+                break;
+        }
+        sb.append(columnList(columns)).append(" (");
+        List<Partitioning.Partition> partitions = partitioning.getPartitions();
+        for (int i = 0; i < partitions.size(); i++) {
+            Partitioning.Partition partition = partitions.get(i);
+            sb.append(i == 0 ? "\n    " : ",\n    ").append("PARTITION ").append(quote(partition.getName()))
+                    .append(partitioning.getStrategy() == Partitioning.Strategy.RANGE ? " VALUES LESS THAN (" : " VALUES IN (");
+            List<String> values = partition.getValues();
+            for (int v = 0; v < values.size(); v++) {
+                sb.append(v == 0 ? "" : ", ").append(literal(values.get(v), partitioning.getStrategy()));
+            }
+            sb.append(')');
+        }
+        sb.append("\n)");
+    }
+
+    private static boolean isIntegerType(String type) {
+        return type != null && INTEGER_TYPE.matcher(type).matches();
+    }
+
+    /**
+     * Renders a partition value: numbers and the RANGE bound {@code MAXVALUE} as written,
+     * anything else as a quoted string.
+     */
+    private static String literal(String value, Partitioning.Strategy strategy) {
+        if (strategy == Partitioning.Strategy.RANGE && Partitioning.MAXVALUE.equals(value)) {
+            return value;
+        }
+        if (NUMBER.matcher(value).matches()) {
+            return value;
+        }
+        return "'" + value.replace("\\", "\\\\").replace("'", "''") + "'";
+    }
+
+    /**
+     * Resolves a field's type: the generic names understood by {@link #mapDataType(String)} are mapped,
+     * MySQL types such as {@code DECIMAL(10,2)} are used as written when their arguments fit the type,
+     * and anything else, e.g. {@code uuid} or {@code character varying}, goes through
+     * {@link #mapDataType(String)} and becomes {@code TEXT}.
+     *
+     * @param type the declared or inferred type, or {@code null}
+     * @return the MySQL column type
+     */
+    private String columnType(String type) {
+        if (type == null) {
+            return "VARCHAR(255)";
+        }
+        String lower = type.toLowerCase(Locale.ROOT);
+        if (lower.equals("int") || lower.equals("string") || lower.equals("bool")) {
+            return mapDataType(type);
+        }
+        return isSqlType(type) ? type.toUpperCase(Locale.ROOT) : mapDataType(type);
+    }
 
-        sb.append("\n);");
+    private static boolean isSqlType(String type) {
+        Matcher matcher = SQL_TYPE.matcher(type);
+        if (!matcher.matches()) {
+            return false;
+        }
+        int[] shape = SQL_TYPES.get(matcher.group(1).toUpperCase(Locale.ROOT));
+        if (shape == null) {
+            return false;
+        }
+        int arguments = matcher.group(3) != null ? 2 : matcher.group(2) != null ? 1 : 0;
+        return arguments >= shape[0] && arguments <= shape[1] && (matcher.group(4) == null || shape[2] == 1);
     }
 
     /**
@@ -197,18 +386,130 @@ public class MySQLGenerator implements ISqlGenerator {
     }
 
     /**
-     * Generates SQL constraints for the given schema.
+     * Generates the primary key, foreign keys and supporting indexes of the given schema
+     * as a single {@code ALTER TABLE} statement, so the table is altered only once.
      * <p>
-     * This is currently a placeholder for future work,
-     * such as adding primary keys, foreign keys, or uniqueness constraints.
+     * Keys and indexes are derived by {@link TableKeys}: the declared or inferred primary key,
+     * a foreign key per many-to-one/one-to-one relationship, an index per foreign key column,
+     * composite indexes on junction tables, and no index that is a leftmost prefix of the
+     * primary key or of another index. Referenced tables must exist before the statement runs.
      * </p>
      *
      * @param schema the schema object for which to generate constraints
-     * @return a {@link String} containing SQL constraints, or an empty string
+     * @return the {@code ALTER TABLE} statement, or an empty string if the table has no keys or indexes
+     * @throws IllegalArgumentException if the schema is {@code null} or has no name
      */
     @Override
     public String generateConstraints(SchemaObject schema) {
-        // Placeholder for future constraint generation
-        return "";
+        return constraints(schema, true);
+    }
+
+    /**
+     * Generates the secondary indexes and foreign keys of the given schema, to run once its data is
+     * loaded into the table created by {@link #generateLoadTable(SchemaObject)}.
+     *
+     * @param schema the schema object for which to generate constraints
+     * @return the {@code ALTER TABLE} statement, or an empty string if the table has no indexes or foreign keys
+     * @throws IllegalArgumentException if the schema is {@code null} or has no name
+     */
+    @Override
+    public String generatePostLoadConstraints(SchemaObject schema) {
+        return constraints(schema, false);
+    }
+
+    /**
+     * Disables foreign key and unique checks for the post-load session, so foreign keys are added
+     * without re-validating every loaded row and indexes are built without uniqueness lookups.
+     * The previous values are saved in user variables.
+     */
+    @Override
+    public String postLoadPrologue() {
+        return "SET @OLD_FOREIGN_KEY_CHECKS=@@FOREIGN_KEY_CHECKS, FOREIGN_KEY_CHECKS=0;\n"
+                + "SET @OLD_UNIQUE_CHECKS=@@UNIQUE_CHECKS, UNIQUE_CHECKS=0;";
+    }
+
+    /**
+     * Restores the checks saved by {@link #postLoadPrologue()}.
+     */
+    @Override
+    public String postLoadEpilogue() {
+        return "SET UNIQUE_CHECKS=@OLD_UNIQUE_CHECKS;\n"
+                + "SET FOREIGN_KEY_CHECKS=@OLD_FOREIGN_KEY_CHECKS;";
+    }
+
+    /**
+     * Rejects a foreign key that references a partitioned table, which MySQL does not support.
+     * Foreign keys declared by a partitioned table are skipped by {@link #generateConstraints(SchemaObject)}
+     * instead, since only that table is involved.
+     *
+     * @param schemas the tables generated together
+     * @throws IllegalArgumentException if a table references a partitioned table
+     */
+    @Override
+    public void validateCatalog(Collection<SchemaObject> schemas) {
+        new SchemaValidator().validatePartitionedReferences(schemas);
+    }
+
+    private String constraints(SchemaObject schema, boolean includePrimaryKey) {
+        validateSchema(schema);
+        String table = schema.getName();
+
+        List<String> clauses = new ArrayList<>();
+        List<String> primaryKey = TableKeys.primaryKey(schema);
+        if (includePrimaryKey && !primaryKey.isEmpty()) {
+            clauses.add("ADD PRIMARY KEY " + columnList(primaryKey));
+        }
+        for (List<String> index : TableKeys.secondaryIndexes(schema)) {
+            clauses.add("ADD INDEX " + quote(identifier("idx", table, index)) + " " + columnList(index));
+        }
+        // MySQL does not support foreign keys on partitioned tables
+        List<TableKeys.ForeignKey> foreignKeys = schema.getPartitioning() == null
+                ? TableKeys.foreignKeys(schema)
+                : List.of();
+        if (schema.getPartitioning() != null && !TableKeys.foreignKeys(schema).isEmpty()) {
+            logger.warn("Schema '{}' is partitioned; its foreign keys are not generated.", table);
+        }
+        for (TableKeys.ForeignKey foreignKey : foreignKeys) {
+            clauses.add("ADD CONSTRAINT " + quote(identifier("fk", table, List.of(foreignKey.getColumn())))
+                    + " FOREIGN KEY (" + quote(foreignKey.getColumn()) + ") REFERENCES "
+                    + quote(foreignKey.getReferencedTable()) + " (" + quote(foreignKey.getReferencedColumn()) + ")");
+        }
+        if (clauses.isEmpty()) {
+            logger.debug("Schema '{}' has no keys or indexes to generate.", table);
+            return "";
+        }
+
+        StringBuilder sb = new StringBuilder("ALTER TABLE ").append(quote(table));
+        for (int i = 0; i < clauses.size(); i++) {
+            sb.append(i == 0 ? "\n    " : ",\n    ").append(clauses.get(i));
+        }
+        sb.append(';');
+        logger.debug("Generated {} constraint clauses for schema '{}'", clauses.size(), table);
+        return sb.toString();
+    }
+
+    private static String columnList(List<String> columns) {
+        StringBuilder sb = new StringBuilder("(");
+        for (int i = 0; i < columns.size(); i++) {
+            Identifiers.appendQuoted(sb.append(i == 0 ? "" : ", "), columns.get(i), '`');
+        }
+        return sb.append(')').toString();
+    }
+
+    /**
+     * Builds a constraint or index name such as {@code idx_course_instructor_id}, shortened with a
+     * hash suffix when it would exceed MySQL's 64-character identifier limit.
+     */
+    static String identifier(String prefix, String table, List<String> columns) {
+        String name = prefix + "_" + table + "_" + String.join("_", columns);
+        if (name.length() <= MAX_IDENTIFIER_LENGTH) {
+            return name;
+        }
+        String hash = String.format("%08x", name.hashCode());
+        return name.substring(0, MAX_IDENTIFIER_LENGTH - hash.length() - 1) + "_" + hash;
+    }
+
+    private static String quote(String identifier) {
+        return Identifiers.appendQuoted(new StringBuilder(identifier.length() + 2), identifier, '`').toString();
     }
 }
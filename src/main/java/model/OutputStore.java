@@ -0,0 +1,305 @@
+package model;
+
+import java.io.BufferedOutputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+/**
+ * Writes generated SQL scripts into a directory, skipping files whose content is unchanged.
+ * <p>
+ * Each script is digested (SHA-256) while it is being written and compared with the manifest
+ * left by the previous run ({@value #MANIFEST_NAME}, one {@code <sha256>  <file>} line per script).
+ * Unchanged scripts are not touched at all, so their timestamps and any build caches keyed on
+ * them stay valid. Changed scripts are staged next to the target and atomically moved into
+ * place. Small scripts are buffered in memory and only spill to a staging file once they exceed
+ * {@value #SPILL_THRESHOLD} bytes, so an unchanged script normally costs no disk writes.
+ * </p>
+ * <p>
+ * Distinct files may be written concurrently. Call {@link #commit()} once all scripts have been
+ * written to persist the updated manifest.
+ * </p>
+ */
+public class OutputStore {
+    public static final String MANIFEST_NAME = ".schema2script.sha256";
+    private static final int SPILL_THRESHOLD = 1 << 20;
+    private static final Logger logger = LogManager.getLogger(OutputStore.class);
+
+    private final Path directory;
+    private final Map<String, String> previous;
+    private final Map<String, String> current = new ConcurrentHashMap<>();
+    private final AtomicInteger written = new AtomicInteger();
+    private final AtomicInteger skipped = new AtomicInteger();
+
+    /**
+     * Opens (and creates if needed) an output directory and loads its manifest.
+     *
+     * @param directory the directory receiving the scripts
+     * @throws IOException if the directory cannot be created or the manifest cannot be read
+     */
+    public OutputStore(Path directory) throws IOException {
+        this.directory = Files.createDirectories(directory).toAbsolutePath().normalize();
+        this.previous = readManifest(this.directory.resolve(MANIFEST_NAME));
+    }
+
+    public Path getDirectory() {
+        return directory;
+    }
+
+    /**
+     * Opens a writer for a script. The script is written or skipped when the writer is closed.
+     *
+     * @param fileName the script's file name, relative to the output directory
+     * @return a UTF-8 writer for the script content
+     * @throws IllegalArgumentException if the name would escape the output directory
+     */
+    public Writer openWriter(String fileName) {
+        return new EntryWriter(fileName, resolve(fileName));
+    }
+
+    private Path resolve(String fileName) {
+        Path target = directory.resolve(fileName).normalize();
+        if (!target.startsWith(directory) || fileName.equals(MANIFEST_NAME)) {
+            throw new IllegalArgumentException("Invalid output file name: " + fileName);
+        }
+        return target;
+    }
+
+    /**
+     * Writes a complete script.
+     *
+     * @param fileName the script's file name, relative to the output directory
+     * @param content  the script content
+     * @throws IOException if the script cannot be written
+     */
+    public void write(String fileName, String content) throws IOException {
+        try (Writer writer = openWriter(fileName)) {
+            writer.write(content);
+        }
+    }
+
+    /**
+     * @param fileName the script's file name, relative to the output directory
+     * @return the SHA-256 of the script as this store last wrote or skipped it, or {@code null}
+     */
+    public String getDigest(String fileName) {
+        return current.get(fileName);
+    }
+
+    /**
+     * Forces a script and the directory entry naming it to disk, e.g. before recording elsewhere
+     * that it was written. Forcing the directory is skipped where the platform cannot open one.
+     *
+     * @param fileName the script's file name, relative to the output directory
+     * @throws IOException if the script cannot be forced
+     */
+    public void sync(String fileName) throws IOException {
+        Path target = resolve(fileName);
+        try (FileChannel channel = FileChannel.open(target, StandardOpenOption.READ)) {
+            channel.force(true);
+        }
+        try (FileChannel channel = FileChannel.open(target.getParent(), StandardOpenOption.READ)) {
+            channel.force(true);
+        } catch (IOException e) {
+            logger.debug("Cannot force directory {}: {}", target.getParent(), e.getMessage());
+        }
+    }
+
+    /**
+     * Checks that a script written by an earlier run is still in place with the given content and
+     * keeps it in the manifest. A script the manifest records with other content fails without
+     * being read; otherwise the file is read back, since the manifest may predate a crash.
+     *
+     * @param fileName the script's file name, relative to the output directory
+     * @param hash     the expected SHA-256 of the script
+     * @return {@code true} if the script exists with that content
+     * @throws IOException if the script exists but cannot be read
+     */
+    public boolean verify(String fileName, String hash) throws IOException {
+        Path target = resolve(fileName);
+        String recorded = previous.get(fileName);
+        if ((recorded != null && !recorded.equals(hash)) || !Files.isRegularFile(target)) {
+            return false;
+        }
+        MessageDigest digest = Digests.sha256();
+        try (InputStream in = Files.newInputStream(target);
+             OutputStream sink = new DigestOutputStream(OutputStream.nullOutputStream(), digest)) {
+            in.transferTo(sink);
+        }
+        if (!hash.equals(Digests.hex(digest.digest()))) {
+            return false;
+        }
+        current.put(fileName, hash);
+        return true;
+    }
+
+    /**
+     * @return the number of scripts written (new or changed) so far
+     */
+    public int getWritten() {
+        return written.get();
+    }
+
+    /**
+     * @return the number of scripts skipped because their content was unchanged
+     */
+    public int getSkipped() {
+        return skipped.get();
+    }
+
+    /**
+     * Atomically replaces the manifest with the digests of every script seen by this store,
+     * keeping entries from the previous run for scripts that were not regenerated.
+     *
+     * @throws IOException if the manifest cannot be written
+     */
+    public void commit() throws IOException {
+        Map<String, String> merged = new TreeMap<>(previous);
+        merged.putAll(current);
+        StringBuilder manifest = new StringBuilder();
+        merged.forEach((name, hash) -> manifest.append(hash).append("  ").append(name).append('\n'));
+
+        Path staged = AtomicFiles.createStagingFile(directory, ".manifest-");
+        Files.writeString(staged, manifest, StandardCharsets.UTF_8);
+        AtomicFiles.moveIntoPlace(staged, directory.resolve(MANIFEST_NAME));
+        logger.info("Output to {}: {} written, {} unchanged", directory, getWritten(), getSkipped());
+    }
+
+    private static Map<String, String> readManifest(Path manifest) throws IOException {
+        Map<String, String> entries = new ConcurrentHashMap<>();
+        if (!Files.isRegularFile(manifest)) {
+            return entries;
+        }
+        for (String line : Files.readAllLines(manifest, StandardCharsets.UTF_8)) {
+            int separator = line.indexOf("  ");
+            if (separator > 0) {
+                entries.put(line.substring(separator + 2), line.substring(0, separator));
+            }
+        }
+        return entries;
+    }
+
+    /**
+     * Buffers script bytes in memory, spilling to a staging file in the output directory
+     * once the content grows beyond {@link #SPILL_THRESHOLD}.
+     */
+    private final class SpillOutputStream extends OutputStream {
+        private ByteArrayOutputStream memory = new ByteArrayOutputStream();
+        private OutputStream spill;
+        private Path staged;
+        private long count;
+
+        @Override
+        public void write(int b) throws IOException {
+            write(new byte[]{(byte) b}, 0, 1);
+        }
+
+        @Override
+        public void write(byte[] bytes, int offset, int length) throws IOException {
+            count += length;
+            if (spill == null && memory.size() + length > SPILL_THRESHOLD) {
+                staged = AtomicFiles.createStagingFile(directory, ".stage-");
+                spill = new BufferedOutputStream(Files.newOutputStream(staged));
+                memory.writeTo(spill);
+                memory = null;
+            }
+            if (spill != null) {
+                spill.write(bytes, offset, length);
+            } else {
+                memory.write(bytes, offset, length);
+            }
+        }
+
+        /**
+         * Moves the content into {@code target}, staging in-memory content first.
+         */
+        void publish(Path target) throws IOException {
+            if (spill == null) {
+                staged = AtomicFiles.createStagingFile(directory, ".stage-");
+                try (OutputStream out = Files.newOutputStream(staged)) {
+                    memory.writeTo(out);
+                }
+            } else {
+                spill.close();
+            }
+            AtomicFiles.moveIntoPlace(staged, target);
+        }
+
+        void discard() throws IOException {
+            if (spill != null) {
+                spill.close();
+                Files.deleteIfExists(staged);
+            }
+        }
+    }
+
+    /**
+     * Writer for one script; decides on close whether the target must be replaced.
+     */
+    private final class EntryWriter extends Writer {
+        private final String name;
+        private final Path target;
+        private final SpillOutputStream content = new SpillOutputStream();
+        private final MessageDigest digest = Digests.sha256();
+        private final Writer encoder = new OutputStreamWriter(new DigestOutputStream(content, digest), StandardCharsets.UTF_8);
+        private boolean closed;
+
+        EntryWriter(String name, Path target) {
+            this.name = name;
+            this.target = target;
+        }
+
+        @Override
+        public void write(char[] chars, int offset, int length) throws IOException {
+            encoder.write(chars, offset, length);
+        }
+
+        @Override
+        public void write(String text, int offset, int length) throws IOException {
+            encoder.write(text, offset, length);
+        }
+
+        @Override
+        public void flush() throws IOException {
+            encoder.flush();
+        }
+
+        @Override
+        public void close() throws IOException {
+            if (closed) {
+                return;
+            }
+            closed = true;
+            encoder.flush();
+            String hash = Digests.hex(digest.digest());
+            current.put(name, hash);
+
+            if (hash.equals(previous.get(name)) && Files.isRegularFile(target) && Files.size(target) == content.count) {
+                content.discard();
+                skipped.incrementAndGet();
+                logger.debug("Unchanged, skipped: {}", target);
+            } else {
+                content.publish(target);
+                written.incrementAndGet();
+                logger.debug("Written: {}", target);
+            }
+        }
+    }
+}
@@ -0,0 +1,383 @@
+package model;
+
+import exception.SchemaParsingException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.ByteArrayInputStream;
+import java.io.EOFException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.SequenceInputStream;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveTask;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.LongConsumer;
+
+/**
+ * Parses one large array-of-tables JSON catalog on several cores.
+ * <p>
+ * A structural pre-scan reads the file sequentially and records where every top-level table
+ * object starts and ends, tracking only nesting depth and string/escape state, which is far
+ * cheaper than tokenizing. Consecutive tables are then grouped into chunks of roughly equal
+ * size and parsed by a {@link RecursiveTask} tree on a {@link ForkJoinPool}; each chunk is read
+ * with positional reads from one shared channel and handed to
+ * {@link JSONParser#parseCatalog(java.io.InputStream, String)} as a small array of its own.
+ * Results are concatenated in chunk order, so tables come back in document order.
+ * </p>
+ * <p>
+ * The total size and table count are checked against the parser's {@link ParseLimits} during the
+ * pre-scan; every other limit is enforced per chunk by the JSON parser. The time limit covers the
+ * whole catalog: every chunk is parsed against the deadline set when the pre-scan started.
+ * </p>
+ */
+public final class ParallelCatalogParser {
+    /** Smallest chunk handed to a worker; smaller catalogs gain nothing from splitting further. */
+    static final int MIN_CHUNK_BYTES = 1 << 20;
+    /** Largest chunk, which bounds the memory held per worker. */
+    static final int MAX_CHUNK_BYTES = 64 << 20;
+    /** Catalogs smaller than this are parsed sequentially unless overridden by a system property. */
+    static final long DEFAULT_THRESHOLD_BYTES = 32L << 20;
+    static final String THRESHOLD_PROPERTY = "schema2script.parse.parallelThreshold";
+    private static final int SCAN_BUFFER_BYTES = 1 << 20;
+    private static final byte[] OPEN = {'['};
+    private static final byte[] CLOSE = {']'};
+    private static final Logger logger = LogManager.getLogger(ParallelCatalogParser.class);
+
+    private final JSONParser parser;
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates a parser that runs on the common fork-join pool.
+     *
+     * @param parser the JSON parser used for every chunk
+     */
+    public ParallelCatalogParser(JSONParser parser) {
+        this(parser, ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param parser the JSON parser used for every chunk
+     * @param pool   the pool the chunks are parsed on
+     */
+    public ParallelCatalogParser(JSONParser parser, ForkJoinPool pool) {
+        this.parser = parser;
+        this.pool = pool;
+    }
+
+    /**
+     * Returns the catalog size from which parallel parsing pays off, read from the
+     * {@code schema2script.parse.parallelThreshold} system property (bytes) and defaulting to 32 MiB.
+     *
+     * @return the threshold in bytes
+     */
+    public static long threshold() {
+        return Long.getLong(THRESHOLD_PROPERTY, DEFAULT_THRESHOLD_BYTES);
+    }
+
+    /**
+     * Parses every table of the catalog.
+     *
+     * @param catalog an array-of-tables JSON file
+     * @return the tables, in document order
+     * @throws IOException            if the catalog cannot be read
+     * @throws SchemaParsingException if the catalog is malformed or exceeds the parser's limits
+     */
+    public List<SchemaObject> parse(Path catalog) throws IOException, SchemaParsingException {
+        return parse(catalog, bytes -> { });
+    }
+
+    /**
+     * Parses every table of the catalog, reporting progress as chunks complete.
+     *
+     * @param catalog  an array-of-tables JSON file
+     * @param progress receives the number of bytes parsed so far, from the worker threads; the
+     *                 last value is the file size
+     * @return the tables, in document order
+     * @throws IOException            if the catalog cannot be read
+     * @throws SchemaParsingException if the catalog is malformed or exceeds the parser's limits
+     */
+    public List<SchemaObject> parse(Path catalog, LongConsumer progress) throws IOException, SchemaParsingException {
+        try (FileChannel channel = FileChannel.open(catalog, StandardOpenOption.READ)) {
+            return parse(channel, catalog.toString(), progress);
+        }
+    }
+
+    /**
+     * Parses every table of a catalog that is already open, such as the channel of a
+     * {@link SchemaSource}. Only positional reads are used, so the channel's position is left
+     * unchanged and the channel is not closed.
+     *
+     * @param channel  an array-of-tables JSON file, open for reading
+     * @param name     the catalog's name for messages
+     * @param progress receives the number of bytes parsed so far, from the worker threads; the
+     *                 last value is the file size
+     * @return the tables, in document order
+     * @throws IOException            if the catalog cannot be read
+     * @throws SchemaParsingException if the catalog is malformed or exceeds the parser's limits
+     */
+    public List<SchemaObject> parse(FileChannel channel, String name, LongConsumer progress)
+            throws IOException, SchemaParsingException {
+        ParseBudget budget = new ParseBudget(parser.getLimits());
+        budget.checkSize(channel.size());
+
+        long started = System.nanoTime();
+        long[] bounds = scan(channel, budget, name);
+        int tables = bounds.length / 2;
+        if (tables == 0) {
+            progress.accept(channel.size());
+            return List.of();
+        }
+        long[] chunks = chunk(bounds, channel.size() / (pool.getParallelism() * 4L));
+        logger.debug("Pre-scanned {} tables of {} in {} ms; parsing {} chunks on {} workers",
+                tables, name, (System.nanoTime() - started) / 1_000_000, chunks.length / 2,
+                pool.getParallelism());
+
+        ChunkTask root = new ChunkTask(channel, chunks, 0, chunks.length / 2, name,
+                budget.getDeadlineNanos(), new Progress(progress));
+        List<SchemaObject> result;
+        try {
+            result = pool.invoke(root);
+        } catch (RuntimeException e) {
+            throw unwrap(e);
+        }
+        // The bytes between and around the tables belong to no chunk
+        progress.accept(channel.size());
+        logger.info("Parsed {} tables from {} in parallel", result.size(), name);
+        return result;
+    }
+
+    /**
+     * Finds the byte range of every top-level object of the root array.
+     *
+     * @return start and end (exclusive) offsets, two entries per table
+     */
+    static long[] scan(FileChannel channel, ParseBudget budget, String name)
+            throws IOException, SchemaParsingException {
+        long[] bounds = new long[64];
+        int count = 0;
+        int depth = 0;
+        boolean inString = false;
+        boolean escaped = false;
+        boolean rootSeen = false;
+        ByteBuffer buffer = ByteBuffer.allocate(SCAN_BUFFER_BYTES);
+        byte[] bytes = buffer.array();
+        long offset = 0;
+
+        int read;
+        while ((read = channel.read(buffer.clear(), offset)) > 0) {
+            budget.checkDeadline();
+            for (int i = 0; i < read; i++) {
+                byte b = bytes[i];
+                if (inString) {
+                    if (escaped) {
+                        escaped = false;
+                    } else if (b == '\\') {
+                        escaped = true;
+                    } else if (b == '"') {
+                        inString = false;
+                    }
+                    continue;
+                }
+                if (depth == 0) {
+                    if (b == '[' && !rootSeen) {
+                        rootSeen = true;
+                        depth = 1;
+                    } else if (!isWhitespace(b) && !(offset + i < 3 && isByteOrderMark(b))) {
+                        throw rootSeen
+                                ? new SchemaParsingException("Malformed JSON catalog " + name + ": content after the root array.")
+                                : notACatalog(name);
+                    }
+                    continue;
+                }
+                if (depth == 1) {
+                    if (b == '{') {
+                        if (count == bounds.length) {
+                            bounds = Arrays.copyOf(bounds, count * 2);
+                        }
+                        bounds[count++] = offset + i;
+                        budget.tableParsed();
+                        depth = 2;
+                        budget.checkDepth(depth);
+                    } else if (b == ']') {
+                        depth = 0;
+                    } else if (b != ',' && !isWhitespace(b)) {
+                        throw notAnObject(name, count / 2 + 1);
+                    }
+                    continue;
+                }
+                switch (b) {
+                    case '"' -> inString = true;
+                    case '{', '[' -> budget.checkDepth(++depth);
+                    case '}', ']' -> {
+                        if (--depth == 1) {
+                            bounds[count++] = offset + i + 1;
+                        }
+                    }
+                    default -> {
+                        // Scalars and separators inside a table carry no structure
+                    }
+                }
+            }
+            offset += read;
+        }
+        if (!rootSeen || depth != 0 || inString) {
+            throw new SchemaParsingException("Malformed JSON catalog " + name + ": the root array is not closed.");
+        }
+        return Arrays.copyOf(bounds, count);
+    }
+
+    /**
+     * Groups consecutive tables into chunks of about {@code target} bytes (clamped to
+     * {@link #MIN_CHUNK_BYTES}..{@link #MAX_CHUNK_BYTES}); a single larger table forms its own chunk.
+     *
+     * @return start and end offsets, two entries per chunk
+     */
+    static long[] chunk(long[] bounds, long target) {
+        long size = Math.max(MIN_CHUNK_BYTES, Math.min(MAX_CHUNK_BYTES, target));
+        long[] chunks = new long[bounds.length];
+        int count = 0;
+        long start = bounds[0];
+        for (int t = 0; t < bounds.length; t += 2) {
+            long end = bounds[t + 1];
+            boolean last = t + 2 == bounds.length;
+            if (last || bounds[t + 3] - start > size) {
+                chunks[count++] = start;
+                chunks[count++] = end;
+                if (!last) {
+                    start = bounds[t + 2];
+                }
+            }
+        }
+        return Arrays.copyOf(chunks, count);
+    }
+
+    /**
+     * Parses a run of chunks, splitting it in half until a single chunk remains.
+     */
+    private final class ChunkTask extends RecursiveTask<List<SchemaObject>> {
+        private final FileChannel channel;
+        private final long[] chunks;
+        private final int from;
+        private final int to;
+        private final String sourceName;
+        private final long deadlineNanos;
+        private final Progress progress;
+
+        ChunkTask(FileChannel channel, long[] chunks, int from, int to, String sourceName, long deadlineNanos,
+                  Progress progress) {
+            this.channel = channel;
+            this.chunks = chunks;
+            this.from = from;
+            this.to = to;
+            this.sourceName = sourceName;
+            this.deadlineNanos = deadlineNanos;
+            this.progress = progress;
+        }
+
+        @Override
+        protected List<SchemaObject> compute() {
+            if (to - from > 1) {
+                int middle = (from + to) >>> 1;
+                ChunkTask left = new ChunkTask(channel, chunks, from, middle, sourceName, deadlineNanos, progress);
+                left.fork();
+                List<SchemaObject> right =
+                        new ChunkTask(channel, chunks, middle, to, sourceName, deadlineNanos, progress).compute();
+                List<SchemaObject> result = new ArrayList<>(left.join());
+                result.addAll(right);
+                return Collections.unmodifiableList(result);
+            }
+            try {
+                return parseChunk(chunks[2 * from], chunks[2 * from + 1]);
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            } catch (SchemaParsingException e) {
+                throw new ChunkFailure(e);
+            }
+        }
+
+        private List<SchemaObject> parseChunk(long start, long end) throws IOException, SchemaParsingException {
+            ByteBuffer bytes = ByteBuffer.allocate(Math.toIntExact(end - start));
+            while (bytes.hasRemaining()) {
+                if (channel.read(bytes, start + bytes.position()) < 0) {
+                    throw new EOFException("Catalog " + sourceName + " was truncated while it was parsed.");
+                }
+            }
+            InputStream array = new SequenceInputStream(Collections.enumeration(List.of(
+                    new ByteArrayInputStream(OPEN),
+                    new ByteArrayInputStream(bytes.array()),
+                    new ByteArrayInputStream(CLOSE))));
+            // Each chunk counts its own tables but shares the catalog's deadline
+            List<SchemaObject> tables = parser.parseCatalog(array, sourceName + " [bytes " + start + "-" + end + "]",
+                    new ParseBudget(parser.getLimits(), deadlineNanos));
+            progress.add(end - start);
+            return tables;
+        }
+    }
+
+    /**
+     * Sums the bytes of completed chunks across workers and reports the running total.
+     */
+    private static final class Progress {
+        private final LongConsumer consumer;
+        private final AtomicLong parsed = new AtomicLong();
+
+        Progress(LongConsumer consumer) {
+            this.consumer = consumer;
+        }
+
+        void add(long bytes) {
+            consumer.accept(parsed.addAndGet(bytes));
+        }
+    }
+
+    /**
+     * Carries a checked parse failure out of a fork-join task.
+     */
+    private static final class ChunkFailure extends RuntimeException {
+        ChunkFailure(SchemaParsingException cause) {
+            super(cause);
+        }
+    }
+
+    /**
+     * Recovers the original failure from a joined task; the pool may have wrapped it again
+     * when rethrowing across threads.
+     */
+    private static SchemaParsingException unwrap(RuntimeException e) throws IOException {
+        for (Throwable t = e; t != null; t = t.getCause()) {
+            if (t instanceof SchemaParsingException parsing) {
+                return parsing;
+            }
+            if (t instanceof UncheckedIOException io) {
+                throw io.getCause();
+            }
+        }
+        throw e;
+    }
+
+    private static boolean isWhitespace(byte b) {
+        return b == ' ' || b == '\t' || b == '\r' || b == '\n';
+    }
+
+    private static boolean isByteOrderMark(byte b) {
+        return b == (byte) 0xEF || b == (byte) 0xBB || b == (byte) 0xBF;
+    }
+
+    private static SchemaParsingException notACatalog(String name) {
+        return new SchemaParsingException("Cannot parse " + name + " in parallel: expected an array of tables at the root.");
+    }
+
+    private static SchemaParsingException notAnObject(String name, int table) {
+        return new SchemaParsingException("Invalid JSON catalog " + name + ": table " + table + " is not an object.");
+    }
+}
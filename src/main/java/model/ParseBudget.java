@@ -0,0 +1,88 @@
+package model;
+
+import exception.SchemaParsingException;
+
+/**
+ * Tracks consumption of a {@link ParseLimits} budget during a single parse.
+ * <p>
+ * Parsers create one budget per input and call the {@code check*} methods as tokens
+ * are streamed; every violation is reported as a {@link SchemaParsingException}.
+ * Instances are not thread-safe and must not be shared between parses; the parts of one input
+ * parsed concurrently each get a budget {@linkplain #ParseBudget(ParseLimits, long) sharing its deadline}.
+ * </p>
+ */
+class ParseBudget {
+    private final ParseLimits limits;
+    private final long deadlineNanos;
+    private int tables;
+
+    ParseBudget(ParseLimits limits) {
+        this(limits, System.nanoTime() + limits.getTimeout().toNanos());
+    }
+
+    /**
+     * @param limits        the limits to enforce
+     * @param deadlineNanos the {@link System#nanoTime()} by which the whole input must be parsed
+     */
+    ParseBudget(ParseLimits limits, long deadlineNanos) {
+        this.limits = limits;
+        this.deadlineNanos = deadlineNanos;
+    }
+
+    long getDeadlineNanos() {
+        return deadlineNanos;
+    }
+
+    ParseLimits getLimits() {
+        return limits;
+    }
+
+    void checkDeadline() throws SchemaParsingException {
+        if (System.nanoTime() - deadlineNanos > 0) {
+            throw new SchemaParsingException(
+                    "Parsing exceeded the time limit of " + limits.getTimeout().toMillis() + " ms."
+            );
+        }
+    }
+
+    void checkSize(long bytes) throws SchemaParsingException {
+        if (bytes > limits.getMaxBytes()) {
+            throw new SchemaParsingException(
+                    "Input is " + bytes + " bytes, which exceeds the limit of " + limits.getMaxBytes() + " bytes."
+            );
+        }
+    }
+
+    void checkDepth(int depth) throws SchemaParsingException {
+        if (depth > limits.getMaxDepth()) {
+            throw new SchemaParsingException(
+                    "Input nesting depth exceeds the limit of " + limits.getMaxDepth() + "."
+            );
+        }
+    }
+
+    void checkIdentifier(String kind, String identifier) throws SchemaParsingException {
+        if (identifier != null && identifier.length() > limits.getMaxIdentifierLength()) {
+            throw new SchemaParsingException(
+                    kind + " name is " + identifier.length() + " characters long, which exceeds the limit of "
+                            + limits.getMaxIdentifierLength() + "."
+            );
+        }
+    }
+
+    void checkColumnCount(String table, int columns) throws SchemaParsingException {
+        if (columns > limits.getMaxColumnsPerTable()) {
+            throw new SchemaParsingException(
+                    "Table '" + table + "' has more than " + limits.getMaxColumnsPerTable() + " fields."
+            );
+        }
+    }
+
+    void tableParsed() throws SchemaParsingException {
+        if (++tables > limits.getMaxTables()) {
+            throw new SchemaParsingException(
+                    "Input contains more than " + limits.getMaxTables() + " tables."
+            );
+        }
+    }
+}
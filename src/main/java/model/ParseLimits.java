@@ -0,0 +1,123 @@
+package model;
+
+import java.time.Duration;
+
+/**
+ * Immutable set of hard limits applied while a schema is being parsed.
+ * <p>
+ * Limits are enforced incrementally as the input is streamed, so an oversized or
+ * malicious upload fails fast with a {@link exception.SchemaParsingException}
+ * instead of exhausting the heap of the whole JVM.
+ * </p>
+ * <p>
+ * {@link #defaults()} reads overrides from system properties
+ * (e.g. {@code -Dschema2script.parse.maxBytes=1073741824}):
+ * {@code maxBytes}, {@code maxTables}, {@code maxColumnsPerTable},
+ * {@code maxIdentifierLength}, {@code maxDepth} and {@code timeoutMillis},
+ * each prefixed with {@code schema2script.parse.}.
+ * </p>
+ */
+public final class ParseLimits {
+    public static final long DEFAULT_MAX_BYTES = 64L * 1024 * 1024;
+    public static final int DEFAULT_MAX_TABLES = 10_000;
+    public static final int DEFAULT_MAX_COLUMNS_PER_TABLE = 4_096;
+    public static final int DEFAULT_MAX_IDENTIFIER_LENGTH = 256;
+    public static final int DEFAULT_MAX_DEPTH = 64;
+    public static final Duration DEFAULT_TIMEOUT = Duration.ofSeconds(30);
+
+    private static final String PROPERTY_PREFIX = "schema2script.parse.";
+    private static volatile ParseLimits defaults;
+
+    private final long maxBytes;
+    private final int maxTables;
+    private final int maxColumnsPerTable;
+    private final int maxIdentifierLength;
+    private final int maxDepth;
+    private final Duration timeout;
+
+    /**
+     * Creates a new set of parse limits.
+     *
+     * @param maxBytes            maximum size of the raw input in bytes
+     * @param maxTables           maximum number of tables in one input
+     * @param maxColumnsPerTable  maximum number of fields in a single table
+     * @param maxIdentifierLength maximum length of a table or field name
+     * @param maxDepth            maximum element/object nesting depth
+     * @param timeout             maximum wall-clock time a single parse may take
+     * @throws IllegalArgumentException if any limit is not positive
+     */
+    public ParseLimits(long maxBytes, int maxTables, int maxColumnsPerTable,
+                       int maxIdentifierLength, int maxDepth, Duration timeout) {
+        if (maxBytes <= 0 || maxTables <= 0 || maxColumnsPerTable <= 0
+                || maxIdentifierLength <= 0 || maxDepth <= 0) {
+            throw new IllegalArgumentException("Parse limits must be positive.");
+        }
+        if (timeout == null || timeout.isNegative() || timeout.isZero()) {
+            throw new IllegalArgumentException("Parse timeout must be a positive duration.");
+        }
+        this.maxBytes = maxBytes;
+        this.maxTables = maxTables;
+        this.maxColumnsPerTable = maxColumnsPerTable;
+        this.maxIdentifierLength = maxIdentifierLength;
+        this.maxDepth = maxDepth;
+        this.timeout = timeout;
+    }
+
+    /**
+     * Returns the process-wide default limits, built once from the built-in
+     * defaults and any {@code schema2script.parse.*} system property overrides.
+     *
+     * @return the default limits
+     */
+    public static ParseLimits defaults() {
+        ParseLimits result = defaults;
+        if (result == null) {
+            synchronized (ParseLimits.class) {
+                result = defaults;
+                if (result == null) {
+                    result = new ParseLimits(
+                            Long.getLong(PROPERTY_PREFIX + "maxBytes", DEFAULT_MAX_BYTES),
+                            Integer.getInteger(PROPERTY_PREFIX + "maxTables", DEFAULT_MAX_TABLES),
+                            Integer.getInteger(PROPERTY_PREFIX + "maxColumnsPerTable", DEFAULT_MAX_COLUMNS_PER_TABLE),
+                            Integer.getInteger(PROPERTY_PREFIX + "maxIdentifierLength", DEFAULT_MAX_IDENTIFIER_LENGTH),
+                            Integer.getInteger(PROPERTY_PREFIX + "maxDepth", DEFAULT_MAX_DEPTH),
+                            Duration.ofMillis(Long.getLong(PROPERTY_PREFIX + "timeoutMillis", DEFAULT_TIMEOUT.toMillis()))
+                    );
+                    defaults = result;
+                }
+            }
+        }
+        return result;
+    }
+
+    public long getMaxBytes() {
+        return maxBytes;
+    }
+
+    public int getMaxTables() {
+        return maxTables;
+    }
+
+    public int getMaxColumnsPerTable() {
+        return maxColumnsPerTable;
+    }
+
+    public int getMaxIdentifierLength() {
+        return maxIdentifierLength;
+    }
+
+    public int getMaxDepth() {
+        return maxDepth;
+    }
+
+    public Duration getTimeout() {
+        return timeout;
+    }
+
+    @Override
+    public String toString() {
+        return "ParseLimits{maxBytes=" + maxBytes + ", maxTables=" + maxTables
+                + ", maxColumnsPerTable=" + maxColumnsPerTable + ", maxIdentifierLength=" + maxIdentifierLength
+                + ", maxDepth=" + maxDepth + ", timeout=" + timeout + "}";
+    }
+}
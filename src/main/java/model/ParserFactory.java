@@ -3,13 +3,28 @@ package model;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.ServiceLoader;
+import java.util.function.Supplier;
+
 /**
  * Factory for returning the correct {@link SchemaParser}
  * implementation based on schema format (e.g., JSON, XML).
+ * <p>
+ * Parsers are stateless, so each format is backed by a single shared instance that is
+ * created on first request. Formats beyond the built-in JSON and XML are discovered lazily
+ * through {@link SchemaParserProvider} plugins.
+ * </p>
  */
 public class ParserFactory {
     private static final Logger logger = LogManager.getLogger(ParserFactory.class);
 
+    private static final PluginRegistry<SchemaParser> registry = new PluginRegistry<>(
+            Map.of("json", JSONParser::new, "xml", XmlParser::new),
+            ParserFactory::discoverPlugins
+    );
+
      private ParserFactory(){
         throw new UnsupportedOperationException("Utility class- cannot be instantiated");
     }
@@ -24,17 +39,32 @@ public class ParserFactory {
 
         logger.info("Schema format requested: {}", format);
 
-        switch (format.toLowerCase()) {
-            case "xml":
-                return new XmlParser();
-            case "json":
-                return new JSONParser();
-            default:
-                logger.error("Unsupported schema format requested: {}", format);
-                throw new IllegalArgumentException(
-                    "Unsupported schema format: '" + format +
-                    "'. Supported formats are: json, xml."
-                );
+        SchemaParser parser = registry.get(format.trim());
+        if (parser == null) {
+            logger.error("Unsupported schema format requested: {}", format);
+            throw new IllegalArgumentException(
+                "Unsupported schema format: '" + format +
+                "'. Supported formats are: " + String.join(", ", registry.names()) + "."
+            );
+        }
+        return parser;
+    }
+
+    /**
+     * @param format a format name, matched case-insensitively
+     * @return {@code true} if a built-in parser or a plugin handles {@code format}
+     */
+    public static boolean supports(String format) {
+        return format != null && !format.isBlank() && registry.contains(format.trim());
+    }
+
+    private static Map<String, Supplier<? extends SchemaParser>> discoverPlugins() {
+        Map<String, Supplier<? extends SchemaParser>> plugins = new HashMap<>();
+        for (SchemaParserProvider provider : ServiceLoader.load(SchemaParserProvider.class)) {
+            logger.info("Discovered schema parser plugin for format '{}': {}",
+                    provider.format(), provider.getClass().getName());
+            plugins.put(provider.format(), provider::create);
         }
+        return plugins;
     }
-}
\ No newline at end of file
+}
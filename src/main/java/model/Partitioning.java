@@ -0,0 +1,183 @@
+package model;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Objects;
+import java.util.Set;
+
+/**
+ * How a table is split into partitions: a strategy, the partition key columns and either a
+ * partition count ({@link Strategy#HASH}) or explicit partition definitions
+ * ({@link Strategy#RANGE}, {@link Strategy#LIST}).
+ * <ul>
+ *     <li><b>HASH</b>: rows are spread over {@code partitionCount} partitions by hashing the key.</li>
+ *     <li><b>RANGE</b>: each partition holds the rows whose key is below its upper bound; partitions
+ *         are listed in ascending order and a bound of {@link #MAXVALUE} catches the rest. A bound
+ *         has one value per key column.</li>
+ *     <li><b>LIST</b>: each partition holds the rows whose single key column equals one of its values.</li>
+ * </ul>
+ * <p>
+ * Values are kept as written in the schema; generators decide how to quote them. Instances are immutable.
+ * </p>
+ */
+public final class Partitioning {
+    /** The RANGE bound that is greater than every value. */
+    public static final String MAXVALUE = "MAXVALUE";
+    /** The most partitions a table may have (MySQL's limit). */
+    public static final int MAX_PARTITIONS = 8192;
+
+    /**
+     * The partitioning strategy.
+     */
+    public enum Strategy {
+        RANGE,
+        HASH,
+        LIST;
+
+        /**
+         * @param name the strategy name, case-insensitive
+         * @return the strategy
+         * @throws IllegalArgumentException if the name is not a known strategy
+         */
+        public static Strategy of(String name) {
+            if (name != null) {
+                for (Strategy strategy : values()) {
+                    if (strategy.name().equalsIgnoreCase(name.trim())) {
+                        return strategy;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Unknown partitioning strategy '" + name
+                    + "'; expected range, hash or list.");
+        }
+    }
+
+    /**
+     * One RANGE or LIST partition: its name and its upper bound or member values.
+     */
+    public static final class Partition {
+        private final String name;
+        private final List<String> values;
+
+        /**
+         * @param name   the partition name (cannot be null or empty)
+         * @param values the RANGE upper bound, one value per key column, or the LIST values (cannot be empty)
+         * @throws IllegalArgumentException if the name or values are invalid
+         */
+        public Partition(String name, List<String> values) {
+            if (name == null || name.trim().isEmpty()) {
+                throw new IllegalArgumentException("Partition name cannot be null or empty.");
+            }
+            if (values == null || values.isEmpty() || values.stream().anyMatch(Objects::isNull)) {
+                throw new IllegalArgumentException("Partition '" + name + "' must have at least one value.");
+            }
+            this.name = name;
+            this.values = List.copyOf(values);
+        }
+
+        public String getName() {
+            return name;
+        }
+
+        public List<String> getValues() {
+            return values;
+        }
+
+        @Override
+        public String toString() {
+            return name + values;
+        }
+    }
+
+    private final Strategy strategy;
+    private final List<String> columns;
+    private final int partitionCount;
+    private final List<Partition> partitions;
+
+    /**
+     * Creates a partitioning.
+     *
+     * @param strategy       the strategy (cannot be null)
+     * @param columns        the partition key columns (cannot be empty; exactly one for LIST)
+     * @param partitionCount the number of HASH partitions; ignored for RANGE and LIST
+     * @param partitions     the RANGE or LIST partitions in order; must be empty for HASH
+     * @throws IllegalArgumentException if the combination is invalid
+     */
+    public Partitioning(Strategy strategy, List<String> columns, int partitionCount, List<Partition> partitions) {
+        if (strategy == null) {
+            throw new IllegalArgumentException("Partitioning strategy cannot be null.");
+        }
+        if (columns == null || columns.isEmpty() || columns.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Partitioning needs at least one key column.");
+        }
+        if (partitions == null || partitions.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Partition definitions cannot be null.");
+        }
+        String label = strategy.name().toLowerCase(Locale.ROOT);
+        if (strategy == Strategy.HASH) {
+            if (!partitions.isEmpty()) {
+                throw new IllegalArgumentException("Hash partitioning takes a partition count, not partition definitions.");
+            }
+            if (partitionCount < 1 || partitionCount > MAX_PARTITIONS) {
+                throw new IllegalArgumentException("Hash partition count must be between 1 and " + MAX_PARTITIONS
+                        + ", got: " + partitionCount);
+            }
+        } else {
+            if (partitions.isEmpty() || partitions.size() > MAX_PARTITIONS) {
+                throw new IllegalArgumentException("The " + label + " partitioning needs between 1 and "
+                        + MAX_PARTITIONS + " partition definitions.");
+            }
+            if (strategy == Strategy.LIST && columns.size() != 1) {
+                throw new IllegalArgumentException("List partitioning takes exactly one key column.");
+            }
+            Set<String> names = new HashSet<>();
+            for (Partition partition : partitions) {
+                if (!names.add(partition.getName().toLowerCase(Locale.ROOT))) {
+                    throw new IllegalArgumentException("Duplicate partition name '" + partition.getName() + "'.");
+                }
+                if (strategy == Strategy.RANGE && partition.getValues().size() != columns.size()) {
+                    throw new IllegalArgumentException("Range partition '" + partition.getName() + "' needs "
+                            + columns.size() + " bound value(s), one per key column.");
+                }
+                if (strategy == Strategy.LIST && partition.getValues().contains(MAXVALUE)) {
+                    throw new IllegalArgumentException("MAXVALUE is only allowed in range partitions.");
+                }
+            }
+        }
+        this.strategy = strategy;
+        this.columns = List.copyOf(columns);
+        this.partitions = List.copyOf(partitions);
+        this.partitionCount = strategy == Strategy.HASH ? partitionCount : partitions.size();
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the partition key columns
+     */
+    public List<String> getColumns() {
+        return columns;
+    }
+
+    /**
+     * @return the number of partitions
+     */
+    public int getPartitionCount() {
+        return partitionCount;
+    }
+
+    /**
+     * @return the RANGE or LIST partitions in order; empty for HASH
+     */
+    public List<Partition> getPartitions() {
+        return partitions;
+    }
+
+    @Override
+    public String toString() {
+        return strategy + " " + columns + (strategy == Strategy.HASH ? " x" + partitionCount : " " + partitions);
+    }
+}
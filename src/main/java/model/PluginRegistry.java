@@ -0,0 +1,94 @@
+package model;
+
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Thread-safe registry of shared, lazily created instances keyed by a case-insensitive name.
+ * <p>
+ * Built-in entries are known up front; additional entries are contributed by plugins,
+ * which are only discovered (through the supplied loader, typically a
+ * {@link java.util.ServiceLoader}) the first time a name is not found among the built-ins.
+ * Each instance is created at most once and then returned to every caller, so registered
+ * types must be stateless and safe to use from several threads at once.
+ * </p>
+ *
+ * @param <T> the type of instance held by the registry
+ */
+final class PluginRegistry<T> {
+    private final Map<String, Supplier<? extends T>> suppliers = new ConcurrentHashMap<>();
+    private final Map<String, T> instances = new ConcurrentHashMap<>();
+    private final Supplier<Map<String, Supplier<? extends T>>> pluginLoader;
+    private volatile boolean pluginsLoaded;
+
+    /**
+     * @param builtIns     suppliers for the entries that ship with the application
+     * @param pluginLoader discovers plugin suppliers; invoked at most once, on first miss
+     */
+    PluginRegistry(Map<String, Supplier<? extends T>> builtIns,
+                   Supplier<Map<String, Supplier<? extends T>>> pluginLoader) {
+        builtIns.forEach((name, supplier) -> suppliers.put(name.toLowerCase(), supplier));
+        this.pluginLoader = pluginLoader;
+    }
+
+    /**
+     * Returns the shared instance registered under {@code name}, creating it on first use.
+     *
+     * @param name the lookup key (case-insensitive)
+     * @return the shared instance, or {@code null} if nothing is registered under that name
+     */
+    T get(String name) {
+        String key = name.toLowerCase();
+        T instance = instances.get(key);
+        if (instance != null) {
+            return instance;
+        }
+        Supplier<? extends T> supplier = suppliers.get(key);
+        if (supplier == null) {
+            loadPlugins();
+            supplier = suppliers.get(key);
+            if (supplier == null) {
+                return null;
+            }
+        }
+        Supplier<? extends T> creator = supplier;
+        return instances.computeIfAbsent(key, k -> creator.get());
+    }
+
+    /**
+     * @param name the lookup key (case-insensitive)
+     * @return {@code true} if a built-in or plugin is registered under {@code name}; nothing is created
+     */
+    boolean contains(String name) {
+        String key = name.toLowerCase();
+        if (suppliers.containsKey(key)) {
+            return true;
+        }
+        loadPlugins();
+        return suppliers.containsKey(key);
+    }
+
+    /**
+     * @return every registered name, including plugins, in sorted order
+     */
+    Set<String> names() {
+        loadPlugins();
+        return new TreeSet<>(suppliers.keySet());
+    }
+
+    private void loadPlugins() {
+        if (pluginsLoaded) {
+            return;
+        }
+        synchronized (this) {
+            if (!pluginsLoaded) {
+                // Built-ins take precedence over plugins claiming the same name
+                pluginLoader.get().forEach((name, supplier) -> suppliers.putIfAbsent(name.toLowerCase(), supplier));
+                pluginsLoaded = true;
+            }
+        }
+    }
+}
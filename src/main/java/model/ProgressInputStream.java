@@ -0,0 +1,64 @@
+package model;
+
+import java.io.FilterInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.function.LongConsumer;
+
+/**
+ * An {@link InputStream} that reports how many bytes have been read so far after every read.
+ * <p>
+ * Used to show the parse progress of large files. The callback runs on the reading thread with
+ * the running total, so it should be cheap or throttle itself.
+ * </p>
+ */
+public class ProgressInputStream extends FilterInputStream {
+    private final LongConsumer progress;
+    private long count;
+
+    /**
+     * @param in       the stream to read
+     * @param progress receives the number of bytes read so far
+     */
+    public ProgressInputStream(InputStream in, LongConsumer progress) {
+        super(in);
+        this.progress = progress;
+    }
+
+    @Override
+    public int read() throws IOException {
+        int b = super.read();
+        if (b >= 0) {
+            advance(1);
+        }
+        return b;
+    }
+
+    @Override
+    public int read(byte[] buffer, int offset, int length) throws IOException {
+        int n = super.read(buffer, offset, length);
+        if (n > 0) {
+            advance(n);
+        }
+        return n;
+    }
+
+    @Override
+    public long skip(long n) throws IOException {
+        long skipped = super.skip(n);
+        if (skipped > 0) {
+            advance(skipped);
+        }
+        return skipped;
+    }
+
+    @Override
+    public boolean markSupported() {
+        return false;
+    }
+
+    private void advance(long n) {
+        count += n;
+        progress.accept(count);
+    }
+}
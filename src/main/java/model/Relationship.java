@@ -0,0 +1,76 @@
+package model;
+
+/**
+ * A relationship declared on a table in an array-of-tables schema, e.g.
+ * <pre>
+ * { "relationshipType": "many-to-one", "relatedTable": "course", "foreignKey": "course_id" }
+ * </pre>
+ * <p>
+ * {@code foreignKey} is the column on the declaring table; {@code relatedForeignKey} is the
+ * matching column on the related table (or, for many-to-many, on the junction table) and
+ * {@code throughTable} names the junction table of a many-to-many relationship.
+ * </p>
+ */
+public class Relationship {
+    public static final String ONE_TO_ONE = "one-to-one";
+    public static final String ONE_TO_MANY = "one-to-many";
+    public static final String MANY_TO_ONE = "many-to-one";
+    public static final String MANY_TO_MANY = "many-to-many";
+
+    private final String type;
+    private final String relatedTable;
+    private final String throughTable;
+    private final String foreignKey;
+    private final String relatedForeignKey;
+
+    /**
+     * @param type              the relationship type, e.g. {@link #MANY_TO_ONE} (cannot be null or empty)
+     * @param relatedTable      the table on the other side (cannot be null or empty)
+     * @param throughTable      the junction table of a many-to-many relationship, or null
+     * @param foreignKey        the column on the declaring table, or null
+     * @param relatedForeignKey the column on the related or junction table, or null
+     * @throws IllegalArgumentException if type or relatedTable is missing
+     */
+    public Relationship(String type, String relatedTable, String throughTable,
+                        String foreignKey, String relatedForeignKey) {
+        if (type == null || type.trim().isEmpty()) {
+            throw new IllegalArgumentException("Relationship type cannot be null or empty.");
+        }
+        if (relatedTable == null || relatedTable.trim().isEmpty()) {
+            throw new IllegalArgumentException("Related table cannot be null or empty.");
+        }
+        this.type = type;
+        this.relatedTable = relatedTable;
+        this.throughTable = throughTable;
+        this.foreignKey = foreignKey;
+        this.relatedForeignKey = relatedForeignKey;
+    }
+
+    public String getType() {
+        return type;
+    }
+
+    public String getRelatedTable() {
+        return relatedTable;
+    }
+
+    public String getThroughTable() {
+        return throughTable;
+    }
+
+    public String getForeignKey() {
+        return foreignKey;
+    }
+
+    public String getRelatedForeignKey() {
+        return relatedForeignKey;
+    }
+
+    @Override
+    public String toString() {
+        return "Relationship{" + type + " " + relatedTable
+                + (throughTable == null ? "" : " through " + throughTable)
+                + (foreignKey == null ? "" : ", foreignKey='" + foreignKey + "'")
+                + (relatedForeignKey == null ? "" : ", relatedForeignKey='" + relatedForeignKey + "'") + "}";
+    }
+}
@@ -0,0 +1,94 @@
+package model;
+
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Canonical fingerprint of a parsed {@link SchemaObject}: the SHA-256 of everything a generator
+ * reads from it, so two schemas with the same fingerprint generate the same SQL whatever file or
+ * format they were parsed from.
+ * <p>
+ * The digest covers, in this order: the name; the fields in declaration order with their declared
+ * types; the declared primary key; the relationships; the partitioning; and the table options by
+ * canonical name. Every string is length-prefixed and absent values have their own marker, so
+ * distinct schemas cannot produce the same byte sequence.
+ * </p>
+ */
+public final class SchemaFingerprint {
+    private static final int ABSENT = -1;
+
+    private SchemaFingerprint() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    /**
+     * @param schema the parsed schema
+     * @return the fingerprint as 64 lowercase hex characters
+     */
+    public static String of(SchemaObject schema) {
+        MessageDigest digest = Digests.sha256();
+        update(digest, schema.getName());
+        update(digest, schema.getFields().size());
+        for (String field : schema.getFields()) {
+            update(digest, field);
+            update(digest, schema.getFieldType(field));
+        }
+        update(digest, schema.getPrimaryKey());
+
+        update(digest, schema.getRelationships().size());
+        for (Relationship relationship : schema.getRelationships()) {
+            update(digest, relationship.getType());
+            update(digest, relationship.getRelatedTable());
+            update(digest, relationship.getThroughTable());
+            update(digest, relationship.getForeignKey());
+            update(digest, relationship.getRelatedForeignKey());
+        }
+
+        Partitioning partitioning = schema.getPartitioning();
+        if (partitioning == null) {
+            update(digest, ABSENT);
+        } else {
+            update(digest, partitioning.getStrategy().ordinal());
+            update(digest, partitioning.getColumns());
+            update(digest, partitioning.getPartitionCount());
+            update(digest, partitioning.getPartitions().size());
+            for (Partitioning.Partition partition : partitioning.getPartitions()) {
+                update(digest, partition.getName());
+                update(digest, partition.getValues());
+            }
+        }
+
+        Map<String, String> options = schema.getOptions().asMap();
+        update(digest, options.size());
+        // Options are keyed by canonical name; their declaration order does not affect the SQL
+        options.entrySet().stream().sorted(Map.Entry.comparingByKey()).forEach(option -> {
+            update(digest, option.getKey());
+            update(digest, option.getValue());
+        });
+        return Digests.hex(digest.digest());
+    }
+
+    private static void update(MessageDigest digest, List<String> values) {
+        update(digest, values.size());
+        for (String value : values) {
+            update(digest, value);
+        }
+    }
+
+    private static void update(MessageDigest digest, String value) {
+        if (value == null) {
+            update(digest, ABSENT);
+            return;
+        }
+        byte[] bytes = value.getBytes(StandardCharsets.UTF_8);
+        update(digest, bytes.length);
+        digest.update(bytes);
+    }
+
+    private static void update(MessageDigest digest, int value) {
+        digest.update(ByteBuffer.allocate(Integer.BYTES).putInt(value).array());
+    }
+}
@@ -1,26 +1,90 @@
 package model;
 
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+
 /**
- * Holds the current {@link SchemaObject} being worked with in the application.
+ * Holds the catalog of {@link SchemaObject}s the application is working with, keyed by name.
+ * <p>
+ * Acts as the "Model" in the MVC pattern, storing the parsed schemas
+ * that are passed between controller and view.
+ * </p>
  * <p>
- * Acts as the "Model" in the MVC pattern, storing the parsed schema
- * that is passed between controller and view.
+ * The model is safe to share between the UI, batch and server threads. Its state is an immutable
+ * {@link Snapshot} behind an {@link AtomicReference}: reads are a single volatile load and never
+ * block, while every update copies the current snapshot, applies the change and publishes the
+ * result with a compare-and-set, retrying if another writer got there first. Each published
+ * snapshot carries a version one higher than its predecessor, so a reader holding a snapshot sees
+ * one consistent catalog even while a bulk {@link #replaceAll(Collection) reload} is in progress.
  * </p>
  */
 public class SchemaModel {
-    private SchemaObject schemaObject;
 
     /**
-     * Sets the active schema object in the model.
+     * An immutable, versioned view of the catalog.
+     */
+    public static final class Snapshot {
+        private static final Snapshot EMPTY = new Snapshot(0, Map.of(), null);
+
+        private final long version;
+        private final Map<String, SchemaObject> schemas;
+        private final SchemaObject active;
+
+        private Snapshot(long version, Map<String, SchemaObject> schemas, SchemaObject active) {
+            this.version = version;
+            this.schemas = schemas;
+            this.active = active;
+        }
+
+        /**
+         * @return the number of updates published before this snapshot, starting at 0 for the empty model
+         */
+        public long getVersion() {
+            return version;
+        }
+
+        /**
+         * @return the schemas keyed by name, in the order they were first added; unmodifiable
+         */
+        public Map<String, SchemaObject> getSchemas() {
+            return schemas;
+        }
+
+        /**
+         * @param name the schema name
+         * @return the schema, or null if the catalog has none of that name
+         */
+        public SchemaObject get(String name) {
+            return schemas.get(name);
+        }
+
+        /**
+         * @return the active schema, or null if none has been set
+         */
+        public SchemaObject getActive() {
+            return active;
+        }
+
+        public int size() {
+            return schemas.size();
+        }
+    }
+
+    private final AtomicReference<Snapshot> state = new AtomicReference<>(Snapshot.EMPTY);
+
+    /**
+     * Sets the active schema object in the model, adding it to the catalog or
+     * replacing the schema of the same name.
      *
      * @param schemaObject the schema to store (cannot be null)
      * @throws IllegalArgumentException if schemaObject is null
      */
     public void setSchema(SchemaObject schemaObject) {
-        if (schemaObject == null) {
-            throw new IllegalArgumentException("SchemaModel cannot store a null schema.");
-        }
-        this.schemaObject = schemaObject;
+        put(schemaObject);
     }
 
     /**
@@ -29,6 +93,146 @@ public class SchemaModel {
      * @return the schema object, or null if none has been set
      */
     public SchemaObject getSchema() {
-        return schemaObject;
+        return state.get().getActive();
+    }
+
+    /**
+     * @param name the schema name
+     * @return the schema of that name, or null if the catalog has none
+     */
+    public SchemaObject get(String name) {
+        return state.get().get(name);
+    }
+
+    /**
+     * @return the current catalog; later updates do not affect the returned snapshot
+     */
+    public Snapshot snapshot() {
+        return state.get();
+    }
+
+    /**
+     * @return the version of the current catalog
+     */
+    public long getVersion() {
+        return state.get().getVersion();
+    }
+
+    /**
+     * Adds or replaces one schema and makes it the active schema.
+     *
+     * @param schemaObject the schema to store (cannot be null)
+     * @return the version of the catalog containing the schema
+     * @throws IllegalArgumentException if schemaObject is null
+     */
+    public long put(SchemaObject schemaObject) {
+        requireSchema(schemaObject);
+        return update(List.of(schemaObject), false);
+    }
+
+    /**
+     * Adds or replaces several schemas in one atomic update; the first becomes the active schema.
+     * If the collection holds two schemas of the same name, the later one wins.
+     *
+     * @param schemas the schemas to store (cannot be null or contain null)
+     * @return the version of the catalog containing the schemas
+     * @throws IllegalArgumentException if schemas is null or contains null
+     */
+    public long putAll(Collection<SchemaObject> schemas) {
+        requireSchemas(schemas);
+        return update(schemas, false);
+    }
+
+    /**
+     * Replaces the whole catalog in one atomic update; the first schema becomes the active schema.
+     * Readers see either the previous catalog or the new one, never a mixture.
+     *
+     * @param schemas the new catalog (cannot be null or contain null; may be empty)
+     * @return the version of the new catalog
+     * @throws IllegalArgumentException if schemas is null or contains null
+     */
+    public long replaceAll(Collection<SchemaObject> schemas) {
+        requireSchemas(schemas);
+        return update(schemas, true);
+    }
+
+    /**
+     * Replaces the whole catalog only if no other update was published since {@code expectedVersion},
+     * so a reload computed from a snapshot cannot overwrite a concurrent change.
+     *
+     * @param expectedVersion the version of the snapshot the new catalog was derived from
+     * @param schemas         the new catalog (cannot be null or contain null; may be empty)
+     * @return {@code true} if the catalog was replaced, {@code false} if the version had moved on
+     * @throws IllegalArgumentException if schemas is null or contains null
+     */
+    public boolean replaceAll(long expectedVersion, Collection<SchemaObject> schemas) {
+        requireSchemas(schemas);
+        Snapshot current = state.get();
+        return current.getVersion() == expectedVersion && state.compareAndSet(current, next(current, schemas, true));
+    }
+
+    /**
+     * Removes a schema from the catalog. If it was the active schema, no schema is active afterwards.
+     *
+     * @param name the schema name
+     * @return {@code true} if a schema of that name was removed
+     */
+    public boolean remove(String name) {
+        while (true) {
+            Snapshot current = state.get();
+            if (!current.getSchemas().containsKey(name)) {
+                return false;
+            }
+            Map<String, SchemaObject> schemas = new LinkedHashMap<>(current.getSchemas());
+            schemas.remove(name);
+            SchemaObject active = current.getActive() != null && name.equals(current.getActive().getName())
+                    ? null
+                    : current.getActive();
+            if (state.compareAndSet(current,
+                    new Snapshot(current.getVersion() + 1, Collections.unmodifiableMap(schemas), active))) {
+                return true;
+            }
+        }
+    }
+
+    private long update(Collection<SchemaObject> schemas, boolean replace) {
+        while (true) {
+            Snapshot current = state.get();
+            Snapshot next = next(current, schemas, replace);
+            if (state.compareAndSet(current, next)) {
+                return next.getVersion();
+            }
+        }
+    }
+
+    private static Snapshot next(Snapshot current, Collection<SchemaObject> schemas, boolean replace) {
+        Map<String, SchemaObject> merged = replace
+                ? new LinkedHashMap<>(schemas.size() * 2)
+                : new LinkedHashMap<>(current.getSchemas());
+        String first = null;
+        for (SchemaObject schema : schemas) {
+            merged.put(schema.getName(), schema);
+            if (first == null) {
+                first = schema.getName();
+            }
+        }
+        // A later duplicate replaces the earlier one, so the active schema is read back from the merged map.
+        SchemaObject active = first != null ? merged.get(first) : replace ? null : current.getActive();
+        return new Snapshot(current.getVersion() + 1, Collections.unmodifiableMap(merged), active);
+    }
+
+    private static void requireSchema(SchemaObject schemaObject) {
+        if (schemaObject == null) {
+            throw new IllegalArgumentException("SchemaModel cannot store a null schema.");
+        }
+    }
+
+    private static void requireSchemas(Collection<SchemaObject> schemas) {
+        if (schemas == null) {
+            throw new IllegalArgumentException("SchemaModel cannot store a null catalog.");
+        }
+        for (SchemaObject schema : schemas) {
+            requireSchema(schema);
+        }
     }
-}
\ No newline at end of file
+}
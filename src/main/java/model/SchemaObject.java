@@ -1,31 +1,184 @@
 package model;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Objects;
 
 /**
  * Represents a schema definition with a name and a list of fields.
+ * <p>
+ * Fields may optionally carry a declared type (e.g. {@code "INT"} or {@code "VARCHAR(100)"}
+ * from the array-of-tables format); fields without one have no entry in {@link #getFieldTypes()}.
+ * Tables from that format may also declare {@link Relationship}s to other tables, a primary key,
+ * a {@link Partitioning} and {@link TableOptions}.
+ * </p>
+ * <p>
+ * Instances are immutable; the {@code with...} methods return modified copies.
+ * </p>
  */
 public class SchemaObject {
     private final String name;
     private final List<String> fields;
+    private final Map<String, String> fieldTypes;
+    private final List<Relationship> relationships;
+    private final List<String> primaryKey;
+    private final Partitioning partitioning;
+    private final TableOptions options;
 
     /**
      * Creates a new SchemaObject.
      *
      * @param name   the schema name (cannot be null or empty)
-     * @param fields the list of fields (cannot be null)
+     * @param fields the list of fields (cannot be null); the list is copied
      * @throws IllegalArgumentException if name or fields are invalid
      */
     public SchemaObject(String name, List<String> fields) {
+        this(name, fields, Map.of());
+    }
+
+    /**
+     * Creates a new SchemaObject with declared field types.
+     *
+     * @param name       the schema name (cannot be null or empty)
+     * @param fields     the list of fields (cannot be null); the list is copied
+     * @param fieldTypes declared types keyed by field name (cannot be null, may be empty)
+     * @throws IllegalArgumentException if name, fields or fieldTypes are invalid
+     */
+    public SchemaObject(String name, List<String> fields, Map<String, String> fieldTypes) {
         if (name == null || name.trim().isEmpty()) {
             throw new IllegalArgumentException("Schema name cannot be null or empty.");
         }
         if (fields == null) {
             throw new IllegalArgumentException("Schema fields cannot be null.");
         }
+        if (fieldTypes == null) {
+            throw new IllegalArgumentException("Schema field types cannot be null.");
+        }
 
         this.name = name;
+        this.fields = Collections.unmodifiableList(new ArrayList<>(fields));
+        this.fieldTypes = fieldTypes.isEmpty()
+                ? Map.of()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(fieldTypes));
+        this.relationships = List.of();
+        this.primaryKey = List.of();
+        this.partitioning = null;
+        this.options = TableOptions.NONE;
+    }
+
+    private SchemaObject(SchemaObject source, Map<String, String> fieldTypes, List<Relationship> relationships,
+                         List<String> primaryKey, Partitioning partitioning, TableOptions options) {
+        this(source, source.fields, fieldTypes, relationships, primaryKey, partitioning, options);
+    }
+
+    private SchemaObject(SchemaObject source, List<String> fields, Map<String, String> fieldTypes,
+                         List<Relationship> relationships, List<String> primaryKey, Partitioning partitioning,
+                         TableOptions options) {
+        this.name = source.name;
         this.fields = fields;
+        this.fieldTypes = fieldTypes;
+        this.relationships = relationships;
+        this.primaryKey = primaryKey;
+        this.partitioning = partitioning;
+        this.options = options;
+    }
+
+    /**
+     * Returns a copy of this schema with the given field types in place of the current ones.
+     *
+     * @param fieldTypes types keyed by field name, each key a field of this schema (cannot be null, may be empty)
+     * @return a new SchemaObject
+     * @throws IllegalArgumentException if fieldTypes is null or names a column that is not a field
+     */
+    public SchemaObject withFieldTypes(Map<String, String> fieldTypes) {
+        if (fieldTypes == null) {
+            throw new IllegalArgumentException("Schema field types cannot be null.");
+        }
+        for (String column : fieldTypes.keySet()) {
+            if (!fields.contains(column)) {
+                throw new IllegalArgumentException(
+                        "Typed column '" + column + "' is not a field of schema '" + name + "'.");
+            }
+        }
+        Map<String, String> copy = fieldTypes.isEmpty()
+                ? Map.of()
+                : Collections.unmodifiableMap(new LinkedHashMap<>(fieldTypes));
+        return new SchemaObject(this, copy, relationships, primaryKey, partitioning, options);
+    }
+
+    /**
+     * Returns a copy of this schema with its fields in the given order.
+     *
+     * @param fields the fields of this schema, each exactly once, in their new order
+     * @return a new SchemaObject
+     * @throws IllegalArgumentException if fields is not a reordering of this schema's fields
+     */
+    public SchemaObject withFieldOrder(List<String> fields) {
+        if (fields == null || fields.size() != this.fields.size()
+                || !new HashSet<>(fields).equals(new HashSet<>(this.fields))) {
+            throw new IllegalArgumentException("New field order of schema '" + name + "' must list each field once.");
+        }
+        return new SchemaObject(this, List.copyOf(fields), fieldTypes, relationships, primaryKey, partitioning,
+                options);
+    }
+
+    /**
+     * Returns a copy of this schema with the given relationships.
+     *
+     * @param relationships the relationships declared on this table (cannot be null or contain null)
+     * @return a new SchemaObject
+     * @throws IllegalArgumentException if relationships is null or contains null
+     */
+    public SchemaObject withRelationships(List<Relationship> relationships) {
+        if (relationships == null || relationships.stream().anyMatch(Objects::isNull)) {
+            throw new IllegalArgumentException("Schema relationships cannot be null.");
+        }
+        return new SchemaObject(this, fieldTypes, List.copyOf(relationships), primaryKey, partitioning, options);
+    }
+
+    /**
+     * Returns a copy of this schema with the given primary key.
+     *
+     * @param primaryKey the primary key columns in key order, each one a field of this schema;
+     *                   empty if no key is declared
+     * @return a new SchemaObject
+     * @throws IllegalArgumentException if primaryKey is null or names a column that is not a field
+     */
+    public SchemaObject withPrimaryKey(List<String> primaryKey) {
+        if (primaryKey == null) {
+            throw new IllegalArgumentException("Schema primary key cannot be null.");
+        }
+        for (String column : primaryKey) {
+            if (!fields.contains(column)) {
+                throw new IllegalArgumentException(
+                        "Primary key column '" + column + "' is not a field of schema '" + name + "'.");
+            }
+        }
+        return new SchemaObject(this, fieldTypes, relationships, List.copyOf(primaryKey), partitioning, options);
+    }
+
+    /**
+     * Returns a copy of this schema partitioned as given.
+     *
+     * @param partitioning the partitioning, whose key columns must be fields of this schema;
+     *                     {@code null} for an unpartitioned table
+     * @return a new SchemaObject
+     * @throws IllegalArgumentException if a partition key column is not a field
+     */
+    public SchemaObject withPartitioning(Partitioning partitioning) {
+        if (partitioning != null) {
+            for (String column : partitioning.getColumns()) {
+                if (!fields.contains(column)) {
+                    throw new IllegalArgumentException(
+                            "Partition key column '" + column + "' is not a field of schema '" + name + "'.");
+                }
+            }
+        }
+        return new SchemaObject(this, fieldTypes, relationships, primaryKey, partitioning, options);
     }
 
     public String getName() {
@@ -36,8 +189,70 @@ public class SchemaObject {
         return fields;
     }
 
+    /**
+     * @return declared types keyed by field name; fields without a declared type are absent
+     */
+    public Map<String, String> getFieldTypes() {
+        return fieldTypes;
+    }
+
+    /**
+     * @param field the field name
+     * @return the declared type of the field, or {@code null} if none was declared
+     */
+    public String getFieldType(String field) {
+        return fieldTypes.get(field);
+    }
+
+    /**
+     * @return the relationships declared on this table; empty if none
+     */
+    public List<Relationship> getRelationships() {
+        return relationships;
+    }
+
+    /**
+     * @return the declared primary key columns in key order; empty if none was declared
+     */
+    public List<String> getPrimaryKey() {
+        return primaryKey;
+    }
+
+    /**
+     * @return the table's partitioning, or {@code null} if the table is not partitioned
+     */
+    public Partitioning getPartitioning() {
+        return partitioning;
+    }
+
+    /**
+     * Returns a copy of this schema with the given storage options.
+     *
+     * @param options the options (cannot be null; {@link TableOptions#NONE} for none)
+     * @return a new SchemaObject
+     * @throws IllegalArgumentException if options is null
+     */
+    public SchemaObject withOptions(TableOptions options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Schema options cannot be null.");
+        }
+        return new SchemaObject(this, fieldTypes, relationships, primaryKey, partitioning, options);
+    }
+
+    /**
+     * @return the table's storage options; {@link TableOptions#NONE} if none were declared
+     */
+    public TableOptions getOptions() {
+        return options;
+    }
+
     @Override
     public String toString() {
-        return "SchemaObject{name='" + name + "', fields=" + fields + "}";
+        return "SchemaObject{name='" + name + "', fields=" + fields
+                + (fieldTypes.isEmpty() ? "" : ", fieldTypes=" + fieldTypes)
+                + (primaryKey.isEmpty() ? "" : ", primaryKey=" + primaryKey)
+                + (partitioning == null ? "" : ", partitioning=" + partitioning)
+                + (options.isEmpty() ? "" : ", options=" + options)
+                + (relationships.isEmpty() ? "" : ", relationships=" + relationships) + "}";
     }
-}
\ No newline at end of file
+}
@@ -1,6 +1,11 @@
 package model;
 
 import java.io.File;
+import java.io.InputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.util.List;
 
 import exception.SchemaParsingException;
 import org.apache.logging.log4j.*;
@@ -12,6 +17,13 @@ import org.apache.logging.log4j.*;
  * Each implementation of this interface should provide its own logic
  * for reading and validating a schema file in a specific format.
  * </p>
+ * <p>
+ * The format is chosen by the caller through {@link ParserFactory#get(String)}, so content
+ * that is not a file (request bodies, archive entries, in-memory payloads) is parsed straight
+ * from an {@link InputStream}, a {@link ReadableByteChannel}, a {@code byte[]} or a
+ * {@link ByteBuffer}, without being staged on disk. {@link #parse(File)} is the file
+ * convenience on top of the stream method.
+ * </p>
  */
 public interface SchemaParser {
 
@@ -27,6 +39,87 @@ public interface SchemaParser {
      */
     SchemaObject parse(File schemaFile) throws SchemaParsingException;
 
+    /**
+     * Parses a schema from an already opened stream, without inspecting any file name or path.
+     * <p>
+     * The caller retains ownership of the stream: it is read as far as the parser needs
+     * and is not closed.
+     * </p>
+     *
+     * @param input      the schema content
+     * @param sourceName a description of the source used in log and error messages
+     * @return a {@link SchemaObject} created from the parsed schema
+     * @throws SchemaParsingException if parsing fails due to invalid content,
+     *                                missing fields, exceeded limits, or I/O errors
+     */
+    SchemaObject parse(InputStream input, String sourceName) throws SchemaParsingException;
+
+    /**
+     * Parses a schema from a blocking channel, which is read as far as the parser needs and not closed.
+     *
+     * @param channel    the schema content
+     * @param sourceName a description of the source used in log and error messages
+     * @return a {@link SchemaObject} created from the parsed schema
+     * @throws SchemaParsingException if parsing fails
+     */
+    default SchemaObject parse(ReadableByteChannel channel, String sourceName) throws SchemaParsingException {
+        // Closing this stream would close the channel; the parsers never close their input
+        return parse(Channels.newInputStream(channel), sourceName);
+    }
+
+    /**
+     * Parses a schema held in memory.
+     *
+     * @param content    the schema content
+     * @param sourceName a description of the source used in log and error messages
+     * @return a {@link SchemaObject} created from the parsed schema
+     * @throws SchemaParsingException if parsing fails
+     */
+    default SchemaObject parse(byte[] content, String sourceName) throws SchemaParsingException {
+        return parse(ByteBuffer.wrap(content), sourceName);
+    }
+
+    /**
+     * Parses a schema from the remaining bytes of a heap or direct buffer, without copying them.
+     * The buffer's position is left unchanged.
+     *
+     * @param content    the schema content
+     * @param sourceName a description of the source used in log and error messages
+     * @return a {@link SchemaObject} created from the parsed schema
+     * @throws SchemaParsingException if parsing fails
+     */
+    default SchemaObject parse(ByteBuffer content, String sourceName) throws SchemaParsingException {
+        return parse(new ByteBufferInputStream(content), sourceName);
+    }
+
+    /**
+     * Parses every table held by the stream, in document order.
+     * <p>
+     * Formats without a multi-table representation return the single schema
+     * read by {@link #parse(InputStream, String)}. The stream is not closed.
+     * </p>
+     *
+     * @param input      the schema content
+     * @param sourceName a description of the source used in log and error messages
+     * @return the parsed tables; never null
+     * @throws SchemaParsingException if parsing fails
+     */
+    default List<SchemaObject> parseCatalog(InputStream input, String sourceName) throws SchemaParsingException {
+        return List.of(parse(input, sourceName));
+    }
+
+    /**
+     * Parses every table held in memory, in document order.
+     *
+     * @param content    the schema content; its remaining bytes are read and its position left unchanged
+     * @param sourceName a description of the source used in log and error messages
+     * @return the parsed tables; never null
+     * @throws SchemaParsingException if parsing fails
+     */
+    default List<SchemaObject> parseCatalog(ByteBuffer content, String sourceName) throws SchemaParsingException {
+        return parseCatalog(new ByteBufferInputStream(content), sourceName);
+    }
+
     /**
      * Logs the start of schema parsing.
      */
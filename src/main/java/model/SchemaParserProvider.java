@@ -0,0 +1,25 @@
+package model;
+
+/**
+ * Service-provider interface for contributing additional schema formats to {@link ParserFactory}.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}: list the fully qualified
+ * class name in {@code META-INF/services/model.SchemaParserProvider}. Providers are only loaded
+ * when a format that is not built in is first requested.
+ * </p>
+ */
+public interface SchemaParserProvider {
+
+    /**
+     * @return the format name handled by this provider (e.g., {@code "yaml"}), matched case-insensitively
+     */
+    String format();
+
+    /**
+     * Creates the parser for {@link #format()}. Called at most once; the returned instance is
+     * shared by all callers and must therefore be stateless and thread-safe.
+     *
+     * @return a new parser instance
+     */
+    SchemaParser create();
+}
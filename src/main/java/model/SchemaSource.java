@@ -0,0 +1,215 @@
+package model;
+
+import java.io.ByteArrayInputStream;
+import java.io.Closeable;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.SequenceInputStream;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.Locale;
+
+/**
+ * A schema file opened exactly once and shared by format detection, parsing and hashing.
+ * <p>
+ * {@link #open(Path)} opens a single {@link FileChannel} and reads the first bytes to
+ * {@linkplain #getFormat() sniff the format} from the content itself, so JSON and XML files are
+ * accepted regardless of their extension. Content that is neither is attributed to the format
+ * named by the file extension, if a {@link SchemaParserProvider} plugin handles it. {@link #stream()} then replays the sniffed bytes followed by
+ * the rest of the channel, feeding every byte through a SHA-256 digest on the way; the
+ * {@linkplain #contentHash() content hash} is therefore available without a second read.
+ * No existence or permission checks are performed up front: failures surface from the
+ * single {@code open} call.
+ * </p>
+ */
+public final class SchemaSource implements Closeable {
+    private static final int SNIFF_BYTES = 512;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final byte[] head;
+    private final String format;
+    private final MessageDigest digest;
+    private InputStream stream;
+    private String contentHash;
+
+    private SchemaSource(Path path, FileChannel channel, byte[] head, String format) {
+        this.path = path;
+        this.channel = channel;
+        this.head = head;
+        this.format = format;
+        this.digest = Digests.sha256();
+    }
+
+    /**
+     * Opens the file and detects its format from the leading bytes, falling back to the extension.
+     *
+     * @param path the schema file
+     * @return an open source; the caller must close it
+     * @throws IOException              if the file cannot be opened or read
+     * @throws IllegalArgumentException if the content is neither JSON nor XML and the extension
+     *                                  names no registered format
+     */
+    public static SchemaSource open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            ByteBuffer buffer = ByteBuffer.allocate(SNIFF_BYTES);
+            while (buffer.hasRemaining() && channel.read(buffer) >= 0) {
+                // fill the sniff buffer or reach end of file
+            }
+            byte[] head = Arrays.copyOf(buffer.array(), buffer.position());
+            String format = detectFormat(head);
+            if (format == null) {
+                format = extensionFormat(path);
+            }
+            if (format == null) {
+                throw new IllegalArgumentException(
+                        "Unsupported file content: " + path.getFileName()
+                                + ". Please upload a JSON or XML schema file, or a file whose extension names a"
+                                + " supported format."
+                );
+            }
+            return new SchemaSource(path, channel, head, format);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    /**
+     * Detects the schema format from the first non-whitespace character,
+     * skipping a UTF-8 byte order mark.
+     *
+     * @param head the leading bytes of the content
+     * @return {@code "json"}, {@code "xml"}, or {@code null} if the content is not recognised
+     */
+    static String detectFormat(byte[] head) {
+        int i = firstSignificant(head);
+        if (i < 0) {
+            return null;
+        }
+        switch (head[i]) {
+            case '{':
+            case '[':
+                return "json";
+            case '<':
+                return "xml";
+            default:
+                return null;
+        }
+    }
+
+    /**
+     * @return the file extension if a plugin parser is registered for it, e.g. {@code "yaml"},
+     *         otherwise {@code null}; JSON and XML are only ever recognised by their content
+     */
+    private static String extensionFormat(Path path) {
+        Path fileName = path.getFileName();
+        String name = fileName == null ? "" : fileName.toString();
+        int dot = name.lastIndexOf('.');
+        if (dot < 0 || dot == name.length() - 1) {
+            return null;
+        }
+        String extension = name.substring(dot + 1).toLowerCase(Locale.ROOT);
+        if (extension.equals("json") || extension.equals("xml")) {
+            return null;
+        }
+        return ParserFactory.supports(extension) ? extension : null;
+    }
+
+    /**
+     * @return the index of the first byte after any byte order mark and whitespace, or -1 if none
+     */
+    private static int firstSignificant(byte[] head) {
+        int i = 0;
+        if (head.length >= 3 && (head[0] & 0xFF) == 0xEF && (head[1] & 0xFF) == 0xBB && (head[2] & 0xFF) == 0xBF) {
+            i = 3;
+        }
+        while (i < head.length && (head[i] == ' ' || head[i] == '\t' || head[i] == '\r' || head[i] == '\n')) {
+            i++;
+        }
+        return i == head.length ? -1 : i;
+    }
+
+    /**
+     * @return {@code true} if the content is JSON whose root is an array, i.e. an array-of-tables catalog
+     */
+    public boolean isJsonArray() {
+        int i = firstSignificant(head);
+        return i >= 0 && head[i] == '[';
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the detected format: {@code "json"}, {@code "xml"} or a plugin format named by the extension
+     */
+    public String getFormat() {
+        return format;
+    }
+
+    /**
+     * @return the size of the file in bytes, taken from the open channel
+     * @throws IOException if the size cannot be determined
+     */
+    public long size() throws IOException {
+        return channel.size();
+    }
+
+    /**
+     * Returns the open channel for positional reads ({@link FileChannel#read(ByteBuffer, long)}),
+     * e.g. by a {@link ParallelCatalogParser}. Positional reads leave the channel's position alone,
+     * so {@link #stream()} and {@link #contentHash()} still see the whole content afterwards.
+     *
+     * @return the channel, closed with this source
+     */
+    public FileChannel getChannel() {
+        return channel;
+    }
+
+    /**
+     * Returns the content as a stream, starting from the first byte. May only be called once.
+     * Closing the returned stream closes this source.
+     *
+     * @return the hashed content stream
+     */
+    public InputStream stream() {
+        if (stream != null) {
+            throw new IllegalStateException("The content of " + path + " has already been streamed.");
+        }
+        stream = new DigestInputStream(
+                new SequenceInputStream(new ByteArrayInputStream(head), Channels.newInputStream(channel)),
+                digest);
+        return stream;
+    }
+
+    /**
+     * Returns the SHA-256 of the whole file as lowercase hex. Bytes the parser did not consume
+     * are read from the same channel first, so the file is still only opened once.
+     *
+     * @return the content hash
+     * @throws IOException if the remaining content cannot be read
+     */
+    public String contentHash() throws IOException {
+        if (contentHash == null) {
+            InputStream in = stream != null ? stream : stream();
+            in.transferTo(OutputStream.nullOutputStream());
+            contentHash = Digests.hex(digest.digest());
+        }
+        return contentHash;
+    }
+
+    @Override
+    public void close() throws IOException {
+        channel.close();
+    }
+}
@@ -1,12 +1,14 @@
 package model;
 
+import java.util.Collection;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 /**
  * Validates {@link SchemaModel} and its contained {@link SchemaObject}.
- * Ensures that schema name and fields are present and consistent.
+ * Ensures that schema name and fields are present and consistent, and that a partitioned
+ * table's partition key is part of its primary key.
  */
 public class SchemaValidator {
 
@@ -51,5 +53,69 @@ public class SchemaValidator {
                 );
             }
         }
+
+        validatePartitioning(schema);
+    }
+
+    /**
+     * Checks that every partition key column belongs to the table's primary key, declared or
+     * {@linkplain TableKeys#primaryKey inferred}, since MySQL requires each unique key of a
+     * partitioned table to contain the whole partition key. The primary key is the only unique key
+     * the generators emit. Unpartitioned tables and tables without a primary key always pass.
+     *
+     * @param schema the schema to check
+     * @throws IllegalArgumentException if a partition key column is missing from the primary key
+     */
+    public void validatePartitioning(SchemaObject schema) {
+        Partitioning partitioning = schema.getPartitioning();
+        if (partitioning == null) {
+            return;
+        }
+        List<String> primaryKey = TableKeys.primaryKey(schema);
+        if (primaryKey.isEmpty()) {
+            return;
+        }
+        for (String column : partitioning.getColumns()) {
+            if (!primaryKey.contains(column)) {
+                throw new IllegalArgumentException(
+                    "Schema validation failed: partition key column '" + column + "' of schema '" + schema.getName()
+                        + "' must be part of its primary key " + primaryKey + "."
+                );
+            }
+        }
+    }
+
+    /**
+     * Checks that no unpartitioned table has a foreign key to a partitioned table of the same
+     * catalog, since MySQL cannot reference a partitioned table. Partitioned tables are not
+     * checked: their own foreign keys are never generated.
+     *
+     * @param schemas the tables generated together
+     * @throws IllegalArgumentException if a table has a foreign key to a partitioned table
+     */
+    public void validatePartitionedReferences(Collection<SchemaObject> schemas) {
+        Set<String> partitioned = new HashSet<>();
+        for (SchemaObject schema : schemas) {
+            if (schema.getPartitioning() != null) {
+                partitioned.add(schema.getName());
+            }
+        }
+        if (partitioned.isEmpty()) {
+            return;
+        }
+        for (SchemaObject schema : schemas) {
+            if (schema.getPartitioning() != null) {
+                continue;
+            }
+            for (TableKeys.ForeignKey foreignKey : TableKeys.foreignKeys(schema)) {
+                if (partitioned.contains(foreignKey.getReferencedTable())) {
+                    throw new IllegalArgumentException(
+                        "Schema validation failed: schema '" + schema.getName() + "' has a foreign key on '"
+                            + foreignKey.getColumn() + "' to partitioned schema '" + foreignKey.getReferencedTable()
+                            + "', which MySQL does not support."
+                    );
+                }
+            }
+        }
     }
 }
\ No newline at end of file
@@ -0,0 +1,289 @@
+package model;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonGenerator;
+
+import java.io.IOException;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.ToLongFunction;
+
+/**
+ * Splits a catalog's script into shards that deploy tooling can apply over several connections.
+ * <p>
+ * Tables are first grouped into {@linkplain TableDependencies#levels(List) dependency levels};
+ * each level becomes a <em>phase</em>. Shards in the same phase never depend on each other and
+ * can run concurrently, while a phase may only start once the shards it {@linkplain Shard#getDependsOn()
+ * depends on} have finished (in the simplest scheduling, once the previous phase has). Within a
+ * shard, tables keep their catalog order.
+ * </p>
+ * <ul>
+ *     <li>{@link Strategy#SIZE} splits every phase into at most {@code N} shards of similar size
+ *         (largest table first into the smallest shard), so a catalog without relationships
+ *         becomes exactly {@code N} balanced shards.</li>
+ *     <li>{@link Strategy#LEVEL} writes one shard per dependency level.</li>
+ * </ul>
+ * <p>
+ * Tables caught in a dependency cycle form a final phase that is always a single shard.
+ * {@link #toJson(String)} renders the plan as the manifest written next to the shards.
+ * </p>
+ */
+public final class ShardPlan {
+    /** Version of the manifest layout produced by {@link #toJson(String)}. */
+    public static final int MANIFEST_VERSION = 1;
+
+    /**
+     * How tables are distributed over shards.
+     */
+    public enum Strategy {
+        SIZE,
+        LEVEL
+    }
+
+    /**
+     * One shard: a script file holding the DDL of some tables, in order.
+     */
+    public static final class Shard {
+        private final String file;
+        private final int phase;
+        private final List<SchemaObject> tables;
+        private final long bytes;
+        private final List<String> dependsOn;
+
+        private Shard(String file, int phase, List<SchemaObject> tables, long bytes, List<String> dependsOn) {
+            this.file = file;
+            this.phase = phase;
+            this.tables = tables;
+            this.bytes = bytes;
+            this.dependsOn = dependsOn;
+        }
+
+        /**
+         * @return the shard's file name, which also identifies it in the manifest
+         */
+        public String getFile() {
+            return file;
+        }
+
+        /**
+         * @return the zero-based phase; shards of one phase may run concurrently
+         */
+        public int getPhase() {
+            return phase;
+        }
+
+        public List<SchemaObject> getTables() {
+            return tables;
+        }
+
+        /**
+         * @return the total script size of the shard's tables
+         */
+        public long getBytes() {
+            return bytes;
+        }
+
+        /**
+         * @return the files of the shards that must complete before this one starts
+         */
+        public List<String> getDependsOn() {
+            return dependsOn;
+        }
+    }
+
+    private final Strategy strategy;
+    private final List<Shard> shards;
+    private final int phases;
+
+    private ShardPlan(Strategy strategy, List<Shard> shards, int phases) {
+        this.strategy = strategy;
+        this.shards = shards;
+        this.phases = phases;
+    }
+
+    /**
+     * Plans the shards for a catalog.
+     *
+     * @param tables     the catalog
+     * @param sizeOf     the script size of a table, used for balancing and reported in the manifest
+     * @param strategy   how tables are distributed
+     * @param shardCount the maximum number of shards per phase for {@link Strategy#SIZE}; ignored for LEVEL
+     * @return the plan
+     * @throws IllegalArgumentException if {@code shardCount} is not positive
+     */
+    public static ShardPlan plan(List<SchemaObject> tables, ToLongFunction<SchemaObject> sizeOf,
+                                 Strategy strategy, int shardCount) {
+        if (shardCount <= 0) {
+            throw new IllegalArgumentException("Shard count must be positive, got: " + shardCount);
+        }
+        Map<String, Set<String>> prerequisites = TableDependencies.of(tables);
+        List<List<SchemaObject>> levels = TableDependencies.levels(tables);
+
+        List<List<SchemaObject>> groups = new ArrayList<>();
+        List<Integer> groupPhases = new ArrayList<>();
+        for (int phase = 0; phase < levels.size(); phase++) {
+            List<SchemaObject> level = levels.get(phase);
+            Set<String> names = new HashSet<>();
+            level.forEach(table -> names.add(table.getName()));
+            boolean cyclic = level.stream()
+                    .anyMatch(table -> prerequisites.get(table.getName()).stream().anyMatch(names::contains));
+            int split = strategy == Strategy.LEVEL || cyclic ? 1 : Math.min(shardCount, level.size());
+            for (List<SchemaObject> group : balance(level, sizeOf, split)) {
+                groups.add(group);
+                groupPhases.add(phase);
+            }
+        }
+
+        String pattern = "shard-%0" + Math.max(3, String.valueOf(groups.size()).length()) + "d.sql";
+        Map<String, String> fileOf = new HashMap<>();
+        List<String> files = new ArrayList<>();
+        for (int i = 0; i < groups.size(); i++) {
+            String file = String.format(Locale.ROOT, pattern, i + 1);
+            files.add(file);
+            for (SchemaObject table : groups.get(i)) {
+                fileOf.putIfAbsent(table.getName(), file);
+            }
+        }
+
+        List<Shard> shards = new ArrayList<>();
+        for (int i = 0; i < groups.size(); i++) {
+            Set<String> dependsOn = new LinkedHashSet<>();
+            long bytes = 0;
+            for (SchemaObject table : groups.get(i)) {
+                bytes += sizeOf.applyAsLong(table);
+                for (String prerequisite : prerequisites.get(table.getName())) {
+                    dependsOn.add(fileOf.get(prerequisite));
+                }
+            }
+            dependsOn.remove(files.get(i));
+            shards.add(new Shard(files.get(i), groupPhases.get(i), List.copyOf(groups.get(i)), bytes,
+                    List.copyOf(dependsOn)));
+        }
+        return new ShardPlan(strategy, Collections.unmodifiableList(shards), levels.size());
+    }
+
+    /**
+     * Distributes a level over {@code split} groups of similar total size, keeping catalog order
+     * inside each group and dropping empty groups.
+     */
+    private static List<List<SchemaObject>> balance(List<SchemaObject> level, ToLongFunction<SchemaObject> sizeOf,
+                                                    int split) {
+        if (split == 1) {
+            return List.of(level);
+        }
+        Map<SchemaObject, Integer> position = new HashMap<>();
+        for (int i = 0; i < level.size(); i++) {
+            position.put(level.get(i), i);
+        }
+        List<SchemaObject> largestFirst = new ArrayList<>(level);
+        largestFirst.sort(Comparator.comparingLong(sizeOf).reversed());
+
+        List<List<SchemaObject>> groups = new ArrayList<>();
+        long[] loads = new long[split];
+        for (int g = 0; g < split; g++) {
+            groups.add(new ArrayList<>());
+        }
+        for (SchemaObject table : largestFirst) {
+            int lightest = 0;
+            for (int g = 1; g < split; g++) {
+                if (loads[g] < loads[lightest]) {
+                    lightest = g;
+                }
+            }
+            groups.get(lightest).add(table);
+            loads[lightest] += sizeOf.applyAsLong(table);
+        }
+        groups.removeIf(List::isEmpty);
+        for (List<SchemaObject> group : groups) {
+            group.sort(Comparator.comparingInt(position::get));
+        }
+        return groups;
+    }
+
+    public Strategy getStrategy() {
+        return strategy;
+    }
+
+    /**
+     * @return the shards ordered by phase
+     */
+    public List<Shard> getShards() {
+        return shards;
+    }
+
+    /**
+     * @return the number of phases
+     */
+    public int getPhaseCount() {
+        return phases;
+    }
+
+    /**
+     * Renders the manifest describing which shards may run concurrently and which must wait:
+     * <pre>
+     * {"version":1,"dialect":"mysql","strategy":"size",
+     *  "phases":[["shard-001.sql","shard-002.sql"],["shard-003.sql"]],
+     *  "shards":[{"file":"shard-003.sql","phase":1,"bytes":120,"tables":["enrollment"],
+     *             "dependsOn":["shard-001.sql","shard-002.sql"]}, ...]}
+     * </pre>
+     *
+     * @param dialect the SQL dialect the shards were generated for
+     * @return the manifest as JSON
+     */
+    public String toJson(String dialect) {
+        StringWriter out = new StringWriter();
+        try (JsonGenerator json = new JsonFactory().createGenerator(out)) {
+            json.useDefaultPrettyPrinter();
+            json.writeStartObject();
+            json.writeNumberField("version", MANIFEST_VERSION);
+            json.writeStringField("dialect", dialect);
+            json.writeStringField("strategy", strategy.name().toLowerCase(Locale.ROOT));
+
+            json.writeArrayFieldStart("phases");
+            for (int phase = 0; phase < phases; phase++) {
+                json.writeStartArray();
+                for (Shard shard : shards) {
+                    if (shard.getPhase() == phase) {
+                        json.writeString(shard.getFile());
+                    }
+                }
+                json.writeEndArray();
+            }
+            json.writeEndArray();
+
+            json.writeArrayFieldStart("shards");
+            for (Shard shard : shards) {
+                json.writeStartObject();
+                json.writeStringField("file", shard.getFile());
+                json.writeNumberField("phase", shard.getPhase());
+                json.writeNumberField("bytes", shard.getBytes());
+                json.writeArrayFieldStart("tables");
+                for (SchemaObject table : shard.getTables()) {
+                    json.writeString(table.getName());
+                }
+                json.writeEndArray();
+                json.writeArrayFieldStart("dependsOn");
+                for (String file : shard.getDependsOn()) {
+                    json.writeString(file);
+                }
+                json.writeEndArray();
+                json.writeEndObject();
+            }
+            json.writeEndArray();
+            json.writeEndObject();
+        } catch (IOException e) {
+            throw new UncheckedIOException("In-memory write failed", e);
+        }
+        return out.toString();
+    }
+}
@@ -0,0 +1,25 @@
+package model;
+
+/**
+ * Service-provider interface for contributing additional SQL dialects to {@link GeneratorFactory}.
+ * <p>
+ * Implementations are discovered with {@link java.util.ServiceLoader}: list the fully qualified
+ * class name in {@code META-INF/services/model.SqlGeneratorProvider}. Providers are only loaded
+ * when a dialect that is not built in is first requested.
+ * </p>
+ */
+public interface SqlGeneratorProvider {
+
+    /**
+     * @return the dialect name handled by this provider (e.g., {@code "sqlite"}), matched case-insensitively
+     */
+    String dialect();
+
+    /**
+     * Creates the generator for {@link #dialect()}. Called at most once; the returned instance is
+     * shared by all callers and must therefore be stateless and thread-safe.
+     *
+     * @return a new generator instance
+     */
+    ISqlGenerator create();
+}
@@ -0,0 +1,115 @@
+package model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Derives the creation order of a catalog's tables from their declared {@link Relationship}s.
+ * <p>
+ * A table depends on every table its foreign keys reference: the related table of a
+ * many-to-one or one-to-one relationship, the declaring table for the related side of a
+ * one-to-many relationship, and both sides for the junction table of a many-to-many
+ * relationship. References to tables outside the catalog and self-references are ignored.
+ * </p>
+ */
+public final class TableDependencies {
+    private static final Logger logger = LogManager.getLogger(TableDependencies.class);
+
+    private TableDependencies() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    /**
+     * @param tables the catalog
+     * @return for every table name, the names of the tables that must exist before it, in catalog order
+     */
+    public static Map<String, Set<String>> of(List<SchemaObject> tables) {
+        Map<String, Set<String>> prerequisites = new LinkedHashMap<>();
+        for (SchemaObject table : tables) {
+            prerequisites.putIfAbsent(table.getName(), new LinkedHashSet<>());
+        }
+        for (SchemaObject table : tables) {
+            String name = table.getName();
+            for (Relationship relationship : table.getRelationships()) {
+                String related = relationship.getRelatedTable();
+                switch (relationship.getType()) {
+                    case Relationship.ONE_TO_MANY -> add(prerequisites, related, name);
+                    case Relationship.MANY_TO_MANY -> {
+                        String through = relationship.getThroughTable();
+                        if (through != null) {
+                            add(prerequisites, through, name);
+                            add(prerequisites, through, related);
+                        }
+                    }
+                    default -> add(prerequisites, name, related);
+                }
+            }
+        }
+        return prerequisites;
+    }
+
+    private static void add(Map<String, Set<String>> prerequisites, String table, String prerequisite) {
+        Set<String> required = prerequisites.get(table);
+        if (required != null && prerequisites.containsKey(prerequisite) && !table.equals(prerequisite)) {
+            required.add(prerequisite);
+        }
+    }
+
+    /**
+     * Groups the tables into dependency levels: level 0 depends on nothing, and every table in level
+     * {@code k} depends only on tables in earlier levels. Tables keep their catalog order within a
+     * level. Tables caught in a dependency cycle cannot be ordered and are returned together as a
+     * final level.
+     *
+     * @param tables the catalog
+     * @return the levels, in creation order
+     */
+    public static List<List<SchemaObject>> levels(List<SchemaObject> tables) {
+        Map<String, Set<String>> prerequisites = of(tables);
+        Set<String> placed = new LinkedHashSet<>();
+        List<SchemaObject> remaining = new ArrayList<>(tables);
+        List<List<SchemaObject>> levels = new ArrayList<>();
+
+        while (!remaining.isEmpty()) {
+            List<SchemaObject> level = new ArrayList<>();
+            List<SchemaObject> deferred = new ArrayList<>();
+            for (SchemaObject table : remaining) {
+                (placed.containsAll(prerequisites.get(table.getName())) ? level : deferred).add(table);
+            }
+            if (level.isEmpty()) {
+                logger.warn("Tables {} form a dependency cycle; they are placed in one final level.",
+                        remaining.stream().map(SchemaObject::getName).toList());
+                levels.add(List.copyOf(remaining));
+                break;
+            }
+            for (SchemaObject table : level) {
+                placed.add(table.getName());
+            }
+            remaining = deferred;
+            levels.add(List.copyOf(level));
+        }
+        return levels;
+    }
+
+    /**
+     * Orders the tables so that every table follows the tables it references, keeping catalog order
+     * otherwise; this is the order in which a single script can create them with their foreign keys.
+     *
+     * @param tables the catalog
+     * @return the tables in creation order
+     */
+    public static List<SchemaObject> creationOrder(List<SchemaObject> tables) {
+        List<SchemaObject> ordered = new ArrayList<>(tables.size());
+        for (List<SchemaObject> level : levels(tables)) {
+            ordered.addAll(level);
+        }
+        return ordered;
+    }
+}
@@ -0,0 +1,164 @@
+package model;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Derives the keys and supporting indexes of a table for constraint generation.
+ * <ul>
+ *     <li><b>Primary key</b>: the declared key; otherwise a column named {@code id} or
+ *         {@code <table>_id}; otherwise, for a junction table (two or more foreign key columns),
+ *         the composite of its foreign key columns.</li>
+ *     <li><b>Foreign keys</b>: one per many-to-one or one-to-one relationship whose
+ *         {@code foreignKey} column belongs to the table, referencing the related table's
+ *         {@code relatedForeignKey} column (or the column of the same name). One-to-many and
+ *         many-to-many declarations describe the other side of a relationship; the table holding
+ *         the column is expected to declare the matching many-to-one.</li>
+ *     <li><b>Secondary indexes</b>: one per foreign key column, plus, on junction tables, a
+ *         composite index leading with each foreign key column so lookups from either side are
+ *         covered. Any index that is a leftmost prefix of the primary key or of another index is
+ *         redundant and dropped.</li>
+ * </ul>
+ */
+public final class TableKeys {
+    private static final Logger logger = LogManager.getLogger(TableKeys.class);
+
+    private TableKeys() {
+        throw new UnsupportedOperationException("Utility class- cannot be instantiated");
+    }
+
+    /**
+     * A foreign key from one column of a table to a column of another table.
+     */
+    public static final class ForeignKey {
+        private final String column;
+        private final String referencedTable;
+        private final String referencedColumn;
+
+        ForeignKey(String column, String referencedTable, String referencedColumn) {
+            this.column = column;
+            this.referencedTable = referencedTable;
+            this.referencedColumn = referencedColumn;
+        }
+
+        public String getColumn() {
+            return column;
+        }
+
+        public String getReferencedTable() {
+            return referencedTable;
+        }
+
+        public String getReferencedColumn() {
+            return referencedColumn;
+        }
+    }
+
+    /**
+     * @param schema the table
+     * @return the declared or inferred primary key columns; empty if none can be determined
+     */
+    public static List<String> primaryKey(SchemaObject schema) {
+        if (!schema.getPrimaryKey().isEmpty()) {
+            return schema.getPrimaryKey();
+        }
+        String conventional = schema.getName() + "_id";
+        for (String field : schema.getFields()) {
+            if (field.equalsIgnoreCase("id") || field.equalsIgnoreCase(conventional)) {
+                return List.of(field);
+            }
+        }
+        List<String> foreignKeyColumns = foreignKeyColumns(schema);
+        return foreignKeyColumns.size() >= 2 ? foreignKeyColumns : List.of();
+    }
+
+    /**
+     * @param schema the table
+     * @return the foreign keys held by the table, in declaration order, one per column
+     */
+    public static List<ForeignKey> foreignKeys(SchemaObject schema) {
+        List<ForeignKey> foreignKeys = new ArrayList<>();
+        Set<String> columns = new LinkedHashSet<>();
+        for (Relationship relationship : schema.getRelationships()) {
+            String type = relationship.getType();
+            if (!Relationship.MANY_TO_ONE.equals(type) && !Relationship.ONE_TO_ONE.equals(type)) {
+                continue;
+            }
+            String column = relationship.getForeignKey();
+            if (column == null || !schema.getFields().contains(column)) {
+                logger.debug("Skipping foreign key of '{}' to '{}': column '{}' is not a field of the table.",
+                        schema.getName(), relationship.getRelatedTable(), column);
+                continue;
+            }
+            if (columns.add(column)) {
+                String referenced = relationship.getRelatedForeignKey() != null
+                        ? relationship.getRelatedForeignKey()
+                        : column;
+                foreignKeys.add(new ForeignKey(column, relationship.getRelatedTable(), referenced));
+            }
+        }
+        return foreignKeys;
+    }
+
+    /**
+     * @param schema the table
+     * @return the secondary indexes to create, each a list of columns, with redundant prefixes removed
+     */
+    public static List<List<String>> secondaryIndexes(SchemaObject schema) {
+        List<String> foreignKeyColumns = foreignKeyColumns(schema);
+        Set<List<String>> candidates = new LinkedHashSet<>();
+        for (String column : foreignKeyColumns) {
+            candidates.add(List.of(column));
+        }
+        if (foreignKeyColumns.size() >= 2) {
+            for (String leading : foreignKeyColumns) {
+                List<String> composite = new ArrayList<>();
+                composite.add(leading);
+                for (String column : foreignKeyColumns) {
+                    if (!column.equals(leading)) {
+                        composite.add(column);
+                    }
+                }
+                candidates.add(List.copyOf(composite));
+            }
+        }
+        return withoutRedundantPrefixes(new ArrayList<>(candidates), primaryKey(schema));
+    }
+
+    /**
+     * Removes every index that equals or is a leftmost prefix of the primary key or of another index,
+     * since those already serve the same lookups.
+     */
+    static List<List<String>> withoutRedundantPrefixes(List<List<String>> indexes, List<String> primaryKey) {
+        List<List<String>> kept = new ArrayList<>();
+        for (List<String> index : indexes) {
+            boolean redundant = isPrefix(index, primaryKey);
+            for (int i = 0; i < indexes.size() && !redundant; i++) {
+                List<String> other = indexes.get(i);
+                redundant = other != index && other.size() > index.size() && isPrefix(index, other);
+            }
+            if (!redundant) {
+                kept.add(index);
+            }
+        }
+        return kept;
+    }
+
+    private static boolean isPrefix(List<String> prefix, List<String> columns) {
+        return !prefix.isEmpty() && prefix.size() <= columns.size()
+                && columns.subList(0, prefix.size()).equals(prefix);
+    }
+
+    private static List<String> foreignKeyColumns(SchemaObject schema) {
+        List<String> columns = new ArrayList<>();
+        for (ForeignKey foreignKey : foreignKeys(schema)) {
+            columns.add(foreignKey.getColumn());
+        }
+        return columns;
+    }
+}
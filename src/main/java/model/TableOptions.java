@@ -0,0 +1,169 @@
+package model;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * Storage options of a table, such as its engine, row format or compression.
+ * <p>
+ * Options are keyed by a dialect-neutral name; each {@link ISqlGenerator} emits the ones its
+ * dialect understands and ignores the rest, so one schema can carry the settings for several
+ * targets. Names are matched case-insensitively and without separators, so {@code rowFormat},
+ * {@code row_format} and {@code ROW-FORMAT} are the same option.
+ * </p>
+ * <ul>
+ *     <li>{@link #ENGINE}: MySQL storage engine, e.g. {@code InnoDB}.</li>
+ *     <li>{@link #ROW_FORMAT}: MySQL row format, one of {@code DEFAULT}, {@code DYNAMIC}, {@code FIXED},
+ *         {@code COMPRESSED}, {@code REDUNDANT} or {@code COMPACT}.</li>
+ *     <li>{@link #KEY_BLOCK_SIZE}: MySQL compressed page size in KB: 1, 2, 4, 8 or 16.</li>
+ *     <li>{@link #CHARSET} and {@link #COLLATE}: default character set and collation
+ *         ({@code characterSet} and {@code collation} are accepted as aliases).</li>
+ *     <li>{@link #FILLFACTOR}: PostgreSQL fill factor, 10 to 100.</li>
+ *     <li>{@link #COMPRESS}: Oracle table compression: {@code true}, {@code false}, {@code basic} or
+ *         {@code advanced}.</li>
+ * </ul>
+ * <p>
+ * Values are validated when the options are created, because generators copy them into the script.
+ * Instances are immutable.
+ * </p>
+ */
+public final class TableOptions {
+    public static final String ENGINE = "ENGINE";
+    public static final String ROW_FORMAT = "ROW_FORMAT";
+    public static final String KEY_BLOCK_SIZE = "KEY_BLOCK_SIZE";
+    public static final String CHARSET = "CHARSET";
+    public static final String COLLATE = "COLLATE";
+    public static final String FILLFACTOR = "FILLFACTOR";
+    public static final String COMPRESS = "COMPRESS";
+
+    /** Options of a table that declares none. */
+    public static final TableOptions NONE = new TableOptions(Map.of());
+
+    private static final List<String> NAMES = List.of(ENGINE, ROW_FORMAT, KEY_BLOCK_SIZE, CHARSET, COLLATE,
+            FILLFACTOR, COMPRESS);
+    private static final Map<String, String> ALIASES = Map.of(
+            "CHARACTERSET", CHARSET,
+            "DEFAULTCHARSET", CHARSET,
+            "COLLATION", COLLATE);
+    private static final Pattern NAME_VALUE = Pattern.compile("[A-Za-z][A-Za-z0-9_]{0,63}");
+    private static final List<String> ROW_FORMATS = List.of("DEFAULT", "DYNAMIC", "FIXED", "COMPRESSED",
+            "REDUNDANT", "COMPACT");
+    private static final List<String> KEY_BLOCK_SIZES = List.of("1", "2", "4", "8", "16");
+    private static final List<String> COMPRESS_MODES = List.of("TRUE", "FALSE", "BASIC", "ADVANCED");
+
+    private final Map<String, String> options;
+
+    /**
+     * Creates validated options.
+     *
+     * @param options option values keyed by option name (cannot be null)
+     * @throws IllegalArgumentException if an option is unknown or has an invalid value
+     */
+    public TableOptions(Map<String, String> options) {
+        if (options == null) {
+            throw new IllegalArgumentException("Table options cannot be null.");
+        }
+        Map<String, String> normalized = new LinkedHashMap<>();
+        for (Map.Entry<String, String> option : options.entrySet()) {
+            String name = canonicalName(option.getKey());
+            normalized.put(name, validate(name, option.getValue()));
+        }
+        this.options = normalized.isEmpty() ? Map.of() : Collections.unmodifiableMap(normalized);
+    }
+
+    /**
+     * @param name an option name in any accepted spelling
+     * @return the canonical option name, one of the constants of this class
+     * @throws IllegalArgumentException if the name is not a known option
+     */
+    public static String canonicalName(String name) {
+        if (name != null) {
+            String key = name.replaceAll("[^A-Za-z]", "").toUpperCase(Locale.ROOT);
+            for (String known : NAMES) {
+                if (known.replace("_", "").equals(key)) {
+                    return known;
+                }
+            }
+            if (ALIASES.containsKey(key)) {
+                return ALIASES.get(key);
+            }
+        }
+        throw new IllegalArgumentException("Unknown table option '" + name + "'; expected one of "
+                + String.join(", ", NAMES) + ".");
+    }
+
+    private static String validate(String name, String value) {
+        if (value == null || value.trim().isEmpty()) {
+            throw new IllegalArgumentException("Table option " + name + " needs a value.");
+        }
+        String trimmed = value.trim();
+        String upper = trimmed.toUpperCase(Locale.ROOT);
+        boolean valid;
+        switch (name) {
+            case ROW_FORMAT:
+                valid = ROW_FORMATS.contains(upper);
+                trimmed = upper;
+                break;
+            case KEY_BLOCK_SIZE:
+                valid = KEY_BLOCK_SIZES.contains(trimmed);
+                break;
+            case FILLFACTOR:
+                valid = trimmed.matches("\\d{2,3}") && Integer.parseInt(trimmed) >= 10 && Integer.parseInt(trimmed) <= 100;
+                break;
+            case COMPRESS:
+                valid = COMPRESS_MODES.contains(upper);
+                trimmed = upper;
+                break;
+            default:
+                valid = NAME_VALUE.matcher(trimmed).matches();
+                break;
+        }
+        if (!valid) {
+            throw new IllegalArgumentException("Invalid value '" + value + "' for table option " + name + ".");
+        }
+        return trimmed;
+    }
+
+    /**
+     * @param name the canonical option name
+     * @return the option value, or {@code null} if the option is not set
+     */
+    public String get(String name) {
+        return options.get(name);
+    }
+
+    /**
+     * @return the options keyed by canonical name, in declaration order; unmodifiable
+     */
+    public Map<String, String> asMap() {
+        return options;
+    }
+
+    public boolean isEmpty() {
+        return options.isEmpty();
+    }
+
+    /**
+     * Combines these options with catalog-wide defaults; options set here win.
+     *
+     * @param defaults the defaults
+     * @return the combined options
+     */
+    public TableOptions withDefaults(TableOptions defaults) {
+        if (defaults.isEmpty()) {
+            return this;
+        }
+        Map<String, String> merged = new LinkedHashMap<>(defaults.options);
+        merged.putAll(options);
+        return new TableOptions(merged);
+    }
+
+    @Override
+    public String toString() {
+        return options.toString();
+    }
+}
@@ -0,0 +1,676 @@
+package model;
+
+import com.fasterxml.jackson.core.JsonFactory;
+import com.fasterxml.jackson.core.JsonParser;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.JsonToken;
+import exception.SchemaParsingException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Reader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.DigestInputStream;
+import java.security.MessageDigest;
+import java.time.DateTimeException;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Infers column types from sample data so tables are not created with {@code VARCHAR(255)} everywhere.
+ * <p>
+ * Sample files are CSV (with a header row naming the columns) or newline-delimited JSON (one object
+ * per line), found in a sample directory as {@code <table>.csv}, {@code <table>.ndjson} or
+ * {@code <table>.jsonl}, or split as {@code <table>.<part>.csv} and so on. Every file is streamed on
+ * its own {@link ForkJoinPool} task and the per-file statistics are merged, so a table's samples can
+ * be spread over many files and scanned in parallel.
+ * </p>
+ * <p>
+ * Each column keeps a fixed set of counters ({@link ColumnStats}) however many rows are scanned,
+ * and the narrowest type that fits every non-empty value is chosen:
+ * {@code TINYINT}, {@code SMALLINT}, {@code MEDIUMINT}, {@code INT} or {@code BIGINT} for integers,
+ * {@code DECIMAL(p,s)} for fixed-point numbers, {@code DATE} for ISO dates, {@code BOOLEAN} for
+ * JSON {@code true}/{@code false} and {@code VARCHAR(n)} sized to the longest value otherwise.
+ * Columns without sample values and columns with a declared type keep what the schema already had.
+ * </p>
+ * <p>
+ * Text longer than {@link ColumnStats#MAX_VARCHAR_LENGTH} characters becomes {@code TEXT} (or
+ * {@code MEDIUMTEXT} past what {@code TEXT} holds). MySQL also limits the {@code VARCHAR} columns of
+ * a row to {@value #MAX_ROW_BYTES} bytes together, counted at four bytes per character under
+ * {@code utf8mb4}; when the inferred and declared {@code VARCHAR}s of a table exceed that, the widest
+ * inferred ones become {@code TEXT} until the rest fit.
+ * </p>
+ */
+public final class TypeInference {
+    /** Sample file extensions read as CSV. */
+    static final List<String> CSV_EXTENSIONS = List.of(".csv");
+    /** Sample file extensions read as newline-delimited JSON. */
+    static final List<String> NDJSON_EXTENSIONS = List.of(".ndjson", ".jsonl");
+    /** MySQL's limit on the combined size of a row's columns, {@code TEXT} and {@code BLOB}s aside. */
+    static final int MAX_ROW_BYTES = 65535;
+    /** Bytes a character may take under {@code utf8mb4}. */
+    private static final int BYTES_PER_CHAR = 4;
+    private static final Pattern VARCHAR = Pattern.compile("(?i)\\s*VARCHAR\\s*\\(\\s*(\\d+)\\s*\\)\\s*");
+    private static final JsonFactory JSON_FACTORY = new JsonFactory();
+    private static final Logger logger = LogManager.getLogger(TypeInference.class);
+
+    private final ForkJoinPool pool;
+
+    /**
+     * Creates an inference stage that scans samples on the common fork-join pool.
+     */
+    public TypeInference() {
+        this(ForkJoinPool.commonPool());
+    }
+
+    /**
+     * @param pool the pool the sample files are scanned on
+     */
+    public TypeInference(ForkJoinPool pool) {
+        this.pool = pool;
+    }
+
+    /**
+     * Attaches inferred types to every table that has samples in {@code sampleDir}.
+     * All sample files of all tables are scanned concurrently.
+     *
+     * @param tables    the catalog
+     * @param sampleDir the directory holding the sample files
+     * @return the tables in the same order, typed where samples were found
+     * @throws IOException            if the directory or a sample file cannot be read
+     * @throws SchemaParsingException if a sample file is malformed
+     */
+    public List<SchemaObject> applyAll(List<SchemaObject> tables, Path sampleDir)
+            throws IOException, SchemaParsingException {
+        Map<String, List<Path>> samples = samplesByTable(tables, sampleDir);
+        List<ForkJoinTask<ColumnStats[]>> tasks = new ArrayList<>();
+        List<SchemaObject> owners = new ArrayList<>();
+        for (SchemaObject table : tables) {
+            for (Path sample : samples.getOrDefault(table.getName(), List.of())) {
+                tasks.add(pool.submit(ForkJoinTask.adapt(() -> scan(table.getFields(), sample))));
+                owners.add(table);
+            }
+        }
+
+        Map<SchemaObject, ColumnStats[]> merged = new HashMap<>();
+        for (int i = 0; i < tasks.size(); i++) {
+            ColumnStats[] stats = await(tasks.get(i));
+            merged.merge(owners.get(i), stats, TypeInference::merge);
+        }
+
+        List<SchemaObject> typed = new ArrayList<>(tables.size());
+        for (SchemaObject table : tables) {
+            ColumnStats[] stats = merged.get(table);
+            typed.add(stats == null ? table : withInferredTypes(table, stats));
+        }
+        logger.info("Inferred column types for {} of {} tables from {} sample files in {}",
+                merged.size(), tables.size(), tasks.size(), sampleDir);
+        return typed;
+    }
+
+    /**
+     * Hashes every sample file {@link #applyAll(List, Path)} could read from {@code sampleDir},
+     * names and content, so callers can tell when inferred types may have changed.
+     *
+     * @param sampleDir the directory holding the sample files
+     * @return the SHA-256 of the sample files as lowercase hex
+     * @throws IOException if the directory or a sample file cannot be read
+     */
+    public static String samplesHash(Path sampleDir) throws IOException {
+        if (!Files.isDirectory(sampleDir)) {
+            throw new IOException("Sample directory not found: " + sampleDir);
+        }
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(sampleDir, Files::isRegularFile)) {
+            for (Path file : entries) {
+                if (formatOf(file.getFileName().toString()) != null) {
+                    files.add(file);
+                }
+            }
+        }
+        files.sort(null);
+        MessageDigest digest = Digests.sha256();
+        byte[] separator = {0};
+        for (Path file : files) {
+            digest.update(file.getFileName().toString().getBytes(StandardCharsets.UTF_8));
+            digest.update(separator);
+            try (InputStream in = new DigestInputStream(Files.newInputStream(file), digest)) {
+                in.transferTo(OutputStream.nullOutputStream());
+            }
+            digest.update(separator);
+        }
+        return Digests.hex(digest.digest());
+    }
+
+    /**
+     * Attaches types inferred from the given sample files to one table.
+     *
+     * @param table   the table
+     * @param samples CSV or NDJSON sample files of the table
+     * @return the table with inferred types for the columns that had none declared
+     * @throws IOException            if a sample file cannot be read
+     * @throws SchemaParsingException if a sample file is malformed or of an unknown format
+     */
+    public SchemaObject apply(SchemaObject table, List<Path> samples) throws IOException, SchemaParsingException {
+        List<ForkJoinTask<ColumnStats[]>> tasks = new ArrayList<>();
+        for (Path sample : samples) {
+            tasks.add(pool.submit(ForkJoinTask.adapt(() -> scan(table.getFields(), sample))));
+        }
+        ColumnStats[] merged = null;
+        for (ForkJoinTask<ColumnStats[]> task : tasks) {
+            ColumnStats[] stats = await(task);
+            merged = merged == null ? stats : merge(merged, stats);
+        }
+        return merged == null ? table : withInferredTypes(table, merged);
+    }
+
+    /**
+     * Finds the sample files of each table: {@code <table>.<ext>} and {@code <table>.<part>.<ext>}
+     * for the CSV and NDJSON extensions, in file name order.
+     */
+    static Map<String, List<Path>> samplesByTable(List<SchemaObject> tables, Path sampleDir) throws IOException {
+        if (!Files.isDirectory(sampleDir)) {
+            throw new IOException("Sample directory not found: " + sampleDir);
+        }
+        Set<String> names = new HashSet<>();
+        for (SchemaObject table : tables) {
+            names.add(table.getName());
+        }
+        Map<String, List<Path>> samples = new LinkedHashMap<>();
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(sampleDir, Files::isRegularFile)) {
+            for (Path file : files) {
+                String name = file.getFileName().toString();
+                if (formatOf(name) == null) {
+                    continue;
+                }
+                String base = name.substring(0, name.lastIndexOf('.'));
+                String table = names.contains(base) ? base : null;
+                if (table == null && base.indexOf('.') > 0 && names.contains(base.substring(0, base.indexOf('.')))) {
+                    table = base.substring(0, base.indexOf('.'));
+                }
+                if (table != null) {
+                    samples.computeIfAbsent(table, t -> new ArrayList<>()).add(file);
+                }
+            }
+        }
+        samples.values().forEach(list -> list.sort(null));
+        return samples;
+    }
+
+    private static SchemaObject withInferredTypes(SchemaObject table, ColumnStats[] stats) {
+        Map<String, String> types = new LinkedHashMap<>();
+        List<String> fields = table.getFields();
+        List<String> inferredVarchars = new ArrayList<>();
+        long rowBytes = 0;
+        for (int i = 0; i < fields.size(); i++) {
+            String declared = table.getFieldType(fields.get(i));
+            String inferred = stats[i].type();
+            if (declared != null) {
+                types.put(fields.get(i), declared);
+            } else if (inferred != null) {
+                types.put(fields.get(i), inferred);
+                if (varcharLength(inferred) > 0) {
+                    inferredVarchars.add(fields.get(i));
+                }
+            }
+            rowBytes += varcharBytes(types.get(fields.get(i)));
+        }
+        // Widest first, so as few columns as possible move off the row
+        inferredVarchars.sort((a, b) -> Integer.compare(varcharLength(types.get(b)), varcharLength(types.get(a))));
+        for (String field : inferredVarchars) {
+            if (rowBytes <= MAX_ROW_BYTES) {
+                break;
+            }
+            rowBytes -= varcharBytes(types.get(field));
+            types.put(field, "TEXT");
+        }
+        logger.debug("Inferred types of '{}': {}", table.getName(), types);
+        return table.withFieldTypes(types);
+    }
+
+    /**
+     * @return the length of a {@code VARCHAR(n)} type, or 0 for any other type
+     */
+    private static int varcharLength(String type) {
+        if (type == null) {
+            return 0;
+        }
+        Matcher matcher = VARCHAR.matcher(type);
+        return matcher.matches() ? Integer.parseInt(matcher.group(1)) : 0;
+    }
+
+    /**
+     * @return the bytes a {@code VARCHAR(n)} takes in a {@code utf8mb4} row, length prefix included
+     */
+    private static long varcharBytes(String type) {
+        long bytes = (long) varcharLength(type) * BYTES_PER_CHAR;
+        return bytes == 0 ? 0 : bytes + (bytes > 255 ? 2 : 1);
+    }
+
+    private static ColumnStats[] merge(ColumnStats[] into, ColumnStats[] from) {
+        for (int i = 0; i < into.length; i++) {
+            into[i].merge(from[i]);
+        }
+        return into;
+    }
+
+    private static ColumnStats[] await(ForkJoinTask<ColumnStats[]> task) throws IOException, SchemaParsingException {
+        try {
+            return task.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IOException("Interrupted while scanning samples", e);
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            // ForkJoinTask.adapt wraps checked exceptions of the callable in plain RuntimeExceptions
+            while (cause != null && cause.getClass() == RuntimeException.class && cause.getCause() != null) {
+                cause = cause.getCause();
+            }
+            if (cause instanceof IOException io) {
+                throw io;
+            }
+            if (cause instanceof SchemaParsingException parsing) {
+                throw parsing;
+            }
+            if (cause instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IOException("Sample scan failed", cause);
+        }
+    }
+
+    private static String formatOf(String fileName) {
+        String lower = fileName.toLowerCase(Locale.ROOT);
+        for (String extension : CSV_EXTENSIONS) {
+            if (lower.endsWith(extension)) {
+                return "csv";
+            }
+        }
+        for (String extension : NDJSON_EXTENSIONS) {
+            if (lower.endsWith(extension)) {
+                return "ndjson";
+            }
+        }
+        return null;
+    }
+
+    /**
+     * Streams one sample file and collects statistics for the given columns; values of other
+     * columns are ignored.
+     */
+    static ColumnStats[] scan(List<String> columns, Path sample) throws IOException, SchemaParsingException {
+        ColumnStats[] stats = new ColumnStats[columns.size()];
+        Map<String, Integer> index = new HashMap<>();
+        for (int i = 0; i < stats.length; i++) {
+            stats[i] = new ColumnStats();
+            index.put(columns.get(i), i);
+        }
+        String format = formatOf(sample.getFileName().toString());
+        if (format == null) {
+            throw new SchemaParsingException("Unsupported sample file: " + sample + " (expected .csv, .ndjson or .jsonl)");
+        }
+        long rows;
+        try (Reader reader = Files.newBufferedReader(sample, StandardCharsets.UTF_8)) {
+            rows = format.equals("csv")
+                    ? scanCsv(reader, index, stats, sample)
+                    : scanNdjson(reader, index, stats, sample);
+        }
+        logger.debug("Scanned {} sample rows from {}", rows, sample);
+        return stats;
+    }
+
+    private static long scanCsv(Reader reader, Map<String, Integer> index, ColumnStats[] stats, Path sample)
+            throws IOException, SchemaParsingException {
+        CsvReader csv = new CsvReader(reader);
+        List<String> header = csv.next();
+        if (header == null) {
+            return 0;
+        }
+        int[] target = new int[header.size()];
+        for (int i = 0; i < target.length; i++) {
+            target[i] = index.getOrDefault(header.get(i).trim(), -1);
+        }
+        long rows = 0;
+        for (List<String> record = csv.next(); record != null; record = csv.next()) {
+            if (record.size() > target.length) {
+                throw new SchemaParsingException(sample + ": record " + (rows + 1) + " has " + record.size()
+                        + " values but the header names " + target.length + " columns");
+            }
+            for (int i = 0; i < record.size(); i++) {
+                if (target[i] >= 0) {
+                    stats[target[i]].accept(record.get(i));
+                }
+            }
+            rows++;
+        }
+        return rows;
+    }
+
+    private static long scanNdjson(Reader reader, Map<String, Integer> index, ColumnStats[] stats, Path sample)
+            throws IOException, SchemaParsingException {
+        long rows = 0;
+        try (JsonParser parser = JSON_FACTORY.createParser(reader)) {
+            for (JsonToken token = parser.nextToken(); token != null; token = parser.nextToken()) {
+                if (token != JsonToken.START_OBJECT) {
+                    throw new SchemaParsingException(sample + ": expected one JSON object per line, found " + token);
+                }
+                while (parser.nextToken() == JsonToken.FIELD_NAME) {
+                    Integer column = index.get(parser.currentName());
+                    JsonToken value = parser.nextToken();
+                    if (value == JsonToken.START_OBJECT || value == JsonToken.START_ARRAY) {
+                        parser.skipChildren();
+                        if (column != null) {
+                            stats[column].acceptStructured();
+                        }
+                    } else if (column != null && value.isBoolean()) {
+                        stats[column].acceptBoolean();
+                    } else if (column != null) {
+                        stats[column].accept(value == JsonToken.VALUE_NULL ? null : parser.getText());
+                    }
+                }
+                rows++;
+            }
+        } catch (JsonProcessingException e) {
+            throw new SchemaParsingException(sample + ": " + e.getOriginalMessage(), e);
+        }
+        return rows;
+    }
+
+    /**
+     * Minimal RFC 4180 reader: comma separated, double-quoted values may contain commas, newlines
+     * and doubled quotes. Records are returned one at a time.
+     */
+    private static final class CsvReader {
+        private final Reader reader;
+        private final StringBuilder value = new StringBuilder();
+        private int pending = -2;
+
+        CsvReader(Reader reader) {
+            this.reader = reader;
+        }
+
+        private int read() throws IOException {
+            if (pending != -2) {
+                int c = pending;
+                pending = -2;
+                return c;
+            }
+            return reader.read();
+        }
+
+        /**
+         * @return the next record, or {@code null} at the end of the input; blank lines are skipped
+         */
+        List<String> next() throws IOException, SchemaParsingException {
+            List<String> record = new ArrayList<>();
+            value.setLength(0);
+            boolean quoted = false;
+            boolean any = false;
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    if (!any) {
+                        return null;
+                    }
+                    record.add(value.toString());
+                    return record;
+                }
+                if (c == '"' && value.isEmpty() && !quoted) {
+                    quoted = true;
+                    any = true;
+                    readQuoted();
+                } else if (c == ',') {
+                    record.add(quoted ? value.toString() : value.toString().trim());
+                    value.setLength(0);
+                    quoted = false;
+                    any = true;
+                } else if (c == '\n' || c == '\r') {
+                    if (c == '\r') {
+                        int n = read();
+                        if (n != '\n') {
+                            pending = n;
+                        }
+                    }
+                    if (any) {
+                        record.add(quoted ? value.toString() : value.toString().trim());
+                        return record;
+                    }
+                } else {
+                    if (quoted) {
+                        throw new SchemaParsingException("Unexpected character after a quoted CSV value: " + (char) c);
+                    }
+                    value.append((char) c);
+                    any = true;
+                }
+            }
+        }
+
+        private void readQuoted() throws IOException, SchemaParsingException {
+            while (true) {
+                int c = read();
+                if (c == -1) {
+                    throw new SchemaParsingException("Unterminated quoted CSV value");
+                }
+                if (c == '"') {
+                    int n = read();
+                    if (n != '"') {
+                        pending = n;
+                        return;
+                    }
+                }
+                value.append((char) c);
+            }
+        }
+    }
+
+    /**
+     * Running statistics of one column. Memory use is constant: a few counters and flags are
+     * updated per value and no value is retained. Instances are confined to one scanning task
+     * and combined with {@link #merge(ColumnStats)} afterwards.
+     */
+    static final class ColumnStats {
+        /** Longest value, in characters, that still maps to {@code VARCHAR}. */
+        static final int MAX_VARCHAR_LENGTH = 2048;
+        /** Longest value, in characters, that {@code TEXT} holds under {@code utf8mb4}. */
+        static final int MAX_TEXT_LENGTH = 16383;
+        static final int MAX_DECIMAL_PRECISION = 65;
+        static final int MAX_DECIMAL_SCALE = 30;
+
+        private long values;
+        private long nulls;
+        private boolean numeric = true;
+        private boolean integral = true;
+        private boolean fitsLong = true;
+        private boolean date = true;
+        private boolean structured = true;
+        private boolean bool = true;
+        private long min = Long.MAX_VALUE;
+        private long max = Long.MIN_VALUE;
+        private int integerDigits;
+        private int scale;
+        private int maxLength;
+
+        /**
+         * @param value a sample value; {@code null} and empty values count as missing
+         */
+        void accept(String value) {
+            if (value == null || value.isEmpty()) {
+                nulls++;
+                return;
+            }
+            values++;
+            structured = false;
+            bool = false;
+            maxLength = Math.max(maxLength, value.codePointCount(0, value.length()));
+            if (numeric) {
+                acceptNumber(value);
+            }
+            if (date && !isIsoDate(value)) {
+                date = false;
+            }
+        }
+
+        /**
+         * Records a nested JSON object or array.
+         */
+        void acceptStructured() {
+            values++;
+            bool = false;
+            numeric = false;
+            date = false;
+            maxLength = Integer.MAX_VALUE;
+        }
+
+        /**
+         * Records a JSON {@code true} or {@code false}. Mixed with other values the column is text.
+         */
+        void acceptBoolean() {
+            values++;
+            structured = false;
+            numeric = false;
+            date = false;
+            maxLength = Math.max(maxLength, "false".length());
+        }
+
+        private void acceptNumber(String value) {
+            int i = value.charAt(0) == '-' || value.charAt(0) == '+' ? 1 : 0;
+            int digitsStart = i;
+            while (i < value.length() && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+                i++;
+            }
+            int whole = i - digitsStart;
+            int fraction = -1;
+            if (i < value.length() && value.charAt(i) == '.') {
+                i++;
+                int fractionStart = i;
+                while (i < value.length() && value.charAt(i) >= '0' && value.charAt(i) <= '9') {
+                    i++;
+                }
+                fraction = i - fractionStart;
+            }
+            // Leading zeros (zip codes, account numbers) would be lost by a numeric column
+            boolean leadingZero = whole > 1 && value.charAt(digitsStart) == '0';
+            if (i != value.length() || whole == 0 || fraction == 0 || leadingZero) {
+                numeric = false;
+                return;
+            }
+            fraction = Math.max(fraction, 0);
+            integerDigits = Math.max(integerDigits, whole);
+            scale = Math.max(scale, fraction);
+            if (fraction > 0) {
+                integral = false;
+            } else if (fitsLong) {
+                try {
+                    long parsed = Long.parseLong(value);
+                    min = Math.min(min, parsed);
+                    max = Math.max(max, parsed);
+                } catch (NumberFormatException e) {
+                    fitsLong = false;
+                }
+            }
+        }
+
+        private static boolean isIsoDate(String value) {
+            if (value.length() != 10 || value.charAt(4) != '-' || value.charAt(7) != '-') {
+                return false;
+            }
+            try {
+                LocalDate.of(Integer.parseInt(value, 0, 4, 10),
+                        Integer.parseInt(value, 5, 7, 10),
+                        Integer.parseInt(value, 8, 10, 10));
+                return true;
+            } catch (NumberFormatException | DateTimeException e) {
+                return false;
+            }
+        }
+
+        void merge(ColumnStats other) {
+            values += other.values;
+            nulls += other.nulls;
+            numeric &= other.numeric;
+            integral &= other.integral;
+            fitsLong &= other.fitsLong;
+            date &= other.date;
+            structured &= other.structured;
+            bool &= other.bool;
+            min = Math.min(min, other.min);
+            max = Math.max(max, other.max);
+            integerDigits = Math.max(integerDigits, other.integerDigits);
+            scale = Math.max(scale, other.scale);
+            maxLength = Math.max(maxLength, other.maxLength);
+        }
+
+        long getValues() {
+            return values;
+        }
+
+        long getNulls() {
+            return nulls;
+        }
+
+        /**
+         * @return the narrowest MySQL type holding every sampled value, or {@code null} without samples
+         */
+        String type() {
+            if (values == 0) {
+                return null;
+            }
+            if (structured) {
+                return "JSON";
+            }
+            if (bool) {
+                return "BOOLEAN";
+            }
+            if (numeric && integral && fitsLong) {
+                return integerType(min, max);
+            }
+            if (numeric) {
+                int precision = Math.max(1, integerDigits + scale);
+                if (precision <= MAX_DECIMAL_PRECISION && scale <= MAX_DECIMAL_SCALE) {
+                    return "DECIMAL(" + precision + "," + scale + ")";
+                }
+            }
+            if (date) {
+                return "DATE";
+            }
+            if (maxLength <= MAX_VARCHAR_LENGTH) {
+                return "VARCHAR(" + maxLength + ")";
+            }
+            return maxLength <= MAX_TEXT_LENGTH ? "TEXT" : "MEDIUMTEXT";
+        }
+
+        private static String integerType(long min, long max) {
+            if (min >= Byte.MIN_VALUE && max <= Byte.MAX_VALUE) {
+                return "TINYINT";
+            }
+            if (min >= Short.MIN_VALUE && max <= Short.MAX_VALUE) {
+                return "SMALLINT";
+            }
+            if (min >= -(1 << 23) && max < (1 << 23)) {
+                return "MEDIUMINT";
+            }
+            if (min >= Integer.MIN_VALUE && max <= Integer.MAX_VALUE) {
+                return "INT";
+            }
+            return "BIGINT";
+        }
+    }
+}
@@ -3,14 +3,20 @@ package model;
 import exception.SchemaParsingException;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
-import org.w3c.dom.*;
 
-import javax.xml.parsers.DocumentBuilder;
-import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.stream.XMLInputFactory;
+import javax.xml.stream.XMLStreamConstants;
+import javax.xml.stream.XMLStreamException;
+import javax.xml.stream.XMLStreamReader;
 
 import java.io.File;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * A parser that reads XML schema files and converts them into {@link SchemaObject} instances.
@@ -33,9 +39,32 @@ import java.util.List;
  * From this example, the parser would produce a {@link SchemaObject}
  * with the name {@code "Person"} and fields {@code ["id", "firstName", "lastName", "age"]}.
  * </p>
+ * <p>
+ * A schema may declare {@link TableOptions} as the attributes of an {@code <options>} element, e.g.
+ * {@code <options engine="InnoDB" rowFormat="COMPRESSED" keyBlockSize="8"/>}.
+ * </p>
+ * <p>
+ * A schema may also declare its {@link Partitioning}; the key may list several comma-separated
+ * columns, and a RANGE bound over several columns is given as {@code <value>} children:
+ * </p>
+ *
+ * <pre>{@code
+ * <partitioning strategy="hash" key="id" partitions="8"/>
+ * <partitioning strategy="range" key="created">
+ *     <partition name="p2024" lessThan="2025-01-01"/>
+ *     <partition name="pmax" lessThan="MAXVALUE"/>
+ * </partitioning>
+ * <partitioning strategy="list" key="region">
+ *     <partition name="east"><value>NY</value><value>NJ</value></partition>
+ * </partitioning>
+ * }</pre>
  *
  * <p>
  * Validation is performed on the file path and extension.
+ * The document is read with a StAX cursor, so {@link ParseLimits} (bytes, nesting depth,
+ * identifier length, field count, deadline) are enforced while the input streams in and
+ * no DOM tree is ever materialized. DOCTYPE declarations are rejected.
+ * Instances hold no per-parse state and may be shared between threads.
  * Detailed logging is provided for troubleshooting and debugging.
  * </p>
  */
@@ -43,13 +72,39 @@ public class XmlParser implements SchemaParser {
 
     private static final Logger logger = LogManager.getLogger(XmlParser.class);
 
+    private final ParseLimits limits;
+
+    /**
+     * Lazily created StAX factory; configured once and only if XML is actually parsed.
+     * {@link XMLInputFactory#createXMLStreamReader} is safe to call concurrently after configuration.
+     */
+    private static final class InputFactoryHolder {
+        static final XMLInputFactory INSTANCE = newInputFactory();
+    }
+
+    /**
+     * Creates a parser that enforces {@link ParseLimits#defaults()}.
+     */
+    public XmlParser() {
+        this(ParseLimits.defaults());
+    }
+
+    /**
+     * Creates a parser that enforces the given limits.
+     *
+     * @param limits the limits to apply to every parse
+     */
+    public XmlParser(ParseLimits limits) {
+        this.limits = limits;
+    }
+
     /**
      * Parses the provided XML schema file into a {@link SchemaObject}.
      *
      * @param schemaFile the XML file containing schema information
      * @return a populated {@link SchemaObject} with the schema name and field list
      * @throws SchemaParsingException if the file does not exist, has an invalid extension,
-     *                                or cannot be parsed successfully
+     *                                exceeds a parse limit, or cannot be parsed successfully
      */
     @Override
     public SchemaObject parse(File schemaFile) throws SchemaParsingException {
@@ -62,32 +117,222 @@ public class XmlParser implements SchemaParser {
             throw new SchemaParsingException("Invalid file format: must be .xml");
         }
 
+        ParseBudget budget = new ParseBudget(limits);
+        budget.checkSize(schemaFile.length());
+
+        try (InputStream in = Files.newInputStream(schemaFile.toPath())) {
+            return parse(in, schemaFile.getAbsolutePath(), budget);
+        } catch (IOException e) {
+            logger.error("Error parsing XML schema", e);
+            throw new SchemaParsingException("Failed to parse XML schema: " + e.getMessage(), e);
+        }
+    }
+
+    @Override
+    public SchemaObject parse(InputStream input, String sourceName) throws SchemaParsingException {
+        return parse(input, sourceName, new ParseBudget(limits));
+    }
+
+    private SchemaObject parse(InputStream input, String sourceName, ParseBudget budget) throws SchemaParsingException {
+        logger.debug("Streaming XML events from {}", sourceName);
         try {
-            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
-            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
-            DocumentBuilder builder = factory.newDocumentBuilder();
-            Document doc = builder.parse(schemaFile);
-            doc.getDocumentElement().normalize();
-
-            // Extract schema name from <schema name="...">
-            Element schemaElement = (Element) doc.getElementsByTagName("schema").item(0);
-            String schemaName = schemaElement.getAttribute("name");
-
-            // Extract field names from <fields><field>...</field></fields>
-            NodeList fieldNodes = schemaElement.getElementsByTagName("field");
-            List<String> fields = new ArrayList<>();
-            for (int i = 0; i < fieldNodes.getLength(); i++) {
-                fields.add(fieldNodes.item(i).getTextContent().trim());
-            }
+            // Closing the reader does not close the caller's stream
+            XMLStreamReader reader = InputFactoryHolder.INSTANCE.createXMLStreamReader(
+                    new LimitedInputStream(input, limits.getMaxBytes()));
+            try {
+                SchemaObject schemaObject = readSchema(reader, budget);
 
-            logger.info("Parsed schema name: {}", schemaName);
-            logger.info("Parsed fields: {}", fields);
+                logger.info("Parsed schema name: {}", schemaObject.getName());
+                logger.info("Parsed fields: {}", schemaObject.getFields());
 
-            return new SchemaObject(schemaName, fields);
+                return schemaObject;
+            } finally {
+                reader.close();
+            }
 
+        } catch (SchemaParsingException e) {
+            logger.error("XML schema rejected: {}", e.getMessage());
+            throw e;
         } catch (Exception e) {
             logger.error("Error parsing XML schema", e);
             throw new SchemaParsingException("Failed to parse XML schema: " + e.getMessage(), e);
         }
     }
+
+    /**
+     * Walks the event stream, picking up the first {@code <schema name="...">} element
+     * and every {@code <field>}, {@code <options>} and {@code <partitioning>} element nested inside it.
+     */
+    private SchemaObject readSchema(XMLStreamReader reader, ParseBudget budget)
+            throws XMLStreamException, SchemaParsingException {
+        String schemaName = null;
+        List<String> fields = new ArrayList<>();
+        int depth = 0;
+        int schemaDepth = -1;
+        int fieldDepth = -1;
+        StringBuilder fieldText = null;
+        PartitioningReader partitioning = null;
+        Map<String, String> options = new LinkedHashMap<>();
+
+        while (reader.hasNext()) {
+            int event = reader.next();
+            budget.checkDeadline();
+
+            switch (event) {
+                case XMLStreamConstants.DTD:
+                    throw new SchemaParsingException("DOCTYPE declarations are not allowed in schema files.");
+
+                case XMLStreamConstants.START_ELEMENT:
+                    depth++;
+                    budget.checkDepth(depth);
+                    String element = reader.getLocalName();
+                    if (schemaName == null && "schema".equals(element)) {
+                        String name = reader.getAttributeValue(null, "name");
+                        schemaName = name == null ? "" : name;
+                        budget.checkIdentifier("Table", schemaName);
+                        schemaDepth = depth;
+                    } else if (schemaDepth > 0 && fieldText == null && "field".equals(element)) {
+                        fieldText = new StringBuilder();
+                        fieldDepth = depth;
+                    } else if (schemaDepth > 0 && "options".equals(element)) {
+                        for (int i = 0; i < reader.getAttributeCount(); i++) {
+                            budget.checkIdentifier("Table option", reader.getAttributeValue(i));
+                            options.put(reader.getAttributeLocalName(i), reader.getAttributeValue(i));
+                        }
+                    } else if (schemaDepth > 0 && partitioning == null && "partitioning".equals(element)) {
+                        partitioning = new PartitioningReader(reader);
+                    } else if (partitioning != null && "partition".equals(element)) {
+                        partitioning.startPartition(reader, budget);
+                    } else if (partitioning != null && "value".equals(element)) {
+                        partitioning.startValue();
+                    }
+                    break;
+
+                case XMLStreamConstants.CHARACTERS:
+                case XMLStreamConstants.CDATA:
+                case XMLStreamConstants.SPACE:
+                    if (fieldText != null) {
+                        fieldText.append(reader.getText());
+                    } else if (partitioning != null) {
+                        partitioning.text(reader.getText());
+                    }
+                    break;
+
+                case XMLStreamConstants.END_ELEMENT:
+                    if (fieldText != null && depth == fieldDepth) {
+                        String field = fieldText.toString().trim();
+                        budget.checkIdentifier("Field", field);
+                        fields.add(field);
+                        budget.checkColumnCount(schemaName, fields.size());
+                        fieldText = null;
+                    }
+                    if (partitioning != null) {
+                        partitioning.end(reader.getLocalName(), budget);
+                    }
+                    if (depth == schemaDepth) {
+                        budget.tableParsed();
+                        SchemaObject schema = new SchemaObject(schemaName, fields);
+                        try {
+                            if (!options.isEmpty()) {
+                                schema = schema.withOptions(new TableOptions(options));
+                            }
+                            return partitioning == null ? schema : schema.withPartitioning(partitioning.build());
+                        } catch (IllegalArgumentException e) {
+                            throw new SchemaParsingException("Invalid XML schema: " + e.getMessage());
+                        }
+                    }
+                    depth--;
+                    break;
+
+                default:
+                    break;
+            }
+        }
+
+        throw new SchemaParsingException("No <schema> element found in the XML document.");
+    }
+
+    /**
+     * Collects a {@code <partitioning>} element and its {@code <partition>} and {@code <value>} children.
+     */
+    private static final class PartitioningReader {
+        private final String strategy;
+        private final List<String> key = new ArrayList<>();
+        private final String count;
+        private final List<Partitioning.Partition> partitions = new ArrayList<>();
+        private String partitionName;
+        private List<String> values;
+        private StringBuilder valueText;
+
+        PartitioningReader(XMLStreamReader reader) {
+            strategy = reader.getAttributeValue(null, "strategy");
+            count = reader.getAttributeValue(null, "partitions");
+            String columns = reader.getAttributeValue(null, "key");
+            if (columns != null) {
+                for (String column : columns.split(",")) {
+                    key.add(column.trim());
+                }
+            }
+        }
+
+        void startPartition(XMLStreamReader reader, ParseBudget budget) throws SchemaParsingException {
+            partitionName = reader.getAttributeValue(null, "name");
+            budget.checkIdentifier("Partition", partitionName == null ? "" : partitionName);
+            values = new ArrayList<>();
+            String lessThan = reader.getAttributeValue(null, "lessThan");
+            if (lessThan != null) {
+                values.add(lessThan.trim());
+            }
+        }
+
+        void startValue() {
+            if (values != null) {
+                valueText = new StringBuilder();
+            }
+        }
+
+        void text(String text) {
+            if (valueText != null) {
+                valueText.append(text);
+            }
+        }
+
+        void end(String element, ParseBudget budget) throws SchemaParsingException {
+            if ("value".equals(element) && valueText != null) {
+                String value = valueText.toString().trim();
+                budget.checkIdentifier("Partition value", value);
+                values.add(value);
+                valueText = null;
+            } else if ("partition".equals(element) && values != null) {
+                try {
+                    partitions.add(new Partitioning.Partition(partitionName, values));
+                } catch (IllegalArgumentException e) {
+                    throw new SchemaParsingException("Invalid XML schema: " + e.getMessage());
+                }
+                values = null;
+            }
+        }
+
+        Partitioning build() {
+            int partitionCount = 0;
+            if (count != null) {
+                try {
+                    partitionCount = Integer.parseInt(count.trim());
+                } catch (NumberFormatException e) {
+                    throw new IllegalArgumentException("Partition count must be a number, got: " + count);
+                }
+            }
+            return new Partitioning(Partitioning.Strategy.of(strategy), key, partitionCount, partitions);
+        }
+    }
+
+    /**
+     * Creates a StAX factory hardened against external entities and DTD processing.
+     */
+    private static XMLInputFactory newInputFactory() {
+        XMLInputFactory factory = XMLInputFactory.newInstance();
+        factory.setProperty(XMLInputFactory.SUPPORT_DTD, false);
+        factory.setProperty(XMLInputFactory.IS_SUPPORTING_EXTERNAL_ENTITIES, false);
+        return factory;
+    }
 }
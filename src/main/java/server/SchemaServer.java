@@ -0,0 +1,292 @@
+package server;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import controller.SingleFlight;
+import exception.SchemaParsingException;
+import exception.SqlGenerationException;
+import model.GeneratorFactory;
+import model.LimitedInputStream;
+import model.ISqlGenerator;
+import model.MemoizingGenerator;
+import model.ParseLimits;
+import model.ParserFactory;
+import model.SchemaFingerprint;
+import model.SchemaObject;
+import model.TableDependencies;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+/**
+ * Embedded HTTP conversion service built on the JDK's {@code com.sun.net.httpserver}.
+ * <p>
+ * Exposes two endpoints:
+ * <ul>
+ *     <li>{@code POST /convert?format=json|xml&dialect=mysql} – accepts a schema or a catalog
+ *         of tables and responds with the generated DDL as {@code text/plain}.</li>
+ *     <li>{@code GET /health} – reports liveness and {@link ServerMetrics} as JSON.</li>
+ * </ul>
+ * Every exchange runs on its own virtual thread. The number of conversions executing at
+ * the same time is capped by a {@link Semaphore}; requests beyond the limit are rejected
+ * immediately with {@code 503 Service Unavailable} instead of queueing without bound.
+ * </p>
+ * <p>
+ * Parsing and generation go through {@link ParserFactory} and {@link GeneratorFactory},
+ * the same stack used by the desktop application. The request body is streamed into the parser
+ * and never buffered whole. A body whose {@code Content-Length} exceeds
+ * {@link ParseLimits#getMaxBytes()} is refused with {@code 413} before any of it is read; a body
+ * without one is refused with {@code 413} as soon as the parser reads past the limit.
+ * Requests whose payloads parse to the same tables, arriving while one of them is being generated,
+ * are coalesced through a {@link SingleFlight} keyed by dialect and the {@link SchemaFingerprint}
+ * of every parsed table, so they cost one generation and share its response or error. Tables seen
+ * before, such as a JSON and an XML version of one schema, are generated once per dialect by a
+ * {@link MemoizingGenerator}.
+ * </p>
+ */
+public class SchemaServer {
+    public static final int DEFAULT_PORT = 8080;
+    public static final int DEFAULT_MAX_CONCURRENT = 64;
+    private static final String DEFAULT_DIALECT = "mysql";
+
+    private static final Logger logger = LogManager.getLogger(SchemaServer.class);
+
+    private final HttpServer httpServer;
+    private final ExecutorService executor;
+    private final Semaphore permits;
+    private final int maxConcurrent;
+    private final ServerMetrics metrics = new ServerMetrics();
+    private final SingleFlight<String, String> conversions = new SingleFlight<>();
+    private final Map<String, ISqlGenerator> generators = new ConcurrentHashMap<>();
+
+    /**
+     * Creates a server bound to the given port. The server is not started until {@link #start()}.
+     *
+     * @param port          the TCP port to listen on, or {@code 0} for an ephemeral port
+     * @param maxConcurrent the maximum number of conversions allowed to run at once
+     * @throws IOException              if the port cannot be bound
+     * @throws IllegalArgumentException if {@code maxConcurrent} is not positive
+     */
+    public SchemaServer(int port, int maxConcurrent) throws IOException {
+        if (maxConcurrent <= 0) {
+            throw new IllegalArgumentException("Concurrency limit must be positive, got: " + maxConcurrent);
+        }
+        this.maxConcurrent = maxConcurrent;
+        this.permits = new Semaphore(maxConcurrent);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.httpServer = HttpServer.create(new InetSocketAddress(port), 0);
+        this.httpServer.setExecutor(executor);
+        this.httpServer.createContext("/convert", this::handleConvert);
+        this.httpServer.createContext("/health", this::handleHealth);
+    }
+
+    public void start() {
+        httpServer.start();
+        logger.info("Schema server listening on port {} (max {} concurrent conversions)", getPort(), maxConcurrent);
+    }
+
+    /**
+     * Stops accepting requests, waits briefly for in-flight exchanges and releases the executor.
+     */
+    public void stop() {
+        httpServer.stop(1);
+        executor.close();
+        logger.info("Schema server stopped.");
+    }
+
+    public int getPort() {
+        return httpServer.getAddress().getPort();
+    }
+
+    public ServerMetrics getMetrics() {
+        return metrics;
+    }
+
+    private void handleHealth(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"GET".equalsIgnoreCase(exchange.getRequestMethod())) {
+                send(exchange, 405, "text/plain", "Method not allowed. Use GET.");
+                return;
+            }
+            send(exchange, 200, "application/json", metrics.toJson(maxConcurrent));
+        }
+    }
+
+    private void handleConvert(HttpExchange exchange) throws IOException {
+        try (exchange) {
+            if (!"POST".equalsIgnoreCase(exchange.getRequestMethod())) {
+                send(exchange, 405, "text/plain", "Method not allowed. Use POST.");
+                return;
+            }
+            if (!permits.tryAcquire()) {
+                metrics.requestRejected();
+                logger.warn("Rejecting conversion request: concurrency limit of {} reached.", maxConcurrent);
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                send(exchange, 503, "text/plain", "Server busy. Please retry shortly.");
+                return;
+            }
+
+            long start = System.nanoTime();
+            boolean success = false;
+            metrics.requestStarted();
+            try {
+                Map<String, String> query = parseQuery(exchange.getRequestURI().getRawQuery());
+                String format = resolveFormat(query.get("format"), exchange.getRequestHeaders().getFirst("Content-Type"));
+                String dialect = query.getOrDefault("dialect", DEFAULT_DIALECT);
+
+                long maxBytes = ParseLimits.defaults().getMaxBytes();
+                if (declaredLength(exchange) > maxBytes) {
+                    send(exchange, 413, "text/plain", "Payload exceeds the limit of " + maxBytes + " bytes.");
+                    return;
+                }
+                List<SchemaObject> tables;
+                try (LimitedInputStream body = new LimitedInputStream(exchange.getRequestBody(), maxBytes)) {
+                    try {
+                        tables = ParserFactory.get(format).parseCatalog(body, "request body");
+                    } catch (SchemaParsingException e) {
+                        if (!body.isExceeded()) {
+                            throw e;
+                        }
+                        send(exchange, 413, "text/plain", "Payload exceeds the limit of " + maxBytes + " bytes.");
+                        return;
+                    }
+                }
+
+                String sql = convertOnce(tables, dialect);
+                send(exchange, 200, "text/plain", sql);
+                success = true;
+            } catch (SchemaParsingException e) {
+                send(exchange, 400, "text/plain", "Schema could not be parsed: " + e.getMessage());
+            } catch (IllegalArgumentException e) {
+                send(exchange, 400, "text/plain", "Invalid input: " + e.getMessage());
+            } catch (SqlGenerationException e) {
+                send(exchange, 500, "text/plain", "SQL generation failed: " + e.getMessage());
+            } catch (Exception e) {
+                logger.error("Unexpected error while handling conversion request", e);
+                send(exchange, 500, "text/plain", "An unexpected error occurred. Please try again.");
+            } finally {
+                metrics.requestFinished(success, System.nanoTime() - start);
+                permits.release();
+            }
+        }
+    }
+
+    /**
+     * @return the request's declared {@code Content-Length}, or -1 if it has none or it is malformed
+     */
+    private static long declaredLength(HttpExchange exchange) {
+        String header = exchange.getRequestHeaders().getFirst("Content-Length");
+        if (header == null) {
+            return -1;
+        }
+        try {
+            return Long.parseLong(header.trim());
+        } catch (NumberFormatException e) {
+            return -1;
+        }
+    }
+
+    /**
+     * Generates the tables, sharing the work with any request for the same dialect and tables
+     * that is already being generated.
+     */
+    private String convertOnce(List<SchemaObject> tables, String dialect) throws Exception {
+        StringBuilder key = new StringBuilder(dialect);
+        for (SchemaObject table : tables) {
+            key.append('|').append(SchemaFingerprint.of(table));
+        }
+        boolean[] led = new boolean[1];
+        CompletableFuture<String> result = conversions.execute(key.toString(), () -> {
+            led[0] = true;
+            return convert(tables, dialect);
+        });
+        if (!led[0]) {
+            metrics.requestCoalesced();
+        }
+        return SingleFlight.await(result);
+    }
+
+    /**
+     * Renders the parsed tables with the generator registered for {@code dialect}, validated and
+     * ordered as the CLI and the desktop application do: every {@code CREATE TABLE} in creation
+     * order, then every table's constraints.
+     */
+    private String convert(List<SchemaObject> tables, String dialect) {
+        ISqlGenerator delegate = GeneratorFactory.get(dialect);
+        ISqlGenerator generator = generators.computeIfAbsent(dialect.trim().toLowerCase(Locale.ROOT),
+                name -> new MemoizingGenerator(name, delegate, MemoizingGenerator.DEFAULT_MAX_ENTRIES));
+        generator.validateCatalog(tables);
+
+        List<SchemaObject> ordered = TableDependencies.creationOrder(tables);
+        StringBuilder sql = new StringBuilder();
+        for (SchemaObject table : ordered) {
+            sql.append(generator.generateCreateTable(table)).append('\n');
+        }
+        for (SchemaObject table : ordered) {
+            String constraints = generator.generateConstraints(table);
+            if (!constraints.isEmpty()) {
+                sql.append(constraints).append('\n');
+            }
+        }
+        return sql.toString();
+    }
+
+    /**
+     * Determines the schema format from the {@code format} query parameter,
+     * falling back to the request's {@code Content-Type}.
+     */
+    private String resolveFormat(String formatParam, String contentType) {
+        if (formatParam != null && !formatParam.isBlank()) {
+            return formatParam.toLowerCase();
+        }
+        if (contentType != null) {
+            String type = contentType.toLowerCase();
+            if (type.contains("xml")) {
+                return "xml";
+            }
+            if (type.contains("json")) {
+                return "json";
+            }
+        }
+        throw new IllegalArgumentException(
+                "Schema format is unknown. Pass ?format=json|xml or a JSON/XML Content-Type."
+        );
+    }
+
+    private static Map<String, String> parseQuery(String rawQuery) {
+        Map<String, String> params = new HashMap<>();
+        if (rawQuery == null || rawQuery.isEmpty()) {
+            return params;
+        }
+        for (String pair : rawQuery.split("&")) {
+            int eq = pair.indexOf('=');
+            String key = eq < 0 ? pair : pair.substring(0, eq);
+            String value = eq < 0 ? "" : pair.substring(eq + 1);
+            params.put(URLDecoder.decode(key, StandardCharsets.UTF_8), URLDecoder.decode(value, StandardCharsets.UTF_8));
+        }
+        return params;
+    }
+
+    private static void send(HttpExchange exchange, int status, String contentType, String body) throws IOException {
+        byte[] bytes = body.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", contentType + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package server;
+
+import java.util.Locale;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Thread-safe counters describing the activity of a {@link SchemaServer}.
+ * <p>
+ * Updated concurrently by every request handler and rendered as JSON
+ * by the {@code /health} endpoint.
+ * </p>
+ */
+public class ServerMetrics {
+    private final LongAdder requests = new LongAdder();
+    private final LongAdder succeeded = new LongAdder();
+    private final LongAdder failed = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder coalesced = new LongAdder();
+    private final LongAdder totalNanos = new LongAdder();
+    private final AtomicInteger inFlight = new AtomicInteger();
+    private final long startedAt = System.currentTimeMillis();
+
+    void requestStarted() {
+        requests.increment();
+        inFlight.incrementAndGet();
+    }
+
+    void requestFinished(boolean success, long elapsedNanos) {
+        inFlight.decrementAndGet();
+        totalNanos.add(elapsedNanos);
+        if (success) {
+            succeeded.increment();
+        } else {
+            failed.increment();
+        }
+    }
+
+    void requestRejected() {
+        rejected.increment();
+    }
+
+    void requestCoalesced() {
+        coalesced.increment();
+    }
+
+    public long getRequests() {
+        return requests.sum();
+    }
+
+    public long getSucceeded() {
+        return succeeded.sum();
+    }
+
+    public long getFailed() {
+        return failed.sum();
+    }
+
+    public long getRejected() {
+        return rejected.sum();
+    }
+
+    /**
+     * @return the number of requests answered by joining an identical conversion already in progress
+     */
+    public long getCoalesced() {
+        return coalesced.sum();
+    }
+
+    public int getInFlight() {
+        return inFlight.get();
+    }
+
+    /**
+     * Renders the current counters as a flat JSON object.
+     *
+     * @param maxConcurrent the configured concurrency limit, included for reference
+     * @return the metrics as a JSON string
+     */
+    public String toJson(int maxConcurrent) {
+        long completed = getSucceeded() + getFailed();
+        double avgMillis = completed == 0 ? 0.0 : totalNanos.sum() / 1_000_000.0 / completed;
+        return String.format(Locale.ROOT,
+                "{\"status\":\"UP\",\"uptimeMs\":%d,\"maxConcurrent\":%d,\"inFlight\":%d,"
+                        + "\"requests\":%d,\"succeeded\":%d,\"failed\":%d,\"rejected\":%d,\"coalesced\":%d,\"avgLatencyMs\":%.3f}",
+                System.currentTimeMillis() - startedAt, maxConcurrent, getInFlight(),
+                getRequests(), getSucceeded(), getFailed(), getRejected(), getCoalesced(), avgMillis);
+    }
+}
@@ -0,0 +1,152 @@
+package view;
+
+import controller.SchemaController;
+import javafx.concurrent.Task;
+import model.GeneratorFactory;
+import model.ISqlGenerator;
+import model.SchemaObject;
+import model.TableDependencies;
+
+import java.io.File;
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Background {@link Task} that parses a schema file and generates its SQL
+ * off the JavaFX Application Thread.
+ * <p>
+ * Progress is reported in two phases: parsing advances with the bytes parsed, at most once
+ * per {@value #PROGRESS_STEPS}th of the file, then generation advances once per table. The task checks for
+ * cancellation between phases and between tables; a cancel that interrupts the worker
+ * while it is reading the file aborts the read as well.
+ * </p>
+ * <p>
+ * Generated SQL is streamed to a temporary script file rather than held in memory, and the
+ * result exposes it as a {@link PagedScriptFile} so the preview can page it lazily.
+ * </p>
+ */
+public class ConversionTask extends Task<ConversionTask.Result> {
+    /** Parse progress updates per file; each posts work to the JavaFX Application Thread. */
+    private static final int PROGRESS_STEPS = 200;
+
+    /**
+     * The outcome of a successful conversion.
+     */
+    public static class Result {
+        private final List<SchemaObject> tables;
+        private final PagedScriptFile script;
+
+        Result(List<SchemaObject> tables, PagedScriptFile script) {
+            this.tables = tables;
+            this.script = script;
+        }
+
+        /**
+         * @return the first converted table, or {@code null} if the catalog was empty
+         */
+        public SchemaObject getSchema() {
+            return tables.isEmpty() ? null : tables.get(0);
+        }
+
+        /**
+         * @return every converted table, in document order
+         */
+        public List<SchemaObject> getTables() {
+            return tables;
+        }
+
+        /**
+         * @return the generated script, indexed for paging; the caller owns and must close it
+         */
+        public PagedScriptFile getScript() {
+            return script;
+        }
+    }
+
+    private final SchemaController controller;
+    private final File schemaFile;
+    private final String dialect;
+
+    /**
+     * @param controller the controller used to validate, parse and store the schema
+     * @param schemaFile the file to convert
+     * @param dialect    the SQL dialect passed to {@link GeneratorFactory}
+     */
+    public ConversionTask(SchemaController controller, File schemaFile, String dialect) {
+        this.controller = controller;
+        this.schemaFile = schemaFile;
+        this.dialect = dialect;
+    }
+
+    public File getSchemaFile() {
+        return schemaFile;
+    }
+
+    @Override
+    protected Result call() throws Exception {
+        long bytes = schemaFile.length();
+        updateMessage("Parsing " + schemaFile.getName() + " (" + bytes + " bytes)...");
+        updateProgress(0, Math.max(bytes, 1));
+
+        long step = Math.max(1, bytes / PROGRESS_STEPS);
+        AtomicLong reported = new AtomicLong();
+        // Called for every read, possibly from several parsing threads
+        List<SchemaObject> tables = controller.loadCatalog(schemaFile, parsed -> {
+            long last = reported.get();
+            if (parsed - last >= step && reported.compareAndSet(last, parsed)) {
+                updateProgress(Math.min(parsed, bytes), Math.max(bytes, 1));
+            }
+        });
+        if (isCancelled()) {
+            return null;
+        }
+
+        ISqlGenerator generator = GeneratorFactory.get(dialect);
+        generator.validateCatalog(tables);
+        Path script = Files.createTempFile("schema2script-", ".sql");
+        try {
+            // Every table is created before any foreign key, so tables in a reference cycle still load
+            List<SchemaObject> ordered = TableDependencies.creationOrder(tables);
+            List<String> constraints = new ArrayList<>();
+            try (Writer out = Files.newBufferedWriter(script, StandardCharsets.UTF_8)) {
+                for (int i = 0; i < ordered.size(); i++) {
+                    if (isCancelled()) {
+                        break;
+                    }
+                    SchemaObject table = ordered.get(i);
+                    updateMessage("Generating SQL for table " + (i + 1) + " of " + tables.size()
+                            + " (" + bytes + " bytes parsed)...");
+                    out.write(generator.generateCreateTable(table));
+                    out.write('\n');
+                    String tableConstraints = generator.generateConstraints(table);
+                    if (!tableConstraints.isEmpty()) {
+                        constraints.add(tableConstraints);
+                    }
+                    updateProgress(i + 1, tables.size());
+                }
+                for (String tableConstraints : constraints) {
+                    out.write(tableConstraints);
+                    out.write('\n');
+                }
+            }
+            if (isCancelled()) {
+                Files.deleteIfExists(script);
+                return null;
+            }
+
+            updateMessage("Indexing script for preview...");
+            PagedScriptFile preview = PagedScriptFile.open(script);
+            updateMessage("Converted " + tables.size() + " table(s) from " + bytes + " bytes.");
+            return new Result(tables, preview);
+        } catch (IOException | RuntimeException e) {
+            Files.deleteIfExists(script);
+            throw e;
+        }
+    }
+}
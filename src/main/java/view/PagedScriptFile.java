@@ -0,0 +1,166 @@
+package view;
+
+import javafx.collections.ObservableListBase;
+
+import java.io.Closeable;
+import java.io.IOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Read-only, line-oriented view of an on-disk SQL script that can back a {@link javafx.scene.control.ListView}.
+ * <p>
+ * Opening the file performs one sequential scan that records the byte offset of every
+ * {@value #LINES_PER_PAGE}th line. {@link #get(int)} seeks to the nearest recorded offset
+ * and decodes a single page of lines, keeping at most {@value #CACHED_PAGES} pages in an
+ * LRU cache. Because the list cells are virtualized, only the visible rows are ever read,
+ * and memory use stays flat regardless of script size (a 500 MB script needs roughly
+ * one {@code long} per {@value #LINES_PER_PAGE} lines for its index).
+ * </p>
+ * <p>
+ * Instances are confined to the thread that reads them (the FX Application Thread once
+ * handed to a {@code ListView}); {@link #open(Path)} may be called from a background worker.
+ * </p>
+ */
+public class PagedScriptFile extends ObservableListBase<String> implements Closeable {
+    private static final int LINES_PER_PAGE = 64;
+    private static final int CACHED_PAGES = 64;
+    private static final int MAX_LINE_CHARS = 4096;
+    private static final int SCAN_BUFFER = 1 << 16;
+
+    private final Path path;
+    private final FileChannel channel;
+    private final long size;
+    private final long[] pageOffsets;
+    private final int lineCount;
+    private final Map<Integer, String[]> pages = new LinkedHashMap<>(CACHED_PAGES, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<Integer, String[]> eldest) {
+            return size() > CACHED_PAGES;
+        }
+    };
+
+    private PagedScriptFile(Path path, FileChannel channel, long size, long[] pageOffsets, int lineCount) {
+        this.path = path;
+        this.channel = channel;
+        this.size = size;
+        this.pageOffsets = pageOffsets;
+        this.lineCount = lineCount;
+    }
+
+    /**
+     * Opens the script and builds its sparse line index with a single sequential pass.
+     *
+     * @param path the script file to page through
+     * @return a list view over the file's lines
+     * @throws IOException if the file cannot be read
+     */
+    public static PagedScriptFile open(Path path) throws IOException {
+        FileChannel channel = FileChannel.open(path, StandardOpenOption.READ);
+        try {
+            long size = channel.size();
+            long[] offsets = new long[16];
+            int pageCount = 1;
+            int lines = 0;
+            byte last = '\n';
+
+            ByteBuffer buffer = ByteBuffer.allocateDirect(SCAN_BUFFER);
+            long position = 0;
+            while (position < size) {
+                buffer.clear();
+                int read = channel.read(buffer, position);
+                if (read < 0) {
+                    break;
+                }
+                for (int i = 0; i < read; i++) {
+                    last = buffer.get(i);
+                    if (last == '\n' && ++lines % LINES_PER_PAGE == 0) {
+                        if (pageCount == offsets.length) {
+                            offsets = Arrays.copyOf(offsets, offsets.length * 2);
+                        }
+                        offsets[pageCount++] = position + i + 1;
+                    }
+                }
+                position += read;
+            }
+            if (size > 0 && last != '\n') {
+                lines++;
+            }
+            return new PagedScriptFile(path, channel, size, Arrays.copyOf(offsets, pageCount), lines);
+        } catch (IOException | RuntimeException e) {
+            channel.close();
+            throw e;
+        }
+    }
+
+    public Path getPath() {
+        return path;
+    }
+
+    /**
+     * @return the size of the underlying script in bytes
+     */
+    public long getByteSize() {
+        return size;
+    }
+
+    @Override
+    public String get(int index) {
+        if (index < 0 || index >= lineCount) {
+            throw new IndexOutOfBoundsException("Line " + index + " of " + lineCount);
+        }
+        String[] page = pages.get(index / LINES_PER_PAGE);
+        if (page == null) {
+            page = loadPage(index / LINES_PER_PAGE);
+            pages.put(index / LINES_PER_PAGE, page);
+        }
+        return page[index % LINES_PER_PAGE];
+    }
+
+    @Override
+    public int size() {
+        return lineCount;
+    }
+
+    private String[] loadPage(int page) {
+        long start = pageOffsets[page];
+        long end = page + 1 < pageOffsets.length ? pageOffsets[page + 1] : size;
+        String[] lines = new String[LINES_PER_PAGE];
+        try {
+            ByteBuffer bytes = ByteBuffer.allocate((int) (end - start));
+            while (bytes.hasRemaining() && channel.read(bytes, start + bytes.position()) >= 0) {
+                // keep reading until the page is complete
+            }
+            byte[] data = bytes.array();
+            int lineStart = 0;
+            int line = 0;
+            for (int i = 0; i <= bytes.position() && line < LINES_PER_PAGE; i++) {
+                if (i == bytes.position() || data[i] == '\n') {
+                    int lineEnd = i > lineStart && data[i - 1] == '\r' ? i - 1 : i;
+                    lines[line++] = decode(data, lineStart, lineEnd);
+                    lineStart = i + 1;
+                }
+            }
+        } catch (IOException e) {
+            Arrays.fill(lines, "-- preview unavailable: " + e.getMessage());
+        }
+        return lines;
+    }
+
+    private static String decode(byte[] data, int from, int to) {
+        String text = new String(data, from, Math.max(0, to - from), StandardCharsets.UTF_8);
+        return text.length() > MAX_LINE_CHARS ? text.substring(0, MAX_LINE_CHARS) + " ..." : text;
+    }
+
+    @Override
+    public void close() throws IOException {
+        pages.clear();
+        channel.close();
+    }
+}
@@ -1,22 +1,53 @@
 package view;
 
 import javafx.application.Application;
+import javafx.concurrent.Worker;
 import javafx.stage.FileChooser;
 import javafx.stage.Stage;
 import javafx.scene.Scene;
 import javafx.scene.control.*;
+import javafx.scene.layout.HBox;
+import javafx.scene.layout.Priority;
 import javafx.scene.layout.VBox;
 import controller.SchemaController;
 import model.SchemaModel;
 import model.SchemaObject;
-import model.MySQLGenerator;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
 
 import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
 
 public class SchemaApp extends Application {
 
+    private static final String DIALECT = "mysql";
+    private static final Logger logger = LogManager.getLogger(SchemaApp.class);
+
     private TextArea outputArea;
+    private ListView<String> sqlPreview;
+    private PagedScriptFile currentScript;
+    private UiLog log;
+    private ProgressBar progressBar;
+    private Label statusLabel;
+    private Button cancelBtn;
     private SchemaController controller;
+    private FxSchemaView view;
+
+    /** Worker pool for conversions; daemon threads so a running task never blocks JVM exit. */
+    private final ExecutorService workers = Executors.newFixedThreadPool(
+            Math.max(1, Runtime.getRuntime().availableProcessors() - 1),
+            runnable -> {
+                Thread thread = new Thread(runnable, "schema-conversion");
+                thread.setDaemon(true);
+                return thread;
+            });
+    private final Set<ConversionTask> activeTasks = ConcurrentHashMap.newKeySet();
 
     @Override
     public void start(Stage primaryStage) {
@@ -24,54 +55,157 @@ public class SchemaApp extends Application {
 
         outputArea = new TextArea();
         outputArea.setEditable(false);
-        outputArea.setPrefHeight(300);
+        outputArea.setPrefHeight(120);
         outputArea.setWrapText(true);
+        log = new UiLog(outputArea);
+
+        // Virtualized preview: only visible lines are read from the on-disk script
+        sqlPreview = new ListView<>();
+        sqlPreview.setFixedCellSize(20);
+        sqlPreview.setPlaceholder(new Label("Generated SQL will appear here."));
+        sqlPreview.setStyle("-fx-font-family: 'monospace';");
 
         // pass the FxSchemaView implementation into the controller
-        controller = new SchemaController(model, new FxSchemaView());
+        view = new FxSchemaView();
+        controller = new SchemaController(model, view);
 
         // UI components
         Button chooseFileBtn = new Button("Choose Schema File");
         chooseFileBtn.setOnAction(e -> chooseSchemaFile(primaryStage));
 
-        VBox root = new VBox(10, chooseFileBtn, outputArea);
+        cancelBtn = new Button("Cancel");
+        cancelBtn.setDisable(true);
+        cancelBtn.setOnAction(e -> cancelConversions());
+
+        progressBar = new ProgressBar(0);
+        progressBar.setMaxWidth(Double.MAX_VALUE);
+        HBox.setHgrow(progressBar, Priority.ALWAYS);
+        statusLabel = new Label("Idle");
+
+        HBox toolbar = new HBox(10, chooseFileBtn, cancelBtn, progressBar);
+        VBox root = new VBox(10, toolbar, statusLabel, outputArea, sqlPreview);
+        VBox.setVgrow(sqlPreview, Priority.ALWAYS);
         root.setStyle("-fx-padding: 15; -fx-background-color: #f9f9f9;");
 
-        Scene scene = new Scene(root, 650, 400);
+        Scene scene = new Scene(root, 650, 500);
         primaryStage.setTitle("Schema Parser (MVC)");
         primaryStage.setScene(scene);
         primaryStage.show();
     }
 
+    @Override
+    public void stop() {
+        cancelConversions();
+        workers.shutdownNow();
+        releaseScript(currentScript);
+    }
+
     private void chooseSchemaFile(Stage stage) {
         FileChooser fileChooser = new FileChooser();
         fileChooser.setTitle("Select Schema File");
         fileChooser.setInitialDirectory(new File("src/main/resources"));
-        fileChooser.getExtensionFilters().add(
-                new FileChooser.ExtensionFilter("Schema Files (*.json, *.xml)", "*.json", "*.xml")
+        fileChooser.getExtensionFilters().addAll(
+                new FileChooser.ExtensionFilter("Schema Files (*.json, *.xml)", "*.json", "*.xml"),
+                // The format is detected from the content, so any file may be chosen
+                new FileChooser.ExtensionFilter("All Files", "*.*")
         );
 
         File selectedFile = fileChooser.showOpenDialog(stage);
         if (selectedFile != null) {
-            outputArea.appendText("[INFO] Selected file: " + selectedFile.getAbsolutePath() + "\n");
-            controller.handleSchemaUpload(selectedFile);
+            log.append("[INFO] Selected file: " + selectedFile.getAbsolutePath() + "\n");
+            startConversion(selectedFile);
         } else {
-            outputArea.appendText("[INFO] No file selected.\n");
+            log.append("[INFO] No file selected.\n");
+        }
+    }
+
+    /**
+     * Submits a {@link ConversionTask} for the file to the worker pool and binds the
+     * progress bar and status label to it. Completion handlers run on the FX thread.
+     */
+    private void startConversion(File schemaFile) {
+        ConversionTask task = new ConversionTask(controller, schemaFile, DIALECT);
+
+        progressBar.progressProperty().bind(task.progressProperty());
+        statusLabel.textProperty().bind(task.messageProperty());
+
+        task.setOnSucceeded(e -> {
+            ConversionTask.Result result = task.getValue();
+            showScript(result.getScript());
+            view.showParsedSummary(result.getSchema());
+            finish(task);
+        });
+        task.setOnFailed(e -> {
+            controller.reportFailure(task.getException());
+            finish(task);
+        });
+        task.setOnCancelled(e -> {
+            log.append("[INFO] Conversion of " + schemaFile.getName() + " was cancelled.\n");
+            finish(task);
+        });
+
+        activeTasks.add(task);
+        cancelBtn.setDisable(false);
+        workers.submit(task);
+    }
+
+    private void finish(ConversionTask task) {
+        activeTasks.remove(task);
+        if (activeTasks.isEmpty()) {
+            cancelBtn.setDisable(true);
+            progressBar.progressProperty().unbind();
+            statusLabel.textProperty().unbind();
+            if (task.getState() != Worker.State.SUCCEEDED) {
+                progressBar.setProgress(0);
+                statusLabel.setText("Idle");
+            }
+        }
+    }
+
+    /**
+     * Replaces the preview contents with the given script and releases the previous one.
+     */
+    private void showScript(PagedScriptFile script) {
+        PagedScriptFile previous = currentScript;
+        currentScript = script;
+        sqlPreview.setItems(script);
+        sqlPreview.scrollTo(0);
+        log.append("[INFO] Generated " + script.size() + " line(s), " + script.getByteSize()
+                + " bytes: " + script.getPath() + "\n");
+        releaseScript(previous);
+    }
+
+    private void releaseScript(PagedScriptFile script) {
+        if (script == null) {
+            return;
+        }
+        try {
+            script.close();
+            Files.deleteIfExists(script.getPath());
+        } catch (IOException e) {
+            logger.warn("Could not remove temporary script {}", script.getPath(), e);
+        }
+    }
+
+    private void cancelConversions() {
+        for (ConversionTask task : activeTasks) {
+            task.cancel(true);
         }
     }
 
     /**
-     * JavaFX-based implementation of SchemaView
+     * JavaFX-based implementation of SchemaView.
+     * Safe to call from any thread; output is batched onto the FX Application Thread.
      */
     private class FxSchemaView extends SchemaView {
         @Override
         public void showSuccess(String message) {
-            outputArea.appendText("[SUCCESS] " + message + "\n");
+            log.append("[SUCCESS] " + message + "\n");
         }
 
         @Override
         public void showError(String message) {
-            outputArea.appendText("[ERROR] " + message + "\n");
+            log.append("[ERROR] " + message + "\n");
         }
 
         @Override
@@ -79,14 +213,7 @@ public class SchemaApp extends Application {
             if (schema == null) {
                 showError("Parsed schema is empty.");
             } else {
-                try {
-                    MySQLGenerator generator = new MySQLGenerator();
-                    String sql = generator.generateCreateTable(schema);
-                    outputArea.appendText(sql + "\n");
-                    showSuccess("Schema parsed and loaded successfully:\n" + schema);
-                } catch (Exception e) {
-                    showError("Error generating SQL: " + e.getMessage());
-                }
+                showSuccess("Schema parsed and loaded successfully:\n" + schema);
             }
         }
     }
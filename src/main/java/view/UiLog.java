@@ -0,0 +1,46 @@
+package view;
+
+import javafx.application.Platform;
+import javafx.scene.control.TextArea;
+
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Thread-safe, batched writer for the application's output {@link TextArea}.
+ * <p>
+ * Any thread may call {@link #append(String)}. Lines are queued and flushed by at most one
+ * pending {@link Platform#runLater(Runnable)} at a time, so a burst of messages from
+ * background tasks results in a single text update on the FX Application Thread
+ * instead of one per line.
+ * </p>
+ */
+class UiLog {
+    private final TextArea target;
+    private final Queue<String> pending = new ConcurrentLinkedQueue<>();
+    private final AtomicBoolean flushScheduled = new AtomicBoolean();
+
+    UiLog(TextArea target) {
+        this.target = target;
+    }
+
+    void append(String text) {
+        pending.add(text);
+        if (flushScheduled.compareAndSet(false, true)) {
+            Platform.runLater(this::flush);
+        }
+    }
+
+    private void flush() {
+        flushScheduled.set(false);
+        StringBuilder batch = new StringBuilder();
+        String next;
+        while ((next = pending.poll()) != null) {
+            batch.append(next);
+        }
+        if (batch.length() > 0) {
+            target.appendText(batch.toString());
+        }
+    }
+}
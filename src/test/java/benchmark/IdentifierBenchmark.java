@@ -0,0 +1,70 @@
+package benchmark;
+
+import model.Identifiers;
+import model.MySQLGenerator;
+import model.SchemaObject;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Measures identifier validation and {@code CREATE TABLE} generation on very wide tables.
+ * <p>
+ * Compares {@link Identifiers#checkColumns} with the previous approach of lower-casing every
+ * column name into a {@link HashSet}, then times the whole generator. Run it with the test
+ * classpath, for example:
+ * </p>
+ * <pre>{@code
+ * mvn -q test-compile
+ * java -cp target/test-classes:target/classes:<dependency jars> benchmark.IdentifierBenchmark 20000 200
+ * }</pre>
+ * <p>
+ * The first argument is the column count (default 20000), the second the number of timed
+ * iterations (default 200); as many untimed iterations warm up the JIT first.
+ * </p>
+ */
+public class IdentifierBenchmark {
+
+    private static volatile Object sink;
+
+    public static void main(String[] args) {
+        int columnCount = args.length > 0 ? Integer.parseInt(args[0]) : 20_000;
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 200;
+
+        List<String> columns = new ArrayList<>(columnCount);
+        for (int i = 0; i < columnCount; i++) {
+            columns.add((i % 3 == 0 ? "Customer_" : i % 3 == 1 ? "order`line_" : "measurement_value_") + i);
+        }
+        SchemaObject table = new SchemaObject("wide_table", columns);
+        MySQLGenerator generator = new MySQLGenerator();
+
+        System.out.printf("%d columns, %d iterations%n", columnCount, iterations);
+        report("lower-case HashSet", iterations, () -> sink = lowerCaseSet(columns));
+        report("Identifiers.check", iterations, () -> Identifiers.checkColumns("wide_table", columns, 64));
+        report("CREATE TABLE", iterations, () -> sink = generator.generateCreateTable(table));
+    }
+
+    private static void report(String name, int iterations, Runnable task) {
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        long start = System.nanoTime();
+        for (int i = 0; i < iterations; i++) {
+            task.run();
+        }
+        double millis = (System.nanoTime() - start) / 1e6 / iterations;
+        System.out.printf("  %-20s %8.3f ms/op%n", name, millis);
+    }
+
+    private static Set<String> lowerCaseSet(List<String> columns) {
+        Set<String> seen = new HashSet<>();
+        for (String column : columns) {
+            if (!seen.add(column.toLowerCase())) {
+                throw new IllegalStateException(column);
+            }
+        }
+        return seen;
+    }
+}
@@ -0,0 +1,120 @@
+package benchmark;
+
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.InputStreamReader;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.jar.JarEntry;
+import java.util.jar.JarOutputStream;
+import java.util.stream.Stream;
+
+/**
+ * Measures time-to-first-statement of the headless CLI ({@code main.Main --convert}).
+ * <p>
+ * Each configuration launches a fresh JVM repeatedly and records the wall-clock time
+ * until the first {@code CREATE} line appears on its standard output. Run it with the
+ * test classpath, for example:
+ * </p>
+ * <pre>{@code
+ * mvn -q test-compile
+ * java -cp target/test-classes:target/classes:<dependency jars> benchmark.StartupBenchmark \
+ *      src/main/resources/person.json 20
+ * }</pre>
+ * <p>
+ * Class-data-sharing archives can only be dumped for classes loaded from jars, so class
+ * directories on the classpath are packaged into temporary jars first.
+ * </p>
+ */
+public class StartupBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        String schema = args.length > 0 ? args[0] : "src/main/resources/person.json";
+        int iterations = args.length > 1 ? Integer.parseInt(args[1]) : 10;
+
+        Path workDir = Files.createTempDirectory("schema2script-startup");
+        Path archive = workDir.resolve("cli.jsa");
+        String classpath = jarDirectories(System.getProperty("java.class.path"), workDir);
+        List<String[]> configurations = List.of(
+                new String[]{"default"},
+                new String[]{"tiered-c1", "-XX:TieredStopAtLevel=1"},
+                new String[]{"appcds", "-XX:SharedArchiveFile=" + archive, "-XX:+AutoCreateSharedArchive",
+                        "-XX:TieredStopAtLevel=1", "-Dlog4j2.configurationFile=log4j2-cli.xml"}
+        );
+
+        System.out.printf("Time to first statement for %s, %d runs per configuration%n", schema, iterations);
+        for (String[] configuration : configurations) {
+            List<String> jvmOptions = Arrays.asList(configuration).subList(1, configuration.length);
+            // One untimed run so the CDS archive exists and the file cache is warm
+            timeToFirstStatement(jvmOptions, classpath, schema);
+
+            List<Double> samples = new ArrayList<>();
+            for (int i = 0; i < iterations; i++) {
+                samples.add(timeToFirstStatement(jvmOptions, classpath, schema));
+            }
+            Collections.sort(samples);
+            System.out.printf("  %-10s min %7.1f ms   median %7.1f ms   max %7.1f ms%n",
+                    configuration[0], samples.get(0), samples.get(samples.size() / 2), samples.get(samples.size() - 1));
+        }
+    }
+
+    private static double timeToFirstStatement(List<String> jvmOptions, String classpath, String schema)
+            throws Exception {
+        List<String> command = new ArrayList<>();
+        command.add(System.getProperty("java.home") + File.separator + "bin" + File.separator + "java");
+        command.addAll(jvmOptions);
+        command.add("-cp");
+        command.add(classpath);
+        command.add("main.Main");
+        command.add("--convert");
+        command.add(schema);
+
+        long start = System.nanoTime();
+        Process process = new ProcessBuilder(command).redirectError(ProcessBuilder.Redirect.DISCARD).start();
+        double elapsed = -1;
+        try (BufferedReader reader = new BufferedReader(
+                new InputStreamReader(process.getInputStream(), StandardCharsets.UTF_8))) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (elapsed < 0 && line.startsWith("CREATE")) {
+                    elapsed = (System.nanoTime() - start) / 1_000_000.0;
+                }
+            }
+        }
+        if (process.waitFor() != 0 || elapsed < 0) {
+            throw new IllegalStateException("Conversion failed for options " + jvmOptions);
+        }
+        return elapsed;
+    }
+
+    /**
+     * Replaces every directory entry of the classpath with a jar of its contents.
+     */
+    private static String jarDirectories(String classpath, Path workDir) throws Exception {
+        List<String> entries = new ArrayList<>();
+        int index = 0;
+        for (String entry : classpath.split(File.pathSeparator)) {
+            Path path = Path.of(entry);
+            if (!Files.isDirectory(path)) {
+                entries.add(entry);
+                continue;
+            }
+            Path jar = workDir.resolve("classes-" + index++ + ".jar");
+            try (JarOutputStream out = new JarOutputStream(Files.newOutputStream(jar));
+                 Stream<Path> files = Files.walk(path)) {
+                for (Path file : (Iterable<Path>) files.filter(Files::isRegularFile)::iterator) {
+                    out.putNextEntry(new JarEntry(path.relativize(file).toString().replace(File.separatorChar, '/')));
+                    Files.copy(file, out);
+                    out.closeEntry();
+                }
+            }
+            entries.add(jar.toString());
+        }
+        return String.join(File.pathSeparator, entries);
+    }
+}
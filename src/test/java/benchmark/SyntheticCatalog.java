@@ -0,0 +1,190 @@
+package benchmark;
+
+import java.io.IOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+
+/**
+ * Deterministic generator of synthetic catalogs: {@code tables} tables of {@code columns} columns
+ * each, written as JSON array-of-tables catalogs or as XML schema files.
+ * <p>
+ * Tables are named {@code t000000}, {@code t000001} and so on; each starts with its primary key,
+ * e.g. {@code t000001_id}.
+ * Each table references on average {@code relationshipDensity} earlier tables through many-to-one
+ * relationships, each adding a foreign key column named after the referenced key; the remaining
+ * columns get types drawn from a fixed mix of integer, text, decimal and temporal types. Only
+ * earlier tables are referenced, so the catalog is acyclic and always orders. Every table is
+ * derived from the seed and its own index alone, so the same arguments produce byte-identical
+ * files however the tables are split across them.
+ * </p>
+ * <p>
+ * The XML format describes one table per document with untyped fields, so XML output carries the
+ * same tables and column names but no types, keys or relationships.
+ * </p>
+ */
+public class SyntheticCatalog {
+    private static final String[] TYPES = {
+            "INT", "BIGINT", "VARCHAR(64)", "VARCHAR(255)", "TEXT", "DECIMAL(12,2)", "DATE", "TIMESTAMP",
+            "BOOLEAN", "SMALLINT"
+    };
+
+    private final int tables;
+    private final int columns;
+    private final double relationshipDensity;
+    private final long seed;
+
+    /**
+     * @param tables              the number of tables (at least 1)
+     * @param columns             the number of columns per table, key columns included (at least 1)
+     * @param relationshipDensity the average number of tables each table references (at least 0)
+     * @param seed                the random seed
+     * @throws IllegalArgumentException if a count is out of range
+     */
+    public SyntheticCatalog(int tables, int columns, double relationshipDensity, long seed) {
+        if (tables < 1 || columns < 1) {
+            throw new IllegalArgumentException("A synthetic catalog needs at least one table and one column, got: "
+                    + tables + " x " + columns);
+        }
+        if (!(relationshipDensity >= 0)) {
+            throw new IllegalArgumentException("Relationship density cannot be negative, got: " + relationshipDensity);
+        }
+        this.tables = tables;
+        this.columns = columns;
+        this.relationshipDensity = relationshipDensity;
+        this.seed = seed;
+    }
+
+    /**
+     * @param index the table index
+     * @return the table's name
+     */
+    public static String tableName(int index) {
+        return String.format("t%06d", index);
+    }
+
+    /**
+     * Writes the catalog as JSON array-of-tables files of {@code tablesPerFile} tables each,
+     * named {@code catalog-00000.json} and so on.
+     *
+     * @param directory     the target directory, created if needed
+     * @param tablesPerFile the most tables per file (at least 1)
+     * @return the files written, in order
+     * @throws IOException if a file cannot be written
+     */
+    public List<Path> writeJson(Path directory, int tablesPerFile) throws IOException {
+        if (tablesPerFile < 1) {
+            throw new IllegalArgumentException("Tables per file must be at least 1, got: " + tablesPerFile);
+        }
+        Files.createDirectories(directory);
+        List<Path> files = new ArrayList<>();
+        for (int first = 0; first < tables; first += tablesPerFile) {
+            Path file = directory.resolve(String.format("catalog-%05d.json", files.size()));
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                out.write("[\n");
+                int last = Math.min(tables, first + tablesPerFile);
+                for (int i = first; i < last; i++) {
+                    appendJson(out, table(i));
+                    out.write(i + 1 < last ? ",\n" : "\n");
+                }
+                out.write("]\n");
+            }
+            files.add(file);
+        }
+        return files;
+    }
+
+    /**
+     * Writes the catalog as one XML schema file per table, named after the table.
+     *
+     * @param directory the target directory, created if needed
+     * @return the files written, in table order
+     * @throws IOException if a file cannot be written
+     */
+    public List<Path> writeXml(Path directory) throws IOException {
+        Files.createDirectories(directory);
+        List<Path> files = new ArrayList<>(tables);
+        for (int i = 0; i < tables; i++) {
+            Table table = table(i);
+            Path file = directory.resolve(table.name + ".xml");
+            try (Writer out = Files.newBufferedWriter(file, StandardCharsets.UTF_8)) {
+                out.write("<schema name=\"" + table.name + "\">\n    <fields>\n");
+                for (String column : table.columns) {
+                    out.write("        <field>" + column + "</field>\n");
+                }
+                out.write("    </fields>\n</schema>\n");
+            }
+            files.add(file);
+        }
+        return files;
+    }
+
+    private Table table(int index) {
+        // Seeded per table so a table does not depend on how many were generated before it
+        Random random = new Random(seed * 31 + index);
+        Table table = new Table(tableName(index));
+        table.add(table.name + "_id", "BIGINT");
+
+        int wanted = (int) relationshipDensity + (random.nextDouble() < relationshipDensity % 1 ? 1 : 0);
+        int references = Math.min(wanted, Math.min(index, columns - 1));
+        Set<Integer> related = new HashSet<>();
+        for (int r = 0; r < references; r++) {
+            // Redraw repeats: references are few, so this stays cheap for catalogs of any size
+            int target;
+            do {
+                target = random.nextInt(index);
+            } while (!related.add(target));
+            String key = tableName(target) + "_id";
+            table.add(key, "BIGINT");
+            table.references.add(new String[]{tableName(target), key});
+        }
+        for (int c = table.columns.size(); c < columns; c++) {
+            table.add("c" + c, TYPES[random.nextInt(TYPES.length)]);
+        }
+        return table;
+    }
+
+    private static void appendJson(Writer out, Table table) throws IOException {
+        StringBuilder sb = new StringBuilder(64 + table.columns.size() * 40);
+        sb.append("  {\n    \"tableName\": \"").append(table.name).append("\",\n    \"columns\": [");
+        for (int c = 0; c < table.columns.size(); c++) {
+            sb.append(c == 0 ? "\n" : ",\n").append("      {\"name\": \"").append(table.columns.get(c))
+                    .append("\", \"type\": \"").append(table.types.get(c)).append("\"}");
+        }
+        sb.append("\n    ],\n    \"primaryKey\": \"").append(table.columns.get(0)).append('"');
+        if (!table.references.isEmpty()) {
+            sb.append(",\n    \"relationships\": [");
+            for (int r = 0; r < table.references.size(); r++) {
+                String[] reference = table.references.get(r);
+                sb.append(r == 0 ? "\n" : ",\n")
+                        .append("      {\"relationshipType\": \"many-to-one\", \"relatedTable\": \"").append(reference[0])
+                        .append("\", \"foreignKey\": \"").append(reference[1])
+                        .append("\", \"relatedForeignKey\": \"").append(reference[1]).append("\"}");
+            }
+            sb.append("\n    ]");
+        }
+        out.append(sb).append("\n  }");
+    }
+
+    private static final class Table {
+        private final String name;
+        private final List<String> columns = new ArrayList<>();
+        private final List<String> types = new ArrayList<>();
+        private final List<String[]> references = new ArrayList<>();
+
+        private Table(String name) {
+            this.name = name;
+        }
+
+        private void add(String column, String type) {
+            columns.add(column);
+            types.add(type);
+        }
+    }
+}
@@ -0,0 +1,95 @@
+package benchmark;
+
+import model.JSONParser;
+import model.Relationship;
+import model.SchemaObject;
+import model.XmlParser;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SyntheticCatalog}.
+ */
+class SyntheticCatalogTest {
+
+    @TempDir
+    Path tempDir;
+
+    private static List<SchemaObject> parseJson(List<Path> files) throws Exception {
+        List<SchemaObject> schemas = new ArrayList<>();
+        for (Path file : files) {
+            try (InputStream in = Files.newInputStream(file)) {
+                schemas.addAll(new JSONParser().parseCatalog(in, file.toString()));
+            }
+        }
+        return schemas;
+    }
+
+    @Test
+    void writesParseableJsonWithTheRequestedShape() throws Exception {
+        List<Path> files = new SyntheticCatalog(25, 12, 2.0, 7).writeJson(tempDir, 10);
+
+        assertEquals(3, files.size());
+        List<SchemaObject> schemas = parseJson(files);
+        assertEquals(25, schemas.size());
+        int relationships = 0;
+        for (int i = 0; i < schemas.size(); i++) {
+            SchemaObject schema = schemas.get(i);
+            assertEquals(SyntheticCatalog.tableName(i), schema.getName());
+            assertEquals(12, schema.getFields().size());
+            assertEquals(List.of(schema.getName() + "_id"), schema.getPrimaryKey());
+            for (Relationship relationship : schema.getRelationships()) {
+                assertEquals(Relationship.MANY_TO_ONE, relationship.getType());
+                // Only earlier tables are referenced, through a column of the declaring table
+                assertTrue(relationship.getRelatedTable().compareTo(schema.getName()) < 0);
+                assertTrue(schema.getFields().contains(relationship.getForeignKey()));
+                relationships++;
+            }
+        }
+        // Density 2 gives every table but the first two exactly two references: 0 + 1 + 23 * 2
+        assertEquals(47, relationships);
+    }
+
+    @Test
+    void isDeterministicWhateverTheFileSplit() throws Exception {
+        SyntheticCatalog catalog = new SyntheticCatalog(30, 8, 0.5, 99);
+        List<SchemaObject> whole = parseJson(catalog.writeJson(tempDir.resolve("whole"), 30));
+        List<SchemaObject> split = parseJson(catalog.writeJson(tempDir.resolve("split"), 7));
+        List<Path> again = new SyntheticCatalog(30, 8, 0.5, 99).writeJson(tempDir.resolve("again"), 30);
+
+        assertEquals(whole.size(), split.size());
+        for (int i = 0; i < whole.size(); i++) {
+            assertEquals(whole.get(i).getFields(), split.get(i).getFields());
+            assertEquals(whole.get(i).getFieldTypes(), split.get(i).getFieldTypes());
+        }
+        assertEquals(Files.readString(tempDir.resolve("whole").resolve("catalog-00000.json")),
+                Files.readString(again.get(0)));
+    }
+
+    @Test
+    void writesOneXmlSchemaPerTable() throws Exception {
+        List<Path> files = new SyntheticCatalog(4, 5, 1.0, 1).writeXml(tempDir);
+
+        assertEquals(4, files.size());
+        SchemaObject last = new XmlParser().parse(files.get(3).toFile());
+        assertEquals("t000003", last.getName());
+        assertEquals(5, last.getFields().size());
+        assertEquals("t000003_id", last.getFields().get(0));
+    }
+
+    @Test
+    void rejectsInvalidShapes() {
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticCatalog(0, 5, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticCatalog(5, 0, 1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticCatalog(5, 5, -1, 1));
+        assertThrows(IllegalArgumentException.class, () -> new SyntheticCatalog(5, 5, 1, 1).writeJson(tempDir, 0));
+    }
+}
@@ -0,0 +1,166 @@
+package benchmark;
+
+import main.SchemaCli;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.stream.Stream;
+
+/**
+ * End-to-end throughput of the shipped conversion path on a {@link SyntheticCatalog}: each run is
+ * a {@link SchemaCli} conversion with {@code --output-dir}, so it parses through the controller,
+ * prepares, orders and generates the tables with the CLI's memoizing generator and writes each
+ * table's script through the {@link model.OutputStore}, exactly as {@code bin/schema2script} does.
+ * <p>
+ * The catalog is generated into a temporary directory, converted once untimed to warm up the
+ * JIT, then converted {@code iterations} times into a fresh output directory each, so every
+ * script is really written. Reports files/s, tables/s and input MB/s over the timed runs, the
+ * GC time and collections they caused, and the process's peak resident set size
+ * ({@code VmHWM}, Linux only; reset before the timed runs where the kernel allows it). Run it
+ * with the test classpath, for example:
+ * </p>
+ * <pre>{@code
+ * mvn -q test-compile
+ * java -cp target/test-classes:target/classes:<dependency jars> benchmark.ThroughputBenchmark \
+ *      json 2000 40 1.5 100 5
+ * }</pre>
+ * <p>
+ * The arguments are the format ({@code json} or {@code xml}, default json), the table count
+ * (default 2000), columns per table (default 40), relationship density (default 1.5), tables per
+ * JSON file (default 100; XML always has one per file) and timed iterations (default 5).
+ * Logging uses the quiet CLI configuration unless {@code log4j2.configurationFile} is set, so
+ * the appender is not measured.
+ * </p>
+ */
+public class ThroughputBenchmark {
+
+    public static void main(String[] args) throws Exception {
+        if (System.getProperty("log4j2.configurationFile") == null) {
+            System.setProperty("log4j2.configurationFile", "log4j2-cli.xml");
+        }
+        String format = args.length > 0 ? args[0] : "json";
+        int tables = args.length > 1 ? Integer.parseInt(args[1]) : 2000;
+        int columns = args.length > 2 ? Integer.parseInt(args[2]) : 40;
+        double density = args.length > 3 ? Double.parseDouble(args[3]) : 1.5;
+        int tablesPerFile = args.length > 4 ? Integer.parseInt(args[4]) : 100;
+        int iterations = args.length > 5 ? Integer.parseInt(args[5]) : 5;
+
+        Path workDir = Files.createTempDirectory("schema2script-throughput");
+        try {
+            SyntheticCatalog catalog = new SyntheticCatalog(tables, columns, density, 42);
+            List<Path> inputs = switch (format) {
+                case "json" -> catalog.writeJson(workDir.resolve("in"), tablesPerFile);
+                case "xml" -> catalog.writeXml(workDir.resolve("in"));
+                default -> throw new IllegalArgumentException("Format must be json or xml, got: " + format);
+            };
+            long inputBytes = 0;
+            for (Path input : inputs) {
+                inputBytes += Files.size(input);
+            }
+            System.out.printf("%d %s files, %d tables x %d columns, density %.2f, %.1f MB%n",
+                    inputs.size(), format, tables, columns, density, inputBytes / 1e6);
+
+            convert(inputs, workDir.resolve("warmup"));
+
+            resetPeakRss();
+            long gcTimeBefore = gcTime();
+            long gcCountBefore = gcCount();
+            long start = System.nanoTime();
+            for (int i = 0; i < iterations; i++) {
+                convert(inputs, workDir.resolve("out-" + i));
+            }
+            double seconds = (System.nanoTime() - start) / 1e9;
+
+            System.out.printf("%d iterations in %.2f s%n", iterations, seconds);
+            System.out.printf("  %10.1f files/s%n", inputs.size() * (double) iterations / seconds);
+            System.out.printf("  %10.1f tables/s%n", tables * (double) iterations / seconds);
+            System.out.printf("  %10.2f MB/s%n", inputBytes * (double) iterations / 1e6 / seconds);
+            System.out.printf("  GC: %d ms in %d collections (%.1f%% of wall time)%n",
+                    gcTime() - gcTimeBefore, gcCount() - gcCountBefore,
+                    (gcTime() - gcTimeBefore) / 10.0 / seconds);
+            long peakRss = peakRssKb();
+            System.out.println(peakRss < 0
+                    ? "  Peak RSS: unavailable (no /proc/self/status)"
+                    : String.format("  Peak RSS: %.1f MB", peakRss / 1024.0));
+        } finally {
+            try (Stream<Path> files = Files.walk(workDir)) {
+                for (Path file : (Iterable<Path>) files.sorted(Comparator.reverseOrder())::iterator) {
+                    Files.delete(file);
+                }
+            }
+        }
+    }
+
+    /**
+     * Converts every input into {@code outputDir} with the CLI.
+     *
+     * @throws IllegalStateException if the conversion fails
+     */
+    private static void convert(List<Path> inputs, Path outputDir) {
+        List<String> args = new ArrayList<>();
+        inputs.forEach(input -> args.add(input.toString()));
+        args.add("--output-dir=" + outputDir);
+        ByteArrayOutputStream err = new ByteArrayOutputStream();
+        int exit = new SchemaCli(new PrintStream(OutputStream.nullOutputStream()), new PrintStream(err, true))
+                .run(args.toArray(new String[0]));
+        // Exit code 0 is success, as for the launcher
+        if (exit != 0) {
+            throw new IllegalStateException("Conversion failed with exit code " + exit + ": "
+                    + err.toString(StandardCharsets.UTF_8));
+        }
+    }
+
+    private static long gcTime() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionTime());
+        }
+        return total;
+    }
+
+    private static long gcCount() {
+        long total = 0;
+        for (GarbageCollectorMXBean gc : ManagementFactory.getGarbageCollectorMXBeans()) {
+            total += Math.max(0, gc.getCollectionCount());
+        }
+        return total;
+    }
+
+    /**
+     * Resets the kernel's peak RSS counter so warm-up and catalog generation are not counted.
+     * Best effort: the file is missing outside Linux and may not be writable in containers.
+     */
+    private static void resetPeakRss() {
+        try {
+            Files.writeString(Path.of("/proc/self/clear_refs"), "5");
+        } catch (IOException | UnsupportedOperationException e) {
+            System.out.println("  (peak RSS includes generation and warm-up: " + e.getMessage() + ")");
+        }
+    }
+
+    /**
+     * @return the peak resident set size in KB, or -1 where {@code /proc/self/status} is unavailable
+     */
+    private static long peakRssKb() {
+        try {
+            for (String line : Files.readAllLines(Path.of("/proc/self/status"), StandardCharsets.UTF_8)) {
+                if (line.startsWith("VmHWM:")) {
+                    return Long.parseLong(line.substring("VmHWM:".length()).replace("kB", "").trim());
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            // Fall through to unavailable
+        }
+        return -1;
+    }
+}
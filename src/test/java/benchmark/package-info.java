@@ -0,0 +1,9 @@
+/**
+ * Stand-alone benchmarks and the synthetic catalogs they run on.
+ * <p>
+ * Each benchmark is a {@code main} class run with the test classpath, as its documentation shows.
+ * They are not JUnit tests: surefire does not pick them up, so CI only runs them on demand.
+ * {@link benchmark.SyntheticCatalogTest} is the exception and runs with the regular tests.
+ * </p>
+ */
+package benchmark;
@@ -0,0 +1,162 @@
+package controller;
+
+import exception.SchemaParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SingleFlight}.
+ */
+class SingleFlightTest {
+
+    private static final int CALLERS = 8;
+
+    /**
+     * Starts {@link #CALLERS} concurrent requests for one key while the leader's work is held
+     * open, then releases it and returns every caller's outcome.
+     */
+    private List<Future<String>> runConcurrently(SingleFlight<String, String> flights, AtomicInteger runs,
+                                                 String failure) throws Exception {
+        CountDownLatch leaderRunning = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        ExecutorService pool = Executors.newFixedThreadPool(CALLERS);
+        try {
+            List<Future<String>> results = new ArrayList<>();
+            results.add(pool.submit(() -> SingleFlight.await(flights.execute("person.json", () -> {
+                runs.incrementAndGet();
+                leaderRunning.countDown();
+                release.await();
+                if (failure != null) {
+                    throw new SchemaParsingException(failure);
+                }
+                return "CREATE TABLE `Person`";
+            }))));
+            assertTrue(leaderRunning.await(5, TimeUnit.SECONDS));
+
+            List<CompletableFuture<String>> joined = new ArrayList<>();
+            for (int i = 1; i < CALLERS; i++) {
+                CompletableFuture<String> shared = flights.execute("person.json", () -> {
+                    runs.incrementAndGet();
+                    return "duplicate work";
+                });
+                joined.add(shared);
+                results.add(pool.submit(() -> SingleFlight.await(shared)));
+            }
+            assertEquals(1, flights.getInFlight());
+            release.countDown();
+
+            for (Future<String> result : results) {
+                try {
+                    result.get(5, TimeUnit.SECONDS);
+                } catch (Exception ignored) {
+                    // Inspected by the caller
+                }
+            }
+            return results;
+        } finally {
+            pool.shutdownNow();
+        }
+    }
+
+    @Test
+    void concurrentCallersShareOneComputation() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+
+        List<Future<String>> results = runConcurrently(flights, runs, null);
+
+        assertEquals(1, runs.get());
+        assertEquals(CALLERS - 1, flights.getCoalesced());
+        for (Future<String> result : results) {
+            assertEquals("CREATE TABLE `Person`", result.get());
+        }
+        assertEquals(0, flights.getInFlight());
+    }
+
+    @Test
+    void failureReachesEveryWaiter() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+
+        List<Future<String>> results = runConcurrently(flights, runs, "broken schema");
+
+        assertEquals(1, runs.get());
+        Set<Throwable> seen = Collections.newSetFromMap(new IdentityHashMap<>());
+        for (Future<String> result : results) {
+            Exception e = assertThrows(Exception.class, result::get);
+            assertInstanceOf(SchemaParsingException.class, e.getCause());
+            assertEquals("Schema Parsing Error: broken schema", e.getCause().getMessage());
+            assertInstanceOf(SchemaParsingException.class, e.getCause().getCause(), "The leader's failure is the cause");
+            seen.add(e.getCause());
+        }
+        assertEquals(CALLERS, seen.size(), "Every waiter gets its own exception");
+    }
+
+    @Test
+    void interruptedWaiterIsCancelledWithoutCancellingTheWork() throws Exception {
+        SingleFlight<String, String> flights = new SingleFlight<>();
+        CountDownLatch release = new CountDownLatch(1);
+        CompletableFuture<String> leader = CompletableFuture.supplyAsync(() -> {
+            try {
+                return SingleFlight.await(flights.execute("k", () -> {
+                    release.await();
+                    return "done";
+                }));
+            } catch (Exception e) {
+                throw new IllegalStateException(e);
+            }
+        });
+        while (flights.getInFlight() == 0) {
+            Thread.onSpinWait();
+        }
+        CompletableFuture<String> shared = flights.execute("k", () -> "duplicate work");
+        AtomicReference<Throwable> failure = new AtomicReference<>();
+        AtomicBoolean stillInterrupted = new AtomicBoolean();
+        Thread waiter = new Thread(() -> {
+            try {
+                SingleFlight.await(shared);
+            } catch (Throwable t) {
+                failure.set(t);
+                stillInterrupted.set(Thread.currentThread().isInterrupted());
+            }
+        });
+        waiter.start();
+        waiter.interrupt();
+        waiter.join(5000);
+
+        assertInstanceOf(CancellationException.class, failure.get());
+        assertTrue(stillInterrupted.get(), "The interrupt status is restored");
+        assertFalse(shared.isDone(), "Other waiters keep waiting for the work");
+        release.countDown();
+        assertEquals("done", leader.get(5, TimeUnit.SECONDS));
+    }
+
+    @Test
+    void completedWorkIsNotCached() throws Exception {
+        SingleFlight<String, Integer> flights = new SingleFlight<>();
+        AtomicInteger runs = new AtomicInteger();
+
+        SingleFlight.await(flights.execute("k", runs::incrementAndGet));
+        int second = SingleFlight.await(flights.execute("k", runs::incrementAndGet));
+
+        assertEquals(2, second);
+        assertEquals(0, flights.getCoalesced());
+    }
+}
@@ -0,0 +1,297 @@
+package main;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.PrintStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SchemaCli}.
+ */
+class SchemaCliTest {
+
+    private final ByteArrayOutputStream out = new ByteArrayOutputStream();
+    private final ByteArrayOutputStream err = new ByteArrayOutputStream();
+    private final SchemaCli cli = new SchemaCli(new PrintStream(out, true), new PrintStream(err, true));
+
+    private File schemaFile(String suffix, String content) throws Exception {
+        File file = File.createTempFile("schema", suffix);
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(content);
+        }
+        return file;
+    }
+
+    @Test
+    void convertsToStandardOutput() throws Exception {
+        File file = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+
+        int exit = cli.run(new String[]{file.getPath()});
+
+        assertEquals(SchemaCli.EXIT_OK, exit);
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("CREATE TABLE `Person`"));
+    }
+
+    @Test
+    void writesToOutputFile() throws Exception {
+        File file = schemaFile(".xml", "<schema name=\"Person\"><fields><field>id</field></fields></schema>");
+        File sql = File.createTempFile("person", ".sql");
+
+        int exit = cli.run(new String[]{file.getPath(), "--output=" + sql.getPath()});
+
+        assertEquals(SchemaCli.EXIT_OK, exit);
+        assertTrue(Files.readString(sql.toPath()).contains("CREATE TABLE `Person`"));
+    }
+
+    @Test
+    void reportsParseFailuresOnStandardError() throws Exception {
+        File file = schemaFile(".json", "{\"name\":\"Person\"}");
+
+        int exit = cli.run(new String[]{file.getPath()});
+
+        assertEquals(SchemaCli.EXIT_FAILED, exit);
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Schema could not be parsed"));
+    }
+
+    @Test
+    void missingInputIsAUsageError() {
+        assertEquals(SchemaCli.EXIT_USAGE, cli.run(new String[]{"--dialect=mysql"}));
+    }
+
+    @Test
+    void detectsFormatFromContentRegardlessOfExtension() throws Exception {
+        File file = schemaFile(".txt", "  <schema name=\"Person\"><fields><field>id</field></fields></schema>");
+
+        int exit = cli.run(new String[]{file.getPath()});
+
+        assertEquals(SchemaCli.EXIT_OK, exit);
+        assertTrue(out.toString(StandardCharsets.UTF_8).contains("CREATE TABLE `Person`"));
+    }
+
+    @Test
+    void missingFileIsReported() {
+        int exit = cli.run(new String[]{"does_not_exist.json"});
+
+        assertEquals(SchemaCli.EXIT_FAILED, exit);
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("File not found"));
+    }
+
+    @Test
+    void reusesCatalogSnapshotWhileInputsAreUnchanged() throws Exception {
+        File file = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+        File snapshot = new File(Files.createTempDirectory("snap").toFile(), "catalog.s2s");
+
+        assertEquals(SchemaCli.EXIT_OK, cli.run(new String[]{file.getPath(), "--snapshot=" + snapshot.getPath()}));
+        assertTrue(snapshot.isFile());
+        String first = out.toString(StandardCharsets.UTF_8);
+        out.reset();
+
+        assertEquals(SchemaCli.EXIT_OK, cli.run(new String[]{file.getPath(), "--snapshot=" + snapshot.getPath()}));
+        assertEquals(first, out.toString(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    void convertsOnlySelectedTablesOfACatalog() throws Exception {
+        File file = schemaFile(".json", "[{\"tableName\":\"student\",\"columns\":[{\"name\":\"id\",\"type\":\"INT\"}]},"
+                + "{\"tableName\":\"course\",\"columns\":[{\"name\":\"id\",\"type\":\"INT\"}]}]");
+
+        int exit = cli.run(new String[]{file.getPath(), "--tables=course"});
+
+        String sql = out.toString(StandardCharsets.UTF_8);
+        assertEquals(SchemaCli.EXIT_OK, exit);
+        assertTrue(sql.contains("CREATE TABLE `course`"));
+        assertFalse(sql.contains("student"));
+        assertTrue(Files.exists(model.CatalogIndex.indexPath(file.toPath())));
+    }
+
+    @Test
+    void writesShardsAndManifestByDependencyLevel() throws Exception {
+        File file = new File("resources/schema.json");
+        Path dir = Files.createTempDirectory("shards");
+
+        int exit = cli.run(new String[]{file.getPath(), "--output-dir=" + dir, "--shard-by=level"});
+
+        assertEquals(SchemaCli.EXIT_OK, exit, err.toString(StandardCharsets.UTF_8));
+        assertTrue(Files.readString(dir.resolve("shard-001.sql")).contains("CREATE TABLE `student`"));
+        assertTrue(Files.readString(dir.resolve("shard-003.sql")).contains("CREATE TABLE `enrollment`"));
+        String manifest = Files.readString(dir.resolve(SchemaCli.SHARD_MANIFEST));
+        assertTrue(manifest.contains("\"strategy\" : \"level\""), manifest);
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("3 shards in 3 phases"));
+    }
+
+    @Test
+    void failedTableKeepsItsLastGoodScript() throws Exception {
+        File file = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+        Path dir = Files.createTempDirectory("scripts");
+        String[] args = {file.getPath(), "--output-dir=" + dir};
+        assertEquals(SchemaCli.EXIT_OK, cli.run(args));
+        String good = Files.readString(dir.resolve("Person.sql"));
+        String manifest = Files.readString(dir.resolve(model.OutputStore.MANIFEST_NAME));
+
+        // A 70-character column name parses but exceeds MySQL's identifier limit
+        Files.writeString(file.toPath(), "{\"name\":\"Person\",\"fields\":[\"id\",\"" + "x".repeat(70) + "\"]}");
+        assertEquals(SchemaCli.EXIT_FAILED, cli.run(args));
+
+        assertEquals(good, Files.readString(dir.resolve("Person.sql")));
+        assertEquals(manifest, Files.readString(dir.resolve(model.OutputStore.MANIFEST_NAME)));
+    }
+
+    @Test
+    void createsEveryTableBeforeForeignKeysOfACycle() throws Exception {
+        File file = schemaFile(".json", "[{\"tableName\":\"a\",\"columns\":[{\"name\":\"id\",\"type\":\"INT\"},"
+                + "{\"name\":\"b_id\",\"type\":\"INT\"}],\"primaryKey\":\"id\",\"relationships\":[{\"relationshipType\":"
+                + "\"many-to-one\",\"relatedTable\":\"b\",\"foreignKey\":\"b_id\",\"relatedForeignKey\":\"id\"}]},"
+                + "{\"tableName\":\"b\",\"columns\":[{\"name\":\"id\",\"type\":\"INT\"},"
+                + "{\"name\":\"a_id\",\"type\":\"INT\"}],\"primaryKey\":\"id\",\"relationships\":[{\"relationshipType\":"
+                + "\"many-to-one\",\"relatedTable\":\"a\",\"foreignKey\":\"a_id\",\"relatedForeignKey\":\"id\"}]}]");
+        Path dir = Files.createTempDirectory("cycle");
+
+        assertEquals(SchemaCli.EXIT_OK, cli.run(new String[]{file.getPath()}), err.toString(StandardCharsets.UTF_8));
+        assertEquals(SchemaCli.EXIT_OK, cli.run(new String[]{file.getPath(), "--output-dir=" + dir, "--shard-by=level"}));
+
+        for (String sql : List.of(out.toString(StandardCharsets.UTF_8), Files.readString(dir.resolve("shard-001.sql")))) {
+            assertTrue(sql.contains("CREATE TABLE `b`") && sql.contains("FOREIGN KEY (`a_id`)"), sql);
+            assertTrue(sql.lastIndexOf("CREATE TABLE") < sql.indexOf("FOREIGN KEY"), sql);
+        }
+    }
+
+    @Test
+    void shardingRequiresAnOutputDirectory() throws Exception {
+        File file = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+
+        assertEquals(SchemaCli.EXIT_USAGE, cli.run(new String[]{file.getPath(), "--shards=2"}));
+    }
+
+    @Test
+    void infersColumnTypesFromSamples() throws Exception {
+        File file = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\",\"name\"]}");
+        Path samples = Files.createTempDirectory("samples");
+        Files.writeString(samples.resolve("Person.csv"), "id,name\n1,Ada\n2,Grace\n");
+
+        int exit = cli.run(new String[]{file.getPath(), "--samples=" + samples});
+
+        assertEquals(SchemaCli.EXIT_OK, exit);
+        String sql = out.toString(StandardCharsets.UTF_8);
+        assertTrue(sql.contains("`id` TINYINT"));
+        assertTrue(sql.contains("`name` VARCHAR(5)"));
+    }
+
+    @Test
+    void bulkLoadDefersIndexesAndForeignKeysToAPostLoadScript() throws Exception {
+        File file = new File("resources/schema.json");
+        File sql = File.createTempFile("catalog", ".sql");
+
+        int exit = cli.run(new String[]{file.getPath(), "--output=" + sql.getPath(), "--bulk-load"});
+
+        assertEquals(SchemaCli.EXIT_OK, exit, err.toString(StandardCharsets.UTF_8));
+        String script = Files.readString(sql.toPath());
+        assertTrue(script.contains("PRIMARY KEY"));
+        assertFalse(script.contains("ALTER TABLE"));
+        String postLoad = Files.readString(SchemaCli.postLoadPath(sql.toPath()));
+        assertTrue(postLoad.startsWith("SET @OLD_FOREIGN_KEY_CHECKS"), postLoad);
+        assertTrue(postLoad.contains("FOREIGN KEY (`student_id`)"), postLoad);
+        assertFalse(postLoad.contains("PRIMARY KEY"));
+    }
+
+    @Test
+    void bulkLoadRequiresAnOutput() throws Exception {
+        File file = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+
+        assertEquals(SchemaCli.EXIT_USAGE, cli.run(new String[]{file.getPath(), "--bulk-load"}));
+    }
+
+    @Test
+    void optimizesColumnLayoutAndReportsSavings() throws Exception {
+        File file = schemaFile(".json", "[{\"tableName\":\"event\",\"columns\":["
+                + "{\"name\":\"active\",\"type\":\"BOOLEAN\"},{\"name\":\"created\",\"type\":\"TIMESTAMP\"},"
+                + "{\"name\":\"flag\",\"type\":\"BOOLEAN\"},{\"name\":\"total\",\"type\":\"BIGINT\"}]}]");
+
+        int exit = cli.run(new String[]{file.getPath(), "--optimize-layout"});
+
+        assertEquals(SchemaCli.EXIT_OK, exit, err.toString(StandardCharsets.UTF_8));
+        String sql = out.toString(StandardCharsets.UTF_8);
+        assertTrue(sql.indexOf("`total`") < sql.indexOf("`active`"), sql);
+        assertTrue(err.toString(StandardCharsets.UTF_8).contains("Column layout of 'event': 32.0 -> 24.0 bytes per row"));
+    }
+
+    @Test
+    void journalSkipsCompletedInputsOnResume() throws Exception {
+        File person = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+        File order = schemaFile(".json", "{\"name\":\"Orders\",\"fields\":[\"id\"]}");
+        Path dir = Files.createTempDirectory("journaled");
+        Path journal = dir.resolve("run.journal");
+        String[] args = {person.getPath(), order.getPath(), "--output-dir=" + dir.resolve("sql"), "--journal=" + journal};
+
+        assertEquals(SchemaCli.EXIT_OK, cli.run(args), err.toString(StandardCharsets.UTF_8));
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("2 converted, 0 already done"));
+        assertEquals(3, Files.readAllLines(journal).size());
+
+        out.reset();
+        Files.writeString(order.toPath(), "{\"name\":\"Orders\",\"fields\":[\"id\",\"total\"]}");
+        assertEquals(SchemaCli.EXIT_OK, cli.run(args));
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("1 converted, 1 already done"));
+        assertTrue(Files.readString(dir.resolve("sql/Orders.sql")).contains("`total`"));
+    }
+
+    @Test
+    void journalConvertsAgainWhenAScriptIsMissingOrChanged() throws Exception {
+        File person = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+        File order = schemaFile(".json", "{\"name\":\"Orders\",\"fields\":[\"id\"]}");
+        Path dir = Files.createTempDirectory("journaled");
+        String[] args = {person.getPath(), order.getPath(), "--output-dir=" + dir.resolve("sql"),
+                "--journal=" + dir.resolve("run.journal")};
+        assertEquals(SchemaCli.EXIT_OK, cli.run(args), err.toString(StandardCharsets.UTF_8));
+        String script = Files.readString(dir.resolve("sql/Person.sql"));
+
+        out.reset();
+        Files.delete(dir.resolve("sql/Person.sql"));
+        Files.writeString(dir.resolve("sql/Orders.sql"), "-- truncated");
+        assertEquals(SchemaCli.EXIT_OK, cli.run(args));
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("2 converted, 0 already done"));
+        assertEquals(script, Files.readString(dir.resolve("sql/Person.sql")));
+        assertTrue(Files.readString(dir.resolve("sql/Orders.sql")).contains("CREATE TABLE `Orders`"));
+    }
+
+    @Test
+    void journalConvertsAgainWhenASampleFileChanged() throws Exception {
+        File person = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+        Path samples = Files.createTempDirectory("samples");
+        Files.writeString(samples.resolve("Person.csv"), "id\n1\n2\n");
+        Path dir = Files.createTempDirectory("journaled");
+        String[] args = {person.getPath(), "--samples=" + samples, "--output-dir=" + dir.resolve("sql"),
+                "--journal=" + dir.resolve("run.journal")};
+        assertEquals(SchemaCli.EXIT_OK, cli.run(args), err.toString(StandardCharsets.UTF_8));
+        assertTrue(Files.readString(dir.resolve("sql/Person.sql")).contains("`id` TINYINT"));
+
+        out.reset();
+        Files.writeString(samples.resolve("Person.csv"), "id\n1\n3000000000\n");
+        assertEquals(SchemaCli.EXIT_OK, cli.run(args));
+
+        assertTrue(out.toString(StandardCharsets.UTF_8).startsWith("1 converted, 0 already done"));
+        assertTrue(Files.readString(dir.resolve("sql/Person.sql")).contains("`id` BIGINT"));
+    }
+
+    @Test
+    void journalRequiresAnOutputDirectory() throws Exception {
+        File file = schemaFile(".json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+
+        assertEquals(SchemaCli.EXIT_USAGE, cli.run(new String[]{file.getPath(), "--journal=run.journal"}));
+    }
+
+    @Test
+    void tablesCannotBeCombinedWithASnapshot() throws Exception {
+        File file = schemaFile(".json", "[{\"tableName\": \"Person\", \"columns\": [{\"name\": \"id\"}]}]");
+
+        assertEquals(SchemaCli.EXIT_USAGE, cli.run(new String[]{file.getPath(), "--tables=Person",
+                "--snapshot=" + file.getPath() + ".snap"}));
+    }
+}
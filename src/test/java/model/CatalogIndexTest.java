@@ -0,0 +1,127 @@
+package model;
+
+import exception.SchemaParsingException;
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CatalogIndex}.
+ */
+class CatalogIndexTest {
+
+    private static final String CATALOG = "[\n"
+            + "  {\"tableName\": \"student\", \"columns\": [{\"name\": \"student_id\", \"type\": \"INT\"}],\n"
+            + "   \"relationships\": [{\"relationshipType\": \"many-to-many\", \"relatedTable\": \"course\"}]},\n"
+            + "  {\"tableName\": \"straße\", \"columns\": [{\"name\": \"id\", \"type\": \"INT\"}]},\n"
+            + "  {\"tableName\": \"course\", \"columns\": [{\"name\": \"course_id\", \"type\": \"INT\"},"
+            + " {\"name\": \"title\", \"type\": \"VARCHAR(100)\"}]}\n"
+            + "]\n";
+
+    private final JSONParser parser = new JSONParser();
+
+    private Path catalog(String content) throws Exception {
+        Path file = Files.createTempDirectory("index").resolve("schema.json");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    @Test
+    void rangesCoverExactlyEachTableObject() throws Exception {
+        Path file = catalog(CATALOG);
+        byte[] bytes = Files.readAllBytes(file);
+
+        CatalogIndex index = CatalogIndex.build(file, parser);
+
+        assertEquals(List.of("student", "straße", "course"), List.copyOf(index.getTableNames()));
+        for (String table : index.getTableNames()) {
+            long[] range = index.rangeOf(table);
+            String slice = new String(bytes, (int) range[0], (int) (range[1] - range[0]), StandardCharsets.UTF_8);
+            assertTrue(slice.startsWith("{") && slice.endsWith("}"), slice);
+            assertTrue(slice.contains("\"" + table + "\""), slice);
+        }
+    }
+
+    @Test
+    void extractsOnlyTheRequestedTables() throws Exception {
+        Path file = catalog(CATALOG);
+
+        List<SchemaObject> tables = CatalogIndex.open(file, parser).extract(List.of("course", "straße"), parser);
+
+        assertEquals(2, tables.size());
+        assertEquals("course", tables.get(0).getName());
+        assertEquals(List.of("course_id", "title"), tables.get(0).getFields());
+        assertEquals("VARCHAR(100)", tables.get(0).getFieldType("title"));
+        assertEquals("straße", tables.get(1).getName());
+    }
+
+    @Test
+    void catalogObjectTablesGetItsDefaultOptions() throws Exception {
+        Path file = catalog("{\"options\": {\"engine\": \"MyISAM\"}, \"tables\": [\n"
+                + "  {\"tableName\": \"a\", \"columns\": [{\"name\": \"id\", \"type\": \"INT\"}]},\n"
+                + "  {\"tableName\": \"b\", \"columns\": [{\"name\": \"id\", \"type\": \"INT\"}],"
+                + " \"options\": {\"engine\": \"InnoDB\"}}\n"
+                + "]}\n");
+
+        CatalogIndex.open(file, parser);
+        List<SchemaObject> tables = CatalogIndex.open(file, parser).extract(List.of("b", "a"), parser);
+
+        assertEquals("InnoDB", tables.get(0).getOptions().get(TableOptions.ENGINE));
+        assertEquals("MyISAM", tables.get(1).getOptions().get(TableOptions.ENGINE));
+    }
+
+    @Test
+    void sidecarIsReusedAndSurvivesATouch() throws Exception {
+        Path file = catalog(CATALOG);
+        CatalogIndex.open(file, parser);
+        Path sidecar = CatalogIndex.indexPath(file);
+        assertTrue(Files.exists(sidecar));
+
+        Files.setLastModifiedTime(file, FileTime.fromMillis(0));
+        CatalogIndex touched = CatalogIndex.open(file, parser);
+
+        assertEquals(3, touched.getTableNames().size());
+        assertEquals("course", touched.extract(List.of("course"), parser).get(0).getName());
+    }
+
+    @Test
+    void changedContentRebuildsTheIndex() throws Exception {
+        Path file = catalog(CATALOG);
+        CatalogIndex.open(file, parser);
+
+        Files.writeString(file, "[{\"tableName\": \"enrollment\", \"columns\": [\"id\"]}]");
+        CatalogIndex rebuilt = CatalogIndex.open(file, parser);
+
+        assertEquals(List.of("enrollment"), List.copyOf(rebuilt.getTableNames()));
+    }
+
+    @Test
+    void unknownTableIsRejected() throws Exception {
+        Path file = catalog(CATALOG);
+        CatalogIndex index = CatalogIndex.open(file, parser);
+
+        assertThrows(IllegalArgumentException.class, () -> index.extract(List.of("teacher"), parser));
+    }
+
+    @Test
+    void singleObjectSchemaCannotBeIndexed() throws Exception {
+        Path file = catalog("{\"name\": \"Person\", \"fields\": [\"id\"]}");
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> CatalogIndex.build(file, parser));
+        assertTrue(ex.getMessage().contains("expected an array of tables"));
+    }
+
+    @Test
+    void xmlSchemaCannotBeIndexed() throws Exception {
+        Path file = catalog("<schema name=\"Person\"><fields><field>id</field></fields></schema>");
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> CatalogIndex.open(file, parser));
+        assertTrue(ex.getMessage().contains("expected an array of tables"));
+    }
+}
@@ -0,0 +1,92 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link CatalogSnapshot}.
+ */
+class CatalogSnapshotTest {
+
+    private final List<SchemaObject> catalog = List.of(
+            new SchemaObject("Person", List.of("id", "firstName", "lastName"))
+                    .withPartitioning(new Partitioning(Partitioning.Strategy.RANGE, List.of("id"), 0, List.of(
+                            new Partitioning.Partition("p0", List.of("100")),
+                            new Partitioning.Partition("pmax", List.of(Partitioning.MAXVALUE))))),
+            new SchemaObject("Order", List.of("id", "personId", "total"), Map.of("id", "INT", "total", "DECIMAL(10,2)"))
+                    .withRelationships(List.of(new Relationship(Relationship.MANY_TO_ONE, "Person", null, "personId", "id")))
+                    .withPrimaryKey(List.of("id"))
+                    .withPartitioning(new Partitioning(Partitioning.Strategy.HASH, List.of("id"), 4, List.of())),
+            new SchemaObject("Straße", List.of("id", "name"))
+                    .withOptions(new TableOptions(Map.of("engine", "InnoDB", "keyBlockSize", "8")))
+    );
+
+    private Path source() throws Exception {
+        Path source = Files.createTempFile("catalog", ".json");
+        Files.writeString(source, "[]");
+        return source;
+    }
+
+    @Test
+    void roundTripsCatalogAndSharesRepeatedStrings() throws Exception {
+        Path source = source();
+        Path snapshot = Files.createTempDirectory("snap").resolve("catalog.s2s");
+        byte[] fingerprint = CatalogSnapshot.fingerprint(List.of(source));
+
+        CatalogSnapshot.write(snapshot, catalog, fingerprint);
+        List<SchemaObject> loaded = CatalogSnapshot.read(snapshot, fingerprint);
+
+        assertNotNull(loaded);
+        assertEquals(3, loaded.size());
+        for (int i = 0; i < catalog.size(); i++) {
+            assertEquals(catalog.get(i).getName(), loaded.get(i).getName());
+            assertEquals(catalog.get(i).getFields(), loaded.get(i).getFields());
+            assertEquals(catalog.get(i).getFieldTypes(), loaded.get(i).getFieldTypes());
+            assertEquals(catalog.get(i).getRelationships().toString(), loaded.get(i).getRelationships().toString());
+            assertEquals(catalog.get(i).getPrimaryKey(), loaded.get(i).getPrimaryKey());
+            assertEquals(String.valueOf(catalog.get(i).getPartitioning()), String.valueOf(loaded.get(i).getPartitioning()));
+            assertEquals(catalog.get(i).getOptions().asMap(), loaded.get(i).getOptions().asMap());
+        }
+        assertSame(loaded.get(0).getFields().get(0), loaded.get(1).getFields().get(0),
+                "Deduplicated strings should be decoded once");
+    }
+
+    @Test
+    void staleSourcesInvalidateTheSnapshot() throws Exception {
+        Path source = source();
+        Path snapshot = Files.createTempDirectory("snap").resolve("catalog.s2s");
+        CatalogSnapshot.write(snapshot, catalog, CatalogSnapshot.fingerprint(List.of(source)));
+
+        Files.setLastModifiedTime(source, FileTime.fromMillis(0));
+
+        assertNull(CatalogSnapshot.read(snapshot, CatalogSnapshot.fingerprint(List.of(source))));
+    }
+
+    @Test
+    void corruptedSnapshotIsIgnored() throws Exception {
+        Path source = source();
+        Path snapshot = Files.createTempDirectory("snap").resolve("catalog.s2s");
+        byte[] fingerprint = CatalogSnapshot.fingerprint(List.of(source));
+        CatalogSnapshot.write(snapshot, catalog, fingerprint);
+
+        byte[] bytes = Files.readAllBytes(snapshot);
+        bytes[bytes.length - 3] ^= 0x5A;
+        Files.write(snapshot, bytes);
+
+        assertNull(CatalogSnapshot.read(snapshot, fingerprint));
+    }
+
+    @Test
+    void missingSnapshotReturnsNull() throws Exception {
+        Path snapshot = Files.createTempDirectory("snap").resolve("absent.s2s");
+
+        assertNull(CatalogSnapshot.read(snapshot, new byte[32]));
+    }
+}
@@ -0,0 +1,95 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ColumnLayout}.
+ */
+class ColumnLayoutTest {
+
+    private static SchemaObject table(String name, String... columnsAndTypes) {
+        Map<String, String> types = new LinkedHashMap<>();
+        for (int i = 0; i < columnsAndTypes.length; i += 2) {
+            types.put(columnsAndTypes[i], columnsAndTypes[i + 1]);
+        }
+        return new SchemaObject(name, List.copyOf(types.keySet()), types);
+    }
+
+    @Test
+    void fillsAlignmentGapsAfterThePrimaryKey() {
+        SchemaObject event = table("event",
+                "id", "INT", "active", "BOOLEAN", "created", "TIMESTAMP", "note", "TEXT", "kind", "SMALLINT",
+                "amount", "BIGINT");
+
+        ColumnLayout.Result layout = ColumnLayout.optimize(event);
+
+        // kind and active fill the gap after id, so created and amount need 1 byte of padding instead of 3 + 3.5
+        assertEquals(List.of("id", "kind", "active", "created", "amount", "note"), layout.getTable().getFields());
+        assertEquals(29.5, layout.getBytesBefore());
+        assertEquals(27.5, layout.getBytesAfter());
+        assertEquals(2, layout.getEstimatedBytesSaved());
+        assertEquals(event.getFieldTypes(), layout.getTable().getFieldTypes());
+    }
+
+    @Test
+    void keepsCompositePrimaryKeyInKeyOrder() {
+        SchemaObject sale = table("sale", "flag", "BOOL", "total", "BIGINT", "region", "SMALLINT", "sold", "DATE")
+                .withPrimaryKey(List.of("sold", "region"));
+
+        ColumnLayout.Result layout = ColumnLayout.optimize(sale);
+
+        assertEquals(List.of("sold", "region", "flag", "total"), layout.getTable().getFields());
+        assertEquals(8, layout.getEstimatedBytesSaved());
+    }
+
+    @Test
+    void leavesAnOptimalOrderUnchanged() {
+        SchemaObject person = table("person", "id", "BIGINT", "age", "INT", "name", "VARCHAR(100)");
+
+        ColumnLayout.Result layout = ColumnLayout.optimize(person);
+
+        assertSame(person, layout.getTable());
+        assertEquals(0, layout.getEstimatedBytesSaved());
+    }
+
+    @Test
+    void countsRowPaddingToEightBytes() {
+        SchemaObject table = table("t", "a", "BOOLEAN", "b", "BIGINT");
+
+        assertEquals(16, ColumnLayout.rowBytes(table, List.of("a", "b")));
+        assertEquals(16, ColumnLayout.rowBytes(table, List.of("b", "a")));
+    }
+
+    @Test
+    void chargesAveragePaddingAfterVariableWidthColumns() {
+        SchemaObject table = table("t", "name", "TEXT", "total", "BIGINT");
+
+        // total is preceded by a value of unknown length: 3.5 bytes of padding on average
+        assertEquals(11.5, ColumnLayout.rowBytes(table, List.of("name", "total")));
+        // and the row, ending after name, is padded by the same amount
+        assertEquals(11.5, ColumnLayout.rowBytes(table, List.of("total", "name")));
+    }
+
+    @Test
+    void mapsDeclaredTypesToPostgresStorage() {
+        assertEquals(2, ColumnLayout.storage("TINYINT").length);
+        assertEquals(8, ColumnLayout.storage("timestamp with time zone").alignment);
+        assertEquals(4, ColumnLayout.storage("int").length);
+        assertEquals(-1, ColumnLayout.storage("DECIMAL(10,2)").length);
+        assertEquals(-1, ColumnLayout.storage(null).length);
+    }
+
+    @Test
+    void rejectsFieldOrderThatIsNotAPermutation() {
+        SchemaObject table = table("t", "a", "INT", "b", "INT");
+
+        assertThrows(IllegalArgumentException.class, () -> table.withFieldOrder(List.of("a")));
+        assertThrows(IllegalArgumentException.class, () -> table.withFieldOrder(List.of("a", "c")));
+    }
+}
@@ -0,0 +1,107 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ConversionJournal}.
+ */
+class ConversionJournalTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void resumesCompletedInputsWithUnchangedContent() throws Exception {
+        Path file = dir.resolve("run.journal");
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 2)) {
+            journal.complete("/in/a.json", "hash-a", Map.of("out-a.sql", "out-a-hash"));
+            journal.complete("/in/b.json", "hash-b", Map.of("out-b.sql", "out-b-hash"));
+        }
+
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 2)) {
+            assertTrue(journal.isDone("/in/a.json", "hash-a"));
+            assertFalse(journal.isDone("/in/b.json", "edited"), "Changed content must be converted again");
+            assertFalse(journal.isDone("/in/c.json", "hash-c"));
+            assertEquals(Map.of("out-b.sql", "out-b-hash"), journal.getOutputs("/in/b.json"));
+            assertNull(journal.getOutputs("/in/c.json"));
+        }
+    }
+
+    @Test
+    void dropsTornLastLineAndKeepsAppending() throws Exception {
+        Path file = dir.resolve("run.journal");
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 1)) {
+            journal.complete("/in/a.json", "hash-a", Map.of("out-a.sql", "out-a-hash"));
+        }
+        Files.writeString(file, "hash-b\tout", StandardCharsets.UTF_8, StandardOpenOption.APPEND);
+
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 1)) {
+            assertEquals(1, journal.size());
+            journal.complete("/in/b.json", "hash-b", Map.of("out-b.sql", "out-b-hash"));
+        }
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 1)) {
+            assertTrue(journal.isDone("/in/a.json", "hash-a"));
+            assertTrue(journal.isDone("/in/b.json", "hash-b"));
+        }
+    }
+
+    @Test
+    void startsOverWhenSettingsChange() throws Exception {
+        Path file = dir.resolve("run.journal");
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 1)) {
+            journal.complete("/in/a.json", "hash-a", Map.of("out-a.sql", "out-a-hash"));
+        }
+
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql|optimized", 1)) {
+            assertEquals(0, journal.size());
+        }
+    }
+
+    @Test
+    void compactionKeepsOnlyTheLatestEntryPerInput() throws Exception {
+        Path file = dir.resolve("run.journal");
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 10)) {
+            journal.complete("/in/a.json", "v1", Map.of("out-1.sql", "out-1-hash"));
+            journal.complete("/in/a.json", "v2", Map.of("out-2.sql", "out-2-hash"));
+            journal.compact();
+            journal.complete("/in/b.json", "hash-b", Map.of("out-b.sql", "out-b-hash"));
+        }
+
+        assertEquals(3, Files.readAllLines(file).size());
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 10)) {
+            assertTrue(journal.isDone("/in/a.json", "v2"));
+            assertTrue(journal.isDone("/in/b.json", "hash-b"));
+        }
+    }
+
+    @Test
+    void recordsEveryOutputOfAnInputInOrder() throws Exception {
+        Path file = dir.resolve("run.journal");
+        Map<String, String> outputs = new LinkedHashMap<>();
+        outputs.put("student.sql", "hash-student");
+        outputs.put("course  archive.sql", "hash-course");
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 1)) {
+            journal.complete("/in/catalog.json", "hash-catalog", outputs);
+            journal.complete("/in/empty.json", "hash-empty", Map.of());
+            assertThrows(IllegalArgumentException.class,
+                    () -> journal.complete("/in/x.json", "hash-x", Map.of("bad\tname.sql", "h")));
+        }
+
+        try (ConversionJournal journal = ConversionJournal.open(file, "mysql", 1)) {
+            assertEquals(List.copyOf(outputs.entrySet()), List.copyOf(journal.getOutputs("/in/catalog.json").entrySet()));
+            assertTrue(journal.isDone("/in/empty.json", "hash-empty"));
+            assertEquals(Map.of(), journal.getOutputs("/in/empty.json"));
+        }
+    }
+}
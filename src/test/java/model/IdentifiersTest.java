@@ -0,0 +1,47 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link Identifiers}.
+ */
+class IdentifiersTest {
+
+    @Test
+    void quotesAndDoublesQuoteCharacters() {
+        assertEquals("`plain`", Identifiers.appendQuoted(new StringBuilder(), "plain", '`').toString());
+        assertEquals("`a``b```", Identifiers.appendQuoted(new StringBuilder(), "a`b`", '`').toString());
+        assertEquals("\"say \"\"hi\"\"\"", Identifiers.appendQuoted(new StringBuilder(), "say \"hi\"", '"').toString());
+    }
+
+    @Test
+    void rejectsInvalidIdentifiers() {
+        assertThrows(IllegalArgumentException.class, () -> Identifiers.check("Field", "   ", 64));
+        assertThrows(IllegalArgumentException.class, () -> Identifiers.check("Field", "name ", 64));
+        assertThrows(IllegalArgumentException.class, () -> Identifiers.check("Field", "tab\there", 64));
+        assertThrows(IllegalArgumentException.class, () -> Identifiers.check("Field", "emoji😀", 64));
+        IllegalArgumentException tooLong = assertThrows(IllegalArgumentException.class,
+                () -> Identifiers.check("Table", "t".repeat(65), 64));
+        assertTrue(tooLong.getMessage().contains("limit is 64"));
+        Identifiers.check("Field", "Straße `quoted` name", 64);
+    }
+
+    @Test
+    void findsCaseInsensitiveDuplicatesAmongManyColumns() {
+        List<String> columns = new ArrayList<>();
+        for (int i = 0; i < 20_000; i++) {
+            columns.add("column_" + i);
+        }
+        Identifiers.checkColumns("wide", columns, 64);
+
+        columns.add("COLUMN_12345");
+        IllegalArgumentException e = assertThrows(IllegalArgumentException.class,
+                () -> Identifiers.checkColumns("wide", columns, 64));
+        assertEquals("Cannot generate SQL: duplicate field 'COLUMN_12345' in schema 'wide'.", e.getMessage());
+    }
+}
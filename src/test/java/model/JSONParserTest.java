@@ -5,8 +5,15 @@ import org.junit.jupiter.api.Test;
 
 
 
+import java.io.ByteArrayInputStream;
 import java.io.File;
 import java.io.FileWriter;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.ReadableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -54,4 +61,199 @@ class JSONParserTest {
         SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> parser.parse(tempFile));
         assertTrue(ex.getMessage().contains("missing required property 'name' or 'fields'"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void parsesInMemoryAndChannelSources() throws Exception {
+        byte[] content = "{\"name\":\"Person\",\"fields\":[\"id\",\"email\"]}".getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(List.of("id", "email"), parser.parse(content, "bytes").getFields());
+
+        ByteBuffer direct = ByteBuffer.allocateDirect(content.length + 4);
+        direct.put(new byte[4]).put(content).flip().position(4);
+        assertEquals("Person", parser.parse(direct, "buffer").getName());
+        assertEquals(4, direct.position(), "The caller's buffer position must not move");
+
+        try (ReadableByteChannel channel = Channels.newChannel(new ByteArrayInputStream(content))) {
+            assertEquals("Person", parser.parse(channel, "channel").getName());
+            assertTrue(channel.isOpen(), "The caller's channel must stay open");
+        }
+    }
+
+    @Test
+    void parsesCatalogFromBuffer() throws Exception {
+        ByteBuffer content = ByteBuffer.wrap("[{\"tableName\":\"a\",\"columns\":[{\"name\":\"id\"}]},"
+                .concat("{\"tableName\":\"b\",\"columns\":[{\"name\":\"id\"}]}]").getBytes(StandardCharsets.UTF_8));
+
+        assertEquals(2, parser.parseCatalog(content, "buffer").size());
+    }
+
+    private File jsonFile(String content) throws Exception {
+        File file = File.createTempFile("schema", ".json");
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(content);
+        }
+        return file;
+    }
+
+    private ParseLimits limits(long maxBytes, int maxColumns, int maxIdentifier, int maxDepth) {
+        return new ParseLimits(maxBytes, 10, maxColumns, maxIdentifier, maxDepth, Duration.ofSeconds(5));
+    }
+
+    @Test
+    void testRejectsInputLargerThanMaxBytes() throws Exception {
+        File file = jsonFile("{\"name\":\"Person\",\"fields\":[\"id\",\"firstName\",\"lastName\"]}");
+        JSONParser limited = new JSONParser(limits(16, 100, 100, 10));
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> limited.parse(file));
+        assertTrue(ex.getMessage().contains("exceeds the limit of 16 bytes"));
+    }
+
+    @Test
+    void testRejectsTooManyFields() throws Exception {
+        File file = jsonFile("{\"name\":\"Person\",\"fields\":[\"a\",\"b\",\"c\"]}");
+        JSONParser limited = new JSONParser(limits(1024, 2, 100, 10));
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> limited.parse(file));
+        assertTrue(ex.getMessage().contains("more than 2 fields"));
+    }
+
+    @Test
+    void testRejectsLongIdentifier() throws Exception {
+        File file = jsonFile("{\"name\":\"Person\",\"fields\":[\"averyveryverylongfield\"]}");
+        JSONParser limited = new JSONParser(limits(1024, 100, 8, 10));
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> limited.parse(file));
+        assertTrue(ex.getMessage().contains("exceeds the limit of 8"));
+    }
+
+    @Test
+    void testRejectsDeepNesting() throws Exception {
+        File file = jsonFile("{\"name\":\"Person\",\"extra\":[[[[[[1]]]]]],\"fields\":[\"id\"]}");
+        JSONParser limited = new JSONParser(limits(1024, 100, 100, 4));
+
+        assertThrows(SchemaParsingException.class, () -> limited.parse(file));
+    }
+
+    @Test
+    void testIgnoresUnknownPropertiesWithinLimits() throws Exception {
+        File file = jsonFile("{\"version\":2,\"name\":\"Person\",\"meta\":{\"a\":[1]},\"fields\":[\"id\"]}");
+
+        SchemaObject result = parser.parse(file);
+
+        assertEquals("Person", result.getName());
+        assertEquals(List.of("id"), result.getFields());
+    }
+
+    @Test
+    void testParsesArrayOfTablesCatalogWithTypes() throws Exception {
+        File file = jsonFile("[{\"tableName\":\"student\",\"columns\":[{\"name\":\"student_id\",\"type\":\"INT\"},"
+                + "{\"name\":\"email\"}],\"relationships\":[{\"relationshipType\":\"many-to-one\",\"relatedTable\":\"course\","
+                + "\"foreignKey\":\"course_id\"}]},{\"name\":\"Person\",\"fields\":[\"id\"]}]");
+
+        List<SchemaObject> tables;
+        try (java.io.InputStream in = new java.io.FileInputStream(file)) {
+            tables = parser.parseCatalog(in, file.getName());
+        }
+
+        assertEquals(2, tables.size());
+        assertEquals("student", tables.get(0).getName());
+        assertEquals(List.of("student_id", "email"), tables.get(0).getFields());
+        assertEquals("INT", tables.get(0).getFieldType("student_id"));
+        assertNull(tables.get(0).getFieldType("email"));
+        assertEquals(1, tables.get(0).getRelationships().size());
+        assertEquals("course", tables.get(0).getRelationships().get(0).getRelatedTable());
+        assertEquals("course_id", tables.get(0).getRelationships().get(0).getForeignKey());
+        assertEquals("Person", tables.get(1).getName());
+    }
+
+    @Test
+    void testSingleSchemaParseRejectsCatalogArray() throws Exception {
+        File file = jsonFile("[{\"tableName\":\"student\",\"columns\":[]}]");
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> parser.parse(file));
+        assertTrue(ex.getMessage().contains("load it as a catalog"));
+    }
+
+    @Test
+    void testParsesPrimaryKeyDeclarations() throws Exception {
+        File file = jsonFile("[{\"tableName\":\"enrollment\",\"columns\":[{\"name\":\"student_id\"},"
+                + "{\"name\":\"course_id\"}],\"primaryKey\":[\"student_id\",\"course_id\"]},"
+                + "{\"tableName\":\"course\",\"columns\":[{\"name\":\"code\",\"primaryKey\":true},{\"name\":\"title\"}]}]");
+
+        List<SchemaObject> tables;
+        try (java.io.InputStream in = new java.io.FileInputStream(file)) {
+            tables = parser.parseCatalog(in, file.getName());
+        }
+
+        assertEquals(List.of("student_id", "course_id"), tables.get(0).getPrimaryKey());
+        assertEquals(List.of("code"), tables.get(1).getPrimaryKey());
+    }
+
+    @Test
+    void testRejectsPrimaryKeyOnUnknownColumn() throws Exception {
+        File file = jsonFile("[{\"tableName\":\"course\",\"columns\":[{\"name\":\"code\"}],\"primaryKey\":\"id\"}]");
+
+        try (java.io.InputStream in = new java.io.FileInputStream(file)) {
+            assertThrows(SchemaParsingException.class, () -> parser.parseCatalog(in, file.getName()));
+        }
+    }
+
+    @Test
+    void testParsesPartitioning() throws Exception {
+        File file = jsonFile("[{\"tableName\":\"sale\",\"columns\":[{\"name\":\"id\"},{\"name\":\"sold\"}],"
+                + "\"primaryKey\":[\"id\",\"sold\"],\"partitioning\":{\"strategy\":\"range\",\"key\":\"sold\","
+                + "\"partitions\":[{\"name\":\"p0\",\"lessThan\":\"2025-01-01\"},{\"name\":\"pmax\",\"lessThan\":\"MAXVALUE\"}]}},"
+                + "{\"tableName\":\"log\",\"columns\":[\"id\"],\"partitioning\":{\"strategy\":\"HASH\",\"key\":[\"id\"],\"partitions\":8}}]");
+
+        List<SchemaObject> tables;
+        try (java.io.InputStream in = new java.io.FileInputStream(file)) {
+            tables = parser.parseCatalog(in, file.getName());
+        }
+
+        Partitioning range = tables.get(0).getPartitioning();
+        assertEquals(Partitioning.Strategy.RANGE, range.getStrategy());
+        assertEquals(List.of("sold"), range.getColumns());
+        assertEquals(List.of("2025-01-01"), range.getPartitions().get(0).getValues());
+        assertEquals(Partitioning.MAXVALUE, range.getPartitions().get(1).getValues().get(0));
+        assertEquals(8, tables.get(1).getPartitioning().getPartitionCount());
+    }
+
+    @Test
+    void testRejectsInvalidPartitioning() throws Exception {
+        File file = jsonFile("[{\"tableName\":\"log\",\"columns\":[\"id\"],"
+                + "\"partitioning\":{\"strategy\":\"cube\",\"key\":\"id\",\"partitions\":8}}]");
+
+        try (java.io.InputStream in = new java.io.FileInputStream(file)) {
+            SchemaParsingException ex = assertThrows(SchemaParsingException.class,
+                    () -> parser.parseCatalog(in, file.getName()));
+            assertTrue(ex.getMessage().contains("Unknown partitioning strategy"));
+        }
+    }
+
+    @Test
+    void testCatalogOptionsAreDefaultsForEveryTable() throws Exception {
+        File file = jsonFile("{\"options\":{\"engine\":\"InnoDB\",\"rowFormat\":\"DYNAMIC\"},\"tables\":["
+                + "{\"tableName\":\"a\",\"columns\":[\"id\"]},"
+                + "{\"tableName\":\"b\",\"columns\":[\"id\"],\"options\":{\"ROW_FORMAT\":\"compressed\",\"key_block_size\":8}}]}");
+
+        List<SchemaObject> tables;
+        try (java.io.InputStream in = new java.io.FileInputStream(file)) {
+            tables = parser.parseCatalog(in, file.getName());
+        }
+
+        assertEquals(2, tables.size());
+        assertEquals("DYNAMIC", tables.get(0).getOptions().get(TableOptions.ROW_FORMAT));
+        assertEquals("InnoDB", tables.get(1).getOptions().get(TableOptions.ENGINE));
+        assertEquals("COMPRESSED", tables.get(1).getOptions().get(TableOptions.ROW_FORMAT));
+        assertEquals("8", tables.get(1).getOptions().get(TableOptions.KEY_BLOCK_SIZE));
+    }
+
+    @Test
+    void testRejectsInvalidTableOptions() throws Exception {
+        File unknown = jsonFile("{\"name\":\"a\",\"fields\":[\"id\"],\"options\":{\"tablespace\":\"x\"}}");
+        File injected = jsonFile("{\"name\":\"a\",\"fields\":[\"id\"],\"options\":{\"engine\":\"InnoDB; DROP TABLE a\"}}");
+
+        assertThrows(SchemaParsingException.class, () -> parser.parse(unknown));
+        assertThrows(SchemaParsingException.class, () -> parser.parse(injected));
+    }
+}
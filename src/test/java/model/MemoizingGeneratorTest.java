@@ -0,0 +1,72 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayInputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link MemoizingGenerator} and {@link SchemaFingerprint}.
+ */
+class MemoizingGeneratorTest {
+
+    private final MemoizingGenerator generator = new MemoizingGenerator("mysql", new MySQLGenerator(), 2);
+
+    @Test
+    void jsonAndXmlVersionsOfATableShareAFingerprint() throws Exception {
+        SchemaObject fromJson = new JSONParser().parse(new ByteArrayInputStream(
+                "{\"name\":\"Person\",\"fields\":[\"id\",\"email\"]}".getBytes(StandardCharsets.UTF_8)), "json");
+        SchemaObject fromXml = new XmlParser().parse(new ByteArrayInputStream(
+                "<schema name=\"Person\"><fields><field>id</field><field>email</field></fields></schema>"
+                        .getBytes(StandardCharsets.UTF_8)), "xml");
+
+        assertEquals(SchemaFingerprint.of(fromJson), SchemaFingerprint.of(fromXml));
+        assertEquals(generator.generateCreateTable(fromJson), generator.generateCreateTable(fromXml));
+        assertEquals(1, generator.getMisses());
+        assertEquals(1, generator.getHits());
+    }
+
+    @Test
+    void fingerprintCoversEverythingThatChangesTheSql() {
+        SchemaObject base = new SchemaObject("Person", List.of("id", "email"));
+        String fingerprint = SchemaFingerprint.of(base);
+
+        assertNotEquals(fingerprint, SchemaFingerprint.of(new SchemaObject("Person", List.of("email", "id"))));
+        assertNotEquals(fingerprint, SchemaFingerprint.of(base.withFieldTypes(Map.of("id", "INT"))));
+        assertNotEquals(fingerprint, SchemaFingerprint.of(base.withPrimaryKey(List.of("email"))));
+        assertNotEquals(fingerprint, SchemaFingerprint.of(base.withOptions(new TableOptions(Map.of("engine", "InnoDB")))));
+        assertNotEquals(fingerprint, SchemaFingerprint.of(base.withRelationships(List.of(
+                new Relationship(Relationship.MANY_TO_ONE, "team", null, "id", null)))));
+        assertNotEquals(SchemaFingerprint.of(new SchemaObject("ab", List.of("c"))),
+                SchemaFingerprint.of(new SchemaObject("a", List.of("bc"))));
+    }
+
+    @Test
+    void evictsTheLeastRecentlyUsedStatement() {
+        SchemaObject a = new SchemaObject("a", List.of("id"));
+        SchemaObject b = new SchemaObject("b", List.of("id"));
+        SchemaObject c = new SchemaObject("c", List.of("id"));
+
+        generator.generateCreateTable(a);
+        generator.generateCreateTable(b);
+        generator.generateCreateTable(a);
+        generator.generateCreateTable(c);
+        generator.generateCreateTable(b);
+
+        assertEquals(1, generator.getHits());
+        assertEquals(4, generator.getMisses(), "b was evicted when c was added");
+    }
+
+    @Test
+    void doesNotCacheFailures() {
+        SchemaObject invalid = new SchemaObject("t", List.of("a", "A"));
+
+        assertThrows(IllegalArgumentException.class, () -> generator.generateCreateTable(invalid));
+        assertThrows(IllegalArgumentException.class, () -> generator.generateCreateTable(invalid));
+        assertEquals(0, generator.getHits());
+    }
+}
@@ -108,11 +108,201 @@ class MySQLGeneratorTest {
     }
 
     @Test
-    void generateConstraintsReturnsEmptyString() {
-        SchemaObject s = schema("AnyTable", "id");
+    void generateConstraintsReturnsEmptyStringWithoutKeys() {
+        SchemaObject s = schema("AnyTable", "name");
         String constraints = generator.generateConstraints(s);
         assertNotNull(constraints, "Should not return null");
-        assertEquals("", constraints.trim(), "Should return empty string for now");
+        assertEquals("", constraints.trim(), "A table without key candidates has no constraints");
+    }
+
+    @Test
+    void generateConstraintsInfersPrimaryKeyFromId() {
+        String constraints = generator.generateConstraints(schema("AnyTable", "id", "name"));
+        assertEquals("ALTER TABLE `AnyTable` ADD PRIMARY KEY (`id`);", norm(constraints));
+    }
+
+    @Test
+    void generateConstraintsIndexesForeignKeys() {
+        SchemaObject course = schema("course", "course_id", "title", "instructor_id")
+                .withRelationships(List.of(
+                        new Relationship(Relationship.MANY_TO_ONE, "instructor", null, "instructor_id", null),
+                        new Relationship(Relationship.ONE_TO_MANY, "enrollment", null, "course_id", null)));
+
+        assertEquals("ALTER TABLE `course` ADD PRIMARY KEY (`course_id`), "
+                        + "ADD INDEX `idx_course_instructor_id` (`instructor_id`), "
+                        + "ADD CONSTRAINT `fk_course_instructor_id` FOREIGN KEY (`instructor_id`) "
+                        + "REFERENCES `instructor` (`instructor_id`);",
+                norm(generator.generateConstraints(course)));
+    }
+
+    @Test
+    void generateConstraintsCoversJunctionTableWithoutRedundantIndexes() {
+        SchemaObject enrollment = schema("enrollment", "student_id", "course_id", "grade")
+                .withRelationships(List.of(
+                        new Relationship(Relationship.MANY_TO_ONE, "student", null, "student_id", null),
+                        new Relationship(Relationship.MANY_TO_ONE, "course", null, "course_id", "id")));
+
+        String n = norm(generator.generateConstraints(enrollment));
+
+        assertTrue(n.contains("ADD PRIMARY KEY (`student_id`, `course_id`)"));
+        assertTrue(n.contains("ADD INDEX `idx_enrollment_course_id_student_id` (`course_id`, `student_id`)"));
+        assertFalse(n.contains("ADD INDEX `idx_enrollment_student_id` "), "Prefix of the primary key must not be indexed again");
+        assertFalse(n.contains("ADD INDEX `idx_enrollment_course_id` "), "Prefix of the composite index is redundant");
+        assertTrue(n.contains("FOREIGN KEY (`course_id`) REFERENCES `course` (`id`)"));
+        assertTrue(n.contains("FOREIGN KEY (`student_id`) REFERENCES `student` (`student_id`)"));
+    }
+
+    @Test
+    void loadTableDeclaresOnlyThePrimaryKeyAndPostLoadAddsTheRest() {
+        SchemaObject course = schema("course", "course_id", "instructor_id")
+                .withRelationships(List.of(
+                        new Relationship(Relationship.MANY_TO_ONE, "instructor", null, "instructor_id", null)));
+
+        assertEquals("CREATE TABLE `course` ( `course_id` VARCHAR(255), `instructor_id` VARCHAR(255), "
+                + "PRIMARY KEY (`course_id`) );", norm(generator.generateLoadTable(course)));
+        String postLoad = norm(generator.generatePostLoadConstraints(course));
+        assertFalse(postLoad.contains("PRIMARY KEY"));
+        assertTrue(postLoad.startsWith("ALTER TABLE `course` ADD INDEX `idx_course_instructor_id` (`instructor_id`), "
+                + "ADD CONSTRAINT `fk_course_instructor_id` FOREIGN KEY"));
+        assertEquals("", generator.generatePostLoadConstraints(schema("Person", "id", "name")));
+    }
+
+    @Test
+    void postLoadEpilogueRestoresTheChecksDisabledByThePrologue() {
+        assertTrue(generator.postLoadPrologue().contains("FOREIGN_KEY_CHECKS=0"));
+        assertTrue(generator.postLoadPrologue().contains("UNIQUE_CHECKS=0"));
+        assertTrue(generator.postLoadEpilogue().contains("FOREIGN_KEY_CHECKS=@OLD_FOREIGN_KEY_CHECKS"));
+        assertTrue(generator.postLoadEpilogue().contains("UNIQUE_CHECKS=@OLD_UNIQUE_CHECKS"));
+    }
+
+    @Test
+    void generateConstraintsUsesDeclaredPrimaryKey() {
+        SchemaObject s = schema("Person", "id", "email").withPrimaryKey(List.of("email"));
+        assertEquals("ALTER TABLE `Person` ADD PRIMARY KEY (`email`);", norm(generator.generateConstraints(s)));
+    }
+
+    @Test
+    void constraintNamesFitMySqlIdentifierLimit() {
+        String column = "c".repeat(80);
+        String name = MySQLGenerator.identifier("idx", "t", List.of(column));
+
+        assertEquals(MySQLGenerator.MAX_IDENTIFIER_LENGTH, name.length());
+        assertEquals(name, MySQLGenerator.identifier("idx", "t", List.of(column)));
+        assertNotEquals(name, MySQLGenerator.identifier("idx", "t", List.of(column + "x")));
+    }
+
+    @Test
+    void usesDeclaredAndInferredColumnTypes() {
+        SchemaObject s = new SchemaObject("Item", List.of("id", "price", "label", "flag", "odd"),
+                java.util.Map.of("id", "tinyint", "price", "DECIMAL(8,2)", "flag", "bool", "odd", "INT; DROP TABLE x"));
+
+        String n = norm(generator.generateCreateTable(s));
+
+        assertTrue(n.contains("`id` TINYINT,"));
+        assertTrue(n.contains("`price` DECIMAL(8,2),"));
+        assertTrue(n.contains("`label` VARCHAR(255),"));
+        assertTrue(n.contains("`flag` BOOLEAN,"));
+        assertTrue(n.contains("`odd` TEXT"), "Types that are not plain SQL types are not copied into the script");
+    }
+
+    @Test
+    void copiesOnlyMySqlTypesThatFitTheirArguments() {
+        List<String> fields = List.of("a", "b", "c", "d", "e", "f", "g", "h", "i", "j");
+        java.util.Map<String, String> types = new java.util.HashMap<>();
+        types.put("a", "bigint unsigned");
+        types.put("b", "double precision");
+        types.put("c", "VARCHAR(40)");
+        types.put("d", "uuid");
+        types.put("e", "jsonb");
+        types.put("f", "timestamptz");
+        types.put("g", "character varying");
+        types.put("h", "foo bar");
+        types.put("i", "DATE(5)");
+        types.put("j", "VARCHAR unsigned");
+
+        String n = norm(generator.generateCreateTable(new SchemaObject("T", fields, types)));
+
+        assertTrue(n.contains("`a` BIGINT UNSIGNED,"), n);
+        assertTrue(n.contains("`b` DOUBLE PRECISION,"), n);
+        assertTrue(n.contains("`c` VARCHAR(40),"), n);
+        for (String field : List.of("d", "e", "f", "g", "h", "i", "j")) {
+            assertTrue(n.contains("`" + field + "` TEXT"), n);
+        }
+    }
+
+    @Test
+    void appendsPartitionClauses() {
+        SchemaObject hashed = new SchemaObject("Log", List.of("id", "msg"), java.util.Map.of("id", "BIGINT"))
+                .withPartitioning(new Partitioning(Partitioning.Strategy.HASH, List.of("id"), 8, List.of()));
+        SchemaObject keyed = schema("Session", "token", "data")
+                .withPrimaryKey(List.of("token"))
+                .withPartitioning(new Partitioning(Partitioning.Strategy.HASH, List.of("token"), 4, List.of()));
+        SchemaObject ranged = schema("Sale", "id", "sold")
+                .withPrimaryKey(List.of("id", "sold"))
+                .withPartitioning(new Partitioning(Partitioning.Strategy.RANGE, List.of("sold"), 0, List.of(
+                        new Partitioning.Partition("p2024", List.of("2025-01-01")),
+                        new Partitioning.Partition("pmax", List.of(Partitioning.MAXVALUE)))));
+        SchemaObject listed = schema("Store", "region", "name")
+                .withPartitioning(new Partitioning(Partitioning.Strategy.LIST, List.of("region"), 0, List.of(
+                        new Partitioning.Partition("east", List.of("NY", "O'Hare")),
+                        new Partitioning.Partition("codes", List.of("1", "2")))));
+
+        assertTrue(norm(generator.generateCreateTable(hashed)).endsWith(") PARTITION BY HASH (`id`) PARTITIONS 8;"));
+        assertTrue(norm(generator.generateCreateTable(keyed)).endsWith(") PARTITION BY KEY (`token`) PARTITIONS 4;"));
+        assertTrue(norm(generator.generateCreateTable(ranged)).endsWith(") PARTITION BY RANGE COLUMNS (`sold`) ("
+                + " PARTITION `p2024` VALUES LESS THAN ('2025-01-01'), PARTITION `pmax` VALUES LESS THAN (MAXVALUE) );"));
+        assertTrue(norm(generator.generateCreateTable(listed)).endsWith(") PARTITION BY LIST COLUMNS (`region`) ("
+                + " PARTITION `east` VALUES IN ('NY', 'O''Hare'), PARTITION `codes` VALUES IN (1, 2) );"));
+    }
+
+    @Test
+    void rejectsPartitionKeyOutsidePrimaryKey() {
+        SchemaObject s = schema("Sale", "id", "sold")
+                .withPartitioning(new Partitioning(Partitioning.Strategy.HASH, List.of("sold"), 4, List.of()));
+
+        assertThrows(IllegalArgumentException.class, () -> generator.generateCreateTable(s));
+    }
+
+    @Test
+    void partitionedTablesGetNoForeignKeys() {
+        SchemaObject s = schema("Sale", "id", "store_id")
+                .withRelationships(List.of(new Relationship(Relationship.MANY_TO_ONE, "store", null, "store_id", "id")))
+                .withPartitioning(new Partitioning(Partitioning.Strategy.HASH, List.of("id"), 4, List.of()));
+
+        String n = norm(generator.generateConstraints(s));
+        assertTrue(n.contains("ADD INDEX `idx_Sale_store_id`"));
+        assertFalse(n.contains("FOREIGN KEY"));
+    }
+
+    @Test
+    void rejectsForeignKeysToPartitionedTables() {
+        SchemaObject store = schema("store", "id")
+                .withPartitioning(new Partitioning(Partitioning.Strategy.HASH, List.of("id"), 4, List.of()));
+        SchemaObject sale = schema("Sale", "id", "store_id")
+                .withRelationships(List.of(new Relationship(Relationship.MANY_TO_ONE, "store", null, "store_id", "id")));
+        SchemaObject partitionedSale = sale
+                .withPartitioning(new Partitioning(Partitioning.Strategy.HASH, List.of("id"), 4, List.of()));
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class,
+                () -> generator.validateCatalog(List.of(store, sale)));
+        assertTrue(ex.getMessage().contains("'Sale' has a foreign key on 'store_id' to partitioned schema 'store'"));
+        // Without the partitioned target, or when the child's own foreign keys are skipped, nothing is referenced
+        assertDoesNotThrow(() -> generator.validateCatalog(List.of(sale, schema("store", "id"))));
+        assertDoesNotThrow(() -> generator.validateCatalog(List.of(store, partitionedSale)));
+    }
+
+    @Test
+    void appendsTableOptionsBeforePartitioning() {
+        SchemaObject s = schema("Log", "id", "msg")
+                .withOptions(new TableOptions(java.util.Map.of("engine", "InnoDB", "row_format", "compressed",
+                        "keyBlockSize", "8", "charset", "utf8mb4", "collation", "utf8mb4_bin", "fillfactor", "70")))
+                .withPartitioning(new Partitioning(Partitioning.Strategy.HASH, List.of("id"), 4, List.of()));
+
+        String n = norm(generator.generateCreateTable(s));
+
+        assertTrue(n.endsWith(") ENGINE=InnoDB ROW_FORMAT=COMPRESSED KEY_BLOCK_SIZE=8 DEFAULT CHARSET=utf8mb4"
+                + " COLLATE=utf8mb4_bin PARTITION BY KEY (`id`) PARTITIONS 4;"), n);
+        assertFalse(n.contains("70"), "PostgreSQL options are not MySQL options");
     }
 
     @Test
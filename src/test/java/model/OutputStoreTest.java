@@ -0,0 +1,123 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.Writer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.nio.file.attribute.PosixFileAttributeView;
+import java.nio.file.attribute.PosixFilePermission;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Unit tests for {@link OutputStore}.
+ */
+class OutputStoreTest {
+
+    @Test
+    void skipsUnchangedScriptsOnTheNextRun() throws Exception {
+        Path dir = Files.createTempDirectory("out");
+
+        OutputStore first = new OutputStore(dir);
+        first.write("person.sql", "CREATE TABLE `Person` (`id` INT);\n");
+        first.write("order.sql", "CREATE TABLE `Order` (`id` INT);\n");
+        first.commit();
+        assertEquals(2, first.getWritten());
+        assertEquals(0, first.getSkipped());
+
+        FileTime stamp = FileTime.fromMillis(1_000_000L);
+        Files.setLastModifiedTime(dir.resolve("person.sql"), stamp);
+
+        OutputStore second = new OutputStore(dir);
+        second.write("person.sql", "CREATE TABLE `Person` (`id` INT);\n");
+        second.write("order.sql", "CREATE TABLE `Order` (`id` BIGINT);\n");
+        second.commit();
+
+        assertEquals(1, second.getWritten());
+        assertEquals(1, second.getSkipped());
+        assertEquals(stamp, Files.getLastModifiedTime(dir.resolve("person.sql")));
+        assertEquals("CREATE TABLE `Order` (`id` BIGINT);\n", Files.readString(dir.resolve("order.sql")));
+    }
+
+    @Test
+    void writtenFilesGetTheDefaultPermissionsRatherThanOwnerOnly() throws Exception {
+        Path dir = Files.createTempDirectory("out");
+        assumeTrue(Files.getFileStore(dir).supportsFileAttributeView(PosixFileAttributeView.class));
+        // A plain new file shows what the umask allows
+        Set<PosixFilePermission> expected = Files.getPosixFilePermissions(Files.createFile(dir.resolve("plain")));
+
+        OutputStore store = new OutputStore(dir);
+        store.write("small.sql", "SELECT 1;");
+        store.write("large.sql", "SELECT 1;\n".repeat(200_000));
+        store.commit();
+
+        assertEquals(expected, Files.getPosixFilePermissions(dir.resolve("small.sql")));
+        assertEquals(expected, Files.getPosixFilePermissions(dir.resolve("large.sql")));
+        assertEquals(expected, Files.getPosixFilePermissions(dir.resolve(OutputStore.MANIFEST_NAME)));
+    }
+
+    @Test
+    void rewritesScriptsThatWereDeleted() throws Exception {
+        Path dir = Files.createTempDirectory("out");
+        OutputStore first = new OutputStore(dir);
+        first.write("a.sql", "SELECT 1;");
+        first.commit();
+        Files.delete(dir.resolve("a.sql"));
+
+        OutputStore second = new OutputStore(dir);
+        second.write("a.sql", "SELECT 1;");
+
+        assertEquals(1, second.getWritten());
+        assertTrue(Files.exists(dir.resolve("a.sql")));
+    }
+
+    @Test
+    void streamsLargeScriptsThroughAStagingFile() throws Exception {
+        Path dir = Files.createTempDirectory("out");
+        String line = "    `column_with_a_long_name` VARCHAR(255),\n";
+
+        OutputStore store = new OutputStore(dir);
+        try (Writer writer = store.openWriter("big.sql")) {
+            for (int i = 0; i < 50_000; i++) {
+                writer.write(line);
+            }
+        }
+        store.commit();
+
+        assertEquals((long) line.length() * 50_000, Files.size(dir.resolve("big.sql")));
+        try (var files = Files.list(dir)) {
+            assertEquals(2, files.count(), "Only the script and the manifest should remain");
+        }
+    }
+
+    @Test
+    void verifiesScriptsOfAnEarlierRunByContent() throws Exception {
+        Path dir = Files.createTempDirectory("out");
+        OutputStore first = new OutputStore(dir);
+        first.write("person.sql", "CREATE TABLE `Person` (`id` INT);\n");
+        first.sync("person.sql");
+        String hash = first.getDigest("person.sql");
+        // No commit: the manifest does not know the script yet, as after a crash
+
+        OutputStore second = new OutputStore(dir);
+        assertTrue(second.verify("person.sql", hash));
+        assertFalse(second.verify("person.sql", "0".repeat(64)));
+        assertFalse(second.verify("missing.sql", hash));
+        second.commit();
+
+        Files.writeString(dir.resolve("person.sql"), "-- edited\n");
+        assertFalse(new OutputStore(dir).verify("person.sql", hash));
+    }
+
+    @Test
+    void rejectsNamesOutsideTheDirectory() throws Exception {
+        OutputStore store = new OutputStore(Files.createTempDirectory("out"));
+
+        assertThrows(IllegalArgumentException.class, () -> store.openWriter("../escape.sql"));
+        assertThrows(IllegalArgumentException.class, () -> store.openWriter(OutputStore.MANIFEST_NAME));
+    }
+}
@@ -0,0 +1,162 @@
+package model;
+
+import exception.SchemaParsingException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.concurrent.ForkJoinPool;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ParallelCatalogParser}.
+ */
+class ParallelCatalogParserTest {
+
+    private final ForkJoinPool pool = new ForkJoinPool(4);
+    private final JSONParser json = new JSONParser();
+    private final ParallelCatalogParser parser = new ParallelCatalogParser(json, pool);
+
+    @AfterEach
+    void shutdown() {
+        pool.shutdown();
+    }
+
+    private Path catalog(String content) throws Exception {
+        Path file = Files.createTempFile("catalog", ".json");
+        Files.writeString(file, content, StandardCharsets.UTF_8);
+        return file;
+    }
+
+    /**
+     * Builds a catalog spanning several chunks whose strings contain brackets and escaped quotes.
+     */
+    private Path largeCatalog(int tables) throws Exception {
+        StringBuilder sb = new StringBuilder("﻿[\n");
+        for (int t = 0; t < tables; t++) {
+            if (t > 0) {
+                sb.append(",\n");
+            }
+            sb.append("{\"tableName\":\"t").append(t).append("\",\"comment\":\"} ] \\\" {\",\"columns\":[");
+            for (int c = 0; c < 16; c++) {
+                sb.append(c == 0 ? "" : ",").append("{\"name\":\"col").append(c).append("\",\"type\":\"INT\"}");
+            }
+            sb.append("],\"relationships\":[{\"relationshipType\":\"many-to-one\",\"relatedTable\":\"t").append(Math.max(0, t - 1)).append("\"}]}");
+        }
+        return catalog(sb.append("\n]\n").toString());
+    }
+
+    @Test
+    void returnsTheSameTablesInDocumentOrderAsSequentialParsing() throws Exception {
+        Path file = largeCatalog(9_000);
+        assertTrue(Files.size(file) > 3L * ParallelCatalogParser.MIN_CHUNK_BYTES, "Catalog should span several chunks");
+
+        List<SchemaObject> parallel = parser.parse(file);
+        List<SchemaObject> sequential;
+        try (InputStream in = Files.newInputStream(file)) {
+            sequential = json.parseCatalog(in, file.toString());
+        }
+
+        assertEquals(sequential.size(), parallel.size());
+        for (int i = 0; i < sequential.size(); i++) {
+            assertEquals("t" + i, parallel.get(i).getName());
+            assertEquals(sequential.get(i).getFields(), parallel.get(i).getFields());
+            assertEquals(sequential.get(i).getFieldTypes(), parallel.get(i).getFieldTypes());
+        }
+    }
+
+    @Test
+    void reportsBytesParsedUpToTheFileSize() throws Exception {
+        Path file = largeCatalog(9_000);
+        java.util.concurrent.ConcurrentLinkedQueue<Long> reports = new java.util.concurrent.ConcurrentLinkedQueue<>();
+
+        parser.parse(file, reports::add);
+
+        assertTrue(reports.size() > 2, "Expected one report per chunk, got " + reports);
+        assertEquals(Files.size(file), reports.stream().mapToLong(Long::longValue).max().orElse(0));
+        assertEquals(Files.size(file), List.copyOf(reports).get(reports.size() - 1));
+    }
+
+    @Test
+    void chunksGroupWholeTables() {
+        long[] bounds = {1, 10, 11, 20, 21, 30, 31, 40};
+
+        long[] chunks = ParallelCatalogParser.chunk(bounds, 0);
+
+        assertArrayEquals(new long[]{1, 40}, chunks, "Tables below the minimum chunk size form one chunk");
+    }
+
+    @Test
+    void emptyCatalogHasNoTables() throws Exception {
+        assertEquals(List.of(), parser.parse(catalog(" [ ] ")));
+    }
+
+    @Test
+    void rootObjectIsRejected() throws Exception {
+        Path file = catalog("{\"name\":\"Person\",\"fields\":[\"id\"]}");
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> parser.parse(file));
+        assertTrue(ex.getMessage().contains("expected an array of tables"));
+    }
+
+    @Test
+    void scalarElementIsRejected() throws Exception {
+        Path file = catalog("[{\"tableName\":\"a\",\"columns\":[]}, 42]");
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> parser.parse(file));
+        assertTrue(ex.getMessage().contains("table 2 is not an object"));
+    }
+
+    @Test
+    void unclosedArrayIsRejected() throws Exception {
+        Path file = catalog("[{\"tableName\":\"a\",\"columns\":[]}");
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> parser.parse(file));
+        assertTrue(ex.getMessage().contains("not closed"));
+    }
+
+    @Test
+    void failureInAChunkReachesTheCaller() throws Exception {
+        Path file = catalog("[{\"tableName\":\"a\",\"columns\":[]}, {\"columns\":[]}]");
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> parser.parse(file));
+        assertTrue(ex.getMessage().contains("missing required property"));
+    }
+
+    @Test
+    void timeLimitCoversTheWholeCatalogRatherThanEachChunk() throws Exception {
+        Path file = largeCatalog(9_000);
+        JSONParser limited = new JSONParser(new ParseLimits(64L << 20, 10_000, 64, 64, 16,
+                java.time.Duration.ofMillis(500)));
+        ForkJoinPool single = new ForkJoinPool(1);
+        try {
+            // Chunks run one after another; the first one uses up the catalog's time
+            SchemaParsingException ex = assertThrows(SchemaParsingException.class,
+                    () -> new ParallelCatalogParser(limited, single).parse(file, bytes -> sleep(600)));
+            assertTrue(ex.getMessage().contains("time limit"), ex.getMessage());
+        } finally {
+            single.shutdown();
+        }
+    }
+
+    private static void sleep(long millis) {
+        try {
+            Thread.sleep(millis);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Test
+    void tableLimitIsEnforcedDuringThePreScan() throws Exception {
+        JSONParser limited = new JSONParser(new ParseLimits(1 << 20, 1, 10, 64, 16, java.time.Duration.ofSeconds(5)));
+        Path file = catalog("[{\"tableName\":\"a\",\"columns\":[]}, {\"tableName\":\"b\",\"columns\":[]}]");
+
+        assertThrows(SchemaParsingException.class, () -> new ParallelCatalogParser(limited, pool).parse(file));
+    }
+}
@@ -0,0 +1,73 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.File;
+import java.io.InputStream;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ParserFactory} and its plugin registry.
+ */
+class ParserFactoryTest {
+
+    /**
+     * Test plugin registered through {@code META-INF/services/model.SchemaParserProvider}.
+     */
+    public static class StubParserProvider implements SchemaParserProvider {
+        @Override
+        public String format() {
+            return "stub";
+        }
+
+        @Override
+        public SchemaParser create() {
+            return new SchemaParser() {
+                @Override
+                public SchemaObject parse(File schemaFile) {
+                    return new SchemaObject("Stub", List.of("id"));
+                }
+
+                @Override
+                public SchemaObject parse(InputStream input, String sourceName) {
+                    return new SchemaObject("Stub", List.of("id"));
+                }
+            };
+        }
+    }
+
+    @Test
+    void returnsSharedInstances() {
+        assertSame(ParserFactory.get("json"), ParserFactory.get("JSON"));
+        assertSame(ParserFactory.get("xml"), ParserFactory.get("xml"));
+        assertInstanceOf(JSONParser.class, ParserFactory.get("json"));
+        assertInstanceOf(XmlParser.class, ParserFactory.get("xml"));
+    }
+
+    @Test
+    void discoversPluginFormats() throws Exception {
+        SchemaParser parser = ParserFactory.get("stub");
+
+        assertSame(parser, ParserFactory.get("Stub"));
+        assertEquals("Stub", parser.parse((File) null).getName());
+    }
+
+    @Test
+    void unsupportedFormatListsKnownFormats() {
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> ParserFactory.get("yaml"));
+        assertTrue(ex.getMessage().contains("json, stub, xml"));
+    }
+
+    @Test
+    void emptyFormatThrows() {
+        assertThrows(IllegalArgumentException.class, () -> ParserFactory.get(" "));
+    }
+
+    @Test
+    void generatorFactoryReturnsSharedInstances() {
+        assertSame(GeneratorFactory.get("mysql"), GeneratorFactory.get("MySQL"));
+        assertThrows(IllegalArgumentException.class, () -> GeneratorFactory.get("db2"));
+    }
+}
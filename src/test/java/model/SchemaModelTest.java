@@ -0,0 +1,150 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SchemaModel}.
+ */
+class SchemaModelTest {
+
+    private static List<SchemaObject> catalog(String prefix, int size) {
+        List<SchemaObject> schemas = new ArrayList<>();
+        for (int i = 0; i < size; i++) {
+            schemas.add(new SchemaObject(prefix + i, List.of("id")));
+        }
+        return schemas;
+    }
+
+    @Test
+    void putAllMergesAndVersionsEachUpdate() {
+        SchemaModel model = new SchemaModel();
+        assertEquals(0, model.getVersion());
+        assertNull(model.getSchema());
+
+        model.setSchema(new SchemaObject("Person", List.of("id")));
+        long version = model.putAll(catalog("t", 3));
+
+        assertEquals(2, version);
+        assertEquals(4, model.snapshot().size());
+        assertEquals("t0", model.getSchema().getName(), "First schema of a bulk update becomes active");
+        assertNotNull(model.get("Person"));
+    }
+
+    @Test
+    void activeSchemaIsTheOneStoredUnderTheFirstName() {
+        SchemaModel model = new SchemaModel();
+        SchemaObject first = new SchemaObject("A", List.of("id"));
+        SchemaObject duplicate = new SchemaObject("A", List.of("id", "name"));
+
+        model.putAll(List.of(first, new SchemaObject("B", List.of("id")), duplicate));
+
+        assertSame(duplicate, model.get("A"));
+        assertSame(duplicate, model.getSchema(), "The active schema matches the one the model stores");
+    }
+
+    @Test
+    void storedSchemasIgnoreLaterChangesToTheCallersFieldList() {
+        SchemaModel model = new SchemaModel();
+        List<String> fields = new ArrayList<>(List.of("id"));
+        model.put(new SchemaObject("Person", fields));
+
+        fields.add("name");
+
+        assertEquals(List.of("id"), model.get("Person").getFields());
+        assertThrows(UnsupportedOperationException.class, () -> model.get("Person").getFields().add("name"));
+    }
+
+    @Test
+    void replaceAllDropsPreviousSchemas() {
+        SchemaModel model = new SchemaModel();
+        model.putAll(catalog("old", 5));
+        SchemaModel.Snapshot before = model.snapshot();
+
+        model.replaceAll(catalog("new", 2));
+
+        assertEquals(List.of("new0", "new1"), List.copyOf(model.snapshot().getSchemas().keySet()));
+        assertEquals(5, before.size(), "Earlier snapshots are unaffected by later updates");
+    }
+
+    @Test
+    void versionedReplaceFailsAfterAConcurrentUpdate() {
+        SchemaModel model = new SchemaModel();
+        long seen = model.putAll(catalog("a", 2));
+        model.put(new SchemaObject("other", List.of("id")));
+
+        assertFalse(model.replaceAll(seen, catalog("b", 1)));
+        assertNotNull(model.get("other"));
+        assertTrue(model.replaceAll(model.getVersion(), catalog("b", 1)));
+        assertNull(model.get("other"));
+    }
+
+    @Test
+    void removeClearsTheActiveSchema() {
+        SchemaModel model = new SchemaModel();
+        model.setSchema(new SchemaObject("Person", List.of("id")));
+
+        assertTrue(model.remove("Person"));
+        assertFalse(model.remove("Person"));
+        assertNull(model.getSchema());
+    }
+
+    @Test
+    void rejectsNullSchemas() {
+        SchemaModel model = new SchemaModel();
+        assertThrows(IllegalArgumentException.class, () -> model.setSchema(null));
+        assertThrows(IllegalArgumentException.class, () -> model.replaceAll(null));
+        assertThrows(IllegalArgumentException.class, () -> model.putAll(java.util.Arrays.asList((SchemaObject) null)));
+    }
+
+    @Test
+    void readersAlwaysSeeAWholeCatalogDuringReloads() throws Exception {
+        SchemaModel model = new SchemaModel();
+        List<SchemaObject> small = catalog("s", 10);
+        List<SchemaObject> large = catalog("l", 100);
+        model.replaceAll(small);
+
+        ExecutorService pool = Executors.newFixedThreadPool(4);
+        AtomicBoolean running = new AtomicBoolean(true);
+        CountDownLatch started = new CountDownLatch(3);
+        try {
+            List<Future<?>> readers = new ArrayList<>();
+            for (int r = 0; r < 3; r++) {
+                readers.add(pool.submit(() -> {
+                    started.countDown();
+                    long lastVersion = 0;
+                    while (running.get()) {
+                        SchemaModel.Snapshot snapshot = model.snapshot();
+                        int size = snapshot.size();
+                        assertTrue(size == 10 || size == 100, "Torn catalog of size " + size);
+                        assertEquals(size == 10 ? "s0" : "l0", snapshot.getActive().getName());
+                        assertTrue(snapshot.getVersion() >= lastVersion);
+                        lastVersion = snapshot.getVersion();
+                    }
+                    return null;
+                }));
+            }
+            assertTrue(started.await(5, TimeUnit.SECONDS));
+            for (int i = 0; i < 2_000; i++) {
+                model.replaceAll(i % 2 == 0 ? large : small);
+            }
+            running.set(false);
+            for (Future<?> reader : readers) {
+                reader.get(5, TimeUnit.SECONDS);
+            }
+        } finally {
+            pool.shutdownNow();
+        }
+        assertEquals(2_001, model.getVersion());
+    }
+}
@@ -0,0 +1,84 @@
+package model;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.security.MessageDigest;
+import java.util.HexFormat;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SchemaSource}.
+ */
+class SchemaSourceTest {
+
+    private Path file(String suffix, String content) throws Exception {
+        Path path = Files.createTempFile("schema", suffix);
+        Files.writeString(path, content);
+        return path;
+    }
+
+    @Test
+    void detectsFormatFromLeadingBytes() {
+        assertEquals("json", SchemaSource.detectFormat("  {\"name\":1}".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("json", SchemaSource.detectFormat("\n[]".getBytes(StandardCharsets.UTF_8)));
+        assertEquals("xml", SchemaSource.detectFormat("\uFEFF<schema/>".getBytes(StandardCharsets.UTF_8)));
+        assertNull(SchemaSource.detectFormat("name: Person".getBytes(StandardCharsets.UTF_8)));
+        assertNull(SchemaSource.detectFormat("   ".getBytes(StandardCharsets.UTF_8)));
+    }
+
+    @Test
+    void parsesAndHashesFromASingleOpen() throws Exception {
+        String content = "{\"name\":\"Person\",\"fields\":[\"id\"]}   ";
+        Path path = file(".data", content);
+
+        try (SchemaSource source = SchemaSource.open(path)) {
+            assertEquals("json", source.getFormat());
+            SchemaObject schema = ParserFactory.get(source.getFormat()).parse(source.stream(), path.toString());
+
+            assertEquals("Person", schema.getName());
+            String expected = HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+            assertEquals(expected, source.contentHash());
+        }
+    }
+
+    @Test
+    void rejectsUnrecognisedContent() throws Exception {
+        Path path = file(".json", "name: Person");
+
+        assertThrows(IllegalArgumentException.class, () -> SchemaSource.open(path));
+    }
+
+    @Test
+    void fallsBackToTheExtensionForPluginFormats() throws Exception {
+        // ParserFactoryTest registers a "stub" format through META-INF/services
+        Path path = file(".stub", "name: Person");
+
+        try (SchemaSource source = SchemaSource.open(path)) {
+            assertEquals("stub", source.getFormat());
+        }
+        assertThrows(IllegalArgumentException.class, () -> SchemaSource.open(file(".yaml", "name: Person")));
+    }
+
+    @Test
+    void exposesTheOpenChannelWithoutDisturbingTheStream() throws Exception {
+        String content = "[{\"tableName\": \"a\", \"columns\": [{\"name\": \"id\"}]},"
+                + " {\"tableName\": \"b\", \"columns\": [{\"name\": \"id\"}]}]";
+        Path path = file(".json", content);
+
+        try (SchemaSource source = SchemaSource.open(path)) {
+            List<SchemaObject> tables = new ParallelCatalogParser(new JSONParser())
+                    .parse(source.getChannel(), path.toString(), bytes -> { });
+
+            assertEquals(List.of("a", "b"), tables.stream().map(SchemaObject::getName).toList());
+            String expected = HexFormat.of().formatHex(
+                    MessageDigest.getInstance("SHA-256").digest(content.getBytes(StandardCharsets.UTF_8)));
+            assertEquals(expected, source.contentHash());
+        }
+    }
+}
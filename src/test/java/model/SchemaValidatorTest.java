@@ -41,4 +41,19 @@ class SchemaValidatorTest {
         IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> validator.validate(model));
         assertTrue(ex.getMessage().contains("contains duplicate field"));
     }
-}
\ No newline at end of file
+
+    @Test
+    void testPartitionKeyMustBeInPrimaryKey() {
+        Partitioning byCreated = new Partitioning(Partitioning.Strategy.RANGE, List.of("created"), 0,
+                List.of(new Partitioning.Partition("pmax", List.of(Partitioning.MAXVALUE))));
+        SchemaObject schema = new SchemaObject("Event", List.of("id", "created")).withPartitioning(byCreated);
+        SchemaModel model = new SchemaModel();
+        model.setSchema(schema);
+
+        IllegalArgumentException ex = assertThrows(IllegalArgumentException.class, () -> validator.validate(model));
+        assertTrue(ex.getMessage().contains("partition key column 'created'"));
+
+        model.setSchema(schema.withPrimaryKey(List.of("id", "created")));
+        assertDoesNotThrow(() -> validator.validate(model));
+    }
+}
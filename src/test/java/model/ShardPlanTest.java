@@ -0,0 +1,115 @@
+package model;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link ShardPlan} and {@link TableDependencies}.
+ */
+class ShardPlanTest {
+
+    /** The tables and relationships of {@code resources/schema.json}. */
+    private static List<SchemaObject> university() {
+        return List.of(
+                table("student", new Relationship(Relationship.MANY_TO_MANY, "course", "enrollment", "student_id", "course_id")),
+                table("instructor", new Relationship(Relationship.ONE_TO_MANY, "course", null, "instructor_id", "instructor_id")),
+                table("course",
+                        new Relationship(Relationship.MANY_TO_MANY, "student", "enrollment", "course_id", "student_id"),
+                        new Relationship(Relationship.MANY_TO_ONE, "instructor", null, "instructor_id", "instructor_id")),
+                table("enrollment",
+                        new Relationship(Relationship.MANY_TO_ONE, "student", null, "student_id", null),
+                        new Relationship(Relationship.MANY_TO_ONE, "course", null, "course_id", null)));
+    }
+
+    private static SchemaObject table(String name, Relationship... relationships) {
+        return new SchemaObject(name, List.of("id")).withRelationships(List.of(relationships));
+    }
+
+    private static List<String> names(List<SchemaObject> tables) {
+        return tables.stream().map(SchemaObject::getName).toList();
+    }
+
+    @Test
+    void levelsFollowForeignKeyDirection() {
+        List<List<SchemaObject>> levels = TableDependencies.levels(university());
+
+        assertEquals(3, levels.size());
+        assertEquals(List.of("student", "instructor"), names(levels.get(0)));
+        assertEquals(List.of("course"), names(levels.get(1)));
+        assertEquals(List.of("enrollment"), names(levels.get(2)));
+        assertEquals(Set.of("student", "course"), TableDependencies.of(university()).get("enrollment"));
+    }
+
+    @Test
+    void sizeStrategyBalancesIndependentTables() {
+        List<SchemaObject> tables = new ArrayList<>();
+        long[] sizes = {900, 100, 500, 400, 100};
+        for (int i = 0; i < sizes.length; i++) {
+            tables.add(new SchemaObject("t" + i, List.of("id")));
+        }
+        Map<String, Long> sizeOf = Map.of("t0", 900L, "t1", 100L, "t2", 500L, "t3", 400L, "t4", 100L);
+
+        ShardPlan plan = ShardPlan.plan(tables, t -> sizeOf.get(t.getName()), ShardPlan.Strategy.SIZE, 2);
+
+        assertEquals(1, plan.getPhaseCount());
+        assertEquals(2, plan.getShards().size());
+        assertEquals(List.of("t0", "t1"), names(plan.getShards().get(0).getTables()), "Catalog order is kept inside a shard");
+        assertEquals(1000, plan.getShards().get(0).getBytes());
+        assertEquals(List.of("t2", "t3", "t4"), names(plan.getShards().get(1).getTables()));
+        assertTrue(plan.getShards().get(1).getDependsOn().isEmpty());
+    }
+
+    @Test
+    void levelStrategyWritesOneShardPerLevelWithDependencies() throws Exception {
+        ShardPlan plan = ShardPlan.plan(university(), t -> 10, ShardPlan.Strategy.LEVEL, 1);
+
+        assertEquals(3, plan.getShards().size());
+        assertEquals(List.of("shard-001.sql"), plan.getShards().get(1).getDependsOn());
+        assertEquals(List.of("shard-001.sql", "shard-002.sql"), plan.getShards().get(2).getDependsOn());
+
+        JsonNode manifest = new ObjectMapper().readTree(plan.toJson("mysql"));
+        assertEquals(ShardPlan.MANIFEST_VERSION, manifest.get("version").asInt());
+        assertEquals("level", manifest.get("strategy").asText());
+        assertEquals(3, manifest.get("phases").size());
+        assertEquals("enrollment", manifest.get("shards").get(2).get("tables").get(0).asText());
+    }
+
+    @Test
+    void sizeStrategyPointsAtTheShardsHoldingPrerequisites() {
+        ShardPlan plan = ShardPlan.plan(university(), t -> 10, ShardPlan.Strategy.SIZE, 2);
+
+        assertEquals(4, plan.getShards().size());
+        ShardPlan.Shard course = plan.getShards().get(2);
+        assertEquals(List.of("course"), names(course.getTables()));
+        assertEquals(1, course.getPhase());
+        assertEquals(List.of("shard-002.sql"), course.getDependsOn(), "course only needs instructor's shard");
+    }
+
+    @Test
+    void cycleIsKeptInOneFinalShard() {
+        List<SchemaObject> tables = List.of(
+                table("a", new Relationship(Relationship.MANY_TO_ONE, "b", null, "b_id", null)),
+                table("b", new Relationship(Relationship.MANY_TO_ONE, "a", null, "a_id", null)),
+                table("c"));
+
+        ShardPlan plan = ShardPlan.plan(tables, t -> 10, ShardPlan.Strategy.SIZE, 4);
+
+        assertEquals(2, plan.getShards().size());
+        assertEquals(List.of("a", "b"), names(plan.getShards().get(1).getTables()));
+        assertTrue(plan.getShards().get(1).getDependsOn().isEmpty());
+    }
+
+    @Test
+    void rejectsNonPositiveShardCount() {
+        assertThrows(IllegalArgumentException.class,
+                () -> ShardPlan.plan(university(), t -> 10, ShardPlan.Strategy.SIZE, 0));
+    }
+}
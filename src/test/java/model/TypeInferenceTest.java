@@ -0,0 +1,139 @@
+package model;
+
+import exception.SchemaParsingException;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link TypeInference}.
+ */
+class TypeInferenceTest {
+
+    @TempDir
+    Path samples;
+
+    private final TypeInference inference = new TypeInference();
+
+    private static String typeOf(String... values) {
+        TypeInference.ColumnStats stats = new TypeInference.ColumnStats();
+        for (String value : values) {
+            stats.accept(value);
+        }
+        return stats.type();
+    }
+
+    @Test
+    void picksNarrowestIntegerType() {
+        assertEquals("TINYINT", typeOf("1", "-128", "127"));
+        assertEquals("SMALLINT", typeOf("1", "128"));
+        assertEquals("MEDIUMINT", typeOf("-8388608", "40000"));
+        assertEquals("INT", typeOf("8388608"));
+        assertEquals("BIGINT", typeOf("9223372036854775807"));
+        assertEquals("DECIMAL(20,0)", typeOf("12345678901234567890"));
+    }
+
+    @Test
+    void infersDecimalDateAndSizedVarchar() {
+        assertEquals("DECIMAL(6,2)", typeOf("1234.5", "0.25", "-12"));
+        assertEquals("DATE", typeOf("2024-02-29", "1999-12-31"));
+        assertEquals("VARCHAR(10)", typeOf("2023-02-29"), "Invalid dates are text");
+        assertEquals("VARCHAR(5)", typeOf("00501", "12345"), "Leading zeros must be preserved");
+        assertEquals("VARCHAR(3)", typeOf("1", "abc"));
+    }
+
+    @Test
+    void longTextBecomesText() {
+        assertEquals("VARCHAR(2048)", typeOf("x".repeat(2048)));
+        assertEquals("TEXT", typeOf("x".repeat(2049)));
+        assertEquals("MEDIUMTEXT", typeOf("x".repeat(16384)));
+    }
+
+    @Test
+    void missingValuesDoNotAffectTheType() {
+        assertEquals("TINYINT", typeOf("1", null, "", "2"));
+        assertNull(typeOf(null, ""));
+    }
+
+    @Test
+    void mergedStatisticsMatchASingleScan() {
+        TypeInference.ColumnStats left = new TypeInference.ColumnStats();
+        TypeInference.ColumnStats right = new TypeInference.ColumnStats();
+        left.accept("12");
+        right.accept("40000");
+        right.accept(null);
+        left.merge(right);
+
+        assertEquals("MEDIUMINT", left.type());
+        assertEquals(2, left.getValues());
+        assertEquals(1, left.getNulls());
+    }
+
+    @Test
+    void infersTypesFromCsvAndNdjsonSamples() throws Exception {
+        SchemaObject student = new SchemaObject("student", List.of("student_id", "name", "gpa", "born", "notes"));
+        SchemaObject course = new SchemaObject("course", List.of("course_id", "title"),
+                java.util.Map.of("title", "VARCHAR(200)"));
+        Files.writeString(samples.resolve("student.csv"),
+                "student_id,name,gpa,born,ignored\n1,\"Doe, Jane\",3.75,2001-05-04,x\n2,Li,4.0,,y\r\n");
+        Files.writeString(samples.resolve("student.part2.csv"), "student_id,name\n300,\"Said \"\"Sam\"\" Omar\"\n");
+        Files.writeString(samples.resolve("course.ndjson"),
+                "{\"course_id\":1,\"title\":\"Databases\"}\n{\"course_id\":70000,\"title\":null,\"extra\":[1,2]}\n");
+        Files.writeString(samples.resolve("unrelated.csv"), "a\n1\n");
+
+        List<SchemaObject> typed = inference.applyAll(List.of(student, course), samples);
+
+        assertEquals("SMALLINT", typed.get(0).getFieldType("student_id"));
+        assertEquals("VARCHAR(15)", typed.get(0).getFieldType("name"));
+        assertEquals("DECIMAL(3,2)", typed.get(0).getFieldType("gpa"));
+        assertEquals("DATE", typed.get(0).getFieldType("born"));
+        assertNull(typed.get(0).getFieldType("notes"), "Columns without samples stay untyped");
+        assertEquals("MEDIUMINT", typed.get(1).getFieldType("course_id"));
+        assertEquals("VARCHAR(200)", typed.get(1).getFieldType("title"), "Declared types win");
+    }
+
+    @Test
+    void jsonBooleansBecomeBooleanColumns() throws Exception {
+        SchemaObject table = new SchemaObject("flags", List.of("active", "label"));
+        Path ndjson = Files.writeString(samples.resolve("flags.ndjson"),
+                "{\"active\":true,\"label\":false}\n{\"active\":false,\"label\":\"maybe\"}\n{\"active\":null}\n");
+
+        SchemaObject typed = inference.apply(table, List.of(ndjson));
+
+        assertEquals("BOOLEAN", typed.getFieldType("active"));
+        assertEquals("VARCHAR(5)", typed.getFieldType("label"), "Booleans mixed with strings are text");
+    }
+
+    @Test
+    void widestVarcharsBecomeTextWhenTheRowIsTooLarge() throws Exception {
+        List<String> fields = List.of("c0", "c1", "c2", "c3", "c4", "c5", "c6", "c7", "c8", "c9");
+        SchemaObject table = new SchemaObject("wide", fields, java.util.Map.of("c9", "VARCHAR(100)"));
+        String value = "x".repeat(2000);
+        Path csv = Files.writeString(samples.resolve("wide.csv"), String.join(",", fields) + "\n"
+                + String.join(",", java.util.Collections.nCopies(9, value)) + ",y\n");
+
+        SchemaObject typed = inference.apply(table, List.of(csv));
+
+        // Nine inferred 8002-byte columns and a 401-byte declared one: one must move off the row
+        assertEquals("TEXT", typed.getFieldType("c0"));
+        for (String field : fields.subList(1, 9)) {
+            assertEquals("VARCHAR(2000)", typed.getFieldType(field));
+        }
+        assertEquals("VARCHAR(100)", typed.getFieldType("c9"), "Declared types are never changed");
+    }
+
+    @Test
+    void malformedSamplesAreParsingErrors() throws Exception {
+        SchemaObject table = new SchemaObject("t", List.of("a"));
+        Path csv = Files.writeString(samples.resolve("t.csv"), "a\n\"unterminated\n");
+        Path ndjson = Files.writeString(samples.resolve("t.ndjson"), "[1,2]\n");
+
+        assertThrows(SchemaParsingException.class, () -> inference.apply(table, List.of(csv)));
+        assertThrows(SchemaParsingException.class, () -> inference.apply(table, List.of(ndjson)));
+    }
+}
@@ -6,6 +6,9 @@ import org.junit.jupiter.api.Test;
 
 import java.io.File;
 import java.io.FileWriter;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -30,6 +33,14 @@ class XmlParserTest {
         assertTrue(ex.getMessage().contains("Invalid file format"));
     }
 
+    @Test
+    void parsesInMemorySchemaWithoutAFile() throws Exception {
+        byte[] content = "<schema name=\"Person\"><fields><field>id</field></fields></schema>"
+                .getBytes(StandardCharsets.UTF_8);
+
+        assertEquals(List.of("id"), parser.parse(content, "bytes").getFields());
+    }
+
     @Test
     void testParsesValidXmlSchema() throws Exception {
         // Create a temporary XML schema file
@@ -57,4 +68,84 @@ class XmlParserTest {
         assertTrue(result.getFields().contains("lastName"));
         assertTrue(result.getFields().contains("age"));
     }
+
+    private File xmlFile(String content) throws Exception {
+        File file = File.createTempFile("schema", ".xml");
+        try (FileWriter writer = new FileWriter(file)) {
+            writer.write(content);
+        }
+        return file;
+    }
+
+    @Test
+    void testRejectsTooManyFields() throws Exception {
+        File file = xmlFile("<schema name=\"Person\"><fields><field>a</field><field>b</field><field>c</field></fields></schema>");
+        XmlParser limited = new XmlParser(new ParseLimits(1024, 10, 2, 100, 10, Duration.ofSeconds(5)));
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> limited.parse(file));
+        assertTrue(ex.getMessage().contains("more than 2 fields"));
+    }
+
+    @Test
+    void testRejectsDeepNesting() throws Exception {
+        File file = xmlFile("<schema name=\"Person\"><a><b><c><d><field>id</field></d></c></b></a></schema>");
+        XmlParser limited = new XmlParser(new ParseLimits(1024, 10, 100, 100, 3, Duration.ofSeconds(5)));
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> limited.parse(file));
+        assertTrue(ex.getMessage().contains("nesting depth"));
+    }
+
+    @Test
+    void testRejectsInputLargerThanMaxBytes() throws Exception {
+        File file = xmlFile("<schema name=\"Person\"><fields><field>id</field></fields></schema>");
+        XmlParser limited = new XmlParser(new ParseLimits(10, 10, 100, 100, 10, Duration.ofSeconds(5)));
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> limited.parse(file));
+        assertTrue(ex.getMessage().contains("exceeds the limit of 10 bytes"));
+    }
+
+    @Test
+    void testRejectsDoctype() throws Exception {
+        File file = xmlFile("<?xml version=\"1.0\"?><!DOCTYPE schema [<!ENTITY x \"y\">]>"
+                + "<schema name=\"Person\"><fields><field>id</field></fields></schema>");
+
+        assertThrows(SchemaParsingException.class, () -> parser.parse(file));
+    }
+
+    @Test
+    void testParsesPartitioning() throws Exception {
+        File file = xmlFile("<schema name=\"Store\"><fields><field>region</field><field>name</field></fields>"
+                + "<partitioning strategy=\"list\" key=\"region\">"
+                + "<partition name=\"east\"><value>NY</value><value>NJ</value></partition>"
+                + "<partition name=\"west\"><value>CA</value></partition>"
+                + "</partitioning></schema>");
+
+        Partitioning partitioning = parser.parse(file).getPartitioning();
+
+        assertEquals(Partitioning.Strategy.LIST, partitioning.getStrategy());
+        assertEquals(List.of("region"), partitioning.getColumns());
+        assertEquals(2, partitioning.getPartitionCount());
+        assertEquals(List.of("NY", "NJ"), partitioning.getPartitions().get(0).getValues());
+    }
+
+    @Test
+    void testRejectsPartitionKeyThatIsNotAField() throws Exception {
+        File file = xmlFile("<schema name=\"Log\"><fields><field>id</field></fields>"
+                + "<partitioning strategy=\"hash\" key=\"day\" partitions=\"4\"/></schema>");
+
+        SchemaParsingException ex = assertThrows(SchemaParsingException.class, () -> parser.parse(file));
+        assertTrue(ex.getMessage().contains("not a field"));
+    }
+
+    @Test
+    void testParsesTableOptions() throws Exception {
+        File file = xmlFile("<schema name=\"Log\"><fields><field>id</field></fields>"
+                + "<options engine=\"InnoDB\" fillfactor=\"80\" compress=\"basic\"/></schema>");
+
+        TableOptions options = parser.parse(file).getOptions();
+
+        assertEquals("InnoDB", options.get(TableOptions.ENGINE));
+        assertEquals("80", options.get(TableOptions.FILLFACTOR));
+        assertEquals("BASIC", options.get(TableOptions.COMPRESS));
+    }
 }
@@ -0,0 +1,181 @@
+package server;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import model.ParseLimits;
+
+import java.io.BufferedReader;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.net.Socket;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link SchemaServer}.
+ */
+class SchemaServerTest {
+
+    private SchemaServer server;
+    private final HttpClient client = HttpClient.newHttpClient();
+
+    @BeforeEach
+    void startServer() throws Exception {
+        server = new SchemaServer(0, 4);
+        server.start();
+    }
+
+    @AfterEach
+    void stopServer() {
+        server.stop();
+    }
+
+    private HttpResponse<String> post(String path, String body) throws Exception {
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + path))
+                .POST(HttpRequest.BodyPublishers.ofString(body))
+                .build();
+        return client.send(request, HttpResponse.BodyHandlers.ofString());
+    }
+
+    @Test
+    void convertsJsonPayload() throws Exception {
+        HttpResponse<String> response = post("/convert?format=json&dialect=mysql",
+                "{\"name\":\"Person\",\"fields\":[\"id\",\"firstName\"]}");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("CREATE TABLE `Person`"));
+        assertTrue(response.body().contains("`firstName` VARCHAR(255)"));
+    }
+
+    @Test
+    void convertsXmlPayload() throws Exception {
+        HttpResponse<String> response = post("/convert?format=xml",
+                "<schema name=\"Person\"><fields><field>id</field></fields></schema>");
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("CREATE TABLE `Person`"));
+    }
+
+    @Test
+    void convertsEveryTableOfACatalog() throws Exception {
+        HttpResponse<String> response = post("/convert?format=json", "["
+                + "{\"tableName\": \"orders\", \"columns\": [{\"name\": \"id\", \"type\": \"INT\"},"
+                + " {\"name\": \"customer_id\", \"type\": \"INT\"}], \"primaryKey\": \"id\","
+                + " \"relationships\": [{\"relationshipType\": \"many-to-one\", \"relatedTable\": \"customer\","
+                + " \"foreignKey\": \"customer_id\", \"relatedForeignKey\": \"id\"}]},"
+                + "{\"tableName\": \"customer\", \"columns\": [{\"name\": \"id\", \"type\": \"INT\"}],"
+                + " \"primaryKey\": \"id\"}]");
+
+        assertEquals(200, response.statusCode());
+        String sql = response.body();
+        int customer = sql.indexOf("CREATE TABLE `customer`");
+        int orders = sql.indexOf("CREATE TABLE `orders`");
+        assertTrue(customer >= 0 && orders > customer, sql);
+        assertTrue(sql.indexOf("FOREIGN KEY") > orders, sql);
+    }
+
+    @Test
+    void rejectsAForeignKeyToAPartitionedTable() throws Exception {
+        HttpResponse<String> response = post("/convert?format=json", "["
+                + "{\"tableName\": \"store\", \"columns\": [{\"name\": \"id\", \"type\": \"INT\"}],"
+                + " \"primaryKey\": \"id\", \"partitioning\": {\"strategy\": \"hash\", \"key\": \"id\", \"partitions\": 4}},"
+                + "{\"tableName\": \"sale\", \"columns\": [{\"name\": \"id\", \"type\": \"INT\"},"
+                + " {\"name\": \"store_id\", \"type\": \"INT\"}], \"primaryKey\": \"id\","
+                + " \"relationships\": [{\"relationshipType\": \"many-to-one\", \"relatedTable\": \"store\","
+                + " \"foreignKey\": \"store_id\", \"relatedForeignKey\": \"id\"}]}]");
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("partitioned schema 'store'"), response.body());
+    }
+
+    @Test
+    void invalidSchemaReturnsBadRequest() throws Exception {
+        HttpResponse<String> response = post("/convert?format=json", "{\"name\":\"Person\"}");
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("missing required property"));
+    }
+
+    @Test
+    void unknownDialectReturnsBadRequest() throws Exception {
+        HttpResponse<String> response = post("/convert?format=json&dialect=db2",
+                "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+
+        assertEquals(400, response.statusCode());
+        assertTrue(response.body().contains("Unsupported SQL dialect"));
+    }
+
+    @Test
+    void healthReportsMetrics() throws Exception {
+        post("/convert?format=json", "{\"name\":\"Person\",\"fields\":[\"id\"]}");
+
+        HttpResponse<String> response = client.send(
+                HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort() + "/health")).GET().build(),
+                HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(200, response.statusCode());
+        assertTrue(response.body().contains("\"status\":\"UP\""));
+        assertTrue(response.body().contains("\"succeeded\":1"));
+        assertTrue(response.body().contains("\"maxConcurrent\":4"));
+    }
+
+    @Test
+    void refusesADeclaredOversizedBodyWithoutReadingIt() throws Exception {
+        try (Socket socket = new Socket("localhost", server.getPort())) {
+            // Only the headers are sent: the server must answer without waiting for the body
+            socket.getOutputStream().write(("POST /convert?format=json HTTP/1.1\r\nHost: localhost\r\n"
+                    + "Content-Length: " + (ParseLimits.defaults().getMaxBytes() + 1) + "\r\n\r\n")
+                    .getBytes(StandardCharsets.US_ASCII));
+            socket.setSoTimeout(10_000);
+            BufferedReader in = new BufferedReader(new InputStreamReader(socket.getInputStream(), StandardCharsets.US_ASCII));
+
+            assertTrue(in.readLine().contains(" 413 "));
+        }
+    }
+
+    @Test
+    void refusesAStreamedBodyOnceItPassesTheLimit() throws Exception {
+        long size = ParseLimits.defaults().getMaxBytes() + 1024;
+        // Chunked, so no length is declared; leading whitespace keeps the parser reading
+        InputStream body = new InputStream() {
+            private long remaining = size;
+
+            @Override
+            public int read() {
+                return remaining-- > 0 ? ' ' : -1;
+            }
+
+            @Override
+            public int read(byte[] buffer, int offset, int length) {
+                if (remaining <= 0) {
+                    return -1;
+                }
+                int n = (int) Math.min(length, remaining);
+                Arrays.fill(buffer, offset, offset + n, (byte) ' ');
+                remaining -= n;
+                return n;
+            }
+        };
+        HttpRequest request = HttpRequest.newBuilder(URI.create("http://localhost:" + server.getPort()
+                        + "/convert?format=json"))
+                .POST(HttpRequest.BodyPublishers.ofInputStream(() -> body))
+                .build();
+
+        HttpResponse<String> response = client.send(request, HttpResponse.BodyHandlers.ofString());
+
+        assertEquals(413, response.statusCode());
+    }
+
+    @Test
+    void rejectsNonPositiveConcurrencyLimit() {
+        assertThrows(IllegalArgumentException.class, () -> new SchemaServer(0, 0));
+    }
+}
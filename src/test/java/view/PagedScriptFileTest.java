@@ -0,0 +1,55 @@
+package view;
+
+import org.junit.jupiter.api.Test;
+
+import java.nio.file.Files;
+import java.nio.file.Path;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Unit tests for {@link PagedScriptFile}.
+ */
+class PagedScriptFileTest {
+
+    private Path script(String content) throws Exception {
+        Path file = Files.createTempFile("script", ".sql");
+        Files.writeString(file, content);
+        file.toFile().deleteOnExit();
+        return file;
+    }
+
+    @Test
+    void pagesLinesAcrossManyPages() throws Exception {
+        StringBuilder sb = new StringBuilder();
+        for (int i = 0; i < 1000; i++) {
+            sb.append("line ").append(i).append('\n');
+        }
+
+        try (PagedScriptFile paged = PagedScriptFile.open(script(sb.toString()))) {
+            assertEquals(1000, paged.size());
+            assertEquals("line 0", paged.get(0));
+            assertEquals("line 63", paged.get(63));
+            assertEquals("line 64", paged.get(64));
+            assertEquals("line 999", paged.get(999));
+            assertEquals("line 500", paged.get(500));
+        }
+    }
+
+    @Test
+    void handlesMissingTrailingNewlineAndCarriageReturns() throws Exception {
+        try (PagedScriptFile paged = PagedScriptFile.open(script("CREATE TABLE `a` (\r\n    `id` INT\r\n);"))) {
+            assertEquals(3, paged.size());
+            assertEquals("CREATE TABLE `a` (", paged.get(0));
+            assertEquals(");", paged.get(2));
+        }
+    }
+
+    @Test
+    void emptyScriptHasNoLines() throws Exception {
+        try (PagedScriptFile paged = PagedScriptFile.open(script(""))) {
+            assertEquals(0, paged.size());
+            assertThrows(IndexOutOfBoundsException.class, () -> paged.get(0));
+        }
+    }
+}